@@ -0,0 +1,78 @@
+package net.zoofantastique.benchmark;
+
+import net.zoofantastique.controller.consumable.food.FoodCatalog;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Unicorn;
+import net.zoofantastique.controller.entity.zoomaster.ZooMaster;
+import net.zoofantastique.controller.zoo.Zoo;
+import net.zoofantastique.simulation.staff.Autopilot;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Décisions du pilote automatique selon la taille du zoo : une rafale de créatures passe au niveau moyen de faim,
+ * puis une passe du pilote les examine et les nourrit. Le débit est donné en décisions par milliseconde
+ * et ne doit pas dépendre du nombre de créatures du zoo, que le pilote ne parcourt pas.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AutopilotBenchmark {
+    private static final int BURST = 1000; // créatures signalées avant chaque passe
+    private static final int ENCLOSURES = 10;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private Zoo zoo;
+    private Autopilot autopilot;
+    private List<Unicorn> population;
+    private int next; // première créature de la prochaine rafale
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        zoo = new Zoo("Banc d'essai", new ZooMaster("Maître", Gender.MALE, Age.ADULT));
+        zoo.setNbMaxEnclosure(ENCLOSURES);
+        population = new ArrayList<>(size);
+        for (int e = 0; e < ENCLOSURES; e++) {
+            Enclosure<Creature> enclosure = new Enclosure<>("Enclos " + e, 1000, size / ENCLOSURES);
+            for (int i = 0; i < size / ENCLOSURES; i++) {
+                Unicorn unicorn = Fixtures.unicorn(population.size());
+                enclosure.addCreature(unicorn);
+                population.add(unicorn);
+            }
+            zoo.addEnclosure(enclosure);
+        }
+        autopilot = Autopilot.of(zoo);
+    }
+
+    @Setup(Level.Iteration)
+    public void restock() {
+        zoo.getFoodInventory().restockFresh(FoodCatalog.BEEFSTEAK, 1_000_000_000L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        autopilot.close();
+        zoo.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public int signalAndDecide() {
+        for (int i = 0; i < BURST; i++) {
+            population.get(next).setHunger(5);
+            next = next + 1 == population.size() ? 0 : next + 1;
+        }
+        return autopilot.pass();
+    }
+}
@@ -0,0 +1,27 @@
+package net.zoofantastique.benchmark;
+
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût de construction d'une créature inerte de chaque espèce.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CreatureBenchmark {
+
+    @Param({"Dragon", "Kraken", "Megalodon", "Phoenix", "Lycanthrope", "Mermaid", "Nymph", "Unicorn"})
+    public String species;
+
+    @Benchmark
+    public Creature construct() {
+        return Fixtures.create(species, "Bench", Gender.FEMALE);
+    }
+}
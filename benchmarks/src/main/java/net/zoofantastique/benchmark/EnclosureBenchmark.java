@@ -0,0 +1,75 @@
+package net.zoofantastique.benchmark;
+
+import net.zoofantastique.controller.consumable.composition.Food;
+import net.zoofantastique.controller.consumable.food.FoodCatalog;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Unicorn;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opérations courantes d'un enclos selon sa population : ajout puis retrait, repas et affichage.
+ * La créature visée est la dernière de la liste, le pire cas des recherches linéaires.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnclosureBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private Enclosure<Unicorn> enclosure;
+    private Unicorn visitor; // créature ajoutée puis retirée à chaque appel
+    private Unicorn last; // dernière créature de l'enclos
+    private Food food;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        enclosure = new Enclosure<>("Banc d'essai", 1000, size + 1);
+        for (int i = 0; i < size; i++) {
+            enclosure.addCreature(Fixtures.unicorn(i));
+        }
+        visitor = Fixtures.unicorn(size);
+        last = enclosure.getListCreature().get(size - 1);
+        food = FoodCatalog.BEEFSTEAK.getFood();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        enclosure.close();
+    }
+
+    @Benchmark
+    public int addThenRemove() {
+        enclosure.addCreature(visitor);
+        enclosure.removeCreature(visitor);
+        return enclosure.getNbCreature();
+    }
+
+    @Benchmark
+    public int feed() {
+        last.setHunger(1);
+        enclosure.feedCreature(food, last);
+        return last.getHunger();
+    }
+
+    @Benchmark
+    public String render() {
+        return enclosure.toString();
+    }
+
+    /**
+     * Rendu après la modification d'une seule créature : l'enclos est reconstruit à partir des vues en cache
+     * des autres créatures.
+     */
+    @Benchmark
+    public String renderAfterChange() {
+        last.setHunger(last.getHunger() == 1 ? 2 : 1);
+        return enclosure.toString();
+    }
+}
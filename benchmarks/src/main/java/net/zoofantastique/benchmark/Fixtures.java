@@ -0,0 +1,38 @@
+package net.zoofantastique.benchmark;
+
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.CreatureFactory;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Lycanthrope;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Unicorn;
+
+/**
+ * Classe utilitaire des bancs d'essai : création des créatures de chaque espèce.
+ * Les créatures sont construites inertes et ne sont jamais activées, pour qu'aucune tâche planifiée
+ * ne fausse les mesures.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * Crée une créature inerte de l'espèce donnée.
+     *
+     * @param species Le nom simple de la classe de l'espèce.
+     * @param name    Le nom de la créature.
+     * @param gender  Le sexe de la créature.
+     * @return La créature créée.
+     */
+    static Creature create(String species, String name, Gender gender) {
+        return CreatureFactory.create(species, name, gender);
+    }
+
+    static Unicorn unicorn(int i) {
+        return new Unicorn("Licorne " + i, i % 2 == 0 ? Gender.MALE : Gender.FEMALE);
+    }
+
+    static Lycanthrope lycanthrope(int i, Gender gender) {
+        return new Lycanthrope("Loup " + i, gender);
+    }
+}
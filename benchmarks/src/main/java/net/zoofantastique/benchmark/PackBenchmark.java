@@ -0,0 +1,54 @@
+package net.zoofantastique.benchmark;
+
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.behavior.Pack;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Lycanthrope;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Combats et élection du couple alpha dans une grande meute.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PackBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private Pack pack;
+    private Lycanthrope maleAlpha;
+    private Lycanthrope strong; // deux mâles ordinaires de niveaux différents
+    private Lycanthrope weak;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        maleAlpha = Fixtures.lycanthrope(0, Gender.MALE);
+        pack = new Pack("Banc d'essai", maleAlpha, Fixtures.lycanthrope(1, Gender.FEMALE));
+        // Ajout direct à la liste : les combats d'admission ne font pas partie de la mesure
+        for (int i = 2; i < size; i++) {
+            Lycanthrope lycanthrope = Fixtures.lycanthrope(i, i % 2 == 0 ? Gender.MALE : Gender.FEMALE);
+            lycanthrope.setLevel(i);
+            pack.getLycanthropes().add(lycanthrope);
+        }
+        strong = pack.getLycanthropes().get(size - 2);
+        weak = pack.getLycanthropes().get(2);
+    }
+
+    @Benchmark
+    public int battle() {
+        pack.battle(strong, weak);
+        return weak.getRank();
+    }
+
+    @Benchmark
+    public Pack newCoupleAlpha() {
+        pack.newCoupleAlpha(maleAlpha);
+        return pack;
+    }
+}
@@ -0,0 +1,91 @@
+package net.zoofantastique.benchmark;
+
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Unicorn;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retrait des créatures mortes fait à chaque pas de simulation.
+ * sweepLiving mesure le cas courant (aucun décès), sweepDeaths un enclos dont un pour cent des créatures est mort,
+ * repeuplé avant chaque appel.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimulationBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Living {
+        @Param({"10", "1000", "100000"})
+        public int size;
+
+        private Enclosure<Unicorn> enclosure;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            enclosure = new Enclosure<>("Vivants", 1000, size);
+            for (int i = 0; i < size; i++) {
+                enclosure.addCreature(Fixtures.unicorn(i));
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            enclosure.close();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dying {
+        @Param({"10", "1000", "100000"})
+        public int size;
+
+        private Enclosure<Unicorn> enclosure;
+        private List<Unicorn> population;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            enclosure = new Enclosure<>("Mourants", 1000, size);
+            population = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                Unicorn unicorn = Fixtures.unicorn(i);
+                if (i % 100 == 0) {
+                    unicorn.setAge(Age.DEAD);
+                }
+                population.add(unicorn);
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void repopulate() {
+            // Ajout un par un : addAll copierait la population et fausserait le débit d'allocation
+            enclosure.getListCreature().clear();
+            for (Unicorn unicorn : population) {
+                enclosure.getListCreature().add(unicorn);
+            }
+            enclosure.setNbCreature(population.size());
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            enclosure.close();
+        }
+    }
+
+    @Benchmark
+    public int sweepLiving(Living state) {
+        return state.enclosure.removeDeadCreatures();
+    }
+
+    @Benchmark
+    public int sweepDeaths(Dying state) {
+        return state.enclosure.removeDeadCreatures();
+    }
+}
@@ -0,0 +1,38 @@
+package net.zoofantastique.benchmark;
+
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.CreatureFactory;
+import net.zoofantastique.simulation.CreatureClock;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Naissance en masse : fabrication d'un lot de créatures inertes, placement en lot dans un enclos
+ * et activation en une seule inscription sur une horloge partagée (non démarrée).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpawnBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Benchmark
+    public int spawn() {
+        Enclosure<Creature> nursery = new Enclosure<>("Nurserie", size, size);
+        CreatureClock clock = new CreatureClock();
+        List<Creature> batch = CreatureFactory.createBatch("Unicorn", "Licorne", size, new SplittableRandom(42));
+        nursery.addCreatures(batch);
+        int activated = clock.activate(batch);
+        nursery.close();
+        return activated;
+    }
+}
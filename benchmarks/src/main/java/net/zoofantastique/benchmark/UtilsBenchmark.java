@@ -0,0 +1,28 @@
+package net.zoofantastique.benchmark;
+
+import net.zoofantastique.utils.Utils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tirages aléatoires utilisés par toutes les tâches de simulation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UtilsBenchmark {
+
+    @Benchmark
+    public int randomInt() {
+        return Utils.getRandomIntInRange(0, 100);
+    }
+
+    @Benchmark
+    public double randomDouble() {
+        return Utils.getRandomDoubleInRange(1.0, 10.0);
+    }
+}
@@ -0,0 +1,63 @@
+package net.zoofantastique.benchmark;
+
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.model.CreatureState;
+import net.zoofantastique.model.EnclosureState;
+import net.zoofantastique.model.ZooState;
+import net.zoofantastique.model.ZooStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût d'une écriture et d'une photographie du zoo en versions immuables selon sa taille : un transfert ne recopie
+ * que le chemin touché et une photographie n'est qu'une lecture de référence, si bien que ni l'un ni l'autre
+ * ne doivent dépendre du nombre de créatures.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ZooStoreBenchmark {
+    private static final int ENCLOSURES = 10;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private final String[] names = new String[ENCLOSURES];
+    private ZooStore store;
+    private long next; // prochaine créature transférée
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ZooState zoo = ZooState.empty("Banc d'essai");
+        for (int e = 0; e < ENCLOSURES; e++) {
+            names[e] = "Enclos " + e;
+            zoo = zoo.withEnclosure(EnclosureState.empty(names[e], "Enclos", 1000, size));
+        }
+        for (long id = 0; id < size; id++) {
+            zoo = zoo.addCreature(names[(int) (id % ENCLOSURES)],
+                    new CreatureState(id, "Unicorn", "Licorne " + id, Gender.FEMALE, Age.ADULT, 10, false, false, 400, 1.6));
+        }
+        store = new ZooStore(zoo);
+    }
+
+    @Benchmark
+    public ZooState transfer() {
+        long id = next;
+        next = next + 1 == size ? 0 : next + 1;
+        return store.update(zoo -> {
+            String from = zoo.enclosureOf(id);
+            int e = from.charAt(from.length() - 1) - '0';
+            return zoo.transfer(id, names[(e + 1) % ENCLOSURES]);
+        });
+    }
+
+    @Benchmark
+    public int snapshot() {
+        return store.snapshot().getNbCreature();
+    }
+}
@@ -0,0 +1,109 @@
+package net.zoofantastique.api;
+
+import com.sun.net.httpserver.HttpExchange;
+import net.zoofantastique.events.EventSubscription;
+import net.zoofantastique.events.ZooEvent;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classe EventStream, un flux server-sent events (text/event-stream) ouvert par un client de /evenements.
+ * Le flux lit l'abonnement du client à son rythme : si le client est lent, c'est sa file qui déborde selon
+ * sa politique, jamais la simulation qui attend. Chaque perte est signalée au client par un événement « perte ».
+ */
+class EventStream implements Runnable {
+    static final long HEARTBEAT_SECONDS = 15; // commentaire envoyé en l'absence d'événement, pour garder la connexion
+    private static final int BATCH = 64; // événements écrits avant de vider le tampon
+
+    // Attributs
+    private final HttpExchange exchange;
+    private final EventSubscription subscription;
+    private final Runnable onEnd; // appelé quand le flux se termine
+    private final List<ZooEvent> batch = new ArrayList<>(BATCH);
+    private long reportedDropped;
+    private long reportedCoalesced;
+
+    // Constructeur
+
+    /**
+     * Constructeur de la classe EventStream.
+     *
+     * @param exchange     L'échange HTTP, dont les en-têtes 200 sont déjà envoyés.
+     * @param subscription L'abonnement du client, fermé à la fin du flux.
+     * @param onEnd        Action exécutée à la fin du flux.
+     */
+    EventStream(HttpExchange exchange, EventSubscription subscription, Runnable onEnd) {
+        this.exchange = exchange;
+        this.subscription = subscription;
+        this.onEnd = onEnd;
+    }
+
+    // Méthodes
+
+    /**
+     * Envoie les événements jusqu'à la déconnexion du client, la fermeture de l'abonnement ou l'interruption du thread.
+     */
+    @Override
+    public void run() {
+        try (OutputStream out = exchange.getResponseBody()) {
+            write(out, "retry: 3000\n\n");
+            out.flush();
+            while (!subscription.isClosed()) {
+                ZooEvent first = subscription.poll(HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+                if (first == null) {
+                    if (!subscription.isClosed()) {
+                        write(out, ": ping\n\n");
+                        out.flush();
+                    }
+                    continue;
+                }
+                batch.clear();
+                batch.add(first);
+                subscription.drainTo(batch, BATCH - 1);
+                reportLosses(out);
+                for (ZooEvent event : batch) {
+                    write(out, frame(event));
+                }
+                out.flush();
+            }
+        } catch (IOException e) {
+            // le client s'est déconnecté
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            subscription.close();
+            exchange.close();
+            onEnd.run();
+        }
+    }
+
+    /**
+     * Signale au client les événements perdus ou fusionnés depuis le dernier signalement.
+     */
+    private void reportLosses(OutputStream out) throws IOException {
+        long dropped = subscription.getDropped();
+        long coalesced = subscription.getCoalesced();
+        if (dropped != reportedDropped || coalesced != reportedCoalesced) {
+            String data = new JsonWriter().beginObject()
+                    .field("perdus", dropped - reportedDropped)
+                    .field("fusionnes", coalesced - reportedCoalesced)
+                    .endObject().toString();
+            write(out, "event: perte\ndata: " + data + "\n\n");
+            reportedDropped = dropped;
+            reportedCoalesced = coalesced;
+        }
+    }
+
+    static String frame(ZooEvent event) {
+        return "id: " + event.sequence() + "\nevent: " + event.type().getLabel() + "\ndata: " + ZooJson.event(event) + "\n\n";
+    }
+
+    private static void write(OutputStream out, String text) throws IOException {
+        out.write(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
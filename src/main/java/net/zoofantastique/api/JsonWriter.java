@@ -0,0 +1,150 @@
+package net.zoofantastique.api;
+
+/**
+ * Classe JsonWriter, écriture de JSON compact dans un tampon, sans dépendance.
+ * Les virgules entre les membres et les éléments sont placées automatiquement.
+ */
+public class JsonWriter {
+    // Attributs
+    private final StringBuilder sb;
+    private boolean needsComma; // true si la prochaine valeur doit être précédée d'une virgule
+
+    // Constructeur
+    public JsonWriter() {
+        this.sb = new StringBuilder(256);
+        this.needsComma = false;
+    }
+
+    // Méthodes
+
+    public JsonWriter beginObject() {
+        comma();
+        sb.append('{');
+        needsComma = false;
+        return this;
+    }
+
+    public JsonWriter endObject() {
+        sb.append('}');
+        needsComma = true;
+        return this;
+    }
+
+    public JsonWriter beginArray() {
+        comma();
+        sb.append('[');
+        needsComma = false;
+        return this;
+    }
+
+    public JsonWriter endArray() {
+        sb.append(']');
+        needsComma = true;
+        return this;
+    }
+
+    /**
+     * Écrit le nom d'un membre d'objet ; la valeur suit par un appel à value(), beginObject() ou beginArray().
+     *
+     * @param name Le nom du membre.
+     * @return Ce writer.
+     */
+    public JsonWriter name(String name) {
+        comma();
+        string(name);
+        sb.append(':');
+        needsComma = false;
+        return this;
+    }
+
+    public JsonWriter value(String value) {
+        comma();
+        if (value == null) {
+            sb.append("null");
+        } else {
+            string(value);
+        }
+        needsComma = true;
+        return this;
+    }
+
+    public JsonWriter value(long value) {
+        comma();
+        sb.append(value);
+        needsComma = true;
+        return this;
+    }
+
+    /**
+     * Écrit un nombre réel ; NaN et les infinis, absents du JSON, sont écrits null.
+     *
+     * @param value Le nombre.
+     * @return Ce writer.
+     */
+    public JsonWriter value(double value) {
+        comma();
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            sb.append("null");
+        } else {
+            sb.append(value);
+        }
+        needsComma = true;
+        return this;
+    }
+
+    public JsonWriter value(boolean value) {
+        comma();
+        sb.append(value);
+        needsComma = true;
+        return this;
+    }
+
+    public JsonWriter field(String name, String value) {
+        return name(name).value(value);
+    }
+
+    public JsonWriter field(String name, long value) {
+        return name(name).value(value);
+    }
+
+    public JsonWriter field(String name, double value) {
+        return name(name).value(value);
+    }
+
+    public JsonWriter field(String name, boolean value) {
+        return name(name).value(value);
+    }
+
+    private void comma() {
+        if (needsComma) {
+            sb.append(',');
+        }
+    }
+
+    private void string(String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+
+    @Override
+    public String toString() {
+        return sb.toString();
+    }
+}
@@ -0,0 +1,78 @@
+package net.zoofantastique.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Classe ResponseCache, cache des réponses de l'API, une entrée par ressource.
+ * Une entrée reste valable tant que la version de sa ressource (voir VersionClock) n'a pas changé :
+ * une ressource inchangée n'est donc sérialisée qu'une fois, quel que soit le nombre de lectures.
+ */
+public class ResponseCache {
+    private static final int MAX_ENTRIES = 10_000; // au-delà, le cache est vidé pour borner la mémoire
+
+    /**
+     * Une réponse en cache : la version de la ressource, son ETag et son corps encodé en UTF-8.
+     */
+    public record Entry(long version, String etag, byte[] body) {
+    }
+
+    // Attributs
+    private final Map<String, Entry> entries;
+    private final String epoch; // distingue les ETag de deux démarrages du serveur
+    private final LongAdder hits;
+    private final LongAdder renders;
+
+    // Constructeur
+    public ResponseCache() {
+        this.entries = new ConcurrentHashMap<>();
+        this.epoch = Long.toHexString(System.currentTimeMillis());
+        this.hits = new LongAdder();
+        this.renders = new LongAdder();
+    }
+
+    // Méthodes
+
+    /**
+     * Retourne la réponse d'une ressource, depuis le cache si sa version n'a pas changé, sinon en la sérialisant.
+     * La version doit être lue avant la sérialisation : une modification pendant la sérialisation donnera
+     * une nouvelle version à la lecture suivante.
+     *
+     * @param key     La clé de la ressource, son chemin.
+     * @param version La version actuelle de la ressource.
+     * @param render  La sérialisation de la ressource.
+     * @return La réponse.
+     */
+    public Entry get(String key, long version, Supplier<String> render) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.version() == version) {
+            hits.increment();
+            return entry;
+        }
+        byte[] body = render.get().getBytes(StandardCharsets.UTF_8);
+        renders.increment();
+        entry = new Entry(version, "\"" + epoch + "-" + Long.toHexString(version) + "\"", body);
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.clear();
+        }
+        entries.put(key, entry);
+        return entry;
+    }
+
+    // Getter et setter
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getRenders() {
+        return renders.sum();
+    }
+
+    public int getSize() {
+        return entries.size();
+    }
+}
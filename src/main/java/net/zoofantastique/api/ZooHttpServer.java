@@ -0,0 +1,307 @@
+package net.zoofantastique.api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.zoo.Zoo;
+import net.zoofantastique.events.EventSubscription;
+import net.zoofantastique.events.OverflowPolicy;
+import net.zoofantastique.events.ZooEvent;
+import net.zoofantastique.events.ZooEventType;
+import net.zoofantastique.metrics.Counter;
+import net.zoofantastique.metrics.ZooMetrics;
+import net.zoofantastique.utils.ResourceRegistry;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Classe ZooHttpServer, API HTTP locale en lecture seule sur l'état du zoo (serveur du JDK, sur localhost uniquement).
+ * Adresses servies, toutes en GET et en JSON :
+ * /zoo, /enclos, /enclos/{indice}, /enclos/{indice}/creatures/{id}, /meutes et /stats.
+ * Chaque réponse porte un ETag tiré de la version de la ressource ; une requête dont l'en-tête If-None-Match
+ * correspond reçoit 304 sans corps, et une ressource inchangée est servie depuis le cache sans être sérialisée à nouveau.
+ * Les listes d'enclos, de créatures et de meutes sont copiées à chaque écriture : une réponse est sérialisée
+ * à partir d'instantanés de ces listes, sans verrou, pendant que la simulation les modifie.
+ * /evenements ouvre un flux server-sent events des événements de ce zoo seulement (voir {@link EventStream}), filtrable par type
+ * (types=naissance,mort), avec une file bornée par client (taille=256) et sa politique de débordement
+ * (politique=drop-oldest, drop-newest ou coalesce).
+ */
+public class ZooHttpServer implements AutoCloseable {
+    public static final String PORT_PROPERTY = "zoo.http.port";
+    private static final int THREADS = 4;
+    public static final int MAX_STREAMS = 8; // flux d'événements ouverts en même temps
+    public static final int DEFAULT_STREAM_CAPACITY = 256;
+    private static final int MAX_STREAM_CAPACITY = 65536;
+
+    // Attributs
+    private final Zoo zoo;
+    private final HttpServer server;
+    private final ScheduledExecutorService executor;
+    private final ResponseCache cache;
+    private final Counter requests;
+    private final Counter notModified;
+    private final Counter streamsOpened;
+    private final ScheduledExecutorService streamExecutor; // un thread par flux d'événements ouvert
+    private final AtomicInteger openStreams = new AtomicInteger();
+
+    // Constructeur
+
+    /**
+     * Crée le serveur et le démarre sur localhost.
+     *
+     * @param zoo  Le zoo à exposer.
+     * @param port Le port d'écoute, 0 pour un port libre choisi par le système.
+     * @throws IOException si le port ne peut pas être ouvert.
+     */
+    public ZooHttpServer(Zoo zoo, int port) throws IOException {
+        this.zoo = zoo;
+        this.cache = new ResponseCache();
+        this.requests = ZooMetrics.registry().counter("api.requests");
+        this.notModified = ZooMetrics.registry().counter("api.notModified");
+        this.streamsOpened = ZooMetrics.registry().counter("api.streams");
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = ResourceRegistry.newScheduledExecutor("API HTTP", THREADS);
+        this.streamExecutor = ResourceRegistry.newScheduledExecutor("API flux", MAX_STREAMS);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    // Méthodes
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.increment();
+        if ("GET".equals(exchange.getRequestMethod()) && exchange.getRequestURI().getPath().equals("/evenements")) {
+            openStream(exchange);
+            return;
+        }
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                sendError(exchange, 405, "Seule la méthode GET est acceptée.");
+                return;
+            }
+            String path = exchange.getRequestURI().getPath();
+            String[] parts = path.replaceAll("^/+|/+$", "").split("/");
+            try {
+                route(exchange, path, parts);
+            } catch (NumberFormatException e) {
+                sendError(exchange, 404, "Adresse inconnue : " + path);
+            }
+        }
+    }
+
+    private void route(HttpExchange exchange, String path, String[] parts) throws IOException {
+        switch (parts[0]) {
+            case "zoo" -> {
+                if (parts.length == 1) {
+                    send(exchange, path, zoo.getVersion(), () -> ZooJson.zoo(zoo));
+                    return;
+                }
+            }
+            case "enclos" -> {
+                if (parts.length == 1) {
+                    send(exchange, path, zoo.getVersion(), () -> ZooJson.enclosures(zoo));
+                    return;
+                }
+                int index = Integer.parseInt(parts[1]);
+                List<Enclosure<? super Creature>> enclosures = zoo.getEnclosures();
+                if (index < 0 || index >= enclosures.size()) {
+                    sendError(exchange, 404, "Enclos inconnu : " + index);
+                    return;
+                }
+                Enclosure<? super Creature> enclosure = enclosures.get(index);
+                long version = Math.max(zoo.getStructureVersion(), enclosure.getVersion());
+                if (parts.length == 2) {
+                    send(exchange, path, version, () -> ZooJson.enclosure(index, enclosure));
+                    return;
+                }
+                if (parts.length == 4 && parts[2].equals("creatures")) {
+                    Creature creature = find(enclosure, Long.parseLong(parts[3]));
+                    if (creature == null) {
+                        sendError(exchange, 404, "Créature inconnue dans l'enclos " + index + " : " + parts[3]);
+                    } else {
+                        send(exchange, path, version, () -> ZooJson.creature(creature));
+                    }
+                    return;
+                }
+            }
+            case "meutes" -> {
+                if (parts.length == 1) {
+                    send(exchange, path, zoo.getPacksVersion(), () -> ZooJson.packs(zoo));
+                    return;
+                }
+            }
+            case "stats" -> {
+                if (parts.length == 1) {
+                    send(exchange, path, zoo.getVersion(), () -> ZooJson.stats(zoo));
+                    return;
+                }
+            }
+            default -> {
+            }
+        }
+        sendError(exchange, 404, "Adresse inconnue : " + path);
+    }
+
+    /**
+     * Ouvre un flux d'événements : abonne le client au bus puis confie l'écriture à un thread de flux,
+     * si bien que le thread HTTP est aussitôt rendu.
+     */
+    private void openStream(HttpExchange exchange) throws IOException {
+        Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+        Predicate<ZooEvent> filter;
+        OverflowPolicy policy;
+        int capacity;
+        try {
+            filter = typeFilter(query.get("types"));
+            policy = query.containsKey("politique") ? OverflowPolicy.parse(query.get("politique")) : OverflowPolicy.DROP_OLDEST;
+            capacity = query.containsKey("taille") ? Integer.parseInt(query.get("taille")) : DEFAULT_STREAM_CAPACITY;
+            if (capacity <= 0 || capacity > MAX_STREAM_CAPACITY) {
+                throw new IllegalArgumentException("Taille de file invalide : " + capacity);
+            }
+        } catch (IllegalArgumentException e) {
+            try (exchange) {
+                sendError(exchange, 400, e.getMessage());
+            }
+            return;
+        }
+        if (openStreams.incrementAndGet() > MAX_STREAMS) {
+            openStreams.decrementAndGet();
+            try (exchange) {
+                exchange.getResponseHeaders().set("Retry-After", "5");
+                sendError(exchange, 503, "Trop de flux d'événements ouverts.");
+            }
+            return;
+        }
+        EventSubscription subscription = zoo.subscribe(capacity, policy, filter);
+        try {
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.sendResponseHeaders(200, 0);
+            streamExecutor.execute(new EventStream(exchange, subscription, openStreams::decrementAndGet));
+            streamsOpened.increment();
+        } catch (IOException | RuntimeException e) {
+            subscription.close();
+            openStreams.decrementAndGet();
+            exchange.close();
+            throw e;
+        }
+    }
+
+    private static Predicate<ZooEvent> typeFilter(String types) {
+        if (types == null || types.isBlank()) {
+            return event -> true;
+        }
+        Set<ZooEventType> accepted = EnumSet.noneOf(ZooEventType.class);
+        for (String type : types.split(",")) {
+            accepted.add(ZooEventType.parse(type.trim()));
+        }
+        return event -> accepted.contains(event.type());
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            if (equals > 0) {
+                parameters.put(URLDecoder.decode(pair.substring(0, equals), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parameters;
+    }
+
+    private static Creature find(Enclosure<?> enclosure, long id) {
+        for (Creature creature : enclosure.getListCreature()) {
+            if (creature.getId() == id) {
+                return creature;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Envoie une ressource : 304 si le client a déjà sa version, sinon la réponse en cache ou fraîchement sérialisée.
+     */
+    private void send(HttpExchange exchange, String key, long version, Supplier<String> render) throws IOException {
+        ResponseCache.Entry entry = cache.get(key, version, render);
+        exchange.getResponseHeaders().set("ETag", entry.etag());
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        if (matches(exchange.getRequestHeaders().getFirst("If-None-Match"), entry.etag())) {
+            notModified.increment();
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, entry.body().length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(entry.body());
+        }
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] body = new JsonWriter().beginObject().field("erreur", message).endObject().toString()
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Arrête le serveur, coupe les flux d'événements ouverts et libère ses threads.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        ResourceRegistry.release(streamExecutor);
+        ResourceRegistry.release(executor);
+    }
+
+    // Getter et setter
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public ResponseCache getCache() {
+        return cache;
+    }
+
+    public int getOpenStreams() {
+        return openStreams.get();
+    }
+}
@@ -0,0 +1,201 @@
+package net.zoofantastique.api;
+
+import net.zoofantastique.controller.enclosure.composition.AquariumEnclosure;
+import net.zoofantastique.controller.enclosure.composition.AviaryEnclosure;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Hunger;
+import net.zoofantastique.controller.entity.creature.behavior.Pack;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Lycanthrope;
+import net.zoofantastique.controller.zoo.Zoo;
+import net.zoofantastique.events.ZooEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Classe ZooJson, représentations JSON de l'état du zoo servies par l'API HTTP.
+ */
+public final class ZooJson {
+
+    private ZooJson() {
+    }
+
+    // Méthodes
+
+    /**
+     * Résumé du zoo : nom, maître, nombre d'enclos, de créatures et de meutes.
+     */
+    public static String zoo(Zoo zoo) {
+        JsonWriter json = new JsonWriter().beginObject()
+                .field("nom", zoo.getZooName())
+                .field("maitre", zoo.getZooMaster().getName())
+                .field("nbEnclos", zoo.getEnclosures().size())
+                .field("nbMaxEnclos", zoo.getNbMaxEnclosure())
+                .field("nbCreatures", zoo.giveNbCreatures())
+                .field("nbMeutes", zoo.getPacks().size());
+        return json.endObject().toString();
+    }
+
+    /**
+     * Liste résumée des enclos, dans l'ordre du zoo (l'indice sert d'identifiant dans les adresses).
+     */
+    public static String enclosures(Zoo zoo) {
+        JsonWriter json = new JsonWriter().beginArray();
+        List<Enclosure<? super Creature>> enclosures = zoo.getEnclosures();
+        for (int i = 0; i < enclosures.size(); i++) {
+            json.beginObject();
+            enclosureFields(json, i, enclosures.get(i));
+            json.endObject();
+        }
+        return json.endArray().toString();
+    }
+
+    /**
+     * Détail d'un enclos, avec toutes ses créatures.
+     */
+    public static String enclosure(int index, Enclosure<?> enclosure) {
+        JsonWriter json = new JsonWriter().beginObject();
+        enclosureFields(json, index, enclosure);
+        json.name("creatures").beginArray();
+        for (Creature creature : enclosure.getListCreature()) {
+            creature(json, creature);
+        }
+        return json.endArray().endObject().toString();
+    }
+
+    /**
+     * Détail d'une créature.
+     */
+    public static String creature(Creature creature) {
+        JsonWriter json = new JsonWriter();
+        creature(json, creature);
+        return json.toString();
+    }
+
+    /**
+     * Les meutes du zoo, avec leur couple alpha et le rang de chaque membre.
+     */
+    public static String packs(Zoo zoo) {
+        JsonWriter json = new JsonWriter().beginArray();
+        for (Pack pack : zoo.getPacks()) {
+            json.beginObject()
+                    .field("nom", pack.getPackName())
+                    .field("maleAlpha", pack.getCouple().getFirst().getName())
+                    .field("femelleAlpha", pack.getCouple().getSecond() == null ? null : pack.getCouple().getSecond().getName())
+                    .name("membres").beginArray();
+            for (Lycanthrope lycanthrope : pack.getLycanthropes()) {
+                json.beginObject()
+                        .field("id", lycanthrope.getId())
+                        .field("nom", lycanthrope.getName())
+                        .field("rang", lycanthrope.getRankString())
+                        .field("niveau", lycanthrope.getLevel())
+                        .endObject();
+            }
+            json.endArray().endObject();
+        }
+        return json.endArray().toString();
+    }
+
+    /**
+     * Statistiques agrégées : créatures par espèce, malades, endormies, affamées, enceintes et mortes,
+     * enclos par niveau de propreté.
+     */
+    public static String stats(Zoo zoo) {
+        Map<String, Integer> bySpecies = new TreeMap<>();
+        Map<String, Integer> byCleanness = new TreeMap<>();
+        int total = 0, sick = 0, sleeping = 0, hungry = 0, pregnant = 0, dead = 0;
+        for (Enclosure<? super Creature> enclosure : zoo.getEnclosures()) {
+            byCleanness.merge(enclosure.getCleanness().getValue(), 1, Integer::sum);
+            for (Object resident : enclosure.getListCreature()) {
+                Creature creature = (Creature) resident;
+                total++;
+                bySpecies.merge(creature.getClass().getSimpleName(), 1, Integer::sum);
+                sick += creature.isSick() ? 1 : 0;
+                sleeping += creature.isSleeping() ? 1 : 0;
+                hungry += creature.getHunger() <= Hunger.HUNGRY.getValue() ? 1 : 0;
+                pregnant += creature.isPregnant() ? 1 : 0;
+                dead += creature.getAge() == Age.DEAD ? 1 : 0;
+            }
+        }
+        JsonWriter json = new JsonWriter().beginObject()
+                .field("nbEnclos", zoo.getEnclosures().size())
+                .field("nbCreatures", total)
+                .field("malades", sick)
+                .field("endormies", sleeping)
+                .field("affamees", hungry)
+                .field("enceintes", pregnant)
+                .field("mortes", dead)
+                .field("nbMeutes", zoo.getPacks().size());
+        counts(json.name("parEspece"), bySpecies);
+        counts(json.name("parProprete"), byCleanness);
+        return json.endObject().toString();
+    }
+
+    /**
+     * Un événement du zoo, tel qu'envoyé dans le flux /evenements.
+     */
+    public static String event(ZooEvent event) {
+        JsonWriter json = new JsonWriter().beginObject()
+                .field("sequence", event.sequence())
+                .field("instant", event.time())
+                .field("type", event.type().getLabel());
+        if (event.creatureId() != 0) {
+            json.field("id", event.creatureId())
+                    .field("nom", event.creature())
+                    .field("espece", event.species());
+        }
+        return json.field("enclos", event.enclosure())
+                .field("detail", event.detail())
+                .endObject().toString();
+    }
+
+    private static void counts(JsonWriter json, Map<String, Integer> counts) {
+        json.beginObject();
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            json.field(entry.getKey(), entry.getValue());
+        }
+        json.endObject();
+    }
+
+    private static void enclosureFields(JsonWriter json, int index, Enclosure<?> enclosure) {
+        json.field("indice", index)
+                .field("nom", enclosure.getName())
+                .field("type", enclosure.getEnclosureType())
+                .field("espece", enclosure.getCreatureType() == null ? null : enclosure.getCreatureType().getSimpleName())
+                .field("nbCreatures", enclosure.getNbCreature())
+                .field("max", enclosure.getMax())
+                .field("superficie", enclosure.getSurface())
+                .field("proprete", enclosure.getCleanness().getValue());
+        if (enclosure instanceof AquariumEnclosure<?> aquarium) {
+            json.field("profondeur", aquarium.getBasinDepth())
+                    .field("salinite", aquarium.getBasinSalinity().getValue());
+        } else if (enclosure instanceof AviaryEnclosure<?> aviary) {
+            json.field("hauteur", aviary.getRoofHeight());
+        }
+    }
+
+    private static void creature(JsonWriter json, Creature creature) {
+        json.beginObject()
+                .field("id", creature.getId())
+                .field("espece", creature.getClass().getSimpleName())
+                .field("nom", creature.getName())
+                .field("sexe", creature.getSexeStatus())
+                .field("age", creature.getAge().getValue())
+                .field("faim", creature.getHunger())
+                .field("etatFaim", creature.getHungerState())
+                .field("malade", creature.isSick())
+                .field("dort", creature.isSleeping())
+                .field("enceinte", creature.isPregnant())
+                .field("poids", creature.getWeight())
+                .field("taille", creature.getHeight());
+        if (creature instanceof Lycanthrope lycanthrope) {
+            json.field("rang", lycanthrope.getRankString())
+                    .field("niveau", lycanthrope.getLevel())
+                    .field("meute", lycanthrope.getPack() == null ? null : lycanthrope.getPack().getPackName());
+        }
+        json.endObject();
+    }
+}
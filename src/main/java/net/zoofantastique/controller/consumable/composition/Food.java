@@ -8,6 +8,7 @@ public abstract class Food {
     private int value; // La valeur nutritionnelle de la nourriture.
     private String desc; // La description de la nourriture.
     private FoodType foodType; // Le type de nourriture.
+    private boolean frozen; // true si la nourriture est partagée et ne peut plus être modifiée.
 
     // Constructeur
     public Food(String name, int value, FoodType foodType) {
@@ -16,12 +17,33 @@ public abstract class Food {
         this.foodType = foodType;
     }
 
+    // Méthodes
+
+    /**
+     * Rend la nourriture immuable : tout appel ultérieur à un setter lève une exception.
+     * Utilisé pour les instances partagées du FoodCatalog.
+     */
+    public void freeze() {
+        this.frozen = true;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException("La nourriture " + name + " est partagée et ne peut pas être modifiée.");
+        }
+    }
+
     // Getter et Setter
 
     public String getName() {
         return name;
     }
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
@@ -29,6 +51,7 @@ public abstract class Food {
         return value;
     }
     public void setValue(int value) {
+        checkNotFrozen();
         this.value = value;
     }
 
@@ -39,6 +62,7 @@ public abstract class Food {
         return foodType.getValue();
     }
     public void setFoodType(FoodType foodType) {
+        checkNotFrozen();
         this.foodType = foodType;
     }
 
@@ -46,6 +70,7 @@ public abstract class Food {
         return desc;
     }
     public void setDesc(String desc) {
+        checkNotFrozen();
         this.desc = desc;
     }
 
@@ -0,0 +1,57 @@
+package net.zoofantastique.controller.consumable.food;
+
+import net.zoofantastique.controller.consumable.behavior.FoodType;
+import net.zoofantastique.controller.consumable.composition.Food;
+
+/**
+ * Enum FoodCatalog, représente le catalogue des nourritures du zoo.
+ * Chaque entrée porte une unique instance immuable de sa nourriture, partagée par tous les repas :
+ * nourrir une créature n'alloue donc plus de nouvelle nourriture.
+ * Chaque entrée indique aussi sa durée de conservation en jours de simulation.
+ */
+public enum FoodCatalog {
+    BEEFSTEAK(new Beefsteak(), 10),
+    OCEAN_DELIGHT(new OceanDelight(), 7),
+    SKY_SEEDS(new SkySeeds(), 60);
+
+    // Attributs
+    private final Food food; // instance partagée de la nourriture
+    private final int shelfLife; // durée de conservation, en jours
+
+    // Constructeur
+    FoodCatalog(Food food, int shelfLife) {
+        food.freeze();
+        this.food = food;
+        this.shelfLife = shelfLife;
+    }
+
+    // Méthodes
+
+    /**
+     * Retourne l'entrée du catalogue correspondant à un type de nourriture.
+     *
+     * @param foodType Le type de nourriture.
+     * @return L'entrée du catalogue de ce type.
+     */
+    public static FoodCatalog of(FoodType foodType) {
+        return switch (foodType) {
+            case TERRESTRIAL -> BEEFSTEAK;
+            case MARINE -> OCEAN_DELIGHT;
+            case AERIAL -> SKY_SEEDS;
+        };
+    }
+
+    // Getter et setter
+
+    public Food getFood() {
+        return food;
+    }
+
+    public int getShelfLife() {
+        return shelfLife;
+    }
+
+    public FoodType getFoodType() {
+        return food.getFoodType();
+    }
+}
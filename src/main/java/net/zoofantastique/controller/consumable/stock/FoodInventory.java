@@ -0,0 +1,422 @@
+package net.zoofantastique.controller.consumable.stock;
+
+import net.zoofantastique.controller.consumable.food.FoodCatalog;
+import net.zoofantastique.utils.TimingWheel;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Classe FoodInventory qui représente les réserves de nourriture du zoo.
+ * Chaque nourriture du catalogue a trois compteurs : la quantité disponible, la quantité réservée et la quantité périmée.
+ * Les compteurs sont modifiés par compare-and-set et espacés d'une ligne de cache pour éviter le faux partage.
+ * Dès qu'une opération touche aussi les lots périssables d'une nourriture (livraison d'un lot, réservation, retrait,
+ * restitution, péremption), elle se fait sous le verrou de la file de lots de cette nourriture : le stock disponible
+ * et les lots changent ensemble. Les soigneurs puisent donc en parallèle dans des nourritures différentes ;
+ * seuls la livraison non périssable et la consommation d'une réservation se passent de verrou.
+ * Les livraisons périssables forment des lots planifiés dans une roue temporelle : faire avancer les jours
+ * ne traite que les lots qui expirent, et la consommation puise toujours dans le lot qui expire le plus tôt.
+ * Une réservation est imputée aux lots qui expirent le plus tôt : la part réservée d'un lot ne se périme pas avec lui,
+ * elle est consommée ou rendue (et alors comptée périmée si le lot l'est entre-temps).
+ */
+public class FoodInventory {
+    private static final FoodCatalog[] ITEMS = FoodCatalog.values();
+    private static final int PADDING = 8; // 8 longs = 64 octets, une ligne de cache
+    private static final int AVAILABLE = 0;
+    private static final int RESERVED = 1;
+    private static final int SPOILED = 2;
+    private static final int NB_COUNTERS = 3;
+    private static final int WHEEL_SLOTS = 64; // couvre la plus longue durée de conservation du catalogue
+    private static final Comparator<StockLot> BY_EXPIRY = Comparator.comparingLong(StockLot::getDeadline)
+            .thenComparingLong(StockLot::getSequence);
+
+    // Attributs
+    private final AtomicLongArray counters; // compteurs disponibles, réservés et périmés, par nourriture
+    private final List<NavigableSet<StockLot>> lots; // lots périssables de chaque nourriture, du plus proche de l'expiration au plus lointain
+    private final TimingWheel<StockLot> expiries; // échéances des lots
+    private final AtomicLong deliveries = new AtomicLong(); // nombre de lots livrés
+
+    // Constructeur
+    public FoodInventory() {
+        this.counters = new AtomicLongArray(ITEMS.length * NB_COUNTERS * PADDING);
+        this.lots = new ArrayList<>(ITEMS.length);
+        for (int i = 0; i < ITEMS.length; i++) {
+            lots.add(new TreeSet<>(BY_EXPIRY));
+        }
+        this.expiries = new TimingWheel<>(WHEEL_SLOTS);
+    }
+
+    // Méthodes
+
+    private static int index(FoodCatalog item, int counter) {
+        return (item.ordinal() * NB_COUNTERS + counter) * PADDING;
+    }
+
+    /**
+     * Ajoute une quantité de nourriture au stock disponible.
+     *
+     * @param item     La nourriture livrée.
+     * @param quantity La quantité livrée.
+     */
+    public void restock(FoodCatalog item, long quantity) {
+        checkQuantity(quantity);
+        counters.addAndGet(index(item, AVAILABLE), quantity);
+    }
+
+    /**
+     * Ajoute un lot périssable au stock disponible.
+     *
+     * @param item      La nourriture livrée.
+     * @param quantity  La quantité livrée.
+     * @param expiryDay Le jour où le lot se périme.
+     * @return Le lot créé.
+     */
+    public StockLot restock(FoodCatalog item, long quantity, long expiryDay) {
+        checkQuantity(quantity);
+        StockLot lot = new StockLot(item, quantity, expiryDay, deliveries.incrementAndGet());
+        NavigableSet<StockLot> queue = lots.get(item.ordinal());
+        synchronized (queue) {
+            queue.add(lot);
+            expiries.schedule(lot);
+            counters.addAndGet(index(item, AVAILABLE), quantity);
+        }
+        return lot;
+    }
+
+    /**
+     * Ajoute un lot frais, qui se périme après la durée de conservation de la nourriture.
+     *
+     * @param item     La nourriture livrée.
+     * @param quantity La quantité livrée.
+     * @return Le lot créé.
+     */
+    public StockLot restockFresh(FoodCatalog item, long quantity) {
+        return restock(item, quantity, getCurrentDay() + item.getShelfLife());
+    }
+
+    /**
+     * Livre plusieurs nourritures en une fois.
+     *
+     * @param quantities Les quantités livrées, indexées par l'ordinal de FoodCatalog.
+     */
+    public void restock(long[] quantities) {
+        for (int i = 0; i < ITEMS.length && i < quantities.length; i++) {
+            if (quantities[i] > 0) {
+                restock(ITEMS[i], quantities[i]);
+            }
+        }
+    }
+
+    /**
+     * Livre plusieurs lots frais en une fois.
+     *
+     * @param quantities Les quantités livrées, indexées par l'ordinal de FoodCatalog.
+     */
+    public void restockFresh(long[] quantities) {
+        for (int i = 0; i < ITEMS.length && i < quantities.length; i++) {
+            if (quantities[i] > 0) {
+                restockFresh(ITEMS[i], quantities[i]);
+            }
+        }
+    }
+
+    /**
+     * Réserve une quantité de nourriture : elle quitte le stock disponible mais n'est pas encore consommée.
+     * Elle est imputée aux lots qui expirent le plus tôt, puis au stock non périssable.
+     * La réservation est tout ou rien.
+     *
+     * @param item     La nourriture à réserver.
+     * @param quantity La quantité à réserver.
+     * @return true si la quantité a été réservée, false si le stock est insuffisant.
+     */
+    public boolean reserve(FoodCatalog item, long quantity) {
+        NavigableSet<StockLot> queue = lots.get(item.ordinal());
+        synchronized (queue) {
+            if (!take(index(item, AVAILABLE), quantity)) {
+                return false;
+            }
+            counters.addAndGet(index(item, RESERVED), quantity);
+            reserveFromLots(queue, quantity);
+        }
+        return true;
+    }
+
+    /**
+     * Réserve plusieurs nourritures en une fois, tout ou rien : si l'une manque, les réservations déjà faites sont annulées.
+     *
+     * @param quantities Les quantités à réserver, indexées par l'ordinal de FoodCatalog.
+     * @return true si tout a été réservé, false sinon.
+     */
+    public boolean reserve(long[] quantities) {
+        for (int i = 0; i < ITEMS.length && i < quantities.length; i++) {
+            if (quantities[i] > 0 && !reserve(ITEMS[i], quantities[i])) {
+                for (int j = 0; j < i; j++) {
+                    if (quantities[j] > 0) {
+                        release(ITEMS[j], quantities[j]);
+                    }
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Consomme une quantité précédemment réservée.
+     *
+     * @param item     La nourriture consommée.
+     * @param quantity La quantité consommée.
+     */
+    public void consume(FoodCatalog item, long quantity) {
+        if (!take(index(item, RESERVED), quantity)) {
+            throw new IllegalStateException("Impossible de consommer plus de " + item.getFood().getName() + " que la quantité réservée.");
+        }
+        NavigableSet<StockLot> queue = lots.get(item.ordinal());
+        synchronized (queue) {
+            consumeReservedFromLots(queue, quantity);
+        }
+    }
+
+    /**
+     * Rend au stock disponible une quantité réservée mais finalement non consommée.
+     * La part imputée à un lot périmé entre-temps est comptée périmée au lieu de revenir au stock disponible.
+     *
+     * @param item     La nourriture concernée.
+     * @param quantity La quantité rendue.
+     */
+    public void release(FoodCatalog item, long quantity) {
+        if (!take(index(item, RESERVED), quantity)) {
+            throw new IllegalStateException("Impossible de rendre plus de " + item.getFood().getName() + " que la quantité réservée.");
+        }
+        NavigableSet<StockLot> queue = lots.get(item.ordinal());
+        synchronized (queue) {
+            long spoiled = releaseReservedToLots(queue, quantity);
+            counters.addAndGet(index(item, AVAILABLE), quantity - spoiled);
+            counters.addAndGet(index(item, SPOILED), spoiled);
+        }
+    }
+
+    /**
+     * Retire directement une quantité du stock disponible, sans passer par une réservation.
+     *
+     * @param item     La nourriture retirée.
+     * @param quantity La quantité retirée.
+     * @return true si la quantité a été retirée, false si le stock est insuffisant.
+     */
+    public boolean tryConsume(FoodCatalog item, long quantity) {
+        NavigableSet<StockLot> queue = lots.get(item.ordinal());
+        synchronized (queue) {
+            if (!take(index(item, AVAILABLE), quantity)) {
+                return false;
+            }
+            drawFromLots(queue, quantity);
+        }
+        return true;
+    }
+
+    /**
+     * Fait avancer l'inventaire jusqu'au jour donné : les lots arrivés à expiration quittent le stock disponible.
+     * Seule la part non réservée d'un lot est retirée ; sa part réservée sera consommée, ou rendue et alors comptée périmée.
+     *
+     * @param day Le jour courant de la simulation.
+     * @return Le nombre de lots périmés.
+     */
+    public int expire(long day) {
+        return expiries.advance(day, this::spoil);
+    }
+
+    private void spoil(StockLot lot) {
+        FoodCatalog item = lot.getItem();
+        NavigableSet<StockLot> queue = lots.get(item.ordinal());
+        synchronized (queue) {
+            long quantity = lot.getRemaining();
+            lot.setRemaining(0);
+            lot.setExpired(true);
+            if (lot.isEmpty()) {
+                queue.remove(lot);
+            }
+            long spoiled = takeAtMost(index(item, AVAILABLE), quantity);
+            counters.addAndGet(index(item, SPOILED), spoiled);
+        }
+    }
+
+    /**
+     * Puise une quantité consommée sans réservation dans les lots qui expirent le plus tôt.
+     * Ce qui dépasse les lots provient du stock non périssable.
+     * L'appelant tient le verrou de la file.
+     */
+    private void drawFromLots(NavigableSet<StockLot> queue, long quantity) {
+        Iterator<StockLot> it = queue.iterator();
+        while (quantity > 0 && it.hasNext()) {
+            StockLot lot = it.next();
+            long drawn = Math.min(quantity, lot.getRemaining());
+            lot.setRemaining(lot.getRemaining() - drawn);
+            quantity -= drawn;
+            removeIfEmpty(it, lot);
+        }
+    }
+
+    /**
+     * Impute une réservation aux lots qui expirent le plus tôt : la quantité passe de leur reste à leur part réservée.
+     * L'appelant tient le verrou de la file.
+     */
+    private void reserveFromLots(NavigableSet<StockLot> queue, long quantity) {
+        for (StockLot lot : queue) {
+            if (quantity == 0) {
+                break;
+            }
+            long charged = Math.min(quantity, lot.getRemaining());
+            lot.setRemaining(lot.getRemaining() - charged);
+            lot.setReserved(lot.getReserved() + charged);
+            quantity -= charged;
+        }
+    }
+
+    /**
+     * Consomme des parts réservées des lots, en commençant par ceux qui expirent (ou ont expiré) le plus tôt.
+     * Ce qui dépasse provient d'une réservation sur le stock non périssable.
+     * L'appelant tient le verrou de la file.
+     */
+    private void consumeReservedFromLots(NavigableSet<StockLot> queue, long quantity) {
+        Iterator<StockLot> it = queue.iterator();
+        while (quantity > 0 && it.hasNext()) {
+            StockLot lot = it.next();
+            long consumed = Math.min(quantity, lot.getReserved());
+            lot.setReserved(lot.getReserved() - consumed);
+            quantity -= consumed;
+            removeIfEmpty(it, lot);
+        }
+    }
+
+    /**
+     * Rend aux lots leurs parts réservées, en commençant par ceux qui expirent le plus tard.
+     * L'appelant tient le verrou de la file.
+     *
+     * @return La quantité rendue à des lots déjà périmés.
+     */
+    private long releaseReservedToLots(NavigableSet<StockLot> queue, long quantity) {
+        long spoiled = 0;
+        Iterator<StockLot> it = queue.descendingIterator();
+        while (quantity > 0 && it.hasNext()) {
+            StockLot lot = it.next();
+            long released = Math.min(quantity, lot.getReserved());
+            lot.setReserved(lot.getReserved() - released);
+            quantity -= released;
+            if (lot.isExpired()) {
+                spoiled += released;
+            } else {
+                lot.setRemaining(lot.getRemaining() + released);
+            }
+            removeIfEmpty(it, lot);
+        }
+        return spoiled;
+    }
+
+    /**
+     * Retire de la file un lot vidé ; un lot encore planifié quitte aussi la roue temporelle.
+     */
+    private void removeIfEmpty(Iterator<StockLot> it, StockLot lot) {
+        if (lot.isEmpty()) {
+            it.remove();
+            expiries.cancel(lot);
+        }
+    }
+
+    /**
+     * Décrémente un compteur seulement s'il reste assez, sans jamais le rendre négatif.
+     */
+    private boolean take(int index, long quantity) {
+        checkQuantity(quantity);
+        long current;
+        do {
+            current = counters.get(index);
+            if (current < quantity) {
+                return false;
+            }
+        } while (!counters.compareAndSet(index, current, current - quantity));
+        return true;
+    }
+
+    /**
+     * Décrémente un compteur d'au plus la quantité donnée, sans le rendre négatif.
+     *
+     * @return La quantité effectivement retirée.
+     */
+    private long takeAtMost(int index, long quantity) {
+        long current;
+        long taken;
+        do {
+            current = counters.get(index);
+            taken = Math.min(current, quantity);
+        } while (taken > 0 && !counters.compareAndSet(index, current, current - taken));
+        return taken;
+    }
+
+    private static void checkQuantity(long quantity) {
+        if (quantity < 0) {
+            throw new IllegalArgumentException("La quantité ne peut pas être négative.");
+        }
+    }
+
+    // Getter
+
+    public long getAvailable(FoodCatalog item) {
+        return counters.get(index(item, AVAILABLE));
+    }
+
+    public long getReserved(FoodCatalog item) {
+        return counters.get(index(item, RESERVED));
+    }
+
+    public long getSpoiled(FoodCatalog item) {
+        return counters.get(index(item, SPOILED));
+    }
+
+    /**
+     * Retourne le jour d'expiration du lot de cette nourriture qui se périme le plus tôt.
+     *
+     * @param item La nourriture.
+     * @return Le jour d'expiration, ou Long.MAX_VALUE s'il n'y a aucun lot périssable pas encore périmé.
+     */
+    public long getSoonestExpiry(FoodCatalog item) {
+        NavigableSet<StockLot> queue = lots.get(item.ordinal());
+        synchronized (queue) {
+            for (StockLot lot : queue) {
+                if (!lot.isExpired()) {
+                    return lot.getDeadline();
+                }
+            }
+            return Long.MAX_VALUE;
+        }
+    }
+
+    public int getNbLots() {
+        return expiries.size();
+    }
+
+    public long getCurrentDay() {
+        return expiries.getCurrentDay();
+    }
+
+    /**
+     * Cette méthode est utilisée pour obtenir une représentation sous forme de chaîne du stock.
+     *
+     * @return Une représentation sous forme de chaîne du stock.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("<-/ Stock de nourriture \\->\n");
+        for (FoodCatalog item : ITEMS) {
+            sb.append(item.getFood().getName()).append(": ").append(getAvailable(item))
+                    .append(" (réservé: ").append(getReserved(item))
+                    .append(", périmé: ").append(getSpoiled(item)).append(")\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,69 @@
+package net.zoofantastique.controller.consumable.stock;
+
+import net.zoofantastique.controller.consumable.food.FoodCatalog;
+import net.zoofantastique.utils.TimingWheel;
+
+/**
+ * Classe StockLot qui représente un lot de nourriture périssable livré au zoo.
+ * Le lot est planifié dans la roue temporelle de l'inventaire jusqu'à son jour d'expiration.
+ */
+public class StockLot extends TimingWheel.Timeout {
+    // Attributs
+    private final FoodCatalog item; // nourriture du lot
+    private final long sequence; // ordre de livraison, départage les lots qui expirent le même jour
+    // Les champs suivants sont protégés par le verrou des lots de la nourriture
+    private long remaining; // quantité restante et disponible
+    private long reserved; // quantité du lot réservée, pas encore consommée ni rendue
+    private boolean expired; // true une fois le lot périmé
+
+    // Constructeur
+    StockLot(FoodCatalog item, long quantity, long expiryDay, long sequence) {
+        super(expiryDay);
+        this.item = item;
+        this.remaining = quantity;
+        this.sequence = sequence;
+    }
+
+    // Méthodes
+
+    /**
+     * @return true si le lot ne contient plus rien, ni disponible ni réservé.
+     */
+    boolean isEmpty() {
+        return remaining == 0 && reserved == 0;
+    }
+
+    // Getter et setter
+
+    public FoodCatalog getItem() {
+        return item;
+    }
+
+    public long getRemaining() {
+        return remaining;
+    }
+
+    void setRemaining(long remaining) {
+        this.remaining = remaining;
+    }
+
+    public long getReserved() {
+        return reserved;
+    }
+
+    void setReserved(long reserved) {
+        this.reserved = reserved;
+    }
+
+    public boolean isExpired() {
+        return expired;
+    }
+
+    void setExpired(boolean expired) {
+        this.expired = expired;
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+}
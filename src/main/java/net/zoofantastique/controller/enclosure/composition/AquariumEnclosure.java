@@ -3,6 +3,8 @@ package net.zoofantastique.controller.enclosure.composition;
 import net.zoofantastique.controller.enclosure.behavior.Salinity;
 import net.zoofantastique.controller.entity.creature.behavior.Swimmer;
 import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.events.ZooEventBus;
+import net.zoofantastique.events.ZooEventType;
 
 import java.util.concurrent.TimeUnit;
 
@@ -30,6 +32,14 @@ public class AquariumEnclosure<T extends Creature> extends Enclosure<T> {
         }, 120,  121, TimeUnit.SECONDS);
     }
 
+    /**
+     * Seules les créatures qui savent nager entrent dans l'aquarium.
+     */
+    @Override
+    protected boolean accepts(Creature creature) {
+        return creature instanceof Swimmer;
+    }
+
     /**
      * Ajoute une créature à l'enclos si elle est capable de nager et s'il y a suffisamment de place dans l'enclos.
      * Si la créature ne peut pas nager, une erreur est affichée.
@@ -47,6 +57,7 @@ public class AquariumEnclosure<T extends Creature> extends Enclosure<T> {
                 if (getNbCreature() < getMax()) {
                     this.getListCreature().add(creature);
                     setNbCreature(getNbCreature() + 1);
+                    creature.setEnclosure(this);
                 } else {
                     System.err.println("Pas assez de places disponibles!");
                 }
@@ -60,23 +71,32 @@ public class AquariumEnclosure<T extends Creature> extends Enclosure<T> {
 
     // TODO : doc
     public void maintenance() {
+        if (getListCreature().isEmpty()) {
+            System.err.println(getClass().getSimpleName() + " : " + getName() + " est vide, aucune maintenance n'est nécessaire.");
+            return;
+        }
         System.out.println(getClass().getSimpleName() + " : " + getName() + " est en maintenance.");
         performMaintenanceBasedOnDepth();
     }
 
-    // TODO plus la profondeur est grande plus le thread prend du temps
-    // TODO : doc
+    /**
+     * Entretient le bassin : l'entretien est le même quelle que soit la profondeur, seule sa durée en dépend
+     * (voir maintenanceMillis()).
+     */
     private void performMaintenanceBasedOnDepth() {
-        if (basinDepth <= 80) {
-            setBasinSalinity(basinSalinity.increment());
-        } else if (basinDepth > 80 && basinDepth <= 100) {
-            setBasinSalinity(basinSalinity.increment());
-        } else if (basinDepth > 100 && basinDepth <= 120) {
-            setBasinSalinity(basinSalinity.increment());
-        } else if (basinDepth > 120) {
-            setBasinSalinity(basinSalinity.increment());
-        }
+        setBasinSalinity(basinSalinity.increment());
         System.out.println(getClass().getSimpleName() + " : " + getName() + " est maintenant " + getBasinSalinity().getValue() + ".");
+        ZooEventBus.publish(ZooEventType.MAINTENANCE, this, getBasinSalinity().getValue());
+    }
+
+    /**
+     * Plus le bassin est profond, plus l'entretien de l'aquarium est long.
+     *
+     * @return La durée de la maintenance, en millisecondes.
+     */
+    @Override
+    public long maintenanceMillis() {
+        return super.maintenanceMillis() + Math.round(basinDepth * MAINTENANCE_MILLIS_PER_METER);
     }
 
     // Getter et setter
@@ -86,6 +106,7 @@ public class AquariumEnclosure<T extends Creature> extends Enclosure<T> {
     }
     public void setBasinDepth(double basinDepth) {
         this.basinDepth = basinDepth;
+        markModified();
     }
 
     public Salinity getBasinSalinity() {
@@ -93,10 +114,15 @@ public class AquariumEnclosure<T extends Creature> extends Enclosure<T> {
     }
     public void setBasinSalinity(Salinity basinSalinity) {
         this.basinSalinity = basinSalinity;
+        markModified();
+        CareWatcher watcher = getCareWatcher();
+        if (basinSalinity != Salinity.BRACKISHWATER && watcher != null) {
+            watcher.enclosureNeedsCare(this);
+        }
     }
 
     @Override
-    public String toString() {
+    protected String render() {
         StringBuilder sb = new StringBuilder("<-/ " + getEnclosureType() + " \\->\n");
         if (getListCreature().isEmpty()) {
             sb.append("-------------------------")
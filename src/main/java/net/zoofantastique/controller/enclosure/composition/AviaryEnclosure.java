@@ -2,6 +2,8 @@ package net.zoofantastique.controller.enclosure.composition;
 
 import net.zoofantastique.controller.entity.creature.behavior.Flying;
 import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.events.ZooEventBus;
+import net.zoofantastique.events.ZooEventType;
 
 /**
  * Classe AviaryEnclosure qui représente une volière dans un zoo.
@@ -20,6 +22,14 @@ public class AviaryEnclosure<T extends Creature> extends Enclosure<T> {
 
     // Méthodes
 
+    /**
+     * Seules les créatures qui savent voler entrent dans la volière.
+     */
+    @Override
+    protected boolean accepts(Creature creature) {
+        return creature instanceof Flying;
+    }
+
     /**
      * Ajoute une créature à l'enclos si elle est capable de voler et s'il y a suffisamment de place dans l'enclos.
      * Si la créature ne peut pas voler, une erreur est affichée.
@@ -37,6 +47,7 @@ public class AviaryEnclosure<T extends Creature> extends Enclosure<T> {
                 if (getNbCreature() < getMax()) {
                     this.getListCreature().add(creature);
                     setNbCreature(getNbCreature() + 1);
+                    creature.setEnclosure(this);
                 } else {
                     System.err.println("Pas assez de places disponibles!");
                 }
@@ -50,23 +61,32 @@ public class AviaryEnclosure<T extends Creature> extends Enclosure<T> {
 
     // TODO : doc
     public void maintenance () {
+        if (getListCreature().isEmpty()) {
+            System.err.println(getClass().getSimpleName() + " : " + getName() + " est vide, aucune maintenance n'est nécessaire.");
+            return;
+        }
         System.out.println(getClass().getSimpleName() + " : " + getName() + " est en maintenance.");
         performMaintenanceBasedOnHeight();
     }
 
-    // TODO plus la hauteur est grande plus le thread prend du temps
-    // TODO : doc
+    /**
+     * Entretient la volière : l'entretien est le même quelle que soit la hauteur du toit, seule sa durée en dépend
+     * (voir maintenanceMillis()).
+     */
     private void performMaintenanceBasedOnHeight () {
-        if (roofHeight <= 80) {
-            setCleanness(getCleanness().clean());
-        } else if (roofHeight > 80 && roofHeight <= 100) {
-            setCleanness(getCleanness().clean());
-        } else if (roofHeight > 100 && roofHeight <= 120) {
-            setCleanness(getCleanness().clean());
-        } else if (roofHeight > 120) {
-            setCleanness(getCleanness().clean());
-        }
+        setCleanness(getCleanness().clean());
         System.out.println(getClass().getSimpleName() + " : " + getName() + " est maintenant " + getCleanness().getValue() + ".");
+        ZooEventBus.publish(ZooEventType.MAINTENANCE, this, getCleanness().getValue());
+    }
+
+    /**
+     * Plus le toit est haut, plus l'entretien de la volière est long.
+     *
+     * @return La durée de la maintenance, en millisecondes.
+     */
+    @Override
+    public long maintenanceMillis() {
+        return super.maintenanceMillis() + Math.round(roofHeight * MAINTENANCE_MILLIS_PER_METER);
     }
 
     // Getter et setter
@@ -76,10 +96,11 @@ public class AviaryEnclosure<T extends Creature> extends Enclosure<T> {
     }
     public void setRoofHeight ( double roofHeight){
         this.roofHeight = roofHeight;
+        markModified();
     }
 
     @Override
-    public String toString () {
+    protected String render() {
         StringBuilder sb = new StringBuilder("<-/ " + getEnclosureType() + " \\->\n");
         if (getListCreature().isEmpty()) {
             sb.append("-------------------------")
@@ -0,0 +1,27 @@
+package net.zoofantastique.controller.enclosure.composition;
+
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+
+/**
+ * Interface CareWatcher, un observateur prévenu dès qu'une créature ou un enclos qu'il surveille a besoin de soins :
+ * une créature qui tombe malade, dont la faim passe au niveau moyen ou en dessous, ou qui se réveille affamée,
+ * un enclos qui devient sale,
+ * un aquarium dont la salinité s'écarte de l'eau saumâtre.
+ * Les signalements sont faits au moment où l'état change, sans parcours du zoo ; sans observateur, ils ne coûtent rien.
+ */
+public interface CareWatcher {
+
+    /**
+     * Une créature de l'enclos surveillé a besoin d'être soignée ou nourrie.
+     *
+     * @param creature La créature.
+     */
+    void creatureNeedsCare(Creature creature);
+
+    /**
+     * L'enclos surveillé a besoin d'être nettoyé ou son bassin rééquilibré.
+     *
+     * @param enclosure L'enclos.
+     */
+    void enclosureNeedsCare(Enclosure<?> enclosure);
+}
@@ -2,11 +2,18 @@ package net.zoofantastique.controller.enclosure.composition;
 
 import net.zoofantastique.controller.consumable.composition.Food;
 import net.zoofantastique.controller.enclosure.behavior.Cleanness;
+import net.zoofantastique.controller.entity.creature.behavior.Age;
 import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.events.ZooEventBus;
+import net.zoofantastique.events.ZooEventType;
+import net.zoofantastique.utils.RenderedView;
+import net.zoofantastique.utils.ResourceRegistry;
+import net.zoofantastique.utils.VersionClock;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -15,17 +22,26 @@ import static net.zoofantastique.controller.entity.creature.behavior.Hunger.SATI
 /**
  * Classe Enclosure représentant un enclos dans un zoo.
  * Un enclos a un type, un nom, une surface, un nombre maximum de créatures, un nombre actuel de créatures, une liste de créatures et un niveau de propreté.
+ * Sa vue texte (toString()) est mise en cache avec sa version et n'est reconstruite, à partir des vues elles-mêmes
+ * en cache de ses créatures, que lorsque l'enclos ou l'une de ses créatures a changé.
  */
-public class Enclosure<T extends Creature> implements Runnable {
+public class Enclosure<T extends Creature> implements Runnable, AutoCloseable {
+    private static final long MAINTENANCE_BASE_MILLIS = 2_000; // part fixe de la durée d'une maintenance
+    private static final double MAINTENANCE_MILLIS_PER_M2 = 50; // part de la durée par mètre carré de surface
+    protected static final double MAINTENANCE_MILLIS_PER_METER = 40; // part par mètre de profondeur de bassin ou de hauteur de toit
+
     private final String enclosureType = getClass().getSimpleName(); // Le type de l'enclos
     private String name; // Le nom de l'enclos
     private double surface; // La surface de l'enclos en mètres carrés
     private int max; // Le nombre maximum de créatures que l'enclos peut contenir
     private int nbCreature; // Le nombre actuel de créatures dans l'enclos
-    private final List<T> listCreature; // La liste des créatures dans l'enclos
+    private final List<T> listCreature; // La liste des créatures dans l'enclos, copiée à chaque écriture : ses lecteurs la parcourent sans verrou
     private Cleanness cleanness; // Le niveau de propreté de l'enclos
 
     private Class<? extends Creature> creatureType = null;
+    private volatile long version = VersionClock.next(); // version de l'enclos et de ses créatures, voir markModified()
+    private volatile RenderedView view; // dernier rendu de toString()
+    private volatile CareWatcher careWatcher; // prévenu des besoins de soins de l'enclos et de ses créatures, null si aucun
 
     private ScheduledExecutorService executor;
 
@@ -41,15 +57,26 @@ public class Enclosure<T extends Creature> implements Runnable {
         this.name = name;
         this.surface = surface;
         this.max = max;
-        this.listCreature = new ArrayList<>();
+        this.listCreature = new CopyOnWriteArrayList<>();
         this.nbCreature = 0;
         this.cleanness = Cleanness.CORRECT;
 
-        this.executor = Executors.newSingleThreadScheduledExecutor();
+        this.executor = ResourceRegistry.newScheduledExecutor(enclosureType + " " + name);
 
         this.run();
     }
 
+    /**
+     * Ferme l'enclos quand il quitte le zoo : arrête sa minuterie de propreté et ferme toutes les créatures qu'il contient.
+     */
+    @Override
+    public void close() {
+        ResourceRegistry.release(executor);
+        for (T creature : listCreature) {
+            creature.close();
+        }
+    }
+
     /**
      * Ajoute une créature à l'enclos s'il y a suffisamment de place dans l'enclos.
      * Si l'enclos est plein, une erreur est affichée.
@@ -64,6 +91,8 @@ public class Enclosure<T extends Creature> implements Runnable {
             if (nbCreature < max) {
                 this.listCreature.add(creature);
                 nbCreature += 1;
+                markModified();
+                creature.setEnclosure(this);
             } else {
                 System.err.println("Pas assez de places disponibles!");
             }
@@ -73,16 +102,101 @@ public class Enclosure<T extends Creature> implements Runnable {
 
     }
 
+    /**
+     * Ajoute un lot de créatures d'une même espèce en une seule passe : l'espèce, l'admission et la place sont vérifiées
+     * une fois pour tout le lot, puis la liste est agrandie une seule fois.
+     * Si le lot ne peut pas entrer en entier, rien n'est ajouté et une erreur est affichée.
+     *
+     * @param creatures Les créatures à ajouter à l'enclos.
+     * @return Le nombre de créatures ajoutées.
+     */
+    public int addCreatures(Collection<? extends T> creatures) {
+        if (creatures.isEmpty()) {
+            return 0;
+        }
+        T first = creatures.iterator().next();
+        Class<? extends Creature> type = listCreature.isEmpty() ? first.getClass() : getCreatureType();
+        for (T creature : creatures) {
+            if (!type.equals(creature.getClass())) {
+                System.err.println("L'enclos ne peux pas accueillir plusieurs types de créatures!");
+                return 0;
+            }
+        }
+        if (!accepts(first)) {
+            System.err.println("L'enclos " + name + " ne peut pas accueillir de " + type.getSimpleName() + "!");
+            return 0;
+        }
+        if (nbCreature + creatures.size() > max) {
+            System.err.println("Pas assez de places disponibles!");
+            return 0;
+        }
+        setCreatureType(type);
+        listCreature.addAll(creatures);
+        nbCreature += creatures.size();
+        markModified();
+        for (T creature : creatures) {
+            creature.setEnclosure(this);
+        }
+        return creatures.size();
+    }
+
+    /**
+     * Indique si une créature peut vivre dans ce type d'enclos, sans tenir compte de la place ni de l'espèce déjà présente.
+     *
+     * @param creature La créature à accueillir.
+     * @return true si l'enclos peut l'accueillir.
+     */
+    protected boolean accepts(Creature creature) {
+        return true;
+    }
+
+    /**
+     * Signale une modification de l'enclos ou de l'une de ses créatures : l'enclos prend une nouvelle version,
+     * ce qui invalide ses vues mises en cache.
+     */
+    public void markModified() {
+        version = VersionClock.next();
+    }
+
     // TODO : doc
     public final void removeCreature(T creature) {
         if (listCreature.contains(creature)) {
             listCreature.remove(creature);
             nbCreature--;
+            markModified();
+            if (creature.getEnclosure() == this && !listCreature.contains(creature)) {
+                creature.setEnclosure(null);
+            }
         } else {
             System.err.println("La créature:\n\n" + creature + "\nn'est pas dans l'enclos!");
         }
     }
 
+    /**
+     * Retire de l'enclos toutes les créatures mortes en une seule copie de la liste et libère leurs minuteries.
+     *
+     * @return Le nombre de créatures retirées.
+     */
+    public int removeDeadCreatures() {
+        List<T> dead = new ArrayList<>();
+        for (T creature : listCreature) {
+            if (creature.getAge() == Age.DEAD) {
+                dead.add(creature);
+            }
+        }
+        if (dead.isEmpty()) {
+            return 0;
+        }
+        listCreature.removeAll(dead);
+        nbCreature -= dead.size();
+        markModified();
+        for (T creature : dead) {
+            creature.setEnclosure(null);
+            creature.close();
+        }
+        return dead.size();
+    }
+
     /**
      * Méthode pour nourrir une créature dans l'enclos.
      * Si la créature est présente dans l'enclos et qu'elle n'est pas rassasiée, elle mange la nourriture fournie.
@@ -109,9 +223,24 @@ public class Enclosure<T extends Creature> implements Runnable {
      * Sinon, affiche un message indiquant que l'enclos est en maintenance, nettoie l'enclos, puis affiche un message indiquant le nouvel état de propreté de l'enclos.
      */
     public void maintenance() {
+        if (getListCreature().isEmpty()) {
+            System.err.println(getClass().getSimpleName() + " : " + getName() + " est vide, aucune maintenance n'est nécessaire.");
+            return;
+        }
         System.out.println(getClass().getSimpleName() + " : " + getName() + " est en maintenance.");
         setCleanness(getCleanness().clean());
         System.out.println(getClass().getSimpleName() + " : " + getName() + " est maintenant " + getCleanness().getValue() + ".");
+        ZooEventBus.publish(ZooEventType.MAINTENANCE, this, getCleanness().getValue());
+    }
+
+    /**
+     * Durée simulée d'une maintenance de l'enclos : une base fixe plus une part proportionnelle à sa surface.
+     * Les aquariums et les volières y ajoutent une part proportionnelle à la profondeur du bassin ou à la hauteur du toit.
+     *
+     * @return La durée, en millisecondes.
+     */
+    public long maintenanceMillis() {
+        return MAINTENANCE_BASE_MILLIS + Math.round(getSurface() * MAINTENANCE_MILLIS_PER_M2);
     }
 
     // TODO doc
@@ -130,6 +259,7 @@ public class Enclosure<T extends Creature> implements Runnable {
     }
     public void setName(String name) {
         this.name = name;
+        markModified();
     }
 
     public double getSurface() {
@@ -137,6 +267,7 @@ public class Enclosure<T extends Creature> implements Runnable {
     }
     public void setSurface(double surface) {
         this.surface = surface;
+        markModified();
     }
 
     public int getMax() {
@@ -144,6 +275,7 @@ public class Enclosure<T extends Creature> implements Runnable {
     }
     public void setMax(int max) {
         this.max = max;
+        markModified();
     }
 
     public int getNbCreature() {
@@ -151,6 +283,7 @@ public class Enclosure<T extends Creature> implements Runnable {
     }
     public void setNbCreature(int nbCreature) {
         this.nbCreature = nbCreature;
+        markModified();
     }
 
     public List<T> getListCreature() {
@@ -162,6 +295,11 @@ public class Enclosure<T extends Creature> implements Runnable {
     }
     public void setCleanness(Cleanness cleanness) {
         this.cleanness = cleanness;
+        markModified();
+        CareWatcher watcher = careWatcher;
+        if (cleanness == Cleanness.BAD && watcher != null) {
+            watcher.enclosureNeedsCare(this);
+        }
     }
 
     public String getEnclosureType() {
@@ -175,13 +313,45 @@ public class Enclosure<T extends Creature> implements Runnable {
         this.creatureType = creatureType;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public CareWatcher getCareWatcher() {
+        return careWatcher;
+    }
+    public void setCareWatcher(CareWatcher careWatcher) {
+        this.careWatcher = careWatcher;
+    }
+
     public ScheduledExecutorService getExecutor() {
         return executor;
     }
 
-    // TODO doc
+    /**
+     * Retourne la vue texte de l'enclos et de ses créatures, reconstruite seulement si l'enclos a changé
+     * depuis le dernier appel.
+     *
+     * @return La vue texte de l'enclos.
+     */
     @Override
-    public String toString() {
+    public final String toString() {
+        long current = version;
+        RenderedView rendered = view;
+        if (rendered == null || !rendered.isFresh(current)) {
+            rendered = new RenderedView(current, render());
+            view = rendered;
+        }
+        return rendered.text();
+    }
+
+    /**
+     * Construit la vue texte complète de l'enclos ; les sous-classes y ajoutent leurs propres caractéristiques.
+     * Tout champ affiché ici doit appeler markModified() quand il change.
+     *
+     * @return La vue texte de l'enclos.
+     */
+    protected String render() {
         StringBuilder sb = new StringBuilder("<-/ " + enclosureType + " \\->\n");
         if (listCreature.isEmpty()) {
             sb.append("-------------------------")
@@ -2,22 +2,51 @@ package net.zoofantastique.controller.entity;
 
 import net.zoofantastique.controller.entity.creature.behavior.Age;
 import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.utils.RenderedView;
+import net.zoofantastique.utils.VersionClock;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 
 /**
  * Classe abstraite Alive représentant une entité vivante.
  * Une entité vivante a une espèce, un nom, un sexe et un âge.
+ * Le sexe, l'âge et les indicateurs d'état des sous-classes sont regroupés dans un seul entier (state),
+ * ce qui réduit l'empreinte mémoire et permet de copier tout l'état en un seul mot.
+ * Chaque modification change la version de l'entité ; toString() n'est reconstruit que si elle a changé.
  */
 public abstract class Alive {
+    // Disposition des bits de state
+    private static final int AGE_MASK = 0b111; // bits 0 à 2 : ordinal de l'âge
+    private static final int GENDER_SHIFT = 3; // bit 3 : ordinal du sexe
+    private static final int GENDER_MASK = 1 << GENDER_SHIFT;
+    protected static final int FIRST_FLAG_SHIFT = 4; // premier bit libre pour les indicateurs des sous-classes
+
+    // Tables de décodage des ordinaux
+    private static final Age[] AGES = Age.values();
+    private static final Gender[] GENDERS = Gender.values();
+    private static final int DESCRIPTION_CAPACITY = 256; // taille initiale du tampon de toString(), pour éviter les agrandissements
+
+    private static final VarHandle STATE;
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(Alive.class, "state", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private final String species = getClass().getSimpleName(); // L'espèce de la créature
     String name; // Le nom de la créature
-    Gender sexe; // Le sexe de la créature
-    Age age; // L'âge de la créature
+    private volatile int state; // Le sexe, l'âge et les indicateurs d'état, encodés sur un entier
+    private volatile long version = VersionClock.next(); // change à chaque modification, voir touch()
+    private volatile RenderedView description; // dernier rendu de toString()
 
     // Constructeur
     public Alive(String name, Gender sexe, Age age) {
         this.name = name;
-        this.sexe = sexe;
-        this.age = age;
+        this.state = age.ordinal() | (sexe.ordinal() << GENDER_SHIFT);
     }
 
     // Méthodes
@@ -27,19 +56,62 @@ public abstract class Alive {
      * Cette méthode met à jour l'âge de la créature à l'âge suivant dans l'énumération Age.
      */
     public void aging() {
-        age = age.nextAge();
+        updateState(AGE_MASK, getAge().nextAge().ordinal());
+    }
+
+    /**
+     * Remplace atomiquement les bits désignés par mask par ceux de bits, sans toucher aux autres.
+     *
+     * @param mask Les bits à remplacer.
+     * @param bits Les nouvelles valeurs de ces bits.
+     */
+    private void updateState(int mask, int bits) {
+        int current;
+        do {
+            current = state;
+        } while (!STATE.compareAndSet(this, current, (current & ~mask) | (bits & mask)));
+        touch();
+    }
+
+    /**
+     * Signale une modification de l'entité : sa version change, ce qui invalide sa description mise en cache.
+     * Les sous-classes qui redéfinissent cette méthode doivent appeler super.touch() (pour invalider aussi les vues
+     * de ce qui les contient), et tout setter d'un champ affiché doit l'appeler.
+     */
+    protected void touch() {
+        version = VersionClock.next();
+    }
+
+    /**
+     * Indique si un indicateur d'état est levé.
+     *
+     * @param flag Le bit de l'indicateur.
+     * @return true si l'indicateur est levé.
+     */
+    protected final boolean hasFlag(int flag) {
+        return (state & flag) != 0;
+    }
+
+    /**
+     * Lève ou baisse un indicateur d'état.
+     *
+     * @param flag  Le bit de l'indicateur.
+     * @param value true pour le lever, false pour le baisser.
+     */
+    protected final void setFlag(int flag, boolean value) {
+        updateState(flag, value ? flag : 0);
     }
 
     // Getter et setter
 
     public Age getAge() {
-        return age;
+        return AGES[state & AGE_MASK];
     }
     public String getAgeState() {
-        return this.age.getValue();
+        return getAge().getValue();
     }
     public void setAge(Age age) {
-        this.age = age;
+        updateState(AGE_MASK, age.ordinal());
     }
 
     public String getName() {
@@ -47,27 +119,63 @@ public abstract class Alive {
     }
     public void setName(String name) {
         this.name = name;
+        touch();
     }
 
     public Gender getSexe() {
-        return this.sexe.getSexe();
+        return GENDERS[(state & GENDER_MASK) >>> GENDER_SHIFT];
     }
     public String getSexeStatus() {
-        return this.sexe.getSexeStatus();
+        return getSexe().getSexeStatus();
+    }
+
+    /**
+     * Retourne tout l'état encodé (sexe, âge et indicateurs) en un seul entier, pour les copies et instantanés.
+     *
+     * @return L'état encodé.
+     */
+    public int getState() {
+        return state;
+    }
+    public void setState(int state) {
+        this.state = state;
+        touch();
+    }
+
+    public long getVersion() {
+        return version;
     }
 
     /**
      * Méthode pour obtenir une représentation sous forme de chaîne de caractères de la créature.
      * Construit une chaîne de caractères contenant l'espèce, le nom, le sexe et l'âge de la créature.
+     * La chaîne n'est reconstruite que si la créature a changé depuis le dernier appel.
      *
      * @return Une chaîne de caractères représentant la créature.
      */
     @Override
     public String toString() {
-        return "<-/ " + species + " \\->\n" +
-                "--------------" +
-                "\nNom: " + name +
-                "\nSexe: " + sexe.getSexeStatus() +
-                "\nAge: " + age.getValue();
+        long current = version;
+        RenderedView view = description;
+        if (view == null || !view.isFresh(current)) {
+            view = new RenderedView(current, appendDescription(new StringBuilder(DESCRIPTION_CAPACITY)).toString());
+            description = view;
+        }
+        return view.text();
+    }
+
+    /**
+     * Ajoute la description de la créature au tampon donné, sans chaîne intermédiaire.
+     * Les sous-classes complètent la description en appelant d'abord cette méthode.
+     *
+     * @param sb Le tampon à compléter.
+     * @return Le tampon, pour enchaîner les appels.
+     */
+    protected StringBuilder appendDescription(StringBuilder sb) {
+        return sb.append("<-/ ").append(species).append(" \\->\n")
+                .append("--------------")
+                .append("\nNom: ").append(name)
+                .append("\nSexe: ").append(getSexeStatus())
+                .append("\nAge: ").append(getAge().getValue());
     }
 }
@@ -10,6 +10,8 @@ public enum Age {
     OLD("Vieux", 0.5),
     DEAD("Mort", 0);
 
+    private static final Age[] AGES = Age.values();
+
     // Attributs
     private final String value; // Valeur de l'âge
     private final double agePowerFactor; // Facteur de puissance de l'âge (utilisé pour les lycanthropes)
@@ -29,10 +31,9 @@ public enum Age {
      * @return Le nouvel âge de la créature.
      */
     public Age nextAge() {
-        Age[] ages = Age.values();
         int currentIndex = this.ordinal();
-        if (currentIndex < ages.length - 1) {
-            return ages[currentIndex + 1];
+        if (currentIndex < AGES.length - 1) {
+            return AGES[currentIndex + 1];
         } else {
             return this;
         }
@@ -0,0 +1,24 @@
+package net.zoofantastique.controller.entity.creature.behavior;
+
+/**
+ * Enumération Howl représentant les hurlements qu'un lycanthrope peut adresser à sa meute.
+ */
+public enum Howl {
+    DOMINANCE("Hurlement de dominance"),
+    SUBMISSION("Hurlement de soumission"),
+    BELONGING("Hurlement d'appartenance");
+
+    // Attributs
+    private final String value; // valeur de l'enum
+
+    // Constructeur
+    Howl(String value) {
+        this.value = value;
+    }
+
+    // Getter et setter
+
+    public String getValue() {
+        return value;
+    }
+}
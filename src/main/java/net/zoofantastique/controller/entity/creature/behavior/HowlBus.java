@@ -0,0 +1,97 @@
+package net.zoofantastique.controller.entity.creature.behavior;
+
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Lycanthrope;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Classe HowlBus qui représente le canal de communication d'une meute.
+ * Les hurlements publiés pendant un tick sont regroupés par type puis distribués en une seule passe
+ * à tous les membres de la meute lors de l'appel à flush().
+ */
+public class HowlBus {
+    private static final Howl[] HOWLS = Howl.values(); // table des hurlements indexée par ordinal
+
+    // Attributs
+    private final AtomicIntegerArray pending; // nombre de hurlements en attente, par type
+    private Lycanthrope[] subscribers; // membres abonnés, tableau plat
+    private int nbSubscribers; // nombre de cases utilisées dans subscribers
+
+    // Constructeur
+    public HowlBus() {
+        this.pending = new AtomicIntegerArray(HOWLS.length);
+        this.subscribers = new Lycanthrope[8];
+        this.nbSubscribers = 0;
+    }
+
+    // Méthodes
+
+    /**
+     * Abonne un lycanthrope aux hurlements de la meute.
+     * Le tableau des abonnés est agrandi par doublement si nécessaire.
+     *
+     * @param lycanthrope Le lycanthrope à abonner.
+     */
+    public synchronized void subscribe(Lycanthrope lycanthrope) {
+        if (nbSubscribers == subscribers.length) {
+            Lycanthrope[] grown = new Lycanthrope[subscribers.length * 2];
+            System.arraycopy(subscribers, 0, grown, 0, nbSubscribers);
+            subscribers = grown;
+        }
+        subscribers[nbSubscribers++] = lycanthrope;
+    }
+
+    /**
+     * Désabonne un lycanthrope. Le dernier abonné prend sa place pour garder le tableau compact.
+     *
+     * @param lycanthrope Le lycanthrope à désabonner.
+     */
+    public synchronized void unsubscribe(Lycanthrope lycanthrope) {
+        for (int i = 0; i < nbSubscribers; i++) {
+            if (subscribers[i] == lycanthrope) {
+                subscribers[i] = subscribers[--nbSubscribers];
+                subscribers[nbSubscribers] = null;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Publie un hurlement dans la meute. Le hurlement est seulement comptabilisé,
+     * il sera distribué au prochain flush(). Cette méthode n'alloue rien et ne bloque pas.
+     *
+     * @param howl Le hurlement publié.
+     */
+    public void publish(Howl howl) {
+        pending.incrementAndGet(howl.ordinal());
+    }
+
+    /**
+     * Distribue en une seule passe les hurlements accumulés depuis le dernier appel.
+     * Chaque membre reçoit, pour chaque type de hurlement entendu, le nombre de hurlements regroupés.
+     *
+     * @return Le nombre de livraisons effectuées.
+     */
+    public synchronized int flush() {
+        int delivered = 0;
+        for (int i = 0; i < HOWLS.length; i++) {
+            int count = pending.getAndSet(i, 0);
+            if (count == 0) continue;
+            for (int j = 0; j < nbSubscribers; j++) {
+                subscribers[j].hearHowl(HOWLS[i], count);
+            }
+            delivered += nbSubscribers;
+        }
+        return delivered;
+    }
+
+    // Getter et setter
+
+    public int getPending(Howl howl) {
+        return pending.get(howl.ordinal());
+    }
+
+    public synchronized int getNbSubscribers() {
+        return nbSubscribers;
+    }
+}
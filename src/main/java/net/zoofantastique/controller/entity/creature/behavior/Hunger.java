@@ -11,6 +11,8 @@ public enum Hunger {
     MEDIUM("Moyen", 6),
     HUNGRY("Affamé(e)", 3);
 
+    private static final Hunger[] STATES = Hunger.values();
+
     // Attributs
     private final String state; // L'état de la faim de la créature
     private final int value; // La valeur de la faim de la créature
@@ -25,10 +27,9 @@ public enum Hunger {
 
     @Nullable
     public static String getStateFromValue(int value) {
-        Hunger[] states = Hunger.values();
-        for (int i = states.length-1 ; i >= 0 ; i--) {
-            if (value <= states[i].getValue()) {
-                return states[i].state;
+        for (int i = STATES.length-1 ; i >= 0 ; i--) {
+            if (value <= STATES[i].getValue()) {
+                return STATES[i].state;
             }
         }
         return null;
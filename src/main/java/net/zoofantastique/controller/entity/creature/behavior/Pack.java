@@ -1,10 +1,12 @@
 package net.zoofantastique.controller.entity.creature.behavior;
 
 import net.zoofantastique.controller.entity.creature.composition.viviparous.Lycanthrope;
+import net.zoofantastique.metrics.jfr.PackBattleEvent;
+import net.zoofantastique.utils.VersionClock;
 
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Cette classe représente une meute de lycanthropes.
@@ -17,19 +19,23 @@ public class Pack {
     private final List<Lycanthrope> lycanthropes; // liste des lycanthropes de la meute
     private Lycanthrope maleAlpha; // mâle alpha de la meute
     private Lycanthrope femaleAlpha; // femelle alpha de la meute
+    private final HowlBus howlBus; // canal des hurlements de la meute
+    private volatile long version = VersionClock.next(); // version de la meute et de ses membres, voir markModified()
 
     // Constructeur
     public Pack(String packName, CoupleAlpha couple) {
         this.packName = packName;
         this.couple = couple;
-        this.lycanthropes = new ArrayList<>();
+        this.lycanthropes = new CopyOnWriteArrayList<>();
+        this.howlBus = new HowlBus();
         initPack();
     }
 
     public Pack(String packName, Lycanthrope male, Lycanthrope female) {
         this.packName = packName;
         this.couple = new CoupleAlpha(male, female);
-        this.lycanthropes = new ArrayList<>();
+        this.lycanthropes = new CopyOnWriteArrayList<>();
+        this.howlBus = new HowlBus();
         initPack();
     }
 
@@ -38,25 +44,48 @@ public class Pack {
     /**
      * Cette méthode est utilisée pour initialiser la meute.
      * Elle définit le mâle alpha et la femelle alpha de la meute en utilisant le couple alpha fourni lors de la création de la meute.
-     * Ensuite, elle ajoute le mâle alpha et la femelle alpha à la liste des lycanthropes de la meute.
+     * Ensuite, elle ajoute le mâle alpha et la femelle alpha à la liste des lycanthropes de la meute et les abonne à ses hurlements.
      */
     public void initPack() {
         this.maleAlpha = couple.getFirst();
         this.femaleAlpha = couple.getSecond();
-        this.lycanthropes.add(couple.getFirst());
-        this.lycanthropes.add(couple.getSecond());
+        join(couple.getFirst());
+        join(couple.getSecond());
+    }
+
+    /**
+     * Cette méthode est utilisée pour rattacher un lycanthrope à la meute.
+     * Elle l'ajoute à la liste des lycanthropes, l'abonne aux hurlements de la meute et lui indique sa meute.
+     *
+     * @param lycanthrope Le lycanthrope à rattacher.
+     */
+    private void join(Lycanthrope lycanthrope) {
+        this.lycanthropes.add(lycanthrope);
+        this.howlBus.subscribe(lycanthrope);
+        lycanthrope.setPack(this);
+        markModified();
+    }
+
+    /**
+     * Signale une modification de la meute ou de l'un de ses membres : la meute prend une nouvelle version,
+     * ce qui invalide ses vues mises en cache.
+     */
+    public void markModified() {
+        version = VersionClock.next();
     }
 
     /**
      * Cette méthode est utilisée pour ajouter un nouveau lycanthrope à la meute.
      * Avant d'ajouter le lycanthrope à la meute, une bataille est simulée entre le nouveau lycanthrope et le mâle alpha actuel.
      * Le résultat de cette bataille peut affecter le rang et le facteur de dominance du nouveau lycanthrope et du mâle alpha.
+     * Une fois admis, le nouveau lycanthrope pousse un hurlement d'appartenance.
      *
      * @param lycanthrope Le nouveau lycanthrope à ajouter à la meute.
      */
     public void addLycanthrope(Lycanthrope lycanthrope) {
         battle(lycanthrope, maleAlpha);
-        this.lycanthropes.add(lycanthrope);
+        join(lycanthrope);
+        lycanthrope.howl(Howl.BELONGING);
     }
 
     /**
@@ -67,7 +96,13 @@ public class Pack {
      * @param lycanthrope Le lycanthrope à retirer de la meute.
      */
     public void removeLycanthrope(Lycanthrope lycanthrope) {
-        if (!this.lycanthropes.remove(lycanthrope)) System.err.println("Le lycanthrope " + lycanthrope.getName() + " n'est pas dans la meute.");
+        if (!this.lycanthropes.remove(lycanthrope)) {
+            System.err.println("Le lycanthrope " + lycanthrope.getName() + " n'est pas dans la meute.");
+            return;
+        }
+        this.howlBus.unsubscribe(lycanthrope);
+        lycanthrope.setPack(null);
+        markModified();
     }
 
     /**
@@ -112,9 +147,11 @@ public class Pack {
             if (l1.equals(maleAlpha)) {
                 l2.setRank(l1.getRank() + 1);
                 newCoupleAlpha(l2);
+                PackBattleEvent.emit(packName, l2, l1, true);
             } else {
                 l1.setRank(l2.getRank() + 1);
                 newCoupleAlpha(l1);
+                PackBattleEvent.emit(packName, l1, l2, true);
             }
         } else {
             System.err.println("Les deux lycanthropes sont de même niveau.");
@@ -126,12 +163,14 @@ public class Pack {
      * Si le perdant est le mâle alpha, le rang de la femelle alpha est augmenté et un nouveau couple alpha est formé avec le gagnant.
      * Si le rang du gagnant est supérieur ou égal à celui du perdant, le rang du perdant est diminué.
      * Sinon, les rangs du gagnant et du perdant sont échangés.
-     * Enfin, le facteur de dominance du gagnant est augmenté et celui du perdant est diminué.
+     * Enfin, le facteur de dominance du gagnant est augmenté et celui du perdant est diminué,
+     * puis le gagnant pousse un hurlement de dominance et le perdant un hurlement de soumission.
      *
      * @param winner Le lycanthrope qui a gagné la bataille.
      * @param loser Le lycanthrope qui a perdu la bataille.
      */
     public void rankReassignment(Lycanthrope winner, Lycanthrope loser) {
+        PackBattleEvent.emit(packName, winner, loser, loser.equals(maleAlpha));
         if (loser.equals(maleAlpha)) {
             femaleAlpha.setRank(femaleAlpha.getRank() + 1);
             newCoupleAlpha(winner);
@@ -143,6 +182,8 @@ public class Pack {
         }
         winner.setDominanceFactor(winner.getDominanceFactor() + 1);
         loser.setDominanceFactor(loser.getDominanceFactor() - 1);
+        winner.howl(Howl.DOMINANCE);
+        loser.howl(Howl.SUBMISSION);
     }
 
     /**
@@ -224,6 +265,7 @@ public class Pack {
     }
     public void setPackName(String packName) {
         this.packName = packName;
+        markModified();
     }
 
     public CoupleAlpha getCouple() {
@@ -231,12 +273,21 @@ public class Pack {
     }
     public void setCouple(CoupleAlpha couple) {
         this.couple = couple;
+        markModified();
     }
 
     public List<Lycanthrope> getLycanthropes() {
         return lycanthropes;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public HowlBus getHowlBus() {
+        return howlBus;
+    }
+
     /**
      * Cette méthode est utilisée pour obtenir une représentation sous forme de chaîne de la meute.
      * Elle renvoie une chaîne qui contient le nom de la meute, le couple dominant, le nombre de lycanthropes dans la meute et une liste de tous les lycanthropes.
@@ -1,18 +1,27 @@
 package net.zoofantastique.controller.entity.creature.composition;
 
 import net.zoofantastique.controller.consumable.composition.Food;
+import net.zoofantastique.controller.enclosure.composition.CareWatcher;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
 import net.zoofantastique.controller.entity.Alive;
 import net.zoofantastique.controller.entity.creature.behavior.Age;
 import net.zoofantastique.controller.entity.creature.behavior.Gender;
 import net.zoofantastique.controller.entity.creature.behavior.Hunger;
 import net.zoofantastique.controller.entity.creature.composition.oviparous.Oviparous;
 import net.zoofantastique.controller.entity.creature.composition.viviparous.Viviparous;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.Executors;
+import net.zoofantastique.events.ZooEventBus;
+import net.zoofantastique.events.ZooEventType;
+import net.zoofantastique.metrics.ZooMetrics;
+import net.zoofantastique.metrics.jfr.CreatureTickEvent;
+import net.zoofantastique.metrics.jfr.DeathEvent;
+import net.zoofantastique.metrics.jfr.HungerThresholdEvent;
+import net.zoofantastique.metrics.jfr.SicknessEvent;
+import net.zoofantastique.utils.ResourceRegistry;
+
+import java.util.Objects;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static net.zoofantastique.utils.Utils.*;
 
@@ -20,79 +29,180 @@ import static net.zoofantastique.utils.Utils.*;
  * Classe abstraite Creature qui représente une créature dans un zoo.
  * Une créature a une espèce, un nom, un sexe, un âge, un cri, un poids, une taille, un état de sommeil, un état de santé, un état de grossesse et un état de faim.
  * Cette classe étend la classe Alive.
+ * Une créature est construite inerte : aucune minuterie ne tourne tant qu'elle n'est pas activée, soit sur l'horloge
+ * partagée de la simulation (attachToClock(), voir CreatureClock), soit avec ses propres minuteries (activate()).
+ * Les minuteries sont libérées par close() (ou stop()), à appeler quand la créature quitte le zoo.
  */
-public abstract class Creature extends Alive implements Runnable {
+public abstract class Creature extends Alive implements Runnable, AutoCloseable {
+    private static final AtomicLong NEXT_ID = new AtomicLong(); // compteur des identifiants de créatures
+    public static final int HEALTH_PERIOD = 100; // période des tirages de maladie et de sommeil, en secondes
+    public static final int SICKNESS_PERCENT = 3; // chances sur cent de tomber malade à chaque tirage
+
     // Attributs
-    private ArrayList<Double> minHeight = new ArrayList<>(List.of(0.1, 0.8, 1.5, 1.6, 1.6));
-    private ArrayList<Double> maxHeight = new ArrayList<>(List.of(0.2, 1.1, 1.8, 2.1, 2.0));
-    private ArrayList<Double> minWeight = new ArrayList<>(List.of(2.0, 20.0, 35.0, 50.0, 55.0));
-    private ArrayList<Double> maxWeight = new ArrayList<>(List.of(3.5, 35.0, 50.0, 90.0, 95.0));
+    // L'identifiant unique de la créature, utilisé par les événements JFR.
+    private final long id = NEXT_ID.incrementAndGet();
     // Le cri de la créature.
     private final String shout;
     // Le poids de la créature en kilogrammes.
     private double weight;
     // La taille de la créature en mètres.
     private double height;
-    // L'état de sommeil de la créature, true si la créature dort, false sinon.
-    private boolean isSleeping;
-    // L'état de santé de la créature, true si la créature est malade, false sinon.
-    private boolean isSick;
-    // L'état de grossesse de la créature, true si la créature est en ceinte, false sinon.
-    private boolean isPregnant;
+    // Indicateurs d'état, stockés dans l'entier d'état hérité d'Alive.
+    // L'état de sommeil de la créature, levé si la créature dort.
+    private static final int SLEEPING = 1 << FIRST_FLAG_SHIFT;
+    // L'état de santé de la créature, levé si la créature est malade.
+    private static final int SICK = 1 << (FIRST_FLAG_SHIFT + 1);
+    // L'état de grossesse de la créature, levé si la créature est enceinte.
+    private static final int PREGNANT = 1 << (FIRST_FLAG_SHIFT + 2);
+    // L'enclos dans lequel se trouve la créature, null si elle n'est dans aucun enclos.
+    private Enclosure<?> enclosure;
 
     // Attributs speciaux type enumeration
     private int hunger;
 
     // Pour la simulation
     private ScheduledExecutorService executor;
+    // Secondes écoulées sur l'horloge partagée depuis l'activation, -1 si la créature n'y est pas rattachée.
+    private long clockSeconds = -1;
     private int ageScale;
     private int dimHunger;
 
-    public void stop() {
-        if (executor != null) {
-            executor.shutdown();
-            executor = null;
-        }
+    /**
+     * Arrête les minuteries de la créature : libère ses minuteries propres et la détache de l'horloge partagée,
+     * qui l'oubliera à son prochain pas.
+     */
+    public synchronized void stop() {
+        ResourceRegistry.release(executor);
+        executor = null;
+        clockSeconds = -1;
     }
 
-    public void updateAndRestart(int ageScale, int dimHunger) {
+    /**
+     * Libère les minuteries de la créature ; à appeler quand la créature quitte le zoo.
+     */
+    @Override
+    public void close() {
         stop();
-        setAgeScale(ageScale);
-        setDimHunger(dimHunger);
-        executor = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    /**
+     * Redémarre les minuteries de la créature avec de nouvelles échelles de temps.
+     * Une créature rattachée à l'horloge partagée y reste ; les autres reçoivent leurs propres minuteries.
+     *
+     * @param ageScale  La durée d'un âge, en secondes.
+     * @param dimHunger La durée d'un point de faim, en secondes.
+     */
+    public synchronized void updateAndRestart(int ageScale, int dimHunger) {
+        boolean onClock = clockSeconds >= 0;
+        stop();
+        setTimings(ageScale, dimHunger);
+        if (onClock) {
+            clockSeconds = 0;
+            return;
+        }
+        executor = ResourceRegistry.newScheduledExecutor(getClass().getSimpleName() + " " + getName() + " #" + id);
         run();
     }
 
+    /**
+     * Active la créature avec ses propres minuteries (un thread par créature).
+     * Pour de nombreuses créatures, préférer l'horloge partagée de la simulation.
+     */
+    public synchronized void activate() {
+        if (!isActive()) {
+            updateAndRestart(ageScale, dimHunger);
+        }
+    }
+
+    /**
+     * Rattache la créature à une horloge partagée, qui appellera onClockSecond() chaque seconde.
+     *
+     * @return true si la créature a été rattachée, false si elle était déjà active.
+     */
+    public synchronized boolean attachToClock() {
+        if (isActive()) {
+            return false;
+        }
+        clockSeconds = 0;
+        return true;
+    }
+
+    /**
+     * Une seconde de l'horloge partagée : déclenche les minuteries arrivées à échéance, avec les mêmes périodes
+     * que les minuteries propres (faim, maladie, sommeil, vieillissement).
+     *
+     * @return true si la créature est toujours rattachée à l'horloge, false si l'horloge doit l'oublier.
+     */
+    public boolean onClockSecond() {
+        long seconds;
+        synchronized (this) {
+            if (clockSeconds < 0) {
+                return false;
+            }
+            seconds = ++clockSeconds;
+        }
+        if (seconds % dimHunger == dimHunger - 1) {
+            hungerTick();
+        }
+        if (seconds % HEALTH_PERIOD == HEALTH_PERIOD - 1) {
+            sicknessCheck();
+            sleepCheck();
+        }
+        if (seconds % ageScale == ageScale - 1) {
+            aging();
+        }
+        return isOnClock();
+    }
+
     @Override
     public void run() {
+        if (executor == null) {
+            return;
+        }
         // Diminution de la faim
-        executor.scheduleAtFixedRate(() -> {
-            setHunger(getHunger() - 1);
-            if (getHunger() == 0) {
-                haveToGoToTheHell();
-            }
-        }, (long) (getDimHunger() - 1) , (long) getDimHunger() , TimeUnit.SECONDS);
+        executor.scheduleAtFixedRate(this::hungerTick, (long) (getDimHunger() - 1) , (long) getDimHunger() , TimeUnit.SECONDS);
         // Devient malade ?
-        executor.scheduleAtFixedRate(() -> {
-            boolean haveToBeSick = getRandomIntInRange(0, 100) < 3;
-            if (haveToBeSick || isSick) {
-                haveToGoToTheHell();
-            }
-            setSick(haveToBeSick);
-
-        }, 99L , 100L , TimeUnit.SECONDS);
+        executor.scheduleAtFixedRate(this::sicknessCheck, HEALTH_PERIOD - 1, HEALTH_PERIOD, TimeUnit.SECONDS);
         // Dors ?
-        executor.scheduleAtFixedRate(() -> {
-            boolean goToSleep = getRandomIntInRange(0, 100) < 10;
-            if (goToSleep) {
-                toggleSleeping();
-            }
-
-        }, 99L , 100L , TimeUnit.SECONDS);
+        executor.scheduleAtFixedRate(this::sleepCheck, HEALTH_PERIOD - 1, HEALTH_PERIOD, TimeUnit.SECONDS);
         // Vieillisement
         executor.scheduleAtFixedRate(this::aging, getAgeScale() - 1, getAgeScale(), TimeUnit.SECONDS);
     }
 
+    private void hungerTick() {
+        CreatureTickEvent event = new CreatureTickEvent();
+        event.begin();
+        decayHunger();
+        event.setHunger(getHunger());
+        event.commitFor(this);
+    }
+
+    private void sicknessCheck() {
+        boolean haveToBeSick = getRandomIntInRange(0, 100) < SICKNESS_PERCENT;
+        if (haveToBeSick || isSick()) {
+            haveToGoToTheHell();
+        }
+        setSick(haveToBeSick);
+    }
+
+    private void sleepCheck() {
+        boolean goToSleep = getRandomIntInRange(0, 100) < 10;
+        if (goToSleep) {
+            toggleSleeping();
+        }
+    }
+
+    /**
+     * Un pas de faim : la faim diminue d'un point et la créature meurt quand elle atteint 0.
+     * En régime établi (sans changement d'état de faim), ce pas n'alloue rien ; un test de budget d'allocation le vérifie.
+     */
+    public void decayHunger() {
+        setHunger(getHunger() - 1);
+        if (getHunger() == 0) {
+            haveToGoToTheHell();
+        }
+    }
+
     /*
      * Il est malheureusement temps de dire au revoir à notre chère créature.
      *
@@ -100,7 +210,12 @@ public abstract class Creature extends Alive implements Runnable {
      */
     public void haveToGoToTheHell() {
         setAge(Age.DEAD);
-        executor.shutdown();
+        if (getAge() != Age.DEAD) { // une créature qui renaît aussitôt (Phoenix) n'est pas morte
+            return;
+        }
+        stop();
+        DeathEvent.emit(this);
+        ZooEventBus.publish(ZooEventType.DEATH, this, null);
     }
 
     /**
@@ -117,23 +232,24 @@ public abstract class Creature extends Alive implements Runnable {
         calcSizeAndWeight();
 
         this.shout = shout;
-        this.isSleeping = false;
-        this.isSick = false;
         this.hunger = Hunger.MAX.getValue();
 
-        // Simulation
-        this.executor = Executors.newSingleThreadScheduledExecutor();
+        // Simulation : chaque espèce fixe ses échelles de temps avec setTimings(), la créature reste inerte jusqu'à son activation
         this.ageScale = 10;
         this.dimHunger = 30;
-
-        this.run();
     }
 
     // Methodes
+
+    /**
+     * Méthode pour tirer au hasard la taille et le poids de la créature selon son âge.
+     * Les bornes proviennent de la table de croissance partagée de son espèce.
+     */
     public void calcSizeAndWeight() {
-        int age = getAge().ordinal();
-        setHeight(getRandomDoubleInRange(this.minHeight.get(age), this.maxHeight.get(age)));
-        setWeight(getRandomDoubleInRange(this.minWeight.get(age), this.maxWeight.get(age)));
+        GrowthTable table = GrowthTable.of(getClass());
+        Age age = getAge();
+        setHeight(getRandomDoubleInRange(table.getMinHeight(age), table.getMaxHeight(age)));
+        setWeight(getRandomDoubleInRange(table.getMinWeight(age), table.getMaxWeight(age)));
     }
 
     /**
@@ -143,17 +259,21 @@ public abstract class Creature extends Alive implements Runnable {
      * Ensuite, en fonction de la nouvelle valeur de la faim, l'état de la faim de la créature est mis à jour.
      *
      * @param food La nourriture à donner à la créature.
+     * @return true si la créature a mangé, false sinon.
      */
-    public void feed(Food food) {
-        if (isSleeping) {
+    public boolean feed(Food food) {
+        if (isSleeping()) {
             System.err.println("Tu ne peux pas faire ça car la créature sélectionner dors actuellement.");
-            return;
+            return false;
         } else if (getHunger() == Hunger.MAX.getValue()) {
             System.err.println("La créature sélectionner n'a pas faim.");
-            return;
+            return false;
         }
         int totalHungerValue = getHunger() + food.getValue();
         this.setHunger(totalHungerValue);
+        ZooMetrics.FEEDS.increment();
+        ZooEventBus.publish(ZooEventType.FEEDING, this, food.getName());
+        return true;
     }
 
     /**
@@ -170,7 +290,7 @@ public abstract class Creature extends Alive implements Runnable {
      * Cette méthode met à jour l'état de santé de la créature à false, indiquant qu'elle n'est plus malade.
      */
     public void heal() {
-        isSick = false;
+        setSick(false);
     }
 
     /**
@@ -178,11 +298,11 @@ public abstract class Creature extends Alive implements Runnable {
      * Si la créature dort, elle se réveille. Si elle est éveillée, elle s'endort.
      */
     public void toggleSleeping() {
-        if (isSick) {
+        if (isSick()) {
             System.err.println("La créature sélectionner est malade, elle ne peut pas dormir.");
             return;
         }
-        isSleeping = !isSleeping;
+        setSleeping(!isSleeping());
     }
 
     /**
@@ -219,14 +339,16 @@ public abstract class Creature extends Alive implements Runnable {
     }
 
     /**
-     * Méthode pour initier une grossesse chez une créature vivipare.
+     * Méthode pour initier une grossesse (ou une ponte) chez une créature.
      * Cette méthode vérifie d'abord si la fécondation est possible avec le partenaire fourni.
-     * Si la fécondation est possible, la créature femelle est mise en état de grossesse et la méthode giveBirth est appelée pour faire naître le bébé.
+     * Si la fécondation est possible, la créature femelle est mise en état de grossesse.
      * Si la fécondation n'est pas possible, un message est affiché et la méthode renvoie null.
+     * La naissance ou l'éclosion à terme est prise en charge par le BirthPipeline de la simulation.
      *
      * @param partenaire La créature avec laquelle vérifier la possibilité de fécondation.
+     * @return La créature femelle désormais enceinte, null si l'accouplement est impossible.
      */
-    public void initiatePregnancy(Creature partenaire) {
+    public Creature initiatePregnancy(Creature partenaire) {
         Creature female = fertilizable(partenaire);
         if (female == null) {
             System.err.println("L'accouplement semble impossible.");
@@ -234,7 +356,7 @@ public abstract class Creature extends Alive implements Runnable {
             System.out.println("Un nouvel arrivant semble être prévu pour bientôt!");
             female.setPregnant(true);
         }
-        // TODO temps d'incubation thread
+        return female;
     }
 
     // Getter et Setter
@@ -244,6 +366,7 @@ public abstract class Creature extends Alive implements Runnable {
     }
     public void setWeight(double weight) {
         this.weight = weight;
+        touch();
     }
 
     public double getHeight() {
@@ -251,6 +374,7 @@ public abstract class Creature extends Alive implements Runnable {
     }
     public void setHeight(double height) {
         this.height = height;
+        touch();
     }
 
     public String getShout() {
@@ -264,64 +388,117 @@ public abstract class Creature extends Alive implements Runnable {
         return this.hunger;
     }
     public void setHunger(int hunger) {
+        String previousState = getHungerState();
         if (hunger > 10) {
             this.hunger = 10;
         }
         this.hunger = hunger;
+        touch();
+        if (!Objects.equals(previousState, getHungerState())) {
+            HungerThresholdEvent.emit(this, previousState, getHungerState());
+            ZooEventBus.publish(ZooEventType.HUNGER, this, getHungerState());
+            if (hunger <= Hunger.MEDIUM.getValue()) {
+                signalCare();
+            }
+        }
     }
 
     public boolean isSleeping() {
-        return this.isSleeping;
+        return hasFlag(SLEEPING);
     }
     public void setSleeping(boolean sleeping) {
-        this.isSleeping = sleeping;
+        boolean wakesUp = !sleeping && isSleeping();
+        setFlag(SLEEPING, sleeping);
+        if (wakesUp && hunger <= Hunger.MEDIUM.getValue()) {
+            signalCare(); // une créature affamée n'a pas pu être nourrie pendant son sommeil
+        }
     }
 
     public boolean isSick() {
-        return this.isSick;
+        return hasFlag(SICK);
     }
 
     public void setSick(boolean sick) {
-        this.isSick = sick;
+        boolean fallsSick = sick && !isSick();
+        if (fallsSick) {
+            SicknessEvent.emit(this);
+            ZooEventBus.publish(ZooEventType.SICKNESS, this, null);
+        }
+        setFlag(SICK, sick);
+        if (fallsSick) {
+            signalCare();
+        }
     }
 
     public boolean isPregnant() {
-        return isPregnant;
+        return hasFlag(PREGNANT);
     }
     public void setPregnant(boolean pregnant) {
-        isPregnant = pregnant;
+        setFlag(PREGNANT, pregnant);
     }
 
-    public ArrayList<Double> getMinHeight() {
-        return minHeight;
+    public long getId() {
+        return id;
     }
 
-    public void setMinHeight(ArrayList<Double> minHeight) {
-        this.minHeight = minHeight;
+    /**
+     * Une modification de la créature change sa version et celle de son enclos.
+     */
+    @Override
+    protected void touch() {
+        super.touch();
+        Enclosure<?> current = enclosure;
+        if (current != null) {
+            current.markModified();
+        }
     }
 
-    public ArrayList<Double> getMaxHeight() {
-        return maxHeight;
+    /**
+     * Prévient l'observateur de soins de l'enclos, s'il y en a un, que la créature a besoin de lui.
+     */
+    private void signalCare() {
+        Enclosure<?> current = enclosure;
+        CareWatcher watcher = current == null ? null : current.getCareWatcher();
+        if (watcher != null) {
+            watcher.creatureNeedsCare(this);
+        }
     }
 
-    public void setMaxHeight(ArrayList<Double> maxHeight) {
-        this.maxHeight = maxHeight;
+    public Enclosure<?> getEnclosure() {
+        return enclosure;
+    }
+    public void setEnclosure(Enclosure<?> enclosure) {
+        Enclosure<?> previous = this.enclosure;
+        this.enclosure = enclosure;
+        if (previous != null && enclosure != null && previous != enclosure) {
+            ZooEventBus.publish(ZooEventType.TRANSFER, this, previous.getName());
+        }
     }
 
-    public ArrayList<Double> getMinWeight() {
-        return minWeight;
+    /**
+     * Fixe les échelles de temps de la créature sans démarrer de minuterie.
+     *
+     * @param ageScale  La durée d'un âge, en secondes.
+     * @param dimHunger La durée d'un point de faim, en secondes.
+     */
+    protected final void setTimings(int ageScale, int dimHunger) {
+        setAgeScale(ageScale);
+        setDimHunger(dimHunger);
     }
 
-    public void setMinWeight(ArrayList<Double> minWeight) {
-        this.minWeight = minWeight;
+    public synchronized boolean isActive() {
+        return executor != null || clockSeconds >= 0;
     }
 
-    public ArrayList<Double> getMaxWeight() {
-        return maxWeight;
+    /**
+     * @return Les secondes écoulées sur l'horloge partagée depuis l'activation, -1 si la créature n'y est pas rattachée.
+     */
+    public synchronized long getClockSeconds() {
+        return clockSeconds;
     }
 
-    public void setMaxWeight(ArrayList<Double> maxWeight) {
-        this.maxWeight = maxWeight;
+    public synchronized boolean isOnClock() {
+        return clockSeconds >= 0;
     }
 
     public int getAgeScale() {
@@ -341,26 +518,26 @@ public abstract class Creature extends Alive implements Runnable {
     }
 
     /**
-     * Méthode pour obtenir une représentation sous forme de chaîne de caractères de la créature.
-     * Construit une chaîne de caractères contenant l'espèce, le nom, le sexe, l'âge, le cri, le poids, la taille, l'état de sommeil, l'état de santé et l'état de faim de la créature.
+     * Ajoute au tampon la description complète de la créature.
+     * Contient l'espèce, le nom, le sexe, l'âge, le cri, le poids, la taille, l'état de sommeil, l'état de santé et l'état de faim de la créature.
      *
-     * @return Une chaîne de caractères représentant la créature.
+     * @param sb Le tampon à compléter.
+     * @return Le tampon, pour enchaîner les appels.
      */
     @Override
-    public String toString() {
-        StringBuilder sb = new StringBuilder(super.toString());
+    protected StringBuilder appendDescription(StringBuilder sb) {
+        super.appendDescription(sb);
         sb.append("\nCri: ").append(shout)
                 .append("\nPoids: ").append(weight).append("kg")
                 .append("\nTaille: ").append(height).append("m")
-                .append("\nDort: ").append(isSleeping ? "Oui" : "Non")
-                .append("\nMalade: ").append(isSick ? "Oui" : "Non")
+                .append("\nDort: ").append(isSleeping() ? "Oui" : "Non")
+                .append("\nMalade: ").append(isSick() ? "Oui" : "Non")
                 .append("\nFaim: ").append(this.getHungerState());
         if (this instanceof Viviparous) {
             sb.append("\nDurée de gestation: ").append(Viviparous.gestationDuration).append(" jours");
         } else {
             sb.append("\nDurée d'incubation: ").append(Oviparous.incubationDuration).append(" jours");
         }
-        sb.append("\n");
-        return sb.toString();
+        return sb.append("\n");
     }
 }
@@ -0,0 +1,119 @@
+package net.zoofantastique.controller.entity.creature.composition;
+
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.oviparous.Dragon;
+import net.zoofantastique.controller.entity.creature.composition.oviparous.Kraken;
+import net.zoofantastique.controller.entity.creature.composition.oviparous.Megalodon;
+import net.zoofantastique.controller.entity.creature.composition.oviparous.Phoenix;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Lycanthrope;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Mermaid;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Nymph;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Unicorn;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.random.RandomGenerator;
+
+/**
+ * Classe CreatureFactory, fabrique des créatures de chaque espèce à partir du nom de l'espèce.
+ * Les créatures sont construites inertes : aucune minuterie ni aucun thread n'est créé, elles peuvent donc être
+ * fabriquées par millions, placées en lot dans leurs enclos (Enclosure.addCreatures()) puis activées en une seule
+ * inscription sur l'horloge de la simulation (Simulation.activate()).
+ */
+public final class CreatureFactory {
+    private static final Map<String, Species> SPECIES = new LinkedHashMap<>();
+
+    /**
+     * Une espèce que la fabrique sait créer.
+     */
+    private record Species(Class<? extends Creature> type, BiFunction<String, Gender, Creature> constructor) {
+    }
+
+    static {
+        SPECIES.put("Dragon", new Species(Dragon.class, Dragon::new));
+        SPECIES.put("Kraken", new Species(Kraken.class, Kraken::new));
+        SPECIES.put("Megalodon", new Species(Megalodon.class, Megalodon::new));
+        SPECIES.put("Phoenix", new Species(Phoenix.class, Phoenix::new));
+        SPECIES.put("Lycanthrope", new Species(Lycanthrope.class, Lycanthrope::new));
+        SPECIES.put("Mermaid", new Species(Mermaid.class, Mermaid::new));
+        SPECIES.put("Nymph", new Species(Nymph.class, Nymph::new));
+        SPECIES.put("Unicorn", new Species(Unicorn.class, Unicorn::new));
+    }
+
+    private CreatureFactory() {
+    }
+
+    // Méthodes
+
+    private static Species speciesOf(String species) {
+        Species found = SPECIES.get(species);
+        if (found == null) {
+            throw new IllegalArgumentException("Espèce inconnue : " + species);
+        }
+        return found;
+    }
+
+    /**
+     * Indique si la fabrique connaît une espèce.
+     *
+     * @param species Le nom de l'espèce (nom simple de sa classe, par exemple "Unicorn").
+     * @return true si l'espèce est connue.
+     */
+    public static boolean isKnown(String species) {
+        return SPECIES.containsKey(species);
+    }
+
+    /**
+     * Retourne la classe d'une espèce.
+     *
+     * @param species Le nom de l'espèce.
+     * @return La classe de l'espèce.
+     * @throws IllegalArgumentException si l'espèce est inconnue.
+     */
+    public static Class<? extends Creature> typeOf(String species) {
+        return speciesOf(species).type();
+    }
+
+    /**
+     * Crée une créature inerte.
+     *
+     * @param species Le nom de l'espèce.
+     * @param name    Le nom de la créature.
+     * @param gender  Le sexe de la créature.
+     * @return La créature, sans minuterie active.
+     * @throws IllegalArgumentException si l'espèce est inconnue.
+     */
+    public static Creature create(String species, String name, Gender gender) {
+        return speciesOf(species).constructor().apply(name, gender);
+    }
+
+    /**
+     * Crée un lot de créatures inertes d'une même espèce, nommées « préfixe numéro », de sexe tiré au hasard.
+     *
+     * @param species    Le nom de l'espèce.
+     * @param namePrefix Le préfixe des noms.
+     * @param count      Le nombre de créatures à créer.
+     * @param random     Le générateur des sexes, à graine fixe pour un lot rejouable.
+     * @return Les créatures créées, sans minuterie active.
+     * @throws IllegalArgumentException si l'espèce est inconnue.
+     */
+    public static List<Creature> createBatch(String species, String namePrefix, int count, RandomGenerator random) {
+        BiFunction<String, Gender, Creature> constructor = speciesOf(species).constructor();
+        List<Creature> batch = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            batch.add(constructor.apply(namePrefix + " " + i, random.nextBoolean() ? Gender.MALE : Gender.FEMALE));
+        }
+        return batch;
+    }
+
+    // Getter et setter
+
+    public static Set<String> getSpeciesNames() {
+        return Collections.unmodifiableSet(SPECIES.keySet());
+    }
+}
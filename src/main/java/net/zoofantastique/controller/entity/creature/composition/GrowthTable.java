@@ -0,0 +1,83 @@
+package net.zoofantastique.controller.entity.creature.composition;
+
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Classe GrowthTable qui représente les bornes de taille et de poids d'une espèce pour chaque âge.
+ * Une table est immuable et partagée par toutes les créatures de l'espèce : chaque espèce l'enregistre une seule fois,
+ * au chargement de sa classe, au lieu que chaque créature alloue ses propres listes.
+ * Les espèces sans table enregistrée utilisent la table par défaut.
+ */
+public final class GrowthTable {
+    private static final Map<Class<? extends Creature>, GrowthTable> TABLES = new ConcurrentHashMap<>();
+
+    public static final GrowthTable DEFAULT = new GrowthTable(
+            new double[]{0.1, 0.8, 1.5, 1.6, 1.6},
+            new double[]{0.2, 1.1, 1.8, 2.1, 2.0},
+            new double[]{2.0, 20.0, 35.0, 50.0, 55.0},
+            new double[]{3.5, 35.0, 50.0, 90.0, 95.0});
+
+    // Attributs, indexés par l'ordinal de l'âge
+    private final double[] minHeight; // taille minimale en mètres
+    private final double[] maxHeight; // taille maximale en mètres
+    private final double[] minWeight; // poids minimal en kilogrammes
+    private final double[] maxWeight; // poids maximal en kilogrammes
+
+    // Constructeur
+    public GrowthTable(double[] minHeight, double[] maxHeight, double[] minWeight, double[] maxWeight) {
+        this.minHeight = checked(minHeight);
+        this.maxHeight = checked(maxHeight);
+        this.minWeight = checked(minWeight);
+        this.maxWeight = checked(maxWeight);
+    }
+
+    // Méthodes
+
+    /**
+     * Enregistre la table de croissance d'une espèce.
+     *
+     * @param species La classe de l'espèce.
+     * @param table   La table de croissance de l'espèce.
+     */
+    public static void register(Class<? extends Creature> species, GrowthTable table) {
+        TABLES.put(species, table);
+    }
+
+    /**
+     * Retourne la table de croissance d'une espèce, ou la table par défaut si l'espèce n'en a pas enregistré.
+     *
+     * @param species La classe de l'espèce.
+     * @return La table de croissance de l'espèce.
+     */
+    public static GrowthTable of(Class<? extends Creature> species) {
+        return TABLES.getOrDefault(species, DEFAULT);
+    }
+
+    private static double[] checked(double[] values) {
+        if (values.length != Age.values().length) {
+            throw new IllegalArgumentException("Une table de croissance doit avoir une valeur par âge.");
+        }
+        return values.clone();
+    }
+
+    // Getter
+
+    public double getMinHeight(Age age) {
+        return minHeight[age.ordinal()];
+    }
+
+    public double getMaxHeight(Age age) {
+        return maxHeight[age.ordinal()];
+    }
+
+    public double getMinWeight(Age age) {
+        return minWeight[age.ordinal()];
+    }
+
+    public double getMaxWeight(Age age) {
+        return maxWeight[age.ordinal()];
+    }
+}
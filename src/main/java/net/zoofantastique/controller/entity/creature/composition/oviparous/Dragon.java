@@ -2,9 +2,11 @@ package net.zoofantastique.controller.entity.creature.composition.oviparous;
 
 import net.zoofantastique.controller.entity.creature.behavior.*;
 import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.GrowthTable;
+import net.zoofantastique.events.ZooEventBus;
+import net.zoofantastique.events.ZooEventType;
+import net.zoofantastique.metrics.jfr.RebirthEvent;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 
 import static net.zoofantastique.utils.Utils.getRandomDoubleInRange;
@@ -15,17 +17,18 @@ import static net.zoofantastique.utils.Utils.getRandomDoubleInRange;
  * Cette classe étend la classe Creature et implémente les interfaces Oviparous, Flying, Runner, Swimmer et Rebirth.
  */
 public class Dragon extends Creature implements Oviparous, Flying, Runner, Swimmer, Rebirth {
+    // Table de croissance de l'espèce
+    static {
+        GrowthTable.register(Dragon.class, new GrowthTable(
+                new double[]{0.3, 1.2, 4.5, 5.5, 5.8},
+                new double[]{1.2, 4.5, 5.5, 5.8, 6.5},
+                new double[]{60.0, 500.0, 1500.0, 2500.0, 3500.0},
+                new double[]{120.0, 1000.0, 2200.0, 3000.0, 4000.0}));
+    }
 
     public Dragon(String name, Gender sexe) {
         super(name, sexe, "graou");
-        setMinHeight(new ArrayList<>(List.of(0.3, 1.2, 4.5, 5.5, 5.8)));
-        setMaxHeight(new ArrayList<>(List.of(1.2, 4.5, 5.5, 5.8, 6.5)));
-        setMinWeight(new ArrayList<>(List.of(60.0, 500.0, 1500.0, 2500.0, 3500.0)));
-        setMaxWeight(new ArrayList<>(List.of(120.0, 1000.0, 2200.0, 3000.0, 4000.0)));
-
-        updateAndRestart(120, 40);
-
-        calcSizeAndWeight();
+        setTimings(120, 40);
     }
 
     @Override
@@ -55,11 +58,16 @@ public class Dragon extends Creature implements Oviparous, Flying, Runner, Swimm
         rebirth();
     }
 
+    /**
+     * Un Dragon ne meurt jamais vraiment : il meurt puis renaît aussitôt en bébé, rassasié.
+     * Ses minuteries continuent donc de tourner ; elles ne s'arrêtent qu'à sa fermeture (close()).
+     */
     @Override
     public void haveToGoToTheHell() {
         setHeight(getRandomDoubleInRange(0.3, 1.2));
         setWeight(getRandomDoubleInRange(30, 120));
-        rebirth();
+        setHunger(Hunger.MAX.getValue());
+        setAge(Age.DEAD);
     }
 
     @Override
@@ -67,6 +75,8 @@ public class Dragon extends Creature implements Oviparous, Flying, Runner, Swimm
         if (getAge() == Age.DEAD) {
             setAge(Age.BABY);
             calcSizeAndWeight();
+            RebirthEvent.emit(this);
+            ZooEventBus.publish(ZooEventType.REBIRTH, this, null);
         }
     }
 
@@ -3,9 +3,8 @@ package net.zoofantastique.controller.entity.creature.composition.oviparous;
 import net.zoofantastique.controller.entity.creature.behavior.Gender;
 import net.zoofantastique.controller.entity.creature.behavior.Swimmer;
 import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.GrowthTable;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 
 /**
@@ -14,17 +13,18 @@ import java.util.Random;
  * Cette classe étend la classe Creature et implémente l'interface Oviparous, Swimmer.
  */
 public class Kraken extends Creature implements Oviparous, Swimmer {
+    // Table de croissance de l'espèce
+    static {
+        GrowthTable.register(Kraken.class, new GrowthTable(
+                new double[]{0.5, 4.5, 8.5, 15.0, 17.0},
+                new double[]{1.0, 7.5, 13.0, 21.0, 22.0},
+                new double[]{50.0, 800.0, 2500., 5000., 5500.},
+                new double[]{120.0, 2000.0, 4000., 8500., 9500.}));
+    }
 
     public Kraken(String name, Gender sexe) {
         super(name, sexe, "bulou bulou bulou");
-        setMinHeight(new ArrayList<>(List.of(0.5, 4.5, 8.5, 15.0, 17.0)));
-        setMaxHeight(new ArrayList<>(List.of(1.0, 7.5, 13.0, 21.0, 22.0)));
-        setMinWeight(new ArrayList<>(List.of(50.0, 800.0, 2500., 5000., 5500.)));
-        setMaxWeight(new ArrayList<>(List.of(120.0, 2000.0, 4000., 8500., 9500.)));
-
-        updateAndRestart(60, 30);
-
-        calcSizeAndWeight();
+        setTimings(60, 30);
     }
 
     /**
@@ -5,10 +5,12 @@ import net.zoofantastique.controller.entity.creature.behavior.Flying;
 import net.zoofantastique.controller.entity.creature.behavior.Gender;
 import net.zoofantastique.controller.entity.creature.behavior.Rebirth;
 import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.GrowthTable;
+import net.zoofantastique.events.ZooEventBus;
+import net.zoofantastique.events.ZooEventType;
+import net.zoofantastique.metrics.jfr.RebirthEvent;
 import net.zoofantastique.utils.Utils;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 
 /**
@@ -17,16 +19,18 @@ import java.util.Random;
  * Cette classe étend la classe Creature et implémente les interfaces Oviparous, Flying et Rebirth.
  */
 public class Phoenix extends Creature implements Oviparous, Flying, Rebirth {
+    // Table de croissance de l'espèce
+    static {
+        GrowthTable.register(Phoenix.class, new GrowthTable(
+                new double[]{0.1, 0.3, 0.7, 1.2, 1.4},
+                new double[]{0.2, 0.5, 1.0, 1.5, 1.7},
+                new double[]{2.0, 5.0, 9.0, 11.0, 13.0},
+                new double[]{3.5, 8.0, 13.0, 15.0, 16.0}));
+    }
+
     public Phoenix(String name, Gender sexe) {
         super(name, sexe, "coua coua");
-        setMinHeight(new ArrayList<>(List.of(0.1, 0.3, 0.7, 1.2, 1.4)));
-        setMaxHeight(new ArrayList<>(List.of(0.2, 0.5, 1.0, 1.5, 1.7)));
-        setMinWeight(new ArrayList<>(List.of(2.0, 5.0, 9.0, 11.0, 13.0)));
-        setMaxWeight(new ArrayList<>(List.of(3.5, 8.0, 13.0, 15.0, 16.0)));
-
-        updateAndRestart(200, 90);
-
-        calcSizeAndWeight();
+        setTimings(200, 90);
     }
 
     /**
@@ -68,6 +72,8 @@ public class Phoenix extends Creature implements Oviparous, Flying, Rebirth {
     public void rebirth() {
         if (getAge() == Age.DEAD) {
             setAge(Age.BABY);
+            RebirthEvent.emit(this);
+            ZooEventBus.publish(ZooEventType.REBIRTH, this, null);
         }
     }
 
@@ -1,10 +1,13 @@
 package net.zoofantastique.controller.entity.creature.composition.viviparous;
 
 import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.behavior.Howl;
 import net.zoofantastique.controller.entity.creature.behavior.Rank;
 import net.zoofantastique.controller.entity.creature.behavior.Runner;
 import net.zoofantastique.controller.entity.creature.behavior.Pack;
 import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.events.ZooEventBus;
+import net.zoofantastique.events.ZooEventType;
 import net.zoofantastique.utils.Utils;
 
 import java.util.Random;
@@ -24,7 +27,8 @@ public class Lycanthrope extends Creature implements Viviparous, Runner, Rank {
     private int rank; // Rang
     private Pack pack; // Meute
     private double level; // Niveau
-
+    private Howl lastHeardHowl; // Dernier hurlement entendu dans la meute
+    private final int[] heardHowls = new int[Howl.values().length]; // Hurlements entendus dans la meute, par type
 
 
     public Lycanthrope(String name, Gender sexe) {
@@ -36,7 +40,7 @@ public class Lycanthrope extends Creature implements Viviparous, Runner, Rank {
         this.rank = 0;
         this.pack = null;
 
-        updateAndRestart(70, 34);
+        setTimings(70, 34);
 
     }
 
@@ -47,6 +51,7 @@ public class Lycanthrope extends Creature implements Viviparous, Runner, Rank {
     }
     public void setLevel(double level) {
         this.level = level;
+        touch();
     }
     /**
      * Cette méthode est utilisée pour calculer le niveau du lycanthrope.
@@ -60,6 +65,7 @@ public class Lycanthrope extends Creature implements Viviparous, Runner, Rank {
         double rankFactor = (1 + (1 - (double) this.rank / (double) greekAlphabet.size()));
         double ageFactor = getAge().getAgePowerFactor();
         this.level = Math.round(((this.strength + this.dominanceFactor) * ageFactor * rankFactor) * 100) / 100.0 ;
+        touch();
     }
 
     public int getRank() {
@@ -73,11 +79,16 @@ public class Lycanthrope extends Creature implements Viviparous, Runner, Rank {
         }
     }
     public void setRank(int rank) {
+        int previous = this.rank;
         if (rank > greekAlphabet.size()) {
             this.rank = greekAlphabet.size() - 1;
         } else {
             this.rank = rank;
         }
+        touch();
+        if (pack != null && previous != this.rank) {
+            ZooEventBus.publish(ZooEventType.RANK_CHANGE, this, getRankString());
+        }
     }
 
     public double getStrength() {
@@ -85,6 +96,7 @@ public class Lycanthrope extends Creature implements Viviparous, Runner, Rank {
     }
     public void setStrength(double strength) {
         this.strength = strength;
+        touch();
     }
 
     public double getDominanceFactor() {
@@ -92,6 +104,7 @@ public class Lycanthrope extends Creature implements Viviparous, Runner, Rank {
     }
     public void setDominanceFactor(double dominanceFactor) {
         this.dominanceFactor = dominanceFactor;
+        touch();
     }
 
     public double getImpetuosityFactor() {
@@ -99,6 +112,7 @@ public class Lycanthrope extends Creature implements Viviparous, Runner, Rank {
     }
     public void setImpetuosityFactor(double impetuosityFactor) {
         this.impetuosityFactor = impetuosityFactor;
+        touch();
     }
 
     public Pack getPack() {
@@ -108,6 +122,54 @@ public class Lycanthrope extends Creature implements Viviparous, Runner, Rank {
         this.pack = pack;
     }
 
+    /**
+     * Une modification du lycanthrope change aussi la version de sa meute.
+     */
+    @Override
+    protected void touch() {
+        super.touch();
+        Pack current = pack;
+        if (current != null) {
+            current.markModified();
+        }
+    }
+
+    public Howl getLastHeardHowl() {
+        return lastHeardHowl;
+    }
+
+    /**
+     * @param howl Un type de hurlement.
+     * @return Le nombre de hurlements de ce type entendus dans la meute depuis l'arrivée du lycanthrope.
+     */
+    public int getHeardHowls(Howl howl) {
+        return heardHowls[howl.ordinal()];
+    }
+
+    /**
+     * Méthode pour faire hurler un Lycanthrope à destination de sa meute.
+     * Le hurlement est publié sur le canal de la meute et sera entendu par tous ses membres au prochain tick de simulation.
+     * Un lycanthrope sans meute n'a personne à qui hurler.
+     *
+     * @param howl Le hurlement à pousser.
+     */
+    public void howl(Howl howl) {
+        if (pack != null) {
+            pack.getHowlBus().publish(howl);
+        }
+    }
+
+    /**
+     * Méthode appelée par le canal de la meute pour faire entendre des hurlements au Lycanthrope.
+     *
+     * @param howl  Le type de hurlement entendu.
+     * @param count Le nombre de hurlements de ce type regroupés depuis le dernier tick.
+     */
+    public void hearHowl(Howl howl, int count) {
+        this.lastHeardHowl = howl;
+        heardHowls[howl.ordinal()] += count;
+    }
+
     /**
      * Méthode pour faire courir un Lycanthrope.
      * Affiche un message indiquant que le Lycanthrope court, en précisant le nom du Lycanthrope.
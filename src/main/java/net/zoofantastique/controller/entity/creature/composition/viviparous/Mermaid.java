@@ -16,7 +16,7 @@ public class Mermaid extends Creature implements Viviparous, Swimmer {
     public Mermaid(String name, Gender sexe) {
         super(name, sexe, "*chant mélodieux*");
 
-        updateAndRestart(40, 28);
+        setTimings(40, 28);
 
     }
 
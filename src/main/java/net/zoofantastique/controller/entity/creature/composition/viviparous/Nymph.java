@@ -15,7 +15,7 @@ public class Nymph extends Creature implements Viviparous {
     public Nymph(String name, Gender sexe) {
         super(name, sexe, "ahahah");
 
-        updateAndRestart(60, 55);
+        setTimings(60, 55);
 
     }
 
@@ -16,7 +16,7 @@ public class Unicorn extends Creature implements Viviparous, Runner {
     public Unicorn(String name, Gender sexe) {
         super(name, sexe, "hihihiha");
 
-        updateAndRestart(64, 24);
+        setTimings(64, 24);
 
     }
 
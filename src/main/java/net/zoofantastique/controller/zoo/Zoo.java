@@ -1,22 +1,43 @@
 package net.zoofantastique.controller.zoo;
 
+import net.zoofantastique.controller.consumable.stock.FoodInventory;
 import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Pack;
 import net.zoofantastique.controller.entity.creature.composition.Creature;
 import net.zoofantastique.controller.entity.zoomaster.ZooMaster;
+import net.zoofantastique.events.EventSubscription;
+import net.zoofantastique.events.OverflowPolicy;
+import net.zoofantastique.events.ZooEvent;
+import net.zoofantastique.events.ZooEventBus;
+import net.zoofantastique.events.ZooEventFilter;
+import net.zoofantastique.events.ZooEventPublisher;
+import net.zoofantastique.utils.VersionClock;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
 
 /**
  * Classe Zoo qui représente un zoo.
  * Un zoo est composé d'enclos et d'un maître de zoo.
+ * Fermer le zoo ferme tous ses enclos et donc toutes les minuteries de ses créatures.
+ * Ses événements (naissances, morts, repas, transferts...) s'écoutent sans interroger les enclos avec events().
  */
-public class Zoo {
+public class Zoo implements AutoCloseable {
+    private static final long INITIAL_FOOD_STOCK = 50; // Quantité de chaque nourriture à l'ouverture du zoo
+
     // Attributs
     private final String zooName; // Nom du zoo
     private final ZooMaster zooMaster; // Maître du zoo
     private int nbMaxEnclosure; // Nombre maximum d'enclos que peut contenir le zoo
     private final List<Enclosure<? super Creature>> zooEnclosures; // Liste des enclos du zoo
+    private final Set<Enclosure<?>> members = ConcurrentHashMap.newKeySet(); // enclos du zoo, lus par le bus d'événements
+    private final List<Pack> packs; // Liste des meutes du zoo
+    private final FoodInventory foodInventory; // Réserves de nourriture du zoo
+    private volatile long structureVersion = VersionClock.next(); // version de la liste des enclos et des meutes
+    private final List<ZooEventPublisher> publishers = new CopyOnWriteArrayList<>(); // flux d'événements ouverts
 
     // Constructeur
     public Zoo(String zooName, ZooMaster zooMaster){
@@ -24,7 +45,10 @@ public class Zoo {
         this.zooMaster = zooMaster;
         this.nbMaxEnclosure = 5;
 
-        this.zooEnclosures = new ArrayList<>();
+        this.zooEnclosures = new CopyOnWriteArrayList<>();
+        this.packs = new CopyOnWriteArrayList<>();
+        this.foodInventory = new FoodInventory();
+        this.foodInventory.restockFresh(new long[]{INITIAL_FOOD_STOCK, INITIAL_FOOD_STOCK, INITIAL_FOOD_STOCK});
     }
 
     // Méthodes
@@ -71,6 +95,8 @@ public class Zoo {
         int totalEnclosure = this.zooEnclosures.size() + enclosures.length;
         if (totalEnclosure <= this.nbMaxEnclosure) {
             this.zooEnclosures.addAll(List.of(enclosures));
+            this.members.addAll(this.zooEnclosures);
+            structureVersion = VersionClock.next();
         } else {
             System.err.println("Pas assez de places disponibles!");
         }
@@ -80,11 +106,121 @@ public class Zoo {
         int totalEnclosure = this.zooEnclosures.size() + 1;
         if (totalEnclosure <= this.nbMaxEnclosure) {
             this.zooEnclosures.add(enclosure);
+            this.members.add(enclosure);
+            structureVersion = VersionClock.next();
         } else {
             System.err.println("Pas assez de places disponibles!");
         }
     }
 
+    /**
+     * Cette méthode est utilisée pour enregistrer une meute dans le zoo.
+     * Les hurlements des meutes enregistrées sont distribués à chaque tick de la simulation.
+     * Les menus du jeu ne forment pas encore de meutes : seules celles enregistrées ici, par exemple par
+     * le générateur de charge, hurlent pendant la simulation.
+     *
+     * @param pack La meute à enregistrer.
+     */
+    public void addPack(Pack pack) {
+        if (!this.packs.contains(pack)) {
+            this.packs.add(pack);
+            structureVersion = VersionClock.next();
+        }
+    }
+
+    /**
+     * Cette méthode est utilisée pour retirer un enclos du zoo.
+     * L'enclos retiré est fermé : ses créatures quittent le zoo avec lui.
+     *
+     * @param enclosure L'enclos à retirer.
+     */
+    public void removeEnclosure(Enclosure<? super Creature> enclosure) {
+        if (this.zooEnclosures.remove(enclosure)) {
+            this.members.remove(enclosure);
+            structureVersion = VersionClock.next();
+            enclosure.close();
+        } else {
+            System.err.println("L'enclos " + enclosure.getName() + " n'est pas dans le zoo.");
+        }
+    }
+
+    /**
+     * Retourne la version du zoo entier : la plus récente des versions de sa structure, de ses enclos et de ses meutes.
+     * Elle change dès qu'un enclos, une créature ou une meute est modifié.
+     *
+     * @return La version du zoo.
+     */
+    public long getVersion() {
+        long version = structureVersion;
+        for (Enclosure<? super Creature> enclosure : zooEnclosures) {
+            version = Math.max(version, enclosure.getVersion());
+        }
+        return Math.max(version, getPacksVersion());
+    }
+
+    /**
+     * Retourne la version des meutes du zoo : la plus récente des versions de la structure et de chaque meute.
+     *
+     * @return La version des meutes.
+     */
+    public long getPacksVersion() {
+        long version = structureVersion;
+        for (Pack pack : packs) {
+            version = Math.max(version, pack.getVersion());
+        }
+        return version;
+    }
+
+    /**
+     * Ouvre un flux de tous les événements du zoo, avec contre-pression (voir {@link ZooEventPublisher}).
+     *
+     * @return Le flux, terminé à la fermeture du zoo.
+     */
+    public ZooEventPublisher events() {
+        return events(ZooEventFilter.ALL);
+    }
+
+    /**
+     * Ouvre un flux des événements du zoo choisis par un filtre, par exemple
+     * {@code events(ZooEventFilter.ALL.inEnclosure(prairie).ofTypes(ZooEventType.DEATH))}.
+     * Seuls les événements des enclos du zoo au moment où ils se produisent sont publiés, même si d'autres zoos
+     * ouverts ont des enclos du même nom. Le zoo oublie le flux dès qu'il est fermé.
+     *
+     * @param filter Le filtre des événements.
+     * @return Le flux, terminé à la fermeture du zoo.
+     */
+    public ZooEventPublisher events(ZooEventFilter filter) {
+        ZooEventPublisher publisher = new ZooEventPublisher(members::contains, filter, publishers::remove);
+        publishers.add(publisher);
+        return publisher;
+    }
+
+    /**
+     * Abonne un consommateur qui lit lui-même sa file (un flux HTTP par exemple) aux événements du zoo,
+     * limités comme pour events() aux enclos du zoo au moment où ils se produisent.
+     *
+     * @param capacity Le nombre maximal d'événements en attente pour cet abonné.
+     * @param policy   La politique appliquée quand sa file est pleine.
+     * @param filter   Les événements qui l'intéressent.
+     * @return L'abonnement, à fermer quand le consommateur s'en va.
+     */
+    public EventSubscription subscribe(int capacity, OverflowPolicy policy, Predicate<ZooEvent> filter) {
+        return ZooEventBus.subscribe(capacity, policy, members::contains, filter);
+    }
+
+    /**
+     * Ferme tous les enclos du zoo et termine ses flux d'événements.
+     */
+    @Override
+    public void close() {
+        for (ZooEventPublisher publisher : publishers) {
+            publisher.close();
+        }
+        for (Enclosure<? super Creature> enclosure : zooEnclosures) {
+            enclosure.close();
+        }
+    }
+
     // Getter et setter
 
     public String getZooName(){ return this.zooName; }
@@ -92,7 +228,18 @@ public class Zoo {
     public ZooMaster getZooMaster(){ return this.zooMaster; }
 
     public int getNbMaxEnclosure(){ return this.nbMaxEnclosure; }
-    public void setNbMaxEnclosure(int nbMaxEnclosure){ this.nbMaxEnclosure = nbMaxEnclosure; }
+    public void setNbMaxEnclosure(int nbMaxEnclosure){
+        this.nbMaxEnclosure = nbMaxEnclosure;
+        structureVersion = VersionClock.next();
+    }
 
     public List<Enclosure<? super Creature>> getEnclosures(){ return this.zooEnclosures; }
+
+    public List<Pack> getPacks(){ return this.packs; }
+
+    public long getStructureVersion(){ return this.structureVersion; }
+
+    public int getOpenStreamCount(){ return this.publishers.size(); }
+
+    public FoodInventory getFoodInventory(){ return this.foodInventory; }
 }
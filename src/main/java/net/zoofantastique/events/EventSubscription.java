@@ -0,0 +1,237 @@
+package net.zoofantastique.events;
+
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Classe EventSubscription, l'abonnement d'un consommateur aux événements du zoo.
+ * Les événements attendent dans une file circulaire bornée ; quand elle est pleine, la politique de débordement
+ * décide de ce qui est perdu. Un éditeur ne fait jamais que déposer l'événement : il n'attend jamais le consommateur,
+ * aussi lent soit-il.
+ */
+public class EventSubscription implements AutoCloseable {
+    // Attributs
+    private final ZooEvent[] ring; // file circulaire des événements en attente
+    private final OverflowPolicy policy;
+    private final Predicate<? super Enclosure<?>> scope; // enclos dont l'abonné écoute les événements, null pour tous
+    private final Predicate<ZooEvent> filter; // événements qui intéressent l'abonné
+    private final Runnable listener; // prévenu après chaque mise en file, hors verrou ; null si aucun
+    private int head; // indice du plus ancien événement en attente
+    private int size; // nombre d'événements en attente
+    private long dropped; // événements perdus faute de place
+    private long coalesced; // événements remplacés par un plus récent sur le même sujet
+    private boolean closed;
+
+    // Constructeur
+
+    /**
+     * Constructeur de la classe EventSubscription, à obtenir par {@link ZooEventBus#subscribe}.
+     *
+     * @param capacity Le nombre maximal d'événements en attente.
+     * @param policy   La politique appliquée quand la file est pleine.
+     * @param filter   Les événements qui intéressent l'abonné.
+     */
+    EventSubscription(int capacity, OverflowPolicy policy, Predicate<ZooEvent> filter) {
+        this(capacity, policy, null, filter, null);
+    }
+
+    /**
+     * Constructeur de la classe EventSubscription avec un écouteur prévenu à chaque événement mis en file.
+     * L'écouteur s'exécute sur le thread de l'éditeur : il doit rendre la main aussitôt.
+     *
+     * @param capacity Le nombre maximal d'événements en attente.
+     * @param policy   La politique appliquée quand la file est pleine.
+     * @param scope    Les enclos dont l'abonné écoute les événements, null pour tous.
+     * @param filter   Les événements qui intéressent l'abonné.
+     * @param listener L'écouteur, null si aucun.
+     */
+    EventSubscription(int capacity, OverflowPolicy policy, Predicate<? super Enclosure<?>> scope,
+                      Predicate<ZooEvent> filter, Runnable listener) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("La capacité d'un abonnement doit être positive : " + capacity);
+        }
+        this.ring = new ZooEvent[capacity];
+        this.policy = policy;
+        this.scope = scope;
+        this.filter = filter;
+        this.listener = listener;
+    }
+
+    // Méthodes
+
+    /**
+     * Indique si l'événement intéresse l'abonné.
+     * Un abonné limité à certains enclos ne reçoit pas les événements d'une créature hors de tout enclos.
+     *
+     * @param source L'enclos d'où vient l'événement, null si aucun.
+     * @param event  L'événement.
+     * @return true si l'abonné veut l'événement.
+     */
+    boolean accepts(Enclosure<?> source, ZooEvent event) {
+        return (scope == null || (source != null && scope.test(source))) && filter.test(event);
+    }
+
+    /**
+     * Dépose un événement dans la file, sans jamais attendre.
+     *
+     * @param event L'événement.
+     * @return true si l'événement a été mis en file, false s'il a été perdu ou si l'abonnement est fermé.
+     */
+    boolean offer(ZooEvent event) {
+        boolean queued = enqueue(event);
+        if (queued && listener != null) {
+            listener.run();
+        }
+        return queued;
+    }
+
+    private synchronized boolean enqueue(ZooEvent event) {
+        if (closed) {
+            return false;
+        }
+        if (size == ring.length) {
+            switch (policy) {
+                case DROP_NEWEST -> {
+                    dropped++;
+                    return false;
+                }
+                case DROP_OLDEST -> dropOldest();
+                case COALESCE -> {
+                    if (removeSameSubject(event)) {
+                        coalesced++;
+                    } else {
+                        dropOldest();
+                    }
+                }
+            }
+        }
+        ring[(head + size) % ring.length] = event;
+        size++;
+        notifyAll();
+        return true;
+    }
+
+    /**
+     * Retire le plus ancien événement en attente et le compte comme perdu.
+     */
+    private void dropOldest() {
+        ring[head] = null;
+        head = (head + 1) % ring.length;
+        size--;
+        dropped++;
+    }
+
+    /**
+     * Retire de la file le plus ancien événement portant sur le même sujet, en gardant l'ordre des autres.
+     *
+     * @param event Le nouvel événement.
+     * @return true si un événement a été retiré.
+     */
+    private boolean removeSameSubject(ZooEvent event) {
+        for (int i = 0; i < size; i++) {
+            if (ring[(head + i) % ring.length].sameSubject(event)) {
+                for (int j = i; j < size - 1; j++) {
+                    ring[(head + j) % ring.length] = ring[(head + j + 1) % ring.length];
+                }
+                ring[(head + size - 1) % ring.length] = null;
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retire le plus ancien événement en attente, sans attendre.
+     *
+     * @return L'événement, ou null si la file est vide.
+     */
+    public synchronized ZooEvent poll() {
+        return size == 0 ? null : take();
+    }
+
+    /**
+     * Retire le plus ancien événement en attente, en l'attendant au plus le délai donné.
+     *
+     * @param timeout Le délai d'attente maximal.
+     * @param unit    L'unité du délai.
+     * @return L'événement, ou null si aucun n'est arrivé à temps ou si l'abonnement est fermé.
+     * @throws InterruptedException si le thread est interrompu pendant l'attente.
+     */
+    public synchronized ZooEvent poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (size == 0 && !closed) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return null;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return size == 0 ? null : take();
+    }
+
+    /**
+     * Retire sans attendre jusqu'à max événements en attente.
+     *
+     * @param target La liste qui reçoit les événements, du plus ancien au plus récent.
+     * @param max    Le nombre maximal d'événements à retirer.
+     * @return Le nombre d'événements retirés.
+     */
+    public synchronized int drainTo(List<ZooEvent> target, int max) {
+        int count = 0;
+        while (size > 0 && count < max) {
+            target.add(take());
+            count++;
+        }
+        return count;
+    }
+
+    private ZooEvent take() {
+        ZooEvent event = ring[head];
+        ring[head] = null;
+        head = (head + 1) % ring.length;
+        size--;
+        return event;
+    }
+
+    /**
+     * Ferme l'abonnement : il ne reçoit plus d'événements et les consommateurs en attente sont réveillés.
+     */
+    @Override
+    public void close() {
+        ZooEventBus.unsubscribe(this);
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+    }
+
+    // Getter et setter
+
+    public synchronized int getSize() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    public OverflowPolicy getPolicy() {
+        return policy;
+    }
+
+    public synchronized long getDropped() {
+        return dropped;
+    }
+
+    public synchronized long getCoalesced() {
+        return coalesced;
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+}
@@ -0,0 +1,32 @@
+package net.zoofantastique.events;
+
+/**
+ * Enumération OverflowPolicy, ce que fait un abonnement dont la file est pleine quand un nouvel événement arrive.
+ * Dans tous les cas, l'éditeur de l'événement n'attend jamais l'abonné.
+ */
+public enum OverflowPolicy {
+    /**
+     * Le plus ancien événement de la file est perdu pour faire place au nouveau.
+     */
+    DROP_OLDEST,
+    /**
+     * Le nouvel événement est perdu.
+     */
+    DROP_NEWEST,
+    /**
+     * Un événement en file sur le même sujet est remplacé par le nouveau, placé en fin de file ;
+     * sans événement à fusionner, le plus ancien est perdu.
+     */
+    COALESCE;
+
+    /**
+     * Retrouve une politique à partir de son nom, sans tenir compte de la casse ni des tirets.
+     *
+     * @param name Le nom de la politique (« drop-oldest », « coalesce »...).
+     * @return La politique correspondante.
+     * @throws IllegalArgumentException si aucune politique ne correspond.
+     */
+    public static OverflowPolicy parse(String name) {
+        return valueOf(name.trim().toUpperCase().replace('-', '_'));
+    }
+}
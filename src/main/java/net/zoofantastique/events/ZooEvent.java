@@ -0,0 +1,29 @@
+package net.zoofantastique.events;
+
+/**
+ * Un événement du zoo, tel que publié aux abonnés.
+ *
+ * @param sequence   Le numéro d'ordre de l'événement, croissant.
+ * @param time       L'instant de l'événement, en millisecondes depuis l'époque Unix.
+ * @param type       Le type de l'événement.
+ * @param creatureId L'identifiant de la créature concernée, 0 si l'événement ne concerne pas une créature.
+ * @param creature   Le nom de la créature concernée, null sinon.
+ * @param species    L'espèce de la créature concernée, null sinon.
+ * @param enclosure  Le nom de l'enclos concerné, null si aucun.
+ * @param detail     Un détail propre au type (nouvel état de faim, enclos de destination, nouveau rang...), null si aucun.
+ */
+public record ZooEvent(long sequence, long time, ZooEventType type, long creatureId, String creature, String species,
+                       String enclosure, String detail) {
+
+    /**
+     * Indique si deux événements portent sur le même sujet (même type, même créature, même enclos) :
+     * la politique COALESCE ne garde que le plus récent des deux.
+     *
+     * @param other L'autre événement.
+     * @return true si les deux événements peuvent être fusionnés.
+     */
+    public boolean sameSubject(ZooEvent other) {
+        return type == other.type && creatureId == other.creatureId
+                && (enclosure == null ? other.enclosure == null : enclosure.equals(other.enclosure));
+    }
+}
@@ -0,0 +1,120 @@
+package net.zoofantastique.events;
+
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Classe ZooEventBus, le bus des événements du zoo (naissances, morts, maladies, repas, maintenances, transferts,
+ * changements de rang...).
+ * Les éditeurs publient depuis les threads de la simulation ; chaque abonné reçoit les événements dans sa propre
+ * file bornée, si bien qu'un abonné lent ne ralentit ni les éditeurs ni les autres abonnés. Sans abonné,
+ * publier ne coûte qu'une lecture et n'alloue rien.
+ */
+public final class ZooEventBus {
+    // Attributs
+    private static final List<EventSubscription> SUBSCRIPTIONS = new CopyOnWriteArrayList<>();
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    // Constructeur
+    private ZooEventBus() {
+    }
+
+    // Méthodes
+
+    /**
+     * Abonne un consommateur aux événements.
+     *
+     * @param capacity Le nombre maximal d'événements en attente pour cet abonné.
+     * @param policy   La politique appliquée quand sa file est pleine.
+     * @param filter   Les événements qui l'intéressent.
+     * @return L'abonnement, à fermer quand le consommateur s'en va.
+     */
+    public static EventSubscription subscribe(int capacity, OverflowPolicy policy, Predicate<ZooEvent> filter) {
+        return subscribe(capacity, policy, null, filter, null);
+    }
+
+    /**
+     * Abonne un consommateur aux événements de certains enclos, par exemple ceux d'un zoo.
+     *
+     * @param capacity Le nombre maximal d'événements en attente pour cet abonné.
+     * @param policy   La politique appliquée quand sa file est pleine.
+     * @param scope    Les enclos dont les événements l'intéressent.
+     * @param filter   Les événements qui l'intéressent.
+     * @return L'abonnement, à fermer quand le consommateur s'en va.
+     */
+    public static EventSubscription subscribe(int capacity, OverflowPolicy policy, Predicate<? super Enclosure<?>> scope,
+                                              Predicate<ZooEvent> filter) {
+        return subscribe(capacity, policy, scope, filter, null);
+    }
+
+    static EventSubscription subscribe(int capacity, OverflowPolicy policy, Predicate<? super Enclosure<?>> scope,
+                                       Predicate<ZooEvent> filter, Runnable listener) {
+        EventSubscription subscription = new EventSubscription(capacity, policy, scope, filter, listener);
+        SUBSCRIPTIONS.add(subscription);
+        return subscription;
+    }
+
+    static void unsubscribe(EventSubscription subscription) {
+        SUBSCRIPTIONS.remove(subscription);
+    }
+
+    /**
+     * Indique si au moins un abonné écoute : les éditeurs s'en servent pour ne rien construire sinon.
+     *
+     * @return true s'il y a au moins un abonné.
+     */
+    public static boolean hasSubscribers() {
+        return !SUBSCRIPTIONS.isEmpty();
+    }
+
+    /**
+     * Publie un événement portant sur une créature.
+     *
+     * @param type     Le type de l'événement.
+     * @param creature La créature concernée.
+     * @param detail   Le détail de l'événement, null si aucun.
+     */
+    public static void publish(ZooEventType type, Creature creature, String detail) {
+        if (SUBSCRIPTIONS.isEmpty()) {
+            return;
+        }
+        Enclosure<?> enclosure = creature.getEnclosure();
+        dispatch(enclosure, new ZooEvent(SEQUENCE.incrementAndGet(), System.currentTimeMillis(), type,
+                creature.getId(), creature.getName(), creature.getClass().getSimpleName(),
+                enclosure == null ? null : enclosure.getName(), detail));
+    }
+
+    /**
+     * Publie un événement portant sur un enclos.
+     *
+     * @param type      Le type de l'événement.
+     * @param enclosure L'enclos concerné.
+     * @param detail    Le détail de l'événement, null si aucun.
+     */
+    public static void publish(ZooEventType type, Enclosure<?> enclosure, String detail) {
+        if (SUBSCRIPTIONS.isEmpty()) {
+            return;
+        }
+        dispatch(enclosure, new ZooEvent(SEQUENCE.incrementAndGet(), System.currentTimeMillis(), type, 0, null, null,
+                enclosure.getName(), detail));
+    }
+
+    private static void dispatch(Enclosure<?> source, ZooEvent event) {
+        for (EventSubscription subscription : SUBSCRIPTIONS) {
+            if (subscription.accepts(source, event)) {
+                subscription.offer(event);
+            }
+        }
+    }
+
+    // Getter et setter
+
+    public static int getSubscriberCount() {
+        return SUBSCRIPTIONS.size();
+    }
+}
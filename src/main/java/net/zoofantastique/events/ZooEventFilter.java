@@ -0,0 +1,45 @@
+package net.zoofantastique.events;
+
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Un filtre d'événements du zoo, par enclos, par espèce et par type. Un critère null ne filtre rien.
+ * Le filtre se construit à partir de {@link #ALL} : {@code ZooEventFilter.ALL.inEnclosure(prairie).ofTypes(DEATH)}.
+ *
+ * @param enclosure Le nom de l'enclos, null pour tous.
+ * @param species   Le nom simple de la classe de l'espèce, null pour toutes.
+ * @param types     Les types acceptés, null pour tous.
+ */
+public record ZooEventFilter(String enclosure, String species, Set<ZooEventType> types) implements Predicate<ZooEvent> {
+    public static final ZooEventFilter ALL = new ZooEventFilter(null, null, null);
+
+    public ZooEventFilter {
+        types = types == null ? null : Set.copyOf(types);
+    }
+
+    // Méthodes
+
+    public ZooEventFilter inEnclosure(Enclosure<?> enclosure) {
+        return new ZooEventFilter(enclosure.getName(), species, types);
+    }
+
+    public ZooEventFilter ofSpecies(Class<? extends Creature> species) {
+        return new ZooEventFilter(enclosure, species.getSimpleName(), types);
+    }
+
+    public ZooEventFilter ofTypes(ZooEventType first, ZooEventType... others) {
+        return new ZooEventFilter(enclosure, species, EnumSet.of(first, others));
+    }
+
+    @Override
+    public boolean test(ZooEvent event) {
+        return (types == null || types.contains(event.type()))
+                && (enclosure == null || enclosure.equals(event.enclosure()))
+                && (species == null || species.equals(event.species()));
+    }
+}
@@ -0,0 +1,237 @@
+package net.zoofantastique.events;
+
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Classe ZooEventPublisher, les événements du zoo exposés en {@link Flow.Publisher} pour les consommateurs
+ * du même processus (analyses, alertes...).
+ * Chaque abonné a sa propre file bornée sur le bus et ne reçoit que ce qu'il a demandé (request(n)) : un abonné
+ * lent se freine lui-même, ses événements non demandés attendent dans sa file et, si elle déborde, la politique
+ * de débordement s'applique. Les événements sont livrés sur l'exécuteur du publieur, jamais sur le thread
+ * de la simulation qui les a produits.
+ */
+public class ZooEventPublisher implements Flow.Publisher<ZooEvent>, AutoCloseable {
+    public static final int DEFAULT_CAPACITY = Flow.defaultBufferSize();
+
+    // Attributs
+    private final Predicate<? super Enclosure<?>> scope; // enclos écoutés, null pour tous
+    private final Predicate<ZooEvent> filter;
+    private final int capacity;
+    private final OverflowPolicy policy;
+    private final Executor executor;
+    private final List<FlowSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final Consumer<ZooEventPublisher> onClose; // prévenu une fois à la fermeture, null si personne
+    private volatile boolean closed;
+
+    // Constructeur
+
+    /**
+     * Constructeur de la classe ZooEventPublisher, avec la capacité par défaut, la politique DROP_OLDEST
+     * et le pool commun pour la livraison.
+     *
+     * @param filter Les événements publiés.
+     */
+    public ZooEventPublisher(Predicate<ZooEvent> filter) {
+        this(filter, DEFAULT_CAPACITY, OverflowPolicy.DROP_OLDEST, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructeur de la classe ZooEventPublisher limité aux événements de certains enclos, par exemple ceux
+     * d'un zoo, avec la capacité par défaut, la politique DROP_OLDEST et le pool commun pour la livraison.
+     *
+     * @param scope   Les enclos dont les événements sont publiés.
+     * @param filter  Les événements publiés.
+     * @param onClose Prévenu une seule fois quand le publieur est fermé, null si personne.
+     */
+    public ZooEventPublisher(Predicate<? super Enclosure<?>> scope, Predicate<ZooEvent> filter,
+                             Consumer<ZooEventPublisher> onClose) {
+        this(scope, filter, DEFAULT_CAPACITY, OverflowPolicy.DROP_OLDEST, ForkJoinPool.commonPool(), onClose);
+    }
+
+    /**
+     * Constructeur de la classe ZooEventPublisher.
+     *
+     * @param filter   Les événements publiés.
+     * @param capacity La taille de la file de chaque abonné.
+     * @param policy   La politique appliquée quand la file d'un abonné est pleine.
+     * @param executor L'exécuteur qui livre les événements aux abonnés.
+     */
+    public ZooEventPublisher(Predicate<ZooEvent> filter, int capacity, OverflowPolicy policy, Executor executor) {
+        this(null, filter, capacity, policy, executor, null);
+    }
+
+    private ZooEventPublisher(Predicate<? super Enclosure<?>> scope, Predicate<ZooEvent> filter, int capacity,
+                              OverflowPolicy policy, Executor executor, Consumer<ZooEventPublisher> onClose) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("La capacité d'un abonnement doit être positive : " + capacity);
+        }
+        this.scope = scope;
+        this.filter = filter;
+        this.capacity = capacity;
+        this.policy = policy;
+        this.executor = executor;
+        this.onClose = onClose;
+    }
+
+    // Méthodes
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ZooEvent> subscriber) {
+        FlowSubscription subscription = new FlowSubscription(subscriber);
+        subscriptions.add(subscription);
+        subscription.start();
+    }
+
+    /**
+     * Ferme le publieur : chaque abonné reçoit onComplete() après les événements qu'il a déjà demandés et
+     * qui sont en file ; les nouveaux abonnés reçoivent onComplete() aussitôt.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        for (FlowSubscription subscription : subscriptions) {
+            subscription.complete();
+        }
+        if (onClose != null) {
+            onClose.accept(this);
+        }
+    }
+
+    // Getter et setter
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * L'abonnement Flow d'un abonné : une file sur le bus et une boucle de livraison qui ne tourne que sur
+     * un seul thread à la fois et ne livre pas plus que la demande.
+     */
+    private final class FlowSubscription implements Flow.Subscription {
+        // Attributs
+        private final Flow.Subscriber<? super ZooEvent> subscriber;
+        private final EventSubscription events;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger work = new AtomicInteger(); // demandes de passage de la boucle de livraison
+        private volatile boolean started;
+        private volatile boolean cancelled;
+        private volatile boolean completing;
+        private volatile Throwable error; // demande invalide à signaler
+        private boolean subscribed; // onSubscribe() envoyé, lu par la seule boucle de livraison
+        private boolean done; // abonnement terminé, lu par la seule boucle de livraison
+
+        // Constructeur
+        FlowSubscription(Flow.Subscriber<? super ZooEvent> subscriber) {
+            this.subscriber = subscriber;
+            this.events = ZooEventBus.subscribe(capacity, policy, scope, filter, this::signal);
+        }
+
+        // Méthodes
+
+        void start() {
+            started = true;
+            if (closed) {
+                completing = true;
+            }
+            signal();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("La demande doit être positive : " + n);
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            release();
+        }
+
+        void complete() {
+            completing = true;
+            signal();
+        }
+
+        private void signal() {
+            if (started && work.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        /**
+         * Boucle de livraison : rejouée tant qu'on l'a signalée pendant qu'elle tournait.
+         */
+        private void drain() {
+            int missed = 1;
+            do {
+                if (!done) {
+                    deliver();
+                }
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void deliver() {
+            if (!subscribed) {
+                subscribed = true;
+                subscriber.onSubscribe(this);
+            }
+            while (!cancelled && error == null && demand.get() > 0) {
+                ZooEvent event = events.poll();
+                if (event == null) {
+                    break;
+                }
+                if (demand.get() != Long.MAX_VALUE) {
+                    demand.decrementAndGet();
+                }
+                try {
+                    subscriber.onNext(event);
+                } catch (RuntimeException e) {
+                    System.err.println("Un abonné aux événements a échoué et a été désabonné : " + e);
+                    cancelled = true;
+                }
+            }
+            if (cancelled) {
+                done = true;
+                release();
+            } else if (error != null) {
+                done = true;
+                release();
+                subscriber.onError(error);
+            } else if (completing && (events.getSize() == 0 || demand.get() == 0)) {
+                done = true;
+                release();
+                subscriber.onComplete();
+            }
+        }
+
+        private void release() {
+            events.close();
+            subscriptions.remove(this);
+        }
+    }
+}
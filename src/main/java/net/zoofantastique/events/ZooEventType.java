@@ -0,0 +1,49 @@
+package net.zoofantastique.events;
+
+/**
+ * Enumération ZooEventType, les types d'événements publiés par le zoo.
+ */
+public enum ZooEventType {
+    BIRTH("naissance"),
+    DEATH("mort"),
+    REBIRTH("renaissance"),
+    SICKNESS("maladie"),
+    HUNGER("faim"),
+    FEEDING("repas"),
+    MAINTENANCE("maintenance"),
+    MAINTENANCE_PROGRESS("progression"),
+    TRANSFER("transfert"),
+    RANK_CHANGE("rang");
+
+    // Attributs
+    private final String label; // nom de l'événement dans les flux
+
+    // Constructeur
+    ZooEventType(String label) {
+        this.label = label;
+    }
+
+    // Méthodes
+
+    /**
+     * Retrouve un type à partir de son libellé ou de son nom.
+     *
+     * @param name Le libellé (« mort ») ou le nom (« DEATH »), sans tenir compte de la casse.
+     * @return Le type correspondant.
+     * @throws IllegalArgumentException si aucun type ne correspond.
+     */
+    public static ZooEventType parse(String name) {
+        for (ZooEventType type : values()) {
+            if (type.label.equalsIgnoreCase(name) || type.name().equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Type d'événement inconnu : " + name);
+    }
+
+    // Getter et setter
+
+    public String getLabel() {
+        return label;
+    }
+}
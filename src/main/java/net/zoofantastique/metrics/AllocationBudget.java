@@ -0,0 +1,52 @@
+package net.zoofantastique.metrics;
+
+/**
+ * Classe AllocationBudget, garde-fou contre les régressions d'allocation sur les chemins critiques.
+ * Le contrôle est désactivé par défaut ; il s'active avec -Dzoo.allocation.budget=true (par exemple
+ * mvn test -Dzoo.allocation.budget=true) et chaque budget peut être surchargé par -Dzoo.allocation.budget.nom=octets.
+ * Un budget dépassé lève une IllegalStateException, ce qui fait échouer le test qui l'a vérifié.
+ */
+public final class AllocationBudget {
+    public static final String PROPERTY = "zoo.allocation.budget";
+
+    private AllocationBudget() {
+    }
+
+    // Méthodes
+
+    /**
+     * Indique si les budgets d'allocation doivent être vérifiés.
+     *
+     * @return true si le contrôle est activé et que la JVM sait mesurer les allocations.
+     */
+    public static boolean isEnforced() {
+        return Boolean.getBoolean(PROPERTY) && AllocationTracker.isSupported();
+    }
+
+    /**
+     * Retourne le budget configuré pour un chemin, ou le budget par défaut s'il n'est pas surchargé.
+     *
+     * @param name          Le nom du chemin mesuré.
+     * @param defaultBudget Le budget par défaut, en octets.
+     * @return Le budget en octets.
+     */
+    public static long budgetOf(String name, long defaultBudget) {
+        return Long.getLong(PROPERTY + "." + name, defaultBudget);
+    }
+
+    /**
+     * Vérifie qu'une mesure d'allocation tient dans son budget, si le contrôle est activé.
+     *
+     * @param name          Le nom du chemin mesuré.
+     * @param allocated     Le nombre d'octets alloués mesuré.
+     * @param defaultBudget Le budget par défaut, en octets.
+     * @throws IllegalStateException si le contrôle est activé et que le budget est dépassé.
+     */
+    public static void check(String name, long allocated, long defaultBudget) {
+        long budget = budgetOf(name, defaultBudget);
+        if (isEnforced() && allocated > budget) {
+            throw new IllegalStateException("Budget d'allocation dépassé pour " + name + " : "
+                    + allocated + " octets alloués pour un budget de " + budget + " octets.");
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package net.zoofantastique.metrics;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Classe AllocationTracker, mesure les octets alloués par le thread courant à partir des compteurs d'allocation de la JVM
+ * (com.sun.management.ThreadMXBean).
+ * Si la JVM ne fournit pas ces compteurs, ou s'ils sont désactivés, les mesures valent toujours 0.
+ */
+public final class AllocationTracker {
+    private static final com.sun.management.ThreadMXBean THREADS = threads();
+
+    private AllocationTracker() {
+    }
+
+    // Méthodes
+
+    private static com.sun.management.ThreadMXBean threads() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()) {
+            if (!threads.isThreadAllocatedMemoryEnabled()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+            }
+            return threads;
+        }
+        return null;
+    }
+
+    /**
+     * Indique si la JVM sait compter les octets alloués par thread.
+     *
+     * @return true si les mesures d'allocation sont disponibles.
+     */
+    public static boolean isSupported() {
+        return THREADS != null;
+    }
+
+    /**
+     * Retourne le nombre total d'octets alloués jusqu'ici par le thread courant.
+     * La différence entre deux appels donne ce qu'a alloué le code exécuté entre les deux.
+     *
+     * @return Le nombre d'octets alloués, 0 si la mesure n'est pas disponible.
+     */
+    public static long allocatedBytes() {
+        return THREADS == null ? 0 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Retourne le nombre d'octets alloués par le thread courant depuis une mesure précédente.
+     *
+     * @param start La valeur de allocatedBytes() au début de la mesure.
+     * @return Le nombre d'octets alloués depuis start.
+     */
+    public static long allocatedSince(long start) {
+        return allocatedBytes() - start;
+    }
+
+    /**
+     * Exécute une tâche sur le thread courant et retourne le nombre d'octets qu'elle a alloués.
+     *
+     * @param task La tâche à mesurer.
+     * @return Le nombre d'octets alloués par la tâche.
+     */
+    public static long measure(Runnable task) {
+        long start = allocatedBytes();
+        task.run();
+        return allocatedSince(start);
+    }
+}
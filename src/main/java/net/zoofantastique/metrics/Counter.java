@@ -0,0 +1,43 @@
+package net.zoofantastique.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Classe Counter, compteur de métriques.
+ * Repose sur un LongAdder : les incréments concurrents ne se disputent pas une même variable et n'allouent rien.
+ */
+public class Counter {
+    // Attributs
+    private final String name; // nom de la métrique
+    private final LongAdder value; // valeur du compteur
+
+    // Constructeur
+    Counter(String name) {
+        this.name = name;
+        this.value = new LongAdder();
+    }
+
+    // Méthodes
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void decrement() {
+        value.decrement();
+    }
+
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    // Getter
+
+    public String getName() {
+        return name;
+    }
+
+    public long getValue() {
+        return value.sum();
+    }
+}
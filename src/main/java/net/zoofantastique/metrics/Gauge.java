@@ -0,0 +1,14 @@
+package net.zoofantastique.metrics;
+
+/**
+ * Interface Gauge, jauge de métriques : une valeur instantanée lue au moment de la consultation.
+ */
+@FunctionalInterface
+public interface Gauge {
+    /**
+     * Retourne la valeur courante de la jauge.
+     *
+     * @return La valeur courante.
+     */
+    long getValue();
+}
@@ -0,0 +1,144 @@
+package net.zoofantastique.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Classe LatencyHistogram, histogramme de durées en nanosecondes à seaux log-linéaires.
+ * Chaque puissance de deux est découpée en SUB_BUCKETS seaux de même largeur : l'erreur relative d'un percentile
+ * reste inférieure à 1 / SUB_BUCKETS quel que soit l'ordre de grandeur, avec un nombre fixe de seaux.
+ * L'enregistrement d'une durée n'alloue rien et ne prend aucun verrou.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS; // 8 seaux par puissance de deux, 12,5 % d'erreur au plus
+    private static final int NB_BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    // Attributs
+    private final String name; // nom de la métrique
+    private final AtomicLongArray buckets; // nombre de mesures par seau
+    private final LongAdder count; // nombre total de mesures
+    private final LongAdder sum; // somme des durées
+    private final AtomicLong max; // plus grande durée mesurée
+
+    // Constructeur
+    LatencyHistogram(String name) {
+        this.name = name;
+        this.buckets = new AtomicLongArray(NB_BUCKETS);
+        this.count = new LongAdder();
+        this.sum = new LongAdder();
+        this.max = new AtomicLong();
+    }
+
+    // Méthodes
+
+    /**
+     * Retourne le seau d'une durée : les petites valeurs ont chacune leur seau,
+     * les autres sont rangées selon leur puissance de deux puis leurs SUB_BUCKET_BITS bits suivants.
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) Math.max(value, 0);
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Retourne la plus grande durée rangée dans un seau.
+     */
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+        return lower + width - 1;
+    }
+
+    /**
+     * Enregistre une durée.
+     *
+     * @param nanos La durée en nanosecondes, les valeurs négatives comptent pour zéro.
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        buckets.incrementAndGet(bucketOf(value));
+        count.increment();
+        sum.add(value);
+        long current;
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Enregistre la durée écoulée depuis un instant obtenu avec System.nanoTime().
+     *
+     * @param startNanos L'instant de départ.
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Retourne une borne supérieure de la durée sous laquelle se trouvent la proportion demandée des mesures.
+     *
+     * @param percentile Le percentile, entre 0 et 100.
+     * @return La durée en nanosecondes, 0 s'il n'y a aucune mesure.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long[] counts = new long[NB_BUCKETS];
+        long total = 0;
+        for (int i = 0; i < NB_BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * Math.min(Math.max(percentile, 0), 100) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < NB_BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    // Getter
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * Cette méthode est utilisée pour obtenir une représentation sous forme de chaîne de l'histogramme, durées en microsecondes.
+     *
+     * @return Une représentation sous forme de chaîne de l'histogramme.
+     */
+    @Override
+    public String toString() {
+        return String.format("%s: n=%d moy=%.1fµs p50=%.1fµs p90=%.1fµs p99=%.1fµs max=%.1fµs",
+                name, getCount(), getMean() / 1_000, getValueAtPercentile(50) / 1_000.0,
+                getValueAtPercentile(90) / 1_000.0, getValueAtPercentile(99) / 1_000.0, getMax() / 1_000.0);
+    }
+}
@@ -0,0 +1,109 @@
+package net.zoofantastique.metrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Classe MetricsRegistry, registre des métriques du zoo : compteurs, jauges et histogrammes de durées, indexés par nom.
+ * Les métriques sont créées à la première demande puis réutilisées ; les chemins critiques gardent la référence obtenue
+ * une fois pour toutes (voir ZooMetrics) et n'interrogent jamais la table.
+ */
+public class MetricsRegistry {
+    // Attributs
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Gauge> gauges = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    // Méthodes
+
+    /**
+     * Retourne le compteur de ce nom, créé s'il n'existe pas encore.
+     *
+     * @param name Le nom du compteur.
+     * @return Le compteur.
+     */
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, Counter::new);
+    }
+
+    /**
+     * Enregistre une jauge, en remplaçant celle qui porterait déjà ce nom.
+     *
+     * @param name  Le nom de la jauge.
+     * @param gauge La jauge.
+     */
+    public void gauge(String name, Gauge gauge) {
+        gauges.put(name, gauge);
+    }
+
+    /**
+     * Retire une jauge, seulement si c'est toujours elle qui porte ce nom : le propriétaire d'une jauge remplacée
+     * depuis ne retire pas celle de son successeur.
+     *
+     * @param name  Le nom de la jauge.
+     * @param gauge La jauge enregistrée sous ce nom.
+     * @return true si la jauge a été retirée.
+     */
+    public boolean removeGauge(String name, Gauge gauge) {
+        return gauges.remove(name, gauge);
+    }
+
+    /**
+     * Retourne l'histogramme de ce nom, créé s'il n'existe pas encore.
+     *
+     * @param name Le nom de l'histogramme.
+     * @return L'histogramme.
+     */
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, LatencyHistogram::new);
+    }
+
+    /**
+     * Retourne la valeur courante de chaque compteur et de chaque jauge, triées par nom.
+     *
+     * @return Les valeurs, par nom de métrique.
+     */
+    public Map<String, Long> values() {
+        Map<String, Long> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.getValue()));
+        gauges.forEach((name, gauge) -> values.put(name, gauge.getValue()));
+        return values;
+    }
+
+    /**
+     * Photographie toutes les métriques sous forme de texte lisible, triées par nom.
+     *
+     * @return L'état courant des métriques.
+     */
+    public String snapshot() {
+        StringBuilder sb = new StringBuilder("<-/ Métriques du zoo (" + LocalDateTime.now().withNano(0) + ") \\->\n");
+        values().forEach((name, value) -> sb.append(name).append(": ").append(value).append("\n"));
+        new TreeMap<>(histograms).values().forEach(histogram -> sb.append(histogram).append("\n"));
+        return sb.toString();
+    }
+
+    /**
+     * Écrit une photographie des métriques dans un fichier.
+     *
+     * @param file Le fichier de destination, écrasé s'il existe.
+     * @throws IOException Si le fichier ne peut pas être écrit.
+     */
+    public void dump(Path file) throws IOException {
+        Files.writeString(file, snapshot());
+    }
+
+    // Getter
+
+    public Counter getCounter(String name) {
+        return counters.get(name);
+    }
+
+    public LatencyHistogram getHistogram(String name) {
+        return histograms.get(name);
+    }
+}
@@ -0,0 +1,63 @@
+package net.zoofantastique.metrics;
+
+import net.zoofantastique.utils.ResourceRegistry;
+
+/**
+ * Classe ZooMetrics, registre global des métriques du zoo et références directes vers les métriques des chemins critiques.
+ */
+public final class ZooMetrics {
+    private static final MetricsRegistry REGISTRY = new MetricsRegistry();
+
+    // Simulation
+    public static final LatencyHistogram TICK = REGISTRY.histogram("simulation.tick");
+    public static final Counter TICK_ALLOCATED = REGISTRY.counter("simulation.tick.allocatedBytes"); // octets alloués par les pas
+    public static final Counter BIRTHS = REGISTRY.counter("creatures.births");
+    public static final Counter DEATHS = REGISTRY.counter("creatures.deaths");
+    public static final Counter FEEDS = REGISTRY.counter("creatures.feeds");
+
+    // Enclos
+    public static final LatencyHistogram MAINTENANCE = REGISTRY.histogram("enclosures.maintenance");
+    public static final Counter TRANSFERS = REGISTRY.counter("enclosures.transfers");
+
+    // Soigneurs
+    public static final LatencyHistogram STAFF_QUEUE_LATENCY = REGISTRY.histogram("staff.queueLatency"); // attente des soins en file
+    public static final Counter STAFF_TASKS = REGISTRY.counter("staff.tasks");
+    public static final Counter STAFF_STEALS = REGISTRY.counter("staff.steals"); // soins pris chez un collègue
+    public static final Counter AUTOPILOT_DECISIONS = REGISTRY.counter("autopilot.decisions"); // signalements examinés
+    public static final Counter AUTOPILOT_ACTIONS = REGISTRY.counter("autopilot.actions"); // repas, soins et entretiens donnés
+
+    static {
+        REGISTRY.gauge("resources.executors", ResourceRegistry::getLiveCount); // minuteries encore actives
+    }
+
+    private ZooMetrics() {
+    }
+
+    /**
+     * Retourne l'histogramme de durée d'une commande du menu.
+     *
+     * @param command Le nom de la commande.
+     * @return L'histogramme de la commande.
+     */
+    public static LatencyHistogram command(String command) {
+        return REGISTRY.histogram("menu." + command);
+    }
+
+    /**
+     * Enregistre la durée et les octets alloués par une commande du menu.
+     * Les octets sont mesurés avant l'enregistrement, qui n'est donc pas compté.
+     *
+     * @param command    Le nom de la commande.
+     * @param start      La valeur de System.nanoTime() au début de la commande.
+     * @param startBytes La valeur de AllocationTracker.allocatedBytes() au début de la commande.
+     */
+    public static void recordCommand(String command, long start, long startBytes) {
+        long allocated = AllocationTracker.allocatedSince(startBytes);
+        command(command).recordSince(start);
+        REGISTRY.counter("menu." + command + ".allocatedBytes").add(allocated);
+    }
+
+    public static MetricsRegistry registry() {
+        return REGISTRY;
+    }
+}
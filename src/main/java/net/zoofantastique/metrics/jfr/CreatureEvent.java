@@ -0,0 +1,38 @@
+package net.zoofantastique.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+
+/**
+ * Classe CreatureEvent, base des événements JFR qui concernent une créature :
+ * identifiant, espèce et enclos de la créature.
+ */
+@Category({"Zoo Fantastique", "Créatures"})
+public abstract class CreatureEvent extends Event {
+    @Label("Identifiant de la créature")
+    long creatureId;
+
+    @Label("Espèce")
+    String species;
+
+    @Label("Enclos")
+    String enclosure;
+
+    /**
+     * Renseigne la créature puis enregistre l'événement, seulement s'il est activé dans l'enregistrement en cours.
+     *
+     * @param creature La créature concernée.
+     */
+    public void commitFor(Creature creature) {
+        if (shouldCommit()) {
+            creatureId = creature.getId();
+            species = creature.getClass().getSimpleName();
+            Enclosure<?> home = creature.getEnclosure();
+            enclosure = home == null ? null : home.getName();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package net.zoofantastique.metrics.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Événement JFR d'un pas de faim d'une créature. Très fréquent, il est désactivé par défaut.
+ */
+@Name("net.zoofantastique.CreatureTick")
+@Label("Pas de simulation d'une créature")
+@Description("Diminution périodique de la faim d'une créature.")
+@Enabled(false)
+public class CreatureTickEvent extends CreatureEvent {
+    @Label("Faim")
+    int hunger;
+
+    public void setHunger(int hunger) {
+        this.hunger = hunger;
+    }
+}
@@ -0,0 +1,19 @@
+package net.zoofantastique.metrics.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+
+/**
+ * Événement JFR de la mort d'une créature (haveToGoToTheHell).
+ */
+@Name("net.zoofantastique.Death")
+@Label("Mort")
+@Description("Une créature meurt de faim ou de maladie.")
+public class DeathEvent extends CreatureEvent {
+
+    public static void emit(Creature creature) {
+        new DeathEvent().commitFor(creature);
+    }
+}
@@ -0,0 +1,36 @@
+package net.zoofantastique.metrics.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+
+/**
+ * Événement JFR du passage d'un seuil de faim (Répu, Satisfait, Moyen, Affamé), dans un sens ou dans l'autre.
+ */
+@Name("net.zoofantastique.HungerThreshold")
+@Label("Seuil de faim franchi")
+@Description("La faim d'une créature change d'état.")
+@StackTrace(false)
+public class HungerThresholdEvent extends CreatureEvent {
+    @Label("État précédent")
+    String previousState;
+
+    @Label("Nouvel état")
+    String newState;
+
+    /**
+     * Enregistre le changement d'état de faim d'une créature.
+     *
+     * @param creature      La créature.
+     * @param previousState L'état de faim avant le changement.
+     * @param newState      L'état de faim après le changement.
+     */
+    public static void emit(Creature creature, String previousState, String newState) {
+        HungerThresholdEvent event = new HungerThresholdEvent();
+        event.previousState = previousState;
+        event.newState = newState;
+        event.commitFor(creature);
+    }
+}
@@ -0,0 +1,40 @@
+package net.zoofantastique.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+
+/**
+ * Événement JFR d'une maintenance d'enclos, avec sa durée.
+ */
+@Name("net.zoofantastique.Maintenance")
+@Label("Maintenance d'enclos")
+@Description("Nettoyage d'un enclos ou de son bassin, ou entretien de son toit.")
+@Category({"Zoo Fantastique", "Enclos"})
+public class MaintenanceEvent extends Event {
+    @Label("Enclos")
+    String enclosure;
+
+    @Label("Type d'enclos")
+    String enclosureType;
+
+    @Label("Nombre de créatures")
+    int nbCreatures;
+
+    /**
+     * Termine la mesure commencée par begin() et l'enregistre si l'événement est activé.
+     *
+     * @param enclosure L'enclos entretenu.
+     */
+    public void commitFor(Enclosure<?> enclosure) {
+        if (shouldCommit()) {
+            this.enclosure = enclosure.getName();
+            this.enclosureType = enclosure.getEnclosureType();
+            this.nbCreatures = enclosure.getNbCreature();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package net.zoofantastique.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Lycanthrope;
+
+/**
+ * Événement JFR du résultat d'un combat dans une meute.
+ */
+@Name("net.zoofantastique.PackBattle")
+@Label("Combat de meute")
+@Description("Issue d'un combat entre deux lycanthropes d'une meute.")
+@Category({"Zoo Fantastique", "Meutes"})
+@StackTrace(false)
+public class PackBattleEvent extends Event {
+    @Label("Meute")
+    String pack;
+
+    @Label("Identifiant du vainqueur")
+    long winnerId;
+
+    @Label("Identifiant du vaincu")
+    long loserId;
+
+    @Label("Niveau du vainqueur")
+    double winnerLevel;
+
+    @Label("Niveau du vaincu")
+    double loserLevel;
+
+    @Label("Nouveau mâle alpha")
+    boolean newAlpha;
+
+    /**
+     * Enregistre l'issue d'un combat.
+     *
+     * @param pack     Le nom de la meute.
+     * @param winner   Le vainqueur.
+     * @param loser    Le vaincu.
+     * @param newAlpha true si le vainqueur devient le mâle alpha.
+     */
+    public static void emit(String pack, Lycanthrope winner, Lycanthrope loser, boolean newAlpha) {
+        PackBattleEvent event = new PackBattleEvent();
+        if (event.shouldCommit()) {
+            event.pack = pack;
+            event.winnerId = winner.getId();
+            event.loserId = loser.getId();
+            event.winnerLevel = winner.getLevel();
+            event.loserLevel = loser.getLevel();
+            event.newAlpha = newAlpha;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package net.zoofantastique.metrics.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+
+/**
+ * Événement JFR de la renaissance d'un Dragon ou d'un Phoenix.
+ */
+@Name("net.zoofantastique.Rebirth")
+@Label("Renaissance")
+@Description("Une créature morte renaît en bébé.")
+@StackTrace(false)
+public class RebirthEvent extends CreatureEvent {
+
+    public static void emit(Creature creature) {
+        new RebirthEvent().commitFor(creature);
+    }
+}
@@ -0,0 +1,21 @@
+package net.zoofantastique.metrics.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+
+/**
+ * Événement JFR d'une créature qui tombe malade.
+ */
+@Name("net.zoofantastique.Sickness")
+@Label("Maladie")
+@Description("Une créature en bonne santé tombe malade.")
+@StackTrace(false)
+public class SicknessEvent extends CreatureEvent {
+
+    public static void emit(Creature creature) {
+        new SicknessEvent().commitFor(creature);
+    }
+}
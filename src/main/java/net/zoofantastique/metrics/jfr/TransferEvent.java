@@ -0,0 +1,41 @@
+package net.zoofantastique.metrics.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+
+/**
+ * Événement JFR du transfert d'une créature d'un enclos à un autre.
+ * Le champ enclos hérité désigne l'enclos de la créature après la tentative.
+ */
+@Name("net.zoofantastique.Transfer")
+@Label("Transfert")
+@Description("Transfert d'une créature vers un autre enclos.")
+public class TransferEvent extends CreatureEvent {
+    @Label("Enclos source")
+    String source;
+
+    @Label("Enclos de destination")
+    String destination;
+
+    @Label("Réussi")
+    boolean success;
+
+    /**
+     * Termine la mesure commencée par begin() et l'enregistre si l'événement est activé.
+     *
+     * @param creature    La créature transférée.
+     * @param source      L'enclos de départ.
+     * @param destination L'enclos d'arrivée.
+     */
+    public void commitFor(Creature creature, Enclosure<?> source, Enclosure<?> destination) {
+        if (shouldCommit()) {
+            this.source = source.getName();
+            this.destination = destination.getName();
+            this.success = creature.getEnclosure() == destination;
+            commitFor(creature);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package net.zoofantastique.model;
+
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+
+/**
+ * Record CreatureState, l'état immuable d'une créature dans un {@link ZooState}.
+ * Chaque modification retourne un nouvel état ; l'ancien reste valable pour qui le lit.
+ *
+ * @param id       L'identifiant unique de la créature.
+ * @param species  Le nom de l'espèce (Unicorn, Kraken...).
+ * @param name     Le nom de la créature.
+ * @param gender   Le sexe.
+ * @param age      L'âge.
+ * @param hunger   La faim, de 0 (morte de faim) à 10 (repue).
+ * @param sick     true si la créature est malade.
+ * @param pregnant true si la créature est enceinte.
+ * @param weight   Le poids, en kilogrammes.
+ * @param height   La taille, en mètres.
+ */
+public record CreatureState(long id, String species, String name, Gender gender, Age age, int hunger,
+                            boolean sick, boolean pregnant, double weight, double height) {
+
+    /**
+     * Photographie une créature du zoo.
+     *
+     * @param creature La créature.
+     * @return Son état.
+     */
+    public static CreatureState of(Creature creature) {
+        return new CreatureState(creature.getId(), creature.getClass().getSimpleName(), creature.getName(),
+                creature.getSexe(), creature.getAge(), creature.getHunger(), creature.isSick(), creature.isPregnant(),
+                creature.getWeight(), creature.getHeight());
+    }
+
+    public CreatureState withHunger(int hunger) {
+        return new CreatureState(id, species, name, gender, age, hunger, sick, pregnant, weight, height);
+    }
+
+    public CreatureState withSick(boolean sick) {
+        return new CreatureState(id, species, name, gender, age, hunger, sick, pregnant, weight, height);
+    }
+
+    public CreatureState withAge(Age age) {
+        return new CreatureState(id, species, name, gender, age, hunger, sick, pregnant, weight, height);
+    }
+
+    public CreatureState withPregnant(boolean pregnant) {
+        return new CreatureState(id, species, name, gender, age, hunger, sick, pregnant, weight, height);
+    }
+}
@@ -0,0 +1,93 @@
+package net.zoofantastique.model;
+
+import net.zoofantastique.controller.enclosure.behavior.Cleanness;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Record EnclosureState, l'état immuable d'un enclos dans un {@link ZooState} : ses caractéristiques et ses créatures,
+ * rangées par identifiant dans une {@link PersistentMap}. Comme un enclos du jeu, il n'abrite qu'une espèce, celle de
+ * sa première créature, qu'il garde une fois vidé.
+ *
+ * @param name      Le nom de l'enclos.
+ * @param kind      Le type d'enclos (enclos, aquarium, volière).
+ * @param surface   La surface.
+ * @param capacity  Le nombre maximal de créatures.
+ * @param cleanness La propreté.
+ * @param species   L'espèce de l'enclos, null tant qu'il n'a jamais eu de créature.
+ * @param creatures Les créatures, par identifiant.
+ */
+public record EnclosureState(String name, String kind, double surface, int capacity, Cleanness cleanness,
+                             String species, PersistentMap<Long, CreatureState> creatures) {
+
+    /**
+     * Crée un enclos vide.
+     */
+    public static EnclosureState empty(String name, String kind, double surface, int capacity) {
+        return new EnclosureState(name, kind, surface, capacity, Cleanness.GOOD, null, PersistentMap.empty());
+    }
+
+    /**
+     * Photographie un enclos du zoo et ses créatures.
+     *
+     * @param enclosure L'enclos.
+     * @return Son état.
+     */
+    public static EnclosureState of(Enclosure<?> enclosure) {
+        PersistentMap<Long, CreatureState> creatures = PersistentMap.empty();
+        for (Object resident : enclosure.getListCreature().toArray()) {
+            CreatureState creature = CreatureState.of((Creature) resident);
+            creatures = creatures.put(creature.id(), creature);
+        }
+        Class<? extends Creature> type = enclosure.getCreatureType();
+        return new EnclosureState(enclosure.getName(), enclosure.getEnclosureType(), enclosure.getSurface(),
+                enclosure.getMax(), enclosure.getCleanness(), type == null ? null : type.getSimpleName(), creatures);
+    }
+
+    /**
+     * @param id L'identifiant d'une créature.
+     * @return La créature, null si elle n'est pas dans l'enclos.
+     */
+    public CreatureState creature(long id) {
+        return creatures.get(id);
+    }
+
+    /**
+     * @return Les créatures de l'enclos, par ordre d'arrivée dans le zoo.
+     */
+    public List<CreatureState> creatureList() {
+        List<CreatureState> list = creatures.values();
+        list.sort(Comparator.comparingLong(CreatureState::id));
+        return list;
+    }
+
+    /**
+     * Indique si l'enclos peut accueillir une créature : de la place et la même espèce que ses occupants.
+     */
+    public boolean canHost(CreatureState creature) {
+        return creatures.size() < capacity && (species == null || species.equals(creature.species()));
+    }
+
+    /**
+     * Ajoute ou remplace une créature.
+     */
+    public EnclosureState with(CreatureState creature) {
+        String kept = species == null ? creature.species() : species;
+        return new EnclosureState(name, kind, surface, capacity, cleanness, kept, creatures.put(creature.id(), creature));
+    }
+
+    public EnclosureState without(long id) {
+        return new EnclosureState(name, kind, surface, capacity, cleanness, species, creatures.remove(id));
+    }
+
+    public EnclosureState withCleanness(Cleanness cleanness) {
+        return new EnclosureState(name, kind, surface, capacity, cleanness, species, creatures);
+    }
+
+    public int getNbCreature() {
+        return creatures.size();
+    }
+}
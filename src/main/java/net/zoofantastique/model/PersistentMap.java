@@ -0,0 +1,395 @@
+package net.zoofantastique.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Classe PersistentMap, un dictionnaire immuable à partage de structure (arbre de hachage à 32 branches).
+ * Une modification ne touche jamais la table existante : elle retourne une nouvelle table qui ne recopie que
+ * les nœuds du chemin menant à la clé, au plus sept nœuds de 32 cases, et partage tout le reste avec l'ancienne.
+ * Garder une version de la table ne coûte donc rien, et une version lue par un thread ne change jamais sous ses yeux.
+ *
+ * @param <K> Le type des clés.
+ * @param <V> Le type des valeurs.
+ */
+public final class PersistentMap<K, V> {
+    private static final int BITS = 5; // bits du hachage consommés à chaque niveau
+    private static final int MASK = (1 << BITS) - 1;
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(null, 0);
+
+    // Attributs
+    private final Node root; // null pour la table vide
+    private final int size;
+
+    // Constructeur
+    private PersistentMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    // Méthodes
+
+    /**
+     * @return La table vide.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Cherche la valeur d'une clé.
+     *
+     * @param key La clé.
+     * @return La valeur, null si la clé est absente.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        return root == null ? null : (V) root.get(0, hash(key), key);
+    }
+
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Associe une valeur à une clé.
+     *
+     * @param key   La clé, non null.
+     * @param value La valeur, non null.
+     * @return La nouvelle table ; cette table elle-même si la clé avait déjà cette valeur.
+     */
+    public PersistentMap<K, V> put(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        boolean[] added = new boolean[1];
+        Node start = root == null ? BitmapNode.EMPTY : root;
+        Node node = start.put(0, hash(key), key, value, added);
+        if (node == root) {
+            return this;
+        }
+        return new PersistentMap<>(node, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * Retire une clé.
+     *
+     * @param key La clé.
+     * @return La nouvelle table ; cette table elle-même si la clé était absente.
+     */
+    public PersistentMap<K, V> remove(Object key) {
+        if (root == null) {
+            return this;
+        }
+        Node node = root.remove(0, hash(key), key);
+        if (node == root) {
+            return this;
+        }
+        return node == null ? empty() : new PersistentMap<>(node, size - 1);
+    }
+
+    /**
+     * Parcourt les associations de la table, dans l'ordre de hachage des clés.
+     *
+     * @param action L'action appliquée à chaque association.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        if (root != null) {
+            root.forEach((BiConsumer<Object, Object>) action);
+        }
+    }
+
+    /**
+     * @return Les valeurs de la table, dans l'ordre de hachage des clés.
+     */
+    public List<V> values() {
+        List<V> values = new ArrayList<>(size);
+        forEach((key, value) -> values.add(value));
+        return values;
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PersistentMap<?, ?> other) || size != other.size) {
+            return false;
+        }
+        boolean[] equal = {true};
+        forEach((key, value) -> equal[0] &= value.equals(other.get(key)));
+        return equal[0];
+    }
+
+    @Override
+    public int hashCode() {
+        int[] h = {0};
+        forEach((key, value) -> h[0] += key.hashCode() ^ value.hashCode());
+        return h[0];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        forEach((key, value) -> sb.append(sb.length() > 1 ? ", " : "").append(key).append('=').append(value));
+        return sb.append('}').toString();
+    }
+
+    // Getter et setter
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Un nœud de l'arbre, jamais modifié une fois construit.
+     */
+    private abstract static class Node {
+        abstract Object get(int shift, int hash, Object key);
+
+        abstract Node put(int shift, int hash, Object key, Object value, boolean[] added);
+
+        /**
+         * @return Le nœud sans la clé, ce nœud lui-même si la clé est absente, null s'il ne reste rien.
+         */
+        abstract Node remove(int shift, int hash, Object key);
+
+        abstract void forEach(BiConsumer<Object, Object> action);
+
+        /**
+         * @return La seule association du nœud (clé puis valeur) s'il n'en contient qu'une, null sinon.
+         */
+        abstract Object[] single();
+    }
+
+    /**
+     * Un nœud indexé par 5 bits du hachage : le bitmap indique les cases occupées et le tableau ne garde que
+     * celles-ci, par paires (clé, valeur) ou (null, sous-nœud).
+     */
+    private static final class BitmapNode extends Node {
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        // Attributs
+        private final int bitmap;
+        private final Object[] array;
+
+        // Constructeur
+        BitmapNode(int bitmap, Object[] array) {
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        // Méthodes
+
+        @Override
+        Object get(int shift, int hash, Object key) {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            int i = 2 * Integer.bitCount(bitmap & (bit - 1));
+            Object k = array[i];
+            if (k == null) {
+                return ((Node) array[i + 1]).get(shift + BITS, hash, key);
+            }
+            return key.equals(k) ? array[i + 1] : null;
+        }
+
+        @Override
+        Node put(int shift, int hash, Object key, Object value, boolean[] added) {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            int i = 2 * Integer.bitCount(bitmap & (bit - 1));
+            if ((bitmap & bit) == 0) {
+                added[0] = true;
+                Object[] copy = new Object[array.length + 2];
+                System.arraycopy(array, 0, copy, 0, i);
+                copy[i] = key;
+                copy[i + 1] = value;
+                System.arraycopy(array, i, copy, i + 2, array.length - i);
+                return new BitmapNode(bitmap | bit, copy);
+            }
+            Object k = array[i];
+            Object v = array[i + 1];
+            if (k == null) {
+                Node child = (Node) v;
+                Node node = child.put(shift + BITS, hash, key, value, added);
+                return node == child ? this : with(i + 1, node);
+            }
+            if (key.equals(k)) {
+                return v == value ? this : with(i + 1, value);
+            }
+            added[0] = true;
+            Object[] copy = array.clone();
+            copy[i] = null;
+            copy[i + 1] = pair(shift + BITS, k, v, hash, key, value);
+            return new BitmapNode(bitmap, copy);
+        }
+
+        @Override
+        Node remove(int shift, int hash, Object key) {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int i = 2 * Integer.bitCount(bitmap & (bit - 1));
+            Object k = array[i];
+            if (k == null) {
+                Node child = (Node) array[i + 1];
+                Node node = child.remove(shift + BITS, hash, key);
+                if (node == child) {
+                    return this;
+                }
+                if (node == null) {
+                    return without(bit, i);
+                }
+                Object[] single = node.single();
+                if (single != null) { // un sous-nœud d'une seule association remonte dans ce nœud
+                    Object[] copy = array.clone();
+                    copy[i] = single[0];
+                    copy[i + 1] = single[1];
+                    return new BitmapNode(bitmap, copy);
+                }
+                return with(i + 1, node);
+            }
+            return key.equals(k) ? without(bit, i) : this;
+        }
+
+        @Override
+        void forEach(BiConsumer<Object, Object> action) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (array[i] == null) {
+                    ((Node) array[i + 1]).forEach(action);
+                } else {
+                    action.accept(array[i], array[i + 1]);
+                }
+            }
+        }
+
+        @Override
+        Object[] single() {
+            return array.length == 2 && array[0] != null ? array : null;
+        }
+
+        private BitmapNode with(int index, Object value) {
+            Object[] copy = array.clone();
+            copy[index] = value;
+            return new BitmapNode(bitmap, copy);
+        }
+
+        private BitmapNode without(int bit, int i) {
+            if (bitmap == bit) {
+                return null;
+            }
+            Object[] copy = new Object[array.length - 2];
+            System.arraycopy(array, 0, copy, 0, i);
+            System.arraycopy(array, i + 2, copy, i, array.length - i - 2);
+            return new BitmapNode(bitmap ^ bit, copy);
+        }
+
+        /**
+         * Un nœud réunissant deux associations dont les clés partagent le début de leur hachage.
+         */
+        private static Node pair(int shift, Object k1, Object v1, int h2, Object k2, Object v2) {
+            int h1 = hash(k1);
+            if (h1 == h2) {
+                return new CollisionNode(h1, new Object[]{k1, v1, k2, v2});
+            }
+            boolean[] added = new boolean[1];
+            return EMPTY.put(shift, h1, k1, v1, added).put(shift, h2, k2, v2, added);
+        }
+    }
+
+    /**
+     * Un nœud des clés de même hachage, rangées par paires (clé, valeur).
+     */
+    private static final class CollisionNode extends Node {
+        // Attributs
+        private final int hash;
+        private final Object[] array;
+
+        // Constructeur
+        CollisionNode(int hash, Object[] array) {
+            this.hash = hash;
+            this.array = array;
+        }
+
+        // Méthodes
+
+        @Override
+        Object get(int shift, int hash, Object key) {
+            int i = indexOf(key);
+            return i < 0 ? null : array[i + 1];
+        }
+
+        @Override
+        Node put(int shift, int hash, Object key, Object value, boolean[] added) {
+            if (hash != this.hash) { // une clé d'un autre hachage : le nœud descend d'un niveau
+                BitmapNode parent = new BitmapNode(1 << ((this.hash >>> shift) & MASK), new Object[]{null, this});
+                return parent.put(shift, hash, key, value, added);
+            }
+            int i = indexOf(key);
+            if (i >= 0) {
+                if (array[i + 1] == value) {
+                    return this;
+                }
+                Object[] copy = array.clone();
+                copy[i + 1] = value;
+                return new CollisionNode(hash, copy);
+            }
+            added[0] = true;
+            Object[] copy = Arrays.copyOf(array, array.length + 2);
+            copy[array.length] = key;
+            copy[array.length + 1] = value;
+            return new CollisionNode(hash, copy);
+        }
+
+        @Override
+        Node remove(int shift, int hash, Object key) {
+            int i = indexOf(key);
+            if (i < 0) {
+                return this;
+            }
+            if (array.length == 2) {
+                return null;
+            }
+            Object[] copy = new Object[array.length - 2];
+            System.arraycopy(array, 0, copy, 0, i);
+            System.arraycopy(array, i + 2, copy, i, array.length - i - 2);
+            return new CollisionNode(this.hash, copy);
+        }
+
+        @Override
+        void forEach(BiConsumer<Object, Object> action) {
+            for (int i = 0; i < array.length; i += 2) {
+                action.accept(array[i], array[i + 1]);
+            }
+        }
+
+        @Override
+        Object[] single() {
+            return array.length == 2 ? array : null;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package net.zoofantastique.model;
+
+import net.zoofantastique.controller.enclosure.behavior.Cleanness;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.zoo.Zoo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Classe ZooState, une version immuable du zoo : ses enclos par nom et, pour chaque créature, le nom de son enclos.
+ * Chaque modification retourne une nouvelle version qui ne recopie que le chemin touché (la créature, son enclos,
+ * leurs entrées dans les tables) et partage tout le reste avec la précédente. Une version se garde donc pour rien :
+ * photographie, retour en arrière ou futur hypothétique ne coûtent qu'une référence.
+ * Une opération refusée lève une exception et ne produit aucune version : un transfert est appliqué en entier ou pas du tout.
+ */
+public final class ZooState {
+    // Attributs
+    private final String name;
+    private final PersistentMap<Integer, String> order; // noms des enclos par rang d'ajout, partagés comme les autres tables
+    private final PersistentMap<String, EnclosureState> enclosures;
+    private final PersistentMap<Long, String> locations; // enclos de chaque créature, par identifiant
+    private final long version;
+
+    // Constructeur
+    private ZooState(String name, PersistentMap<Integer, String> order, PersistentMap<String, EnclosureState> enclosures,
+                     PersistentMap<Long, String> locations, long version) {
+        this.name = name;
+        this.order = order;
+        this.enclosures = enclosures;
+        this.locations = locations;
+        this.version = version;
+    }
+
+    // Méthodes
+
+    /**
+     * Crée un zoo sans enclos.
+     *
+     * @param name Le nom du zoo.
+     * @return La première version du zoo.
+     */
+    public static ZooState empty(String name) {
+        return new ZooState(name, PersistentMap.empty(), PersistentMap.empty(), PersistentMap.empty(), 0);
+    }
+
+    /**
+     * Photographie un zoo du jeu, enclos par enclos.
+     * Les enclos y sont désignés par leur nom : deux enclos du même nom ne peuvent pas y coexister.
+     *
+     * @param zoo Le zoo.
+     * @return Sa version immuable.
+     * @throws IllegalStateException si deux enclos du zoo portent le même nom.
+     */
+    public static ZooState of(Zoo zoo) {
+        ZooState state = empty(zoo.getZooName());
+        for (Enclosure<?> enclosure : List.copyOf(zoo.getEnclosures())) {
+            if (state.enclosures.containsKey(enclosure.getName())) {
+                throw new IllegalStateException("Le zoo " + zoo.getZooName() + " a deux enclos nommés " + enclosure.getName() + "!");
+            }
+            state = state.withEnclosure(EnclosureState.of(enclosure));
+        }
+        return state;
+    }
+
+    /**
+     * Ajoute un enclos, ou remplace celui qui porte le même nom.
+     *
+     * @param enclosure L'enclos et ses créatures.
+     * @return La nouvelle version.
+     */
+    public ZooState withEnclosure(EnclosureState enclosure) {
+        PersistentMap<Long, String> moved = locations;
+        EnclosureState previous = enclosures.get(enclosure.name());
+        if (previous != null) {
+            for (CreatureState creature : previous.creatures().values()) {
+                moved = moved.remove(creature.id());
+            }
+        }
+        for (CreatureState creature : enclosure.creatures().values()) {
+            String other = moved.get(creature.id());
+            if (other != null) {
+                throw new IllegalStateException("La créature " + creature.name() + " est déjà dans l'enclos " + other + "!");
+            }
+            moved = moved.put(creature.id(), enclosure.name());
+        }
+        PersistentMap<Integer, String> names = previous == null ? order.put(order.size(), enclosure.name()) : order;
+        return new ZooState(name, names, enclosures.put(enclosure.name(), enclosure), moved, version + 1);
+    }
+
+    /**
+     * Ajoute une créature dans un enclos.
+     *
+     * @param enclosure Le nom de l'enclos.
+     * @param creature  La créature.
+     * @return La nouvelle version.
+     * @throws IllegalArgumentException si l'enclos n'existe pas.
+     * @throws IllegalStateException    si la créature est déjà au zoo, si l'enclos est plein ou abrite une autre espèce.
+     */
+    public ZooState addCreature(String enclosure, CreatureState creature) {
+        EnclosureState target = require(enclosure);
+        if (locations.containsKey(creature.id())) {
+            throw new IllegalStateException("La créature " + creature.name() + " est déjà dans l'enclos " + locations.get(creature.id()) + "!");
+        }
+        checkHost(target, creature);
+        return new ZooState(name, order, enclosures.put(enclosure, target.with(creature)),
+                locations.put(creature.id(), enclosure), version + 1);
+    }
+
+    /**
+     * Modifie une créature, là où elle se trouve.
+     *
+     * @param id     L'identifiant de la créature.
+     * @param update La modification, par exemple {@code c -> c.withHunger(10)}.
+     * @return La nouvelle version ; cette version elle-même si la modification ne change rien.
+     * @throws IllegalArgumentException si la créature n'est pas au zoo.
+     */
+    public ZooState updateCreature(long id, UnaryOperator<CreatureState> update) {
+        String where = requireLocation(id);
+        EnclosureState enclosure = enclosures.get(where);
+        CreatureState creature = enclosure.creature(id);
+        CreatureState updated = update.apply(creature);
+        if (updated.equals(creature)) {
+            return this;
+        }
+        if (updated.id() != id) {
+            throw new IllegalArgumentException("Une modification ne peut pas changer l'identifiant d'une créature!");
+        }
+        return new ZooState(name, order, enclosures.put(where, enclosure.with(updated)), locations, version + 1);
+    }
+
+    /**
+     * Retire une créature du zoo (mort, départ).
+     *
+     * @param id L'identifiant de la créature.
+     * @return La nouvelle version.
+     * @throws IllegalArgumentException si la créature n'est pas au zoo.
+     */
+    public ZooState removeCreature(long id) {
+        String where = requireLocation(id);
+        return new ZooState(name, order, enclosures.put(where, enclosures.get(where).without(id)),
+                locations.remove(id), version + 1);
+    }
+
+    /**
+     * Transfère une créature dans un autre enclos : elle quitte le sien et arrive dans le nouveau dans la même version,
+     * si bien qu'aucune version ne la montre dans les deux enclos, ni dans aucun.
+     *
+     * @param id          L'identifiant de la créature.
+     * @param destination Le nom de l'enclos d'arrivée.
+     * @return La nouvelle version ; cette version elle-même si la créature y est déjà.
+     * @throws IllegalArgumentException si la créature ou l'enclos n'existe pas.
+     * @throws IllegalStateException    si l'enclos d'arrivée est plein ou abrite une autre espèce.
+     */
+    public ZooState transfer(long id, String destination) {
+        String from = requireLocation(id);
+        EnclosureState target = require(destination);
+        if (from.equals(destination)) {
+            return this;
+        }
+        EnclosureState source = enclosures.get(from);
+        CreatureState creature = source.creature(id);
+        if (target.species() != null && !target.species().equals(source.species())) {
+            throw new IllegalStateException("Les enclos ne sont pas du même type!");
+        }
+        checkHost(target, creature);
+        PersistentMap<String, EnclosureState> moved = enclosures.put(from, source.without(id)).put(destination, target.with(creature));
+        return new ZooState(name, order, moved, locations.put(id, destination), version + 1);
+    }
+
+    /**
+     * Change la propreté d'un enclos.
+     *
+     * @param enclosure Le nom de l'enclos.
+     * @param cleanness La propreté.
+     * @return La nouvelle version.
+     */
+    public ZooState withCleanness(String enclosure, Cleanness cleanness) {
+        EnclosureState target = require(enclosure);
+        if (target.cleanness() == cleanness) {
+            return this;
+        }
+        return new ZooState(name, order, enclosures.put(enclosure, target.withCleanness(cleanness)), locations, version + 1);
+    }
+
+    private static void checkHost(EnclosureState target, CreatureState creature) {
+        if (target.getNbCreature() >= target.capacity()) {
+            throw new IllegalStateException("Pas assez de places disponibles!");
+        }
+        if (!target.canHost(creature)) {
+            throw new IllegalStateException("L'enclos ne peux pas accueillir plusieurs types de créatures!");
+        }
+    }
+
+    private EnclosureState require(String enclosure) {
+        EnclosureState state = enclosures.get(enclosure);
+        if (state == null) {
+            throw new IllegalArgumentException("L'enclos " + enclosure + " n'existe pas!");
+        }
+        return state;
+    }
+
+    private String requireLocation(long id) {
+        String where = locations.get(id);
+        if (where == null) {
+            throw new IllegalArgumentException("La créature " + id + " n'est pas dans le zoo!");
+        }
+        return where;
+    }
+
+    /**
+     * @param name Le nom d'un enclos.
+     * @return L'enclos, null s'il n'existe pas.
+     */
+    public EnclosureState enclosure(String name) {
+        return enclosures.get(name);
+    }
+
+    /**
+     * @return Les enclos, dans leur ordre d'ajout.
+     */
+    public List<EnclosureState> enclosureList() {
+        List<EnclosureState> list = new ArrayList<>(order.size());
+        for (int i = 0; i < order.size(); i++) {
+            list.add(enclosures.get(order.get(i)));
+        }
+        return list;
+    }
+
+    /**
+     * @param id L'identifiant d'une créature.
+     * @return La créature, null si elle n'est pas au zoo.
+     */
+    public CreatureState creature(long id) {
+        String where = locations.get(id);
+        return where == null ? null : enclosures.get(where).creature(id);
+    }
+
+    /**
+     * @param id L'identifiant d'une créature.
+     * @return Le nom de son enclos, null si elle n'est pas au zoo.
+     */
+    public String enclosureOf(long id) {
+        return locations.get(id);
+    }
+
+    @Override
+    public String toString() {
+        return "Zoo " + name + " (version " + version + ") : " + order.size() + " enclos, " + locations.size() + " créatures";
+    }
+
+    // Getter et setter
+
+    public String getName() {
+        return name;
+    }
+
+    public int getNbCreature() {
+        return locations.size();
+    }
+
+    public int getNbEnclosure() {
+        return order.size();
+    }
+
+    /**
+     * @return Le numéro de la version, augmenté de 1 à chaque modification.
+     */
+    public long getVersion() {
+        return version;
+    }
+}
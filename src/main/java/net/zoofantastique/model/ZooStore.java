@@ -0,0 +1,106 @@
+package net.zoofantastique.model;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.UnaryOperator;
+
+/**
+ * Classe ZooStore, le zoo en versions immuables ({@link ZooState}) : une seule référence désigne la version courante.
+ * Lire, c'est prendre cette référence : une photographie cohérente en O(1), sans verrou, que les écritures suivantes
+ * ne modifient jamais. Les écritures calculent la version suivante et la publient d'un coup ; elles passent l'une
+ * après l'autre mais n'attendent jamais un lecteur, et un lecteur ne voit jamais une écriture à moitié faite.
+ * Les versions remplacées sont gardées pour revenir en arrière ({@link #undo()}), dans la limite de {@link #UNDO_LIMIT}.
+ */
+public class ZooStore {
+    public static final int UNDO_LIMIT = 100; // versions gardées pour revenir en arrière
+
+    // Attributs
+    private volatile ZooState current;
+    private final Deque<ZooState> history = new ArrayDeque<>(); // versions remplacées, la plus récente en tête
+
+    // Constructeur
+
+    /**
+     * Constructeur de la classe ZooStore.
+     *
+     * @param initial La version de départ.
+     */
+    public ZooStore(ZooState initial) {
+        this.current = initial;
+    }
+
+    // Méthodes
+
+    /**
+     * @return La version courante, qui ne changera plus.
+     */
+    public ZooState snapshot() {
+        return current;
+    }
+
+    /**
+     * Crée un zoo indépendant à partir de la version courante, par exemple pour essayer une suite de décisions :
+     * ses modifications ne touchent pas ce zoo-ci, et inversement.
+     *
+     * @return La copie, sans historique.
+     */
+    public ZooStore fork() {
+        return new ZooStore(current);
+    }
+
+    /**
+     * Applique une modification à la version courante et publie le résultat.
+     * Si la modification lève une exception, rien n'est publié.
+     *
+     * @param update La modification, par exemple {@code zoo -> zoo.transfer(id, "Bassin")}.
+     * @return La nouvelle version courante.
+     */
+    public synchronized ZooState update(UnaryOperator<ZooState> update) {
+        ZooState next = update.apply(current);
+        if (next != current) {
+            history.push(current);
+            if (history.size() > UNDO_LIMIT) {
+                history.removeLast();
+            }
+            current = next;
+        }
+        return next;
+    }
+
+    /**
+     * Transfère une créature dans un autre enclos.
+     *
+     * @param id          L'identifiant de la créature.
+     * @param destination Le nom de l'enclos d'arrivée.
+     * @return true si la créature a été transférée.
+     */
+    public boolean transfer(long id, String destination) {
+        try {
+            update(zoo -> zoo.transfer(id, destination));
+            return true;
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            System.err.println(e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Revient à la version précédant la dernière modification.
+     *
+     * @return true si une version a été rétablie, false si l'historique est vide.
+     */
+    public synchronized boolean undo() {
+        ZooState previous = history.poll();
+        if (previous == null) {
+            return false;
+        }
+        current = previous;
+        return true;
+    }
+
+    // Getter et setter
+
+    public synchronized int getUndoDepth() {
+        return history.size();
+    }
+}
@@ -0,0 +1,125 @@
+package net.zoofantastique.query;
+
+import net.zoofantastique.controller.entity.Alive;
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Enumération CreatureField, les champs d'une créature utilisables dans une requête, sous leur nom anglais
+ * ou français (hunger ou faim, weight ou poids...).
+ */
+public enum CreatureField {
+    SPECIES(Kind.TEXT, creature -> creature.getClass().getSimpleName(), "species", "espece"),
+    NAME(Kind.TEXT, Alive::getName, "name", "nom"),
+    ENCLOSURE(Kind.TEXT, creature -> creature.getEnclosure() == null ? null : creature.getEnclosure().getName(), "enclosure", "enclos"),
+    GENDER(Gender.class, Alive::getSexe, "gender", "sexe"),
+    AGE(Age.class, Alive::getAge, "age"),
+    ID(Creature::getId, "id"),
+    HUNGER(Creature::getHunger, "hunger", "faim"),
+    WEIGHT(Creature::getWeight, "weight", "poids"),
+    HEIGHT(Creature::getHeight, "height", "taille"),
+    SICK(Kind.FLAG, Creature::isSick, "sick", "malade"),
+    SLEEPING(Kind.FLAG, Creature::isSleeping, "sleeping", "dort"),
+    PREGNANT(Kind.FLAG, Creature::isPregnant, "pregnant", "enceinte");
+
+    /**
+     * La nature d'un champ, qui décide des comparaisons permises.
+     */
+    public enum Kind {
+        NUMBER, // toutes les comparaisons
+        CONSTANT, // toutes les comparaisons, dans l'ordre de l'énumération (BABY < CHILD < ADULT...)
+        TEXT, // égalité sans tenir compte de la casse
+        FLAG // égalité avec true ou false, ou appartenance à un ensemble de ces valeurs
+    }
+
+    // Attributs
+    private final Kind kind;
+    private final String[] names;
+    private final ToDoubleFunction<Creature> number; // lecteur d'un champ NUMBER, null sinon
+    private final Function<Creature, ?> value; // lecteur des autres champs, null pour un champ NUMBER
+    private final Class<? extends Enum<?>> constants; // constantes d'un champ CONSTANT, null sinon
+
+    // Constructeur
+    CreatureField(ToDoubleFunction<Creature> number, String... names) {
+        this.kind = Kind.NUMBER;
+        this.names = names;
+        this.number = number;
+        this.value = null;
+        this.constants = null;
+    }
+
+    CreatureField(Kind kind, Function<Creature, ?> value, String... names) {
+        this.kind = kind;
+        this.names = names;
+        this.number = null;
+        this.value = value;
+        this.constants = null;
+    }
+
+    CreatureField(Class<? extends Enum<?>> constants, Function<Creature, ? extends Enum<?>> value, String... names) {
+        this.kind = Kind.CONSTANT;
+        this.names = names;
+        this.number = null;
+        this.value = value;
+        this.constants = constants;
+    }
+
+    // Méthodes
+
+    /**
+     * Retrouve un champ à partir de l'un de ses noms, sans tenir compte de la casse.
+     *
+     * @param name Le nom du champ.
+     * @return Le champ, ou null si aucun ne porte ce nom.
+     */
+    public static CreatureField find(String name) {
+        for (CreatureField field : values()) {
+            for (String candidate : field.names) {
+                if (candidate.equalsIgnoreCase(name)) {
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrouve la position d'une constante d'un champ CONSTANT à partir de son nom (ADULT, FEMALE...).
+     *
+     * @param name Le nom de la constante, sans tenir compte de la casse.
+     * @return Sa position dans l'énumération, ou -1 si elle n'existe pas.
+     */
+    int ordinalOf(String name) {
+        for (Enum<?> constant : constants.getEnumConstants()) {
+            if (constant.name().equalsIgnoreCase(name)) {
+                return constant.ordinal();
+            }
+        }
+        return -1;
+    }
+
+    // Getter et setter
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return Le nom principal du champ, celui affiché dans les messages.
+     */
+    public String getName() {
+        return names[0];
+    }
+
+    ToDoubleFunction<Creature> getNumber() {
+        return number;
+    }
+
+    Function<Creature, ?> getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,229 @@
+package net.zoofantastique.query;
+
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.zoo.Zoo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+/**
+ * Classe CreatureQuery, une requête sur les créatures du zoo, lue une seule fois puis compilée en un arbre
+ * de prédicats, par exemple {@code species=Kraken and hunger<=3 and age in (ADULT,OLD) and weight>5000}
+ * (voir {@link QueryParser} pour la grammaire).
+ * À l'exécution, un enclos n'abritant qu'une espèce, les contraintes sur l'espèce ou sur l'enclos posées au
+ * premier niveau de la requête servent d'index : seuls les enclos concernés sont parcourus. Sans index,
+ * tous les enclos sont parcourus, en parallèle au-delà de {@link #PARALLEL_THRESHOLD} créatures.
+ */
+public final class CreatureQuery implements Predicate<Creature> {
+    public static final int PARALLEL_THRESHOLD = 20_000; // créatures à parcourir avant de passer en parallèle
+
+    // Attributs
+    private final String text;
+    private final Predicate<Creature> predicate; // la requête compilée
+    private final Set<String> species; // espèces permises par la requête (en minuscules), null si toutes
+    private final Set<String> enclosures; // enclos permis par la requête (en minuscules), null si tous
+
+    // Constructeur
+    private CreatureQuery(String text, QueryNode root) {
+        this.text = text;
+        this.predicate = compile(root);
+        this.species = allowed(root, CreatureField.SPECIES);
+        this.enclosures = allowed(root, CreatureField.ENCLOSURE);
+    }
+
+    // Méthodes
+
+    /**
+     * Lit et compile une requête.
+     *
+     * @param text Le texte de la requête.
+     * @return La requête compilée, réutilisable autant de fois que voulu.
+     * @throws QueryException si le texte est invalide.
+     */
+    public static CreatureQuery compile(String text) {
+        return new CreatureQuery(text.trim(), QueryParser.parse(text));
+    }
+
+    @Override
+    public boolean test(Creature creature) {
+        return predicate.test(creature);
+    }
+
+    /**
+     * Exécute la requête sur le zoo.
+     *
+     * @param zoo Le zoo.
+     * @return Les créatures trouvées et le plan suivi.
+     */
+    public QueryResult run(Zoo zoo) {
+        long start = System.nanoTime();
+        List<Enclosure<? super Creature>> all = zoo.getEnclosures();
+        List<Object[]> residents = new ArrayList<>();
+        int total = 0;
+        for (Enclosure<? super Creature> enclosure : all) {
+            if (isCandidate(enclosure)) {
+                Object[] snapshot = enclosure.getListCreature().toArray();
+                residents.add(snapshot);
+                total += snapshot.length;
+            }
+        }
+        Creature[] creatures = new Creature[total];
+        int offset = 0;
+        for (Object[] snapshot : residents) {
+            System.arraycopy(snapshot, 0, creatures, offset, snapshot.length);
+            offset += snapshot.length;
+        }
+        QueryResult.Plan plan;
+        if (species != null || enclosures != null) {
+            plan = QueryResult.Plan.INDEX;
+        } else if (total >= PARALLEL_THRESHOLD) {
+            plan = QueryResult.Plan.PARALLEL_SCAN;
+        } else {
+            plan = QueryResult.Plan.SCAN;
+        }
+        Stream<Creature> stream = Arrays.stream(creatures);
+        if (total >= PARALLEL_THRESHOLD) {
+            stream = stream.parallel();
+        }
+        List<Creature> matches = stream.filter(predicate).toList();
+        return new QueryResult(matches, plan, residents.size(), all.size(), total, System.nanoTime() - start);
+    }
+
+    private boolean isCandidate(Enclosure<?> enclosure) {
+        if (enclosures != null && !enclosures.contains(enclosure.getName().toLowerCase(Locale.ROOT))) {
+            return false;
+        }
+        if (species != null) {
+            Class<?> type = enclosure.getCreatureType();
+            return type != null && species.contains(type.getSimpleName().toLowerCase(Locale.ROOT));
+        }
+        return true;
+    }
+
+    /**
+     * Les valeurs permises pour un champ texte par les égalités posées au premier niveau de la requête
+     * (la requête entière ou l'un des termes de son « and »), null si la requête ne le contraint pas ainsi.
+     */
+    private static Set<String> allowed(QueryNode root, CreatureField field) {
+        List<QueryNode> terms = root instanceof QueryNode.And and ? and.operands() : List.of(root);
+        Set<String> allowed = null;
+        for (QueryNode term : terms) {
+            if (term instanceof QueryNode.Comparison comparison && comparison.field() == field
+                    && (comparison.operator() == QueryNode.Operator.EQ || comparison.operator() == QueryNode.Operator.IN)) {
+                Set<String> values = new HashSet<>();
+                for (String value : comparison.values()) {
+                    values.add(value.toLowerCase(Locale.ROOT));
+                }
+                if (allowed == null) {
+                    allowed = values;
+                } else {
+                    allowed.retainAll(values);
+                }
+            }
+        }
+        return allowed;
+    }
+
+    /**
+     * Compile un nœud en prédicat : chaque comparaison devient un lambda propre à la nature de son champ et à son
+     * opérateur, les valeurs étant converties une seule fois.
+     */
+    private static Predicate<Creature> compile(QueryNode node) {
+        if (node instanceof QueryNode.And and) {
+            Predicate<Creature> result = compile(and.operands().get(0));
+            for (int i = 1; i < and.operands().size(); i++) {
+                result = result.and(compile(and.operands().get(i)));
+            }
+            return result;
+        }
+        if (node instanceof QueryNode.Or or) {
+            Predicate<Creature> result = compile(or.operands().get(0));
+            for (int i = 1; i < or.operands().size(); i++) {
+                result = result.or(compile(or.operands().get(i)));
+            }
+            return result;
+        }
+        if (node instanceof QueryNode.Not not) {
+            return compile(not.operand()).negate();
+        }
+        return compile((QueryNode.Comparison) node);
+    }
+
+    private static Predicate<Creature> compile(QueryNode.Comparison comparison) {
+        CreatureField field = comparison.field();
+        return switch (field.getKind()) {
+            case NUMBER -> {
+                ToDoubleFunction<Creature> number = field.getNumber();
+                double[] values = comparison.values().stream().mapToDouble(Double::parseDouble).toArray();
+                yield compare(comparison.operator(), values, number::applyAsDouble);
+            }
+            case CONSTANT -> {
+                Function<Creature, ?> value = field.getValue();
+                double[] ordinals = comparison.values().stream().mapToDouble(field::ordinalOf).toArray();
+                yield compare(comparison.operator(), ordinals, creature -> ((Enum<?>) value.apply(creature)).ordinal());
+            }
+            case FLAG -> {
+                Function<Creature, ?> value = field.getValue();
+                boolean acceptsTrue = comparison.values().stream().anyMatch(Boolean::parseBoolean);
+                boolean acceptsFalse = comparison.values().stream().anyMatch(expected -> !Boolean.parseBoolean(expected));
+                Predicate<Creature> equals = creature -> (Boolean) value.apply(creature) ? acceptsTrue : acceptsFalse;
+                yield comparison.operator() == QueryNode.Operator.NE ? equals.negate() : equals;
+            }
+            case TEXT -> {
+                Function<Creature, ?> value = field.getValue();
+                String[] values = comparison.values().toArray(new String[0]);
+                Predicate<Creature> equals = creature -> {
+                    Object actual = value.apply(creature);
+                    for (String expected : values) {
+                        if (expected.equalsIgnoreCase((String) actual)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                };
+                yield comparison.operator() == QueryNode.Operator.NE ? equals.negate() : equals;
+            }
+        };
+    }
+
+    private static Predicate<Creature> compare(QueryNode.Operator operator, double[] values, ToDoubleFunction<Creature> reader) {
+        double v = values[0];
+        return switch (operator) {
+            case EQ -> creature -> reader.applyAsDouble(creature) == v;
+            case NE -> creature -> reader.applyAsDouble(creature) != v;
+            case LT -> creature -> reader.applyAsDouble(creature) < v;
+            case LE -> creature -> reader.applyAsDouble(creature) <= v;
+            case GT -> creature -> reader.applyAsDouble(creature) > v;
+            case GE -> creature -> reader.applyAsDouble(creature) >= v;
+            case IN -> creature -> {
+                double actual = reader.applyAsDouble(creature);
+                for (double value : values) {
+                    if (actual == value) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        };
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    // Getter et setter
+
+    public String getText() {
+        return text;
+    }
+}
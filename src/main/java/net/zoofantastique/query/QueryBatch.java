@@ -0,0 +1,110 @@
+package net.zoofantastique.query;
+
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.zoo.Zoo;
+import net.zoofantastique.simulation.load.LoadGenerator;
+import net.zoofantastique.simulation.load.LoadProfile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Classe QueryBatch, exécute des requêtes sur les créatures sans interface, sur un zoo construit par le générateur
+ * de charge.
+ * Arguments : ceux de LoadProfile.parse() pour le zoo, plus query=... (répétable) et limit=20 pour le nombre
+ * de créatures affichées par requête. Sans query=..., les requêtes sont lues sur l'entrée standard, une par ligne
+ * (les lignes vides ou commençant par # sont ignorées).
+ */
+public final class QueryBatch {
+    private static final int DEFAULT_LIMIT = 20;
+
+    private QueryBatch() {
+    }
+
+    // Méthodes
+
+    /**
+     * Exécute chaque requête sur le zoo et affiche son résultat.
+     *
+     * @param zoo     Le zoo.
+     * @param queries Les textes des requêtes.
+     * @param limit   Le nombre maximal de créatures affichées par requête.
+     * @param out     La sortie.
+     * @return Le nombre de requêtes invalides.
+     */
+    public static int run(Zoo zoo, List<String> queries, int limit, PrintStream out) {
+        int invalid = 0;
+        for (String text : queries) {
+            out.println("> " + text);
+            CreatureQuery query;
+            try {
+                query = CreatureQuery.compile(text);
+            } catch (QueryException e) {
+                out.println("Requête invalide : " + e.getMessage());
+                invalid++;
+                continue;
+            }
+            QueryResult result = query.run(zoo);
+            List<Creature> creatures = result.creatures();
+            for (int i = 0; i < Math.min(limit, creatures.size()); i++) {
+                out.println("  " + QueryResult.line(creatures.get(i)));
+            }
+            if (creatures.size() > limit) {
+                out.println("  ... et " + (creatures.size() - limit) + " autre(s)");
+            }
+            out.println(result);
+        }
+        return invalid;
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<String> profileArgs = new ArrayList<>();
+        List<String> queries = new ArrayList<>();
+        int limit = DEFAULT_LIMIT;
+        for (String arg : args) {
+            if (arg.startsWith("query=")) {
+                queries.add(arg.substring("query=".length()));
+            } else if (arg.startsWith("limit=")) {
+                limit = Integer.parseInt(arg.substring("limit=".length()));
+            } else {
+                profileArgs.add(arg);
+            }
+        }
+        if (queries.isEmpty()) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            for (String line = in.readLine(); line != null; line = in.readLine()) {
+                if (!line.isBlank() && !line.startsWith("#")) {
+                    queries.add(line.trim());
+                }
+            }
+        }
+        LoadProfile profile = LoadProfile.parse(profileArgs.toArray(new String[0]));
+        PrintStream out = System.out;
+        PrintStream err = System.err;
+        PrintStream silent = new PrintStream(OutputStream.nullOutputStream());
+        int invalid;
+        try (LoadGenerator generator = new LoadGenerator(profile)) {
+            Zoo zoo;
+            System.setOut(silent);
+            System.setErr(silent);
+            try {
+                zoo = generator.build();
+            } finally {
+                System.setOut(out);
+                System.setErr(err);
+            }
+            try (zoo) {
+                invalid = run(zoo, queries, limit, out);
+            }
+        }
+        if (invalid > 0) {
+            System.exit(1);
+        }
+    }
+}
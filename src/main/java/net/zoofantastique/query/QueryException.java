@@ -0,0 +1,23 @@
+package net.zoofantastique.query;
+
+/**
+ * Exception levée quand le texte d'une requête est invalide. Elle indique la position de l'erreur dans le texte.
+ */
+public class QueryException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+
+    // Attributs
+    private final int position; // position de l'erreur dans le texte de la requête
+
+    // Constructeur
+    public QueryException(String message, int position) {
+        super(message + " (position " + position + ")");
+        this.position = position;
+    }
+
+    // Getter et setter
+
+    public int getPosition() {
+        return position;
+    }
+}
@@ -0,0 +1,44 @@
+package net.zoofantastique.query;
+
+import java.util.List;
+
+/**
+ * Un nœud de l'arbre d'une requête, tel que lu par {@link QueryParser} avant d'être compilé en prédicat.
+ */
+sealed interface QueryNode {
+
+    /**
+     * Les opérateurs de comparaison.
+     */
+    enum Operator {
+        EQ("="), NE("!="), LT("<"), LE("<="), GT(">"), GE(">="), IN("in");
+
+        // Attributs
+        private final String symbol;
+
+        // Constructeur
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        // Getter et setter
+        String getSymbol() {
+            return symbol;
+        }
+    }
+
+    record And(List<QueryNode> operands) implements QueryNode {
+    }
+
+    record Or(List<QueryNode> operands) implements QueryNode {
+    }
+
+    record Not(QueryNode operand) implements QueryNode {
+    }
+
+    /**
+     * Une comparaison d'un champ avec une ou plusieurs valeurs (plusieurs pour IN), gardées telles qu'écrites.
+     */
+    record Comparison(CreatureField field, Operator operator, List<String> values, int position) implements QueryNode {
+    }
+}
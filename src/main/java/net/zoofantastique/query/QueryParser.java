@@ -0,0 +1,240 @@
+package net.zoofantastique.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Classe QueryParser, lit le texte d'une requête et en construit l'arbre.
+ * Grammaire, mots-clés en anglais ou en français et sans tenir compte de la casse :
+ * <pre>
+ * requête     := ou
+ * ou          := et ( (or | ou) et )*
+ * et          := non ( (and | et) non )*
+ * non         := (not | non) non | '(' ou ')' | comparaison
+ * comparaison := champ opérateur valeur | champ (in | dans) '(' valeur (',' valeur)* ')' | champ
+ * opérateur   := = | != | &lt; | &lt;= | &gt; | &gt;=
+ * valeur      := nombre | mot | 'texte' | "texte"
+ * </pre>
+ * Un champ booléen seul (malade, dort, enceinte) vaut champ = true.
+ */
+final class QueryParser {
+    // Attributs
+    private final String text;
+    private int position; // position de lecture dans le texte
+
+    // Constructeur
+    private QueryParser(String text) {
+        this.text = text;
+    }
+
+    // Méthodes
+
+    /**
+     * Lit une requête.
+     *
+     * @param text Le texte de la requête.
+     * @return La racine de l'arbre.
+     * @throws QueryException si le texte est invalide.
+     */
+    static QueryNode parse(String text) {
+        QueryParser parser = new QueryParser(text);
+        QueryNode root = parser.or();
+        parser.skipSpaces();
+        if (parser.position < text.length()) {
+            throw new QueryException("Texte inattendu : « " + text.substring(parser.position) + " »", parser.position);
+        }
+        return root;
+    }
+
+    private QueryNode or() {
+        List<QueryNode> operands = new ArrayList<>();
+        operands.add(and());
+        while (keyword("or", "ou")) {
+            operands.add(and());
+        }
+        return operands.size() == 1 ? operands.get(0) : new QueryNode.Or(List.copyOf(operands));
+    }
+
+    private QueryNode and() {
+        List<QueryNode> operands = new ArrayList<>();
+        operands.add(not());
+        while (keyword("and", "et")) {
+            operands.add(not());
+        }
+        return operands.size() == 1 ? operands.get(0) : new QueryNode.And(List.copyOf(operands));
+    }
+
+    private QueryNode not() {
+        if (keyword("not", "non")) {
+            return new QueryNode.Not(not());
+        }
+        if (symbol("(")) {
+            QueryNode inner = or();
+            expect(")");
+            return inner;
+        }
+        return comparison();
+    }
+
+    private QueryNode comparison() {
+        skipSpaces();
+        int start = position;
+        String name = word();
+        if (name == null) {
+            throw new QueryException("Nom de champ attendu", start);
+        }
+        CreatureField field = CreatureField.find(name);
+        if (field == null) {
+            throw new QueryException("Champ inconnu : " + name, start);
+        }
+        if (keyword("in", "dans")) {
+            expect("(");
+            List<String> values = new ArrayList<>();
+            do {
+                values.add(value());
+            } while (symbol(","));
+            expect(")");
+            return check(new QueryNode.Comparison(field, QueryNode.Operator.IN, List.copyOf(values), start));
+        }
+        QueryNode.Operator operator = operator();
+        if (operator == null) {
+            if (field.getKind() == CreatureField.Kind.FLAG) {
+                return new QueryNode.Comparison(field, QueryNode.Operator.EQ, List.of("true"), start);
+            }
+            throw new QueryException("Opérateur attendu après " + name, position);
+        }
+        return check(new QueryNode.Comparison(field, operator, List.of(value()), start));
+    }
+
+    /**
+     * Vérifie qu'une comparaison a un sens pour son champ, pour refuser la requête avant de l'exécuter.
+     */
+    private static QueryNode check(QueryNode.Comparison comparison) {
+        CreatureField field = comparison.field();
+        QueryNode.Operator operator = comparison.operator();
+        boolean ordered = operator != QueryNode.Operator.EQ && operator != QueryNode.Operator.NE && operator != QueryNode.Operator.IN;
+        if (ordered && (field.getKind() == CreatureField.Kind.TEXT || field.getKind() == CreatureField.Kind.FLAG)) {
+            throw new QueryException("Le champ " + field.getName() + " ne se compare qu'avec =, != ou in", comparison.position());
+        }
+        for (String value : comparison.values()) {
+            switch (field.getKind()) {
+                case NUMBER -> {
+                    try {
+                        Double.parseDouble(value);
+                    } catch (NumberFormatException e) {
+                        throw new QueryException("Nombre attendu pour " + field.getName() + " : " + value, comparison.position());
+                    }
+                }
+                case CONSTANT -> {
+                    if (field.ordinalOf(value) < 0) {
+                        throw new QueryException("Valeur inconnue pour " + field.getName() + " : " + value, comparison.position());
+                    }
+                }
+                case FLAG -> {
+                    if (!value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false")) {
+                        throw new QueryException("true ou false attendu pour " + field.getName() + " : " + value, comparison.position());
+                    }
+                }
+                case TEXT -> {
+                }
+            }
+        }
+        return comparison;
+    }
+
+    private QueryNode.Operator operator() {
+        skipSpaces();
+        for (String candidate : new String[]{"!=", "<=", ">=", "=", "<", ">"}) {
+            if (text.startsWith(candidate, position)) {
+                position += candidate.length();
+                for (QueryNode.Operator operator : QueryNode.Operator.values()) {
+                    if (operator.getSymbol().equals(candidate)) {
+                        return operator;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private String value() {
+        skipSpaces();
+        int start = position;
+        if (position < text.length() && (text.charAt(position) == '\'' || text.charAt(position) == '"')) {
+            char quote = text.charAt(position);
+            int end = text.indexOf(quote, position + 1);
+            if (end < 0) {
+                throw new QueryException("Texte non terminé", start);
+            }
+            position = end + 1;
+            return text.substring(start + 1, end);
+        }
+        String word = word();
+        if (word == null) {
+            throw new QueryException("Valeur attendue", start);
+        }
+        return word;
+    }
+
+    /**
+     * Lit un mot : lettres, chiffres, '_', '.', et '-' en tête pour un nombre négatif.
+     */
+    private String word() {
+        skipSpaces();
+        int start = position;
+        if (position < text.length() && text.charAt(position) == '-') {
+            position++;
+        }
+        while (position < text.length()) {
+            char c = text.charAt(position);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '.') {
+                break;
+            }
+            position++;
+        }
+        if (position == start || (position == start + 1 && text.charAt(start) == '-')) {
+            position = start;
+            return null;
+        }
+        return text.substring(start, position);
+    }
+
+    /**
+     * Lit l'un des mots-clés s'il est le prochain mot du texte.
+     */
+    private boolean keyword(String... keywords) {
+        skipSpaces();
+        int start = position;
+        String word = word();
+        if (word != null) {
+            for (String keyword : keywords) {
+                if (keyword.equalsIgnoreCase(word)) {
+                    return true;
+                }
+            }
+        }
+        position = start;
+        return false;
+    }
+
+    private boolean symbol(String symbol) {
+        skipSpaces();
+        if (text.startsWith(symbol, position)) {
+            position += symbol.length();
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(String symbol) {
+        if (!symbol(symbol)) {
+            throw new QueryException("« " + symbol + " » attendu", position);
+        }
+    }
+
+    private void skipSpaces() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+    }
+}
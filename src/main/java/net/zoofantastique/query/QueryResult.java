@@ -0,0 +1,64 @@
+package net.zoofantastique.query;
+
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Le résultat d'une requête sur les créatures.
+ *
+ * @param creatures          Les créatures trouvées.
+ * @param plan               Le plan suivi.
+ * @param enclosuresScanned  Le nombre d'enclos parcourus.
+ * @param enclosuresTotal    Le nombre d'enclos du zoo.
+ * @param creaturesScanned   Le nombre de créatures examinées.
+ * @param elapsedNanos       La durée de l'exécution, en nanosecondes.
+ */
+public record QueryResult(List<Creature> creatures, Plan plan, int enclosuresScanned, int enclosuresTotal,
+                          int creaturesScanned, long elapsedNanos) {
+
+    /**
+     * Les plans d'exécution d'une requête.
+     */
+    public enum Plan {
+        INDEX("index par espèce et par enclos"),
+        SCAN("parcours de tous les enclos"),
+        PARALLEL_SCAN("parcours parallèle de tous les enclos");
+
+        // Attributs
+        private final String description;
+
+        // Constructeur
+        Plan(String description) {
+            this.description = description;
+        }
+
+        // Getter et setter
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    /**
+     * Décrit une créature trouvée sur une ligne : identifiant, espèce, nom, enclos, faim et âge.
+     *
+     * @param creature La créature.
+     * @return La ligne.
+     */
+    public static String line(Creature creature) {
+        return "#" + creature.getId() + " " + creature.getClass().getSimpleName() + " " + creature.getName()
+                + " (" + (creature.getEnclosure() == null ? "sans enclos" : creature.getEnclosure().getName())
+                + ", faim " + creature.getHunger() + ", " + creature.getAge().getValue() + ")";
+    }
+
+    /**
+     * @return Un résumé de l'exécution : nombre de résultats, plan, volume parcouru et durée.
+     */
+    @Override
+    public String toString() {
+        return creatures.size() + " créature(s) trouvée(s) — " + plan.getDescription() + ", "
+                + enclosuresScanned + "/" + enclosuresTotal + " enclos, " + creaturesScanned + " créature(s) examinée(s) en "
+                + TimeUnit.NANOSECONDS.toMicros(elapsedNanos) + " µs";
+    }
+}
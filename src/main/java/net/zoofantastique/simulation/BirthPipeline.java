@@ -0,0 +1,139 @@
+package net.zoofantastique.simulation;
+
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.oviparous.Oviparous;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Viviparous;
+import net.zoofantastique.events.ZooEventBus;
+import net.zoofantastique.events.ZooEventType;
+import net.zoofantastique.metrics.ZooMetrics;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Classe BirthPipeline qui gère les grossesses et les incubations en cours dans le zoo.
+ * Les femelles fécondées sont placées dans une file ordonnée par date de terme ;
+ * à chaque tick de simulation, toutes les naissances arrivées à terme sont traitées en une seule passe.
+ * Un tick de simulation représente un jour.
+ * Si une horloge est fournie, les nouveau-nés y sont activés dès leur arrivée dans l'enclos.
+ */
+public class BirthPipeline {
+    // Attributs
+    private final PriorityQueue<Birth> births; // naissances à venir, la plus proche en tête
+    private long day; // jour courant de la simulation
+    private CreatureClock clock; // horloge sur laquelle activer les nouveau-nés, null pour les laisser inertes
+
+    // Constructeur
+    public BirthPipeline() {
+        this.births = new PriorityQueue<>(Comparator.comparingLong(Birth::term));
+        this.day = 0;
+    }
+
+    // Méthodes
+
+    /**
+     * Tente d'accoupler deux créatures et, en cas de succès, inscrit la femelle dans la file des naissances.
+     * Le terme dépend de la durée de gestation (vivipares) ou d'incubation (ovipares) de l'espèce.
+     *
+     * @param first  La première créature.
+     * @param second La seconde créature.
+     * @return La femelle enceinte, null si l'accouplement est impossible.
+     */
+    public synchronized Creature conceive(Creature first, Creature second) {
+        Creature female = first.initiatePregnancy(second);
+        if (female != null) {
+            births.add(new Birth(day + termOf(female), female));
+        }
+        return female;
+    }
+
+    /**
+     * Avance la file d'un jour et fait naître (ou éclore) tous les bébés arrivés à terme.
+     *
+     * @return Le nombre de bébés placés dans un enclos.
+     */
+    public synchronized int tick() {
+        day++;
+        int born = 0;
+        while (!births.isEmpty() && births.peek().term() <= day) {
+            if (deliver(births.poll().mother())) {
+                born++;
+            }
+        }
+        return born;
+    }
+
+    /**
+     * Met fin à la grossesse d'une mère et place le nouveau-né dans l'enclos de sa mère s'il reste de la place.
+     * Si la mère est morte entre-temps ou si son enclos est plein, le bébé n'est pas gardé.
+     *
+     * @param mother La mère arrivée à terme.
+     * @return true si le bébé a été placé dans un enclos, false sinon.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean deliver(Creature mother) {
+        mother.setPregnant(false);
+        if (mother.getAge() == Age.DEAD) {
+            System.err.println("Le bébé de " + mother.getName() + " n'a pas survécu.");
+            return false;
+        }
+        Enclosure<Creature> enclosure = (Enclosure<Creature>) mother.getEnclosure();
+        if (enclosure == null || enclosure.getNbCreature() >= enclosure.getMax()) {
+            System.err.println("Pas de place pour le bébé de " + mother.getName() + "!");
+            return false;
+        }
+        Creature baby;
+        if (mother instanceof Viviparous viviparous) {
+            baby = (Creature) viviparous.giveBirth();
+        } else {
+            baby = (Creature) ((Oviparous) mother).eggsHatch();
+        }
+        enclosure.addCreature(baby);
+        if (clock != null && baby.getEnclosure() == enclosure) {
+            clock.activate(baby);
+        }
+        ZooMetrics.BIRTHS.increment();
+        ZooEventBus.publish(ZooEventType.BIRTH, baby, mother.getName());
+        System.out.println("Un bébé " + baby.getClass().getSimpleName() + " est né dans l'enclos " + enclosure.getName() + "!");
+        return true;
+    }
+
+    private static int termOf(Creature female) {
+        return female instanceof Viviparous ? Viviparous.gestationDuration : Oviparous.incubationDuration;
+    }
+
+    // Getter et setter
+
+    public synchronized int getNbPending() {
+        return births.size();
+    }
+
+    /**
+     * Les naissances à venir : chaque mère et le jour de son terme.
+     *
+     * @return Une copie, de la naissance la plus proche à la plus lointaine.
+     */
+    public synchronized Map<Creature, Long> getTerms() {
+        Map<Creature, Long> terms = new LinkedHashMap<>();
+        births.stream().sorted(Comparator.comparingLong(Birth::term)).forEach(birth -> terms.put(birth.mother(), birth.term()));
+        return terms;
+    }
+
+    public synchronized long getDay() {
+        return day;
+    }
+
+    public synchronized void setClock(CreatureClock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Une naissance à venir : la mère et le jour de son terme.
+     */
+    private record Birth(long term, Creature mother) {
+    }
+}
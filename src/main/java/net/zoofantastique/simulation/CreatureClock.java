@@ -0,0 +1,128 @@
+package net.zoofantastique.simulation;
+
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.utils.ResourceRegistry;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classe CreatureClock, horloge partagée par toutes les créatures actives de la simulation.
+ * Un seul thread fait avancer chaque seconde les minuteries de toutes les créatures rattachées,
+ * au lieu d'un thread par créature : des millions de créatures peuvent ainsi vivre en même temps.
+ * Les créatures arrêtées (stop() ou close()) sont oubliées au pas suivant.
+ */
+public class CreatureClock implements AutoCloseable {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // Attributs
+    private Creature[] creatures; // créatures rattachées, gardé par this
+    private int size; // nombre de créatures rattachées
+    private long seconds; // secondes écoulées depuis le démarrage
+    private ScheduledExecutorService executor; // null tant que l'horloge n'est pas démarrée
+
+    // Constructeur
+    public CreatureClock() {
+        this.creatures = new Creature[INITIAL_CAPACITY];
+        this.size = 0;
+        this.seconds = 0;
+    }
+
+    // Méthodes
+
+    /**
+     * Démarre le thread de l'horloge, qui appelle tick() chaque seconde.
+     */
+    public synchronized void start() {
+        if (executor == null) {
+            executor = ResourceRegistry.newScheduledExecutor("CreatureClock");
+            executor.scheduleAtFixedRate(this::tick, 1, 1, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Active une créature sur l'horloge.
+     *
+     * @param creature La créature à activer.
+     * @return true si la créature a été rattachée, false si elle était déjà active.
+     */
+    public synchronized boolean activate(Creature creature) {
+        if (!creature.attachToClock()) {
+            return false;
+        }
+        ensureCapacity(size + 1);
+        creatures[size++] = creature;
+        return true;
+    }
+
+    /**
+     * Active un lot de créatures en une seule inscription : le tableau est agrandi une fois pour tout le lot.
+     * Les créatures déjà actives sont ignorées.
+     *
+     * @param batch Les créatures à activer.
+     * @return Le nombre de créatures rattachées.
+     */
+    public synchronized int activate(Collection<? extends Creature> batch) {
+        ensureCapacity(size + batch.size());
+        int attached = 0;
+        for (Creature creature : batch) {
+            if (creature.attachToClock()) {
+                creatures[size++] = creature;
+                attached++;
+            }
+        }
+        return attached;
+    }
+
+    /**
+     * Une seconde de simulation : fait avancer toutes les créatures rattachées et oublie, en compactant le tableau,
+     * celles qui ne le sont plus.
+     * Une erreur dans une créature est signalée sans arrêter l'horloge.
+     */
+    public synchronized void tick() {
+        seconds++;
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Creature creature = creatures[i];
+            boolean attached;
+            try {
+                attached = creature.onClockSecond();
+            } catch (RuntimeException e) {
+                System.err.println("Erreur dans la simulation de " + creature.getName() + " : " + e);
+                attached = creature.isOnClock();
+            }
+            if (attached) {
+                creatures[kept++] = creature;
+            }
+        }
+        Arrays.fill(creatures, kept, size, null);
+        size = kept;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > creatures.length) {
+            creatures = Arrays.copyOf(creatures, Math.max(capacity, creatures.length + (creatures.length >> 1)));
+        }
+    }
+
+    /**
+     * Arrête le thread de l'horloge ; les créatures restent rattachées mais n'avancent plus.
+     */
+    @Override
+    public synchronized void close() {
+        ResourceRegistry.release(executor);
+        executor = null;
+    }
+
+    // Getter et setter
+
+    public synchronized int getSize() {
+        return size;
+    }
+
+    public synchronized long getSeconds() {
+        return seconds;
+    }
+}
@@ -0,0 +1,170 @@
+package net.zoofantastique.simulation;
+
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.events.ZooEventBus;
+import net.zoofantastique.events.ZooEventType;
+import net.zoofantastique.metrics.ZooMetrics;
+import net.zoofantastique.metrics.jfr.MaintenanceEvent;
+import net.zoofantastique.utils.ResourceRegistry;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classe MaintenanceService, exécute les maintenances d'enclos en tâche de fond sur un petit groupe de threads.
+ * Une maintenance dure le temps donné par {@link Enclosure#maintenanceMillis()} (surface, profondeur du bassin,
+ * hauteur du toit) et avance par étapes : chaque étape publie un événement de progression, la dernière fait
+ * la maintenance elle-même. Entre deux étapes aucun thread n'est occupé, si bien que quelques threads suffisent
+ * à entretenir des dizaines d'enclos à la fois sans bloquer la console.
+ */
+public class MaintenanceService implements AutoCloseable {
+    public static final int DEFAULT_WORKERS = 2;
+    public static final int MAX_JOBS = 64; // maintenances en cours au plus, au-delà elles sont refusées
+    private static final int STEPS = 10; // étapes d'une maintenance, une progression publiée par étape
+
+    // Attributs
+    private final ScheduledThreadPoolExecutor executor;
+    private final double timeScale; // facteur appliqué aux durées : 1 pour le temps réel, 0 pour des maintenances immédiates
+    private final Map<Enclosure<?>, Job> jobs = new IdentityHashMap<>(); // maintenances en cours, par enclos
+
+    // Constructeur
+
+    /**
+     * Constructeur de la classe MaintenanceService.
+     *
+     * @param workers   Le nombre de threads.
+     * @param timeScale Le facteur appliqué aux durées des maintenances (1 pour le temps réel).
+     */
+    public MaintenanceService(int workers, double timeScale) {
+        this.executor = ResourceRegistry.newScheduledExecutor("Maintenance", workers);
+        this.timeScale = timeScale;
+    }
+
+    // Méthodes
+
+    /**
+     * Lance la maintenance d'un enclos et rend la main aussitôt.
+     * Un enclos déjà en maintenance n'en reçoit pas une seconde : sa maintenance en cours est retournée.
+     * Un enclos vide n'a pas besoin de maintenance : elle est terminée tout de suite.
+     *
+     * @param enclosure L'enclos à entretenir.
+     * @return La maintenance, terminée avec l'enclos entretenu ; en échec avec RejectedExecutionException
+     *         si trop de maintenances sont en cours ou si le service est fermé.
+     */
+    public synchronized CompletableFuture<Enclosure<?>> submit(Enclosure<?> enclosure) {
+        Job running = jobs.get(enclosure);
+        if (running != null) {
+            return running.future;
+        }
+        if (enclosure.getListCreature().isEmpty()) {
+            enclosure.maintenance();
+            return CompletableFuture.completedFuture(enclosure);
+        }
+        if (executor.isShutdown()) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("Le service de maintenance est fermé."));
+        }
+        if (jobs.size() >= MAX_JOBS) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException(
+                    "Trop de maintenances en cours (" + MAX_JOBS + "), réessayez plus tard."));
+        }
+        Job job = new Job(enclosure, Math.round(enclosure.maintenanceMillis() * timeScale));
+        jobs.put(enclosure, job);
+        job.schedule();
+        return job.future;
+    }
+
+    /**
+     * Lance la maintenance de plusieurs enclos.
+     *
+     * @param enclosures Les enclos à entretenir.
+     * @return Une tâche terminée quand toutes les maintenances le sont.
+     */
+    public CompletableFuture<Void> submitAll(List<? extends Enclosure<?>> enclosures) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[enclosures.size()];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = submit(enclosures.get(i));
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    private synchronized void finished(Job job) {
+        jobs.remove(job.enclosure);
+    }
+
+    /**
+     * Arrête le service : les maintenances en cours sont abandonnées (leur tâche échoue avec CancellationException).
+     */
+    @Override
+    public void close() {
+        ResourceRegistry.release(executor);
+        List<Job> abandoned;
+        synchronized (this) {
+            abandoned = List.copyOf(jobs.values());
+            jobs.clear();
+        }
+        for (Job job : abandoned) {
+            job.future.completeExceptionally(new CancellationException("Maintenance de " + job.enclosure.getName() + " abandonnée."));
+        }
+    }
+
+    // Getter et setter
+
+    public synchronized int getRunning() {
+        return jobs.size();
+    }
+
+    public synchronized boolean isRunning(Enclosure<?> enclosure) {
+        return jobs.containsKey(enclosure);
+    }
+
+    /**
+     * Une maintenance en cours : ses étapes s'enchaînent sur l'exécuteur du service.
+     */
+    private final class Job {
+        // Attributs
+        private final Enclosure<?> enclosure;
+        private final long stepMillis;
+        private final CompletableFuture<Enclosure<?>> future = new CompletableFuture<>();
+        private final MaintenanceEvent event = new MaintenanceEvent();
+        private final long start = System.nanoTime();
+        private int step; // étapes terminées, lu et écrit par une seule étape à la fois
+
+        // Constructeur
+        Job(Enclosure<?> enclosure, long durationMillis) {
+            this.enclosure = enclosure;
+            this.stepMillis = durationMillis / STEPS;
+            event.begin();
+        }
+
+        // Méthodes
+
+        void schedule() {
+            executor.schedule(this::step, stepMillis, TimeUnit.MILLISECONDS);
+        }
+
+        private void step() {
+            try {
+                step++;
+                if (step < STEPS) {
+                    ZooEventBus.publish(ZooEventType.MAINTENANCE_PROGRESS, enclosure, step * 100 / STEPS + "%");
+                    schedule();
+                    return;
+                }
+                enclosure.maintenance();
+                event.commitFor(enclosure);
+                ZooMetrics.MAINTENANCE.recordSince(start);
+                finished(this);
+                future.complete(enclosure);
+            } catch (RuntimeException e) {
+                finished(this);
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
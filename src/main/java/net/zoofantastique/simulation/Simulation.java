@@ -1,41 +1,179 @@
 package net.zoofantastique.simulation;
 
 import net.zoofantastique.controller.enclosure.composition.Enclosure;
-import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Pack;
 import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.metrics.AllocationTracker;
+import net.zoofantastique.metrics.Gauge;
+import net.zoofantastique.metrics.ZooMetrics;
+import net.zoofantastique.simulation.mating.Matchmaker;
+import net.zoofantastique.simulation.mating.RandomMatingPolicy;
+import net.zoofantastique.simulation.staff.Autopilot;
+import net.zoofantastique.simulation.staff.StaffScheduler;
+import net.zoofantastique.utils.ResourceRegistry;
 import net.zoofantastique.view.Game;
 
-import java.util.Objects;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
-public class Simulation implements Runnable {
+public class Simulation implements Runnable, AutoCloseable {
+    public static final int BREEDING_SEASON_INTERVAL = 30; // nombre de jours entre deux saisons des amours
+    public static final int DAY_SECONDS = 20; // durée d'un jour de simulation (un pas), en secondes
 
-    private ScheduledExecutorService executor;
+    private ScheduledThreadPoolExecutor executor;
     private Game game;
+    private final BirthPipeline birthPipeline;
+    private final Matchmaker matchmaker;
+    private final CreatureClock clock; // horloge partagée des créatures actives
+    private final MaintenanceService maintenance; // maintenances d'enclos en tâche de fond
+    private final StaffScheduler staff; // équipe de soigneurs, null si la propriété zoo.staff.keepers ne l'engage pas
+    private final Autopilot autopilot; // pilote automatique, null si la propriété zoo.autopilot ne l'active pas
+    private final Map<String, Gauge> gauges = new LinkedHashMap<>(); // jauges enregistrées par cette simulation, retirées à sa fermeture
 
+    /**
+     * Crée et démarre la simulation ; toutes les créatures déjà présentes dans le zoo sont activées sur son horloge
+     * en une seule inscription.
+     *
+     * @param game Le jeu simulé.
+     */
     public Simulation(Game game) {
-        this.executor = Executors.newSingleThreadScheduledExecutor();
-        ;
+        this.executor = ResourceRegistry.newScheduledExecutor("Simulation");
+        gauge("simulation.queue", () -> executor.getQueue().size());
         this.game = game;
+        this.clock = new CreatureClock();
+        gauge("simulation.activeCreatures", clock::getSize);
+        this.birthPipeline = new BirthPipeline();
+        this.birthPipeline.setClock(clock);
+        this.matchmaker = new Matchmaker(new RandomMatingPolicy());
+        this.maintenance = new MaintenanceService(MaintenanceService.DEFAULT_WORKERS, 1);
+        gauge("maintenance.running", maintenance::getRunning);
+        int keepers = Integer.getInteger(StaffScheduler.KEEPERS_PROPERTY, 0);
+        this.staff = keepers > 0 ? new StaffScheduler(keepers, StaffScheduler.DEFAULT_TASKS_PER_SECOND, executor) : null;
+        if (staff != null) {
+            gauge("staff.backlog", staff::getBacklog);
+        }
+        this.autopilot = Boolean.getBoolean(Autopilot.PROPERTY) ? Autopilot.of(game.getZoo()) : null;
+        if (autopilot != null) {
+            gauge("autopilot.backlog", autopilot::getBacklog);
+            gauge("autopilot.actionsPerSecond", autopilot::getActionRate);
+        }
 
+        for (Enclosure<?> enclosure : game.getZoo().getEnclosures()) {
+            clock.activate(enclosure.getListCreature());
+        }
         this.run();
     }
 
+    private void gauge(String name, Gauge gauge) {
+        gauges.put(name, gauge);
+        ZooMetrics.registry().gauge(name, gauge);
+    }
+
     @Override
     public void run() {
         System.out.println("Simulation started");
-        executor.scheduleAtFixedRate(() -> {
+        clock.start();
+        if (autopilot != null) {
+            autopilot.start();
+        }
+        executor.scheduleAtFixedRate(this::tick, 0, DAY_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Active une créature sur l'horloge de la simulation, par exemple après l'avoir placée dans un enclos.
+     *
+     * @param creature La créature à activer.
+     * @return true si la créature a été activée, false si elle l'était déjà.
+     */
+    public boolean activate(Creature creature) {
+        return clock.activate(creature);
+    }
+
+    /**
+     * Active un lot de créatures sur l'horloge de la simulation en une seule inscription.
+     *
+     * @param creatures Les créatures à activer.
+     * @return Le nombre de créatures activées.
+     */
+    public int activate(Collection<? extends Creature> creatures) {
+        return clock.activate(creatures);
+    }
+
+    /**
+     * Un pas de simulation : retire les créatures mortes, fait naître les bébés arrivés à terme,
+     * retire du stock les lots de nourriture périmés, forme les couples de chaque enclos en période de saison des amours,
+     * distribue en une passe les hurlements de chaque meute enregistrée par {@link net.zoofantastique.controller.zoo.Zoo#addPack} (le jeu n'en forme
+     * pas encore lui-même) puis, si une équipe de soigneurs est engagée,
+     * lui confie les soins à donner.
+     * La durée de chaque pas et les octets qu'il alloue sont enregistrés dans les métriques.
+     */
+    public void tick() {
+        long start = System.nanoTime();
+        long startBytes = AllocationTracker.allocatedBytes();
+        for (Enclosure<?> enclosure : game.getZoo().getEnclosures()) {
+            ZooMetrics.DEATHS.add(enclosure.removeDeadCreatures());
+        }
+        birthPipeline.tick();
+        game.getZoo().getFoodInventory().expire(birthPipeline.getDay());
+        if (birthPipeline.getDay() % BREEDING_SEASON_INTERVAL == 0) {
             for (Enclosure<?> enclosure : game.getZoo().getEnclosures()) {
-                for (Creature creature : enclosure.getListCreature()) {
-                    if (Objects.equals(creature.getAgeState(), Age.DEAD.getValue())) {
-                        enclosure.getListCreature().remove(creature);
-                        creature = null;
-                    }
-                }
+                matchmaker.breedingSeason(enclosure, birthPipeline);
             }
-        }, 0, 20, TimeUnit.SECONDS);
+        }
+        for (Pack pack : game.getZoo().getPacks()) {
+            pack.getHowlBus().flush();
+        }
+        if (staff != null) {
+            staff.plan(game.getZoo());
+        }
+        ZooMetrics.TICK_ALLOCATED.add(AllocationTracker.allocatedSince(startBytes));
+        ZooMetrics.TICK.recordSince(start);
+    }
+
+    /**
+     * Arrête la simulation, l'horloge des créatures, les maintenances en cours, l'équipe de soigneurs
+     * et le pilote automatique.
+     */
+    @Override
+    public void close() {
+        if (autopilot != null) {
+            autopilot.close();
+        }
+        if (staff != null) {
+            staff.close();
+        }
+        maintenance.close();
+        clock.close();
+        ResourceRegistry.release(executor);
+        gauges.forEach(ZooMetrics.registry()::removeGauge);
+        gauges.clear();
+    }
+
+    public BirthPipeline getBirthPipeline() {
+        return birthPipeline;
+    }
+
+    public CreatureClock getClock() {
+        return clock;
+    }
+
+    public MaintenanceService getMaintenance() {
+        return maintenance;
+    }
+
+    public Autopilot getAutopilot() {
+        return autopilot;
+    }
+
+    public StaffScheduler getStaff() {
+        return staff;
+    }
+
+    public Matchmaker getMatchmaker() {
+        return matchmaker;
     }
 }
 
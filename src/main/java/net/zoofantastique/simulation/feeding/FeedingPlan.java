@@ -0,0 +1,91 @@
+package net.zoofantastique.simulation.feeding;
+
+import net.zoofantastique.controller.consumable.food.FoodCatalog;
+import net.zoofantastique.controller.consumable.stock.FoodInventory;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+
+/**
+ * Classe FeedingPlan qui représente un plan de repas produit par le FeedingPlanner.
+ * Le plan associe à chaque créature, de la plus affamée à la moins affamée, la nourriture qui lui a été réservée.
+ * Il s'exécute en une seule passe ; les portions qui ne sont pas mangées sont rendues au stock.
+ */
+public class FeedingPlan {
+    private static final FoodCatalog[] ITEMS = FoodCatalog.values();
+
+    // Attributs
+    private final FoodInventory inventory; // stock dans lequel les portions ont été réservées
+    private final Creature[] creatures; // créatures à nourrir, par ordre d'urgence
+    private final byte[] items; // ordinal de la nourriture réservée pour chaque créature
+    private final int size; // nombre de repas planifiés
+    private boolean settled; // true une fois le plan exécuté ou annulé
+
+    // Constructeur
+    FeedingPlan(FoodInventory inventory, Creature[] creatures, byte[] items, int size) {
+        this.inventory = inventory;
+        this.creatures = creatures;
+        this.items = items;
+        this.size = size;
+        this.settled = false;
+    }
+
+    // Méthodes
+
+    /**
+     * Nourrit toutes les créatures du plan en une passe.
+     * Chaque portion mangée est consommée, chaque portion refusée (créature endormie ou rassasiée entre-temps) est rendue.
+     *
+     * @return Le nombre de créatures nourries.
+     */
+    public synchronized int execute() {
+        checkNotSettled();
+        settled = true;
+        int fed = 0;
+        for (int i = 0; i < size; i++) {
+            FoodCatalog item = ITEMS[items[i]];
+            if (creatures[i].feed(item.getFood())) {
+                inventory.consume(item, 1);
+                fed++;
+            } else {
+                inventory.release(item, 1);
+            }
+        }
+        return fed;
+    }
+
+    /**
+     * Abandonne le plan et rend toutes les portions réservées au stock.
+     */
+    public synchronized void cancel() {
+        checkNotSettled();
+        settled = true;
+        long[] quantities = new long[ITEMS.length];
+        for (int i = 0; i < size; i++) {
+            quantities[items[i]]++;
+        }
+        for (FoodCatalog item : ITEMS) {
+            if (quantities[item.ordinal()] > 0) {
+                inventory.release(item, quantities[item.ordinal()]);
+            }
+        }
+    }
+
+    private void checkNotSettled() {
+        if (settled) {
+            throw new IllegalStateException("Ce plan de repas a déjà été exécuté ou annulé.");
+        }
+    }
+
+    // Getter
+
+    public int size() {
+        return size;
+    }
+
+    public Creature getCreature(int index) {
+        return creatures[index];
+    }
+
+    public FoodCatalog getItem(int index) {
+        return ITEMS[items[index]];
+    }
+}
@@ -0,0 +1,167 @@
+package net.zoofantastique.simulation.feeding;
+
+import net.zoofantastique.controller.consumable.food.FoodCatalog;
+import net.zoofantastique.controller.consumable.stock.FoodInventory;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Flying;
+import net.zoofantastique.controller.entity.creature.behavior.Hunger;
+import net.zoofantastique.controller.entity.creature.behavior.Runner;
+import net.zoofantastique.controller.entity.creature.behavior.Swimmer;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.zoo.Zoo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Classe FeedingPlanner qui répartit le stock de nourriture entre toutes les créatures affamées du zoo.
+ * Les créatures sont servies par ordre d'urgence grâce à une file de priorité à seaux indexée par la valeur de faim
+ * (la faim est un petit entier borné, le tri est donc linéaire), et chacune reçoit une portion compatible avec son habitat :
+ * les nageurs reçoivent un Délice océanien, les volants des Graines célestes, les coureurs et les autres un Steak.
+ * Une créature qui a plusieurs habitats reçoit la nourriture compatible dont le lot se périme le plus tôt,
+ * et se rabat sur une autre quand celle-ci est épuisée.
+ */
+public class FeedingPlanner {
+    private static final int MAX_ATTEMPTS = 3; // nombre de tentatives si le stock change pendant la planification
+
+    // Régime de chaque espèce, calculé une seule fois par classe
+    private static final ClassValue<byte[]> DIETS = new ClassValue<>() {
+        @Override
+        protected byte[] computeValue(Class<?> species) {
+            List<FoodCatalog> diet = new ArrayList<>();
+            if (Swimmer.class.isAssignableFrom(species)) diet.add(FoodCatalog.OCEAN_DELIGHT);
+            if (Flying.class.isAssignableFrom(species)) diet.add(FoodCatalog.SKY_SEEDS);
+            if (Runner.class.isAssignableFrom(species) || diet.isEmpty()) diet.add(FoodCatalog.BEEFSTEAK);
+            byte[] ordinals = new byte[diet.size()];
+            for (int i = 0; i < ordinals.length; i++) {
+                ordinals[i] = (byte) diet.get(i).ordinal();
+            }
+            return ordinals;
+        }
+    };
+
+    // Méthodes
+
+    /**
+     * Retourne les nourritures compatibles avec une créature, de la plus adaptée à la moins adaptée.
+     *
+     * @param creature La créature.
+     * @return Les nourritures compatibles.
+     */
+    public static List<FoodCatalog> dietOf(Creature creature) {
+        List<FoodCatalog> diet = new ArrayList<>();
+        for (byte ordinal : DIETS.get(creature.getClass())) {
+            diet.add(FoodCatalog.values()[ordinal]);
+        }
+        return diet;
+    }
+
+    /**
+     * Retourne les nourritures compatibles avec une créature, de celle dont le lot se périme le plus tôt à la plus durable.
+     *
+     * @param creature  La créature.
+     * @param inventory Le stock consulté.
+     * @return Les nourritures compatibles.
+     */
+    public static List<FoodCatalog> dietOf(Creature creature, FoodInventory inventory) {
+        List<FoodCatalog> diet = dietOf(creature);
+        diet.sort(Comparator.comparingLong(inventory::getSoonestExpiry));
+        return diet;
+    }
+
+    /**
+     * Planifie le repas de toutes les créatures affamées du zoo.
+     *
+     * @param zoo       Le zoo.
+     * @param inventory Le stock dans lequel puiser.
+     * @return Le plan de repas, dont les portions sont déjà réservées.
+     */
+    public FeedingPlan plan(Zoo zoo, FoodInventory inventory) {
+        List<Creature> creatures = new ArrayList<>(zoo.giveNbCreatures());
+        for (Enclosure<?> enclosure : zoo.getEnclosures()) {
+            creatures.addAll(enclosure.getListCreature());
+        }
+        return plan(creatures, inventory);
+    }
+
+    /**
+     * Planifie le repas d'un ensemble de créatures.
+     * Les créatures endormies, mortes ou rassasiées sont ignorées ; les autres sont triées de la plus affamée à la moins affamée
+     * puis servies tant qu'il reste une nourriture compatible, en priorité celle qui se périme le plus tôt. Les portions attribuées sont réservées d'un seul coup dans le stock.
+     *
+     * @param creatures Les créatures à considérer.
+     * @param inventory Le stock dans lequel puiser.
+     * @return Le plan de repas, dont les portions sont déjà réservées.
+     */
+    public FeedingPlan plan(List<? extends Creature> creatures, FoodInventory inventory) {
+        Creature[] queue = urgencyQueue(creatures);
+        FoodCatalog[] items = FoodCatalog.values();
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            long[] budget = new long[items.length];
+            long[] expiry = new long[items.length];
+            for (FoodCatalog item : items) {
+                budget[item.ordinal()] = inventory.getAvailable(item);
+                expiry[item.ordinal()] = inventory.getSoonestExpiry(item);
+            }
+            long[] used = new long[items.length];
+            Creature[] planned = new Creature[queue.length];
+            byte[] plannedItems = new byte[queue.length];
+            int size = 0;
+            for (Creature creature : queue) {
+                int chosen = -1;
+                for (byte item : DIETS.get(creature.getClass())) {
+                    if (used[item] < budget[item] && (chosen < 0 || expiry[item] < expiry[chosen])) {
+                        chosen = item;
+                    }
+                }
+                if (chosen >= 0) {
+                    used[chosen]++;
+                    planned[size] = creature;
+                    plannedItems[size] = (byte) chosen;
+                    size++;
+                }
+            }
+            if (inventory.reserve(used)) {
+                return new FeedingPlan(inventory, planned, plannedItems, size);
+            }
+        }
+        return new FeedingPlan(inventory, new Creature[0], new byte[0], 0);
+    }
+
+    /**
+     * Trie les créatures affamées par ordre d'urgence avec une file de priorité à seaux :
+     * un premier passage compte les créatures de chaque niveau de faim, un second les range.
+     *
+     * @param creatures Les créatures à considérer.
+     * @return Les créatures affamées, de la plus affamée à la moins affamée.
+     */
+    private static Creature[] urgencyQueue(List<? extends Creature> creatures) {
+        int levels = Hunger.MAX.getValue();
+        int[] offsets = new int[levels + 1];
+        for (Creature creature : creatures) {
+            if (isHungry(creature)) {
+                offsets[urgency(creature) + 1]++;
+            }
+        }
+        for (int i = 1; i <= levels; i++) {
+            offsets[i] += offsets[i - 1];
+        }
+        Creature[] queue = new Creature[offsets[levels]];
+        for (Creature creature : creatures) {
+            if (isHungry(creature)) {
+                queue[offsets[urgency(creature)]++] = creature;
+            }
+        }
+        return queue;
+    }
+
+    private static boolean isHungry(Creature creature) {
+        return creature.getHunger() < Hunger.MAX.getValue() && !creature.isSleeping() && creature.getAge() != Age.DEAD;
+    }
+
+    private static int urgency(Creature creature) {
+        return Math.max(0, creature.getHunger());
+    }
+}
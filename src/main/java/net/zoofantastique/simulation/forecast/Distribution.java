@@ -0,0 +1,45 @@
+package net.zoofantastique.simulation.forecast;
+
+import java.util.Arrays;
+
+/**
+ * Record Distribution, la répartition d'une grandeur sur l'ensemble des futurs simulés.
+ *
+ * @param mean La moyenne.
+ * @param p5   Le 5e centile : 95 % des futurs font au moins autant.
+ * @param p50  La médiane.
+ * @param p95  Le 95e centile : 5 % des futurs font plus.
+ * @param min  Le plus petit résultat.
+ * @param max  Le plus grand résultat.
+ */
+public record Distribution(double mean, long p5, long p50, long p95, long min, long max) {
+
+    /**
+     * Calcule la répartition des résultats des futurs.
+     *
+     * @param values Un résultat par futur ; le tableau est trié sur place.
+     * @return La répartition.
+     */
+    static Distribution of(long[] values) {
+        if (values.length == 0) {
+            return new Distribution(0, 0, 0, 0, 0, 0);
+        }
+        Arrays.sort(values);
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return new Distribution((double) sum / values.length, percentile(values, 5), percentile(values, 50),
+                percentile(values, 95), values[0], values[values.length - 1]);
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank))];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("moy=%.1f p5=%d p50=%d p95=%d (min=%d max=%d)", mean, p5, p50, p95, min, max);
+    }
+}
@@ -0,0 +1,26 @@
+package net.zoofantastique.simulation.forecast;
+
+/**
+ * Record EnclosureForecast, l'avenir d'un enclos sur l'ensemble des futurs simulés.
+ *
+ * @param name            Le nom de l'enclos.
+ * @param capacity        Le nombre maximal de créatures de l'enclos.
+ * @param meanPopulation  La population moyenne à l'horizon.
+ * @param meanDeaths      Le nombre moyen de morts, toutes causes confondues.
+ * @param meanBirths      Le nombre moyen de naissances.
+ * @param starvationRisk  La part des futurs où au moins une créature de l'enclos meurt de faim.
+ * @param meanStarved     Le nombre moyen de créatures mortes de faim.
+ * @param meanOverflow    Le nombre moyen de nouveau-nés refusés faute de place.
+ * @param fullProbability La part des futurs où l'enclos est plein à l'horizon.
+ */
+public record EnclosureForecast(String name, int capacity, double meanPopulation, double meanDeaths, double meanBirths,
+                                double starvationRisk, double meanStarved, double meanOverflow, double fullProbability) {
+
+    @Override
+    public String toString() {
+        return String.format("%s : %.1f/%d créatures, %.1f morts, %.1f naissances, risque de famine %.0f %% (%.1f), "
+                        + "%.1f bébés sans place, plein dans %.0f %% des futurs",
+                name, meanPopulation, capacity, meanDeaths, meanBirths, starvationRisk * 100, meanStarved,
+                meanOverflow, fullProbability * 100);
+    }
+}
@@ -0,0 +1,39 @@
+package net.zoofantastique.simulation.forecast;
+
+import java.util.List;
+
+/**
+ * Record Forecast, la prévision de l'avenir du zoo tirée de nombreux futurs simulés.
+ *
+ * @param replicas     Le nombre de futurs simulés.
+ * @param days         L'horizon, en jours de simulation.
+ * @param care         true si les futurs supposent que les créatures sont soignées et nourries.
+ * @param deaths       La répartition du nombre de morts dans le zoo.
+ * @param births       La répartition du nombre de naissances.
+ * @param starved      La répartition du nombre de créatures mortes de faim.
+ * @param overflow     La répartition du nombre de nouveau-nés refusés faute de place.
+ * @param population   La répartition de la population à l'horizon.
+ * @param enclosures   L'avenir de chaque enclos.
+ * @param elapsedNanos La durée du calcul.
+ */
+public record Forecast(int replicas, int days, boolean care, Distribution deaths, Distribution births,
+                       Distribution starved, Distribution overflow, Distribution population,
+                       List<EnclosureForecast> enclosures, long elapsedNanos) {
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder()
+                .append("Prévision à ").append(days).append(" jours sur ").append(replicas).append(" futurs")
+                .append(care ? " (créatures soignées et nourries tant que le stock le permet)" : " (sans aucun soin)")
+                .append(String.format(", calculée en %.1f ms%n", elapsedNanos / 1e6))
+                .append("Population : ").append(population).append('\n')
+                .append("Morts : ").append(deaths).append('\n')
+                .append("  dont de faim : ").append(starved).append('\n')
+                .append("Naissances : ").append(births).append('\n')
+                .append("Bébés sans place : ").append(overflow).append('\n');
+        for (EnclosureForecast enclosure : enclosures) {
+            sb.append("  ").append(enclosure).append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,205 @@
+package net.zoofantastique.simulation.forecast;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Classe Forecaster, prévoit l'avenir du zoo par la méthode de Monte-Carlo : à partir d'une photographie
+ * ({@link ZooSnapshot}), de nombreux futurs indépendants ({@link Replica}) sont joués en parallèle sur le
+ * ForkJoinPool commun, chacun avec son propre flux de tirages, puis leurs résultats sont réunis en répartitions.
+ * Le flux de chaque futur est tiré d'avance d'une graine unique : une même graine donne la même prévision,
+ * quel que soit le nombre de threads. Seuls quelques futurs existent à la fois (un par tâche en cours) et
+ * chacun ne rend que ses compteurs, si bien que mille futurs d'un grand zoo tiennent en mémoire.
+ */
+public final class Forecaster {
+    public static final int DEFAULT_DAYS = 30;
+    public static final int DEFAULT_REPLICAS = 200;
+    private static final int REPLICAS_PER_TASK = 4; // futurs joués d'affilée par une tâche avant de la découper
+
+    private Forecaster() {
+    }
+
+    // Méthodes
+
+    /**
+     * Prévoit l'avenir du zoo en supposant que ses créatures sont soignées et nourries.
+     *
+     * @param snapshot La photographie du zoo.
+     * @param replicas Le nombre de futurs à simuler.
+     * @param days     L'horizon, en jours de simulation.
+     * @param seed     La graine des tirages.
+     * @return La prévision.
+     */
+    public static Forecast forecast(ZooSnapshot snapshot, int replicas, int days, long seed) {
+        return forecast(snapshot, replicas, days, true, seed);
+    }
+
+    /**
+     * Prévoit l'avenir du zoo.
+     *
+     * @param snapshot La photographie du zoo.
+     * @param replicas Le nombre de futurs à simuler (au moins 1).
+     * @param days     L'horizon, en jours de simulation.
+     * @param care     true si les malades de la photographie sont guéris et les affamés nourris tant que
+     *                 le stock le permet, false si le zoo est laissé à lui-même.
+     * @param seed     La graine des tirages.
+     * @return La prévision.
+     */
+    public static Forecast forecast(ZooSnapshot snapshot, int replicas, int days, boolean care, long seed) {
+        long start = System.nanoTime();
+        int n = Math.max(1, replicas);
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] streams = new SplittableRandom[n];
+        for (int r = 0; r < n; r++) {
+            streams[r] = root.split();
+        }
+        Totals totals = new Totals(n);
+        Tally tally = ForkJoinPool.commonPool().invoke(new Run(snapshot, streams, Math.max(0, days), care, totals, 0, n));
+        List<EnclosureForecast> enclosures = new ArrayList<>(snapshot.getEnclosureCount());
+        for (int e = 0; e < snapshot.getEnclosureCount(); e++) {
+            enclosures.add(new EnclosureForecast(snapshot.enclosureNames[e], snapshot.capacity[e],
+                    (double) tally.population[e] / n, (double) tally.deaths[e] / n, (double) tally.born[e] / n,
+                    (double) tally.starvedRuns[e] / n, (double) tally.starved[e] / n, (double) tally.overflow[e] / n,
+                    (double) tally.fullRuns[e] / n));
+        }
+        return new Forecast(n, Math.max(0, days), care, Distribution.of(totals.deaths), Distribution.of(totals.births),
+                Distribution.of(totals.starved), Distribution.of(totals.overflow), Distribution.of(totals.population),
+                List.copyOf(enclosures), System.nanoTime() - start);
+    }
+
+    /**
+     * Les résultats de chaque futur pour tout le zoo, une case par futur : chaque tâche n'écrit que dans les siennes.
+     */
+    private static final class Totals {
+        final long[] deaths;
+        final long[] births;
+        final long[] starved;
+        final long[] overflow;
+        final long[] population;
+
+        Totals(int replicas) {
+            deaths = new long[replicas];
+            births = new long[replicas];
+            starved = new long[replicas];
+            overflow = new long[replicas];
+            population = new long[replicas];
+        }
+    }
+
+    /**
+     * Les résultats cumulés par enclos d'un groupe de futurs.
+     */
+    private static final class Tally {
+        final long[] population;
+        final long[] deaths;
+        final long[] born;
+        final long[] starved;
+        final long[] overflow;
+        final long[] starvedRuns; // futurs où au moins une créature de l'enclos meurt de faim
+        final long[] fullRuns; // futurs où l'enclos est plein à l'horizon
+
+        Tally(int enclosures) {
+            population = new long[enclosures];
+            deaths = new long[enclosures];
+            born = new long[enclosures];
+            starved = new long[enclosures];
+            overflow = new long[enclosures];
+            starvedRuns = new long[enclosures];
+            fullRuns = new long[enclosures];
+        }
+
+        void add(Replica replica, ZooSnapshot snapshot) {
+            for (int e = 0; e < population.length; e++) {
+                int live = replica.getLive(e);
+                population[e] += live;
+                deaths[e] += replica.starved[e] + replica.diedSick[e] + replica.diedOld[e];
+                born[e] += replica.born[e];
+                starved[e] += replica.starved[e];
+                overflow[e] += replica.overflow[e];
+                if (replica.starved[e] > 0) {
+                    starvedRuns[e]++;
+                }
+                if (live >= snapshot.capacity[e]) {
+                    fullRuns[e]++;
+                }
+            }
+        }
+
+        Tally merge(Tally other) {
+            for (int e = 0; e < population.length; e++) {
+                population[e] += other.population[e];
+                deaths[e] += other.deaths[e];
+                born[e] += other.born[e];
+                starved[e] += other.starved[e];
+                overflow[e] += other.overflow[e];
+                starvedRuns[e] += other.starvedRuns[e];
+                fullRuns[e] += other.fullRuns[e];
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Joue les futurs d'indices [from, to) : découpe le groupe en deux tant qu'il est trop grand.
+     */
+    private static final class Run extends RecursiveTask<Tally> {
+        private static final long serialVersionUID = 1L;
+
+        // Une tâche n'est jamais sérialisée : ses données partagées ne le sont pas non plus
+        private final transient ZooSnapshot snapshot;
+        private final transient SplittableRandom[] streams;
+        private final int days;
+        private final boolean care;
+        private final transient Totals totals;
+        private final int from;
+        private final int to;
+
+        Run(ZooSnapshot snapshot, SplittableRandom[] streams, int days, boolean care, Totals totals, int from, int to) {
+            this.snapshot = snapshot;
+            this.streams = streams;
+            this.days = days;
+            this.care = care;
+            this.totals = totals;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from > REPLICAS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                Run left = new Run(snapshot, streams, days, care, totals, from, middle);
+                left.fork();
+                Tally right = new Run(snapshot, streams, days, care, totals, middle, to).compute();
+                return right.merge(left.join());
+            }
+            Tally tally = new Tally(snapshot.getEnclosureCount());
+            for (int r = from; r < to; r++) {
+                Replica replica = new Replica(snapshot, streams[r], care);
+                replica.run(days);
+                tally.add(replica, snapshot);
+                long deaths = 0;
+                long births = 0;
+                long starved = 0;
+                long overflow = 0;
+                long population = 0;
+                for (int e = 0; e < snapshot.getEnclosureCount(); e++) {
+                    deaths += replica.starved[e] + replica.diedSick[e] + replica.diedOld[e];
+                    births += replica.born[e];
+                    starved += replica.starved[e];
+                    overflow += replica.overflow[e];
+                    population += replica.getLive(e);
+                }
+                totals.deaths[r] = deaths;
+                totals.births[r] = births;
+                totals.starved[r] = starved;
+                totals.overflow[r] = overflow;
+                totals.population[r] = population;
+            }
+            return tally;
+        }
+    }
+}
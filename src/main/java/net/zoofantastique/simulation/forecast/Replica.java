@@ -0,0 +1,300 @@
+package net.zoofantastique.simulation.forecast;
+
+import net.zoofantastique.controller.consumable.food.FoodCatalog;
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Hunger;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.simulation.Simulation;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Classe Replica, un futur possible du zoo, joué en accéléré à partir d'une photographie et de son propre flux
+ * de tirages. Les règles sont celles de la simulation, jour par jour :
+ * <ul>
+ *     <li>la faim baisse d'un point par période de faim et la créature meurt de faim à 0 ; avec les soins,
+ *     une créature au niveau moyen mange une portion tant que le stock de son régime le permet ;</li>
+ *     <li>à chaque tirage de santé, une créature malade meurt, les autres tombent malades (et en meurent)
+ *     avec la même probabilité que dans le jeu ; avec les soins, les malades de la photographie sont guéris ;</li>
+ *     <li>chaque période d'âge fait vieillir la créature, jusqu'à la mort ;</li>
+ *     <li>une créature qui renaît (Dragon, Phoenix) ne meurt jamais : elle redevient un bébé rassasié,
+ *     et n'est comptée ni parmi les morts ni parmi les naissances ;</li>
+ *     <li>les grossesses arrivent à terme en fin de jour, s'il reste de la place dans l'enclos de la mère,
+ *     et chaque saison des amours associe les femelles et les mâles éligibles de chaque enclos.</li>
+ * </ul>
+ * Le sommeil, les transferts et la péremption des lots ne sont pas simulés.
+ */
+final class Replica {
+    private static final byte DEAD = (byte) Age.DEAD.ordinal();
+    private static final byte BABY = (byte) Age.BABY.ordinal();
+    private static final int FEED_LIMIT = Hunger.MEDIUM.getValue(); // faim à laquelle une créature soignée mange
+    private static final int PORTION = FoodCatalog.BEEFSTEAK.getFood().getValue(); // toutes les portions se valent
+
+    // Attributs
+    private final ZooSnapshot snapshot;
+    private final SplittableRandom random;
+    private final boolean care;
+    private int size;
+    private byte[] hunger;
+    private byte[] age;
+    private byte[] flags;
+    private int[] term;
+    private int[] bornEnclosure = new int[0]; // enclos des nouveau-nés (créatures d'indice size0 et plus)
+    private long[] bornAt = new long[0]; // seconde de naissance des nouveau-nés
+    private int[] pending = new int[16]; // mères dont le terme est fixé
+    private int nbPending;
+    private final long[] stock;
+    private final int[] live; // créatures vivantes par enclos
+    private long elapsed; // secondes écoulées depuis la photographie
+    private long day;
+
+    // Résultats par enclos
+    final int[] starved;
+    final int[] diedSick;
+    final int[] diedOld;
+    final int[] born;
+    final int[] overflow; // nouveau-nés refusés faute de place
+
+    // Constructeur
+    Replica(ZooSnapshot snapshot, SplittableRandom random, boolean care) {
+        this.snapshot = snapshot;
+        this.random = random;
+        this.care = care;
+        this.size = snapshot.size;
+        this.hunger = snapshot.hunger.clone();
+        this.age = snapshot.age.clone();
+        this.flags = snapshot.flags.clone();
+        this.term = snapshot.term.clone();
+        this.stock = snapshot.stock.clone();
+        this.day = snapshot.day;
+        int enclosures = snapshot.getEnclosureCount();
+        this.live = new int[enclosures];
+        this.starved = new int[enclosures];
+        this.diedSick = new int[enclosures];
+        this.diedOld = new int[enclosures];
+        this.born = new int[enclosures];
+        this.overflow = new int[enclosures];
+        for (int c = 0; c < size; c++) {
+            if (age[c] != DEAD) {
+                live[snapshot.enclosure[c]]++;
+                if (care) {
+                    flags[c] &= ~ZooSnapshot.SICK;
+                }
+                if (term[c] >= 0) {
+                    addPending(c);
+                }
+            }
+        }
+    }
+
+    // Méthodes
+
+    /**
+     * Joue les jours à venir.
+     *
+     * @param days Le nombre de jours.
+     */
+    void run(int days) {
+        for (int d = 0; d < days; d++) {
+            long from = elapsed;
+            long to = elapsed + Simulation.DAY_SECONDS;
+            for (int c = 0; c < size; c++) {
+                if (age[c] != DEAD) {
+                    live(c, from, to);
+                }
+            }
+            elapsed = to;
+            day++;
+            deliver();
+            if (day % Simulation.BREEDING_SEASON_INTERVAL == 0) {
+                breed();
+            }
+        }
+    }
+
+    /**
+     * Une journée de la créature, sur son horloge de from (exclue) à to (inclue) secondes après la photographie.
+     */
+    private void live(int c, long from, long to) {
+        long start = clockOf(c);
+        int enclosure = enclosureOf(c);
+        long hungerTicks = ticks(start + from, start + to, dimHungerOf(c));
+        for (long t = 0; t < hungerTicks; t++) {
+            hunger[c]--;
+            if (hunger[c] <= 0) {
+                if (!survives(c, enclosure, starved)) {
+                    return;
+                }
+            } else if (care && hunger[c] <= FEED_LIMIT) {
+                feed(c, enclosure);
+            }
+        }
+        long checks = ticks(start + from, start + to, Creature.HEALTH_PERIOD);
+        for (long t = 0; t < checks; t++) {
+            boolean fallsSick = random.nextInt(100) < Creature.SICKNESS_PERCENT;
+            if ((flags[c] & ZooSnapshot.SICK) != 0 || fallsSick) {
+                if (!survives(c, enclosure, diedSick)) {
+                    return;
+                }
+                // comme dans le jeu, la créature renaît malade si le tirage l'a rendue malade ; soignée, elle guérit
+                flags[c] = (byte) (fallsSick && !care ? flags[c] | ZooSnapshot.SICK : flags[c] & ~ZooSnapshot.SICK);
+            }
+        }
+        long birthdays = ticks(start + from, start + to, ageScaleOf(c));
+        for (long t = 0; t < birthdays; t++) {
+            age[c]++;
+            if (age[c] == DEAD && !survives(c, enclosure, diedOld)) {
+                return;
+            }
+        }
+    }
+
+    private void feed(int c, int enclosure) {
+        for (byte item : snapshot.diets[enclosure]) {
+            if (stock[item] > 0) {
+                stock[item]--;
+                hunger[c] = (byte) (hunger[c] + PORTION);
+                return;
+            }
+        }
+    }
+
+    /**
+     * La créature devrait mourir : elle renaît en bébé rassasié si son espèce renaît, sinon elle meurt de la cause donnée.
+     *
+     * @return true si la créature est toujours en vie.
+     */
+    private boolean survives(int c, int enclosure, int[] cause) {
+        if (snapshot.reborn[enclosure]) {
+            age[c] = BABY;
+            hunger[c] = (byte) Hunger.MAX.getValue();
+            return true;
+        }
+        age[c] = DEAD;
+        live[enclosure]--;
+        cause[enclosure]++;
+        return false;
+    }
+
+    /**
+     * Fait naître les bébés arrivés à terme, s'il reste de la place dans l'enclos de leur mère.
+     */
+    private void deliver() {
+        int kept = 0;
+        for (int p = 0; p < nbPending; p++) {
+            int mother = pending[p];
+            if (term[mother] > day) {
+                pending[kept++] = mother;
+                continue;
+            }
+            term[mother] = -1;
+            flags[mother] &= ~ZooSnapshot.PREGNANT;
+            if (age[mother] == DEAD) {
+                continue;
+            }
+            int enclosure = enclosureOf(mother);
+            if (live[enclosure] >= snapshot.capacity[enclosure]) {
+                overflow[enclosure]++;
+            } else {
+                addBaby(enclosure);
+            }
+        }
+        nbPending = kept;
+    }
+
+    /**
+     * Saison des amours : dans chaque enclos, les premières femelles éligibles sont fécondées, autant qu'il y a de mâles.
+     */
+    private void breed() {
+        int enclosures = snapshot.getEnclosureCount();
+        int[] males = new int[enclosures];
+        for (int c = 0; c < size; c++) {
+            if (isEligible(c) && (flags[c] & ZooSnapshot.FEMALE) == 0) {
+                males[enclosureOf(c)]++;
+            }
+        }
+        int end = size; // les bébés nés pendant la saison n'y participent pas
+        for (int c = 0; c < end; c++) {
+            int enclosure = enclosureOf(c);
+            if (males[enclosure] > 0 && isEligible(c) && (flags[c] & ZooSnapshot.FEMALE) != 0) {
+                males[enclosure]--;
+                flags[c] |= ZooSnapshot.PREGNANT;
+                term[c] = (int) day + snapshot.speciesTerm[enclosure];
+                addPending(c);
+            }
+        }
+    }
+
+    private boolean isEligible(int c) {
+        return age[c] != DEAD && age[c] != BABY && (flags[c] & ZooSnapshot.PREGNANT) == 0;
+    }
+
+    private void addPending(int mother) {
+        if (nbPending == pending.length) {
+            pending = Arrays.copyOf(pending, nbPending * 2);
+        }
+        pending[nbPending++] = mother;
+    }
+
+    private void addBaby(int enclosure) {
+        if (size == hunger.length) {
+            int capacity = Math.max(16, size + (size >> 1));
+            hunger = Arrays.copyOf(hunger, capacity);
+            age = Arrays.copyOf(age, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+            term = Arrays.copyOf(term, capacity);
+        }
+        int baby = size - snapshot.size;
+        if (baby == bornEnclosure.length) {
+            bornEnclosure = Arrays.copyOf(bornEnclosure, Math.max(16, baby * 2));
+            bornAt = Arrays.copyOf(bornAt, Math.max(16, baby * 2));
+        }
+        bornEnclosure[baby] = enclosure;
+        bornAt[baby] = elapsed;
+        hunger[size] = (byte) Hunger.MAX.getValue();
+        age[size] = BABY;
+        flags[size] = random.nextBoolean() ? ZooSnapshot.FEMALE : 0;
+        term[size] = -1;
+        size++;
+        live[enclosure]++;
+        born[enclosure]++;
+    }
+
+    /**
+     * Le nombre de secondes s de ]from, to] telles que s % period == period - 1 : les échéances d'une minuterie
+     * de l'horloge partagée (voir Creature.onClockSecond()).
+     */
+    static long ticks(long from, long to, int period) {
+        return Math.floorDiv(to + 1, period) - Math.floorDiv(from + 1, period);
+    }
+
+    /**
+     * Les secondes de l'horloge de la créature au moment de la photographie (négatives pour un nouveau-né).
+     */
+    private long clockOf(int c) {
+        return c < snapshot.size ? snapshot.clock[c] : -bornAt[c - snapshot.size];
+    }
+
+    private int enclosureOf(int c) {
+        return c < snapshot.size ? snapshot.enclosure[c] : bornEnclosure[c - snapshot.size];
+    }
+
+    private int dimHungerOf(int c) {
+        return c < snapshot.size ? snapshot.dimHunger[c] : snapshot.speciesDimHunger[enclosureOf(c)];
+    }
+
+    private int ageScaleOf(int c) {
+        return c < snapshot.size ? snapshot.ageScale[c] : snapshot.speciesAgeScale[enclosureOf(c)];
+    }
+
+    // Getter et setter
+
+    int getLive(int enclosure) {
+        return live[enclosure];
+    }
+
+    int getSize() {
+        return size;
+    }
+}
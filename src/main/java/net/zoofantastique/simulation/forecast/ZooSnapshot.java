@@ -0,0 +1,165 @@
+package net.zoofantastique.simulation.forecast;
+
+import net.zoofantastique.controller.consumable.food.FoodCatalog;
+import net.zoofantastique.controller.consumable.stock.FoodInventory;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.behavior.Rebirth;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.oviparous.Oviparous;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Viviparous;
+import net.zoofantastique.controller.zoo.Zoo;
+import net.zoofantastique.simulation.BirthPipeline;
+import net.zoofantastique.simulation.feeding.FeedingPlanner;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Classe ZooSnapshot, l'état du zoo réduit à ce qui décide de son avenir, rangé en tableaux de primitifs,
+ * une case par créature : quelques dizaines d'octets par créature au lieu d'un objet et de ses minuteries.
+ * Les tableaux de l'état initial ne sont jamais modifiés : chaque futur simulé ({@link Replica}) copie
+ * les quatre qui changent (faim, âge, indicateurs, terme) et lit les autres en partage.
+ */
+public final class ZooSnapshot {
+    static final byte FEMALE = 1;
+    static final byte SICK = 2;
+    static final byte PREGNANT = 4;
+
+    // Attributs
+
+    // Par enclos
+    final String[] enclosureNames;
+    final int[] capacity;
+    final byte[][] diets; // nourritures de l'espèce de l'enclos, de la plus adaptée à la moins adaptée ; vide si l'enclos est vide
+    final int[] speciesAgeScale; // échelles de temps de l'espèce de l'enclos, pour ses nouveau-nés
+    final int[] speciesDimHunger;
+    final int[] speciesTerm; // durée de gestation ou d'incubation de l'espèce de l'enclos, en jours
+    final boolean[] reborn; // l'espèce de l'enclos renaît en bébé au lieu de mourir (Dragon, Phoenix)
+
+    // Par créature, partagés par tous les futurs
+    final int size;
+    final int[] enclosure;
+    final int[] ageScale;
+    final int[] dimHunger;
+    final long[] clock; // secondes déjà écoulées sur l'horloge de la créature
+
+    // Par créature, copiés par chaque futur
+    final byte[] hunger;
+    final byte[] age;
+    final byte[] flags;
+    final int[] term; // jour du terme d'une grossesse suivie par le pipeline des naissances, -1 sinon
+
+    final long day;
+    final long[] stock; // nourriture disponible, par entrée du catalogue
+
+    // Constructeur
+    private ZooSnapshot(List<Enclosure<? super Creature>> enclosures, Map<Creature, Long> terms, long day, long[] stock) {
+        int e = enclosures.size();
+        this.enclosureNames = new String[e];
+        this.capacity = new int[e];
+        this.diets = new byte[e][];
+        this.speciesAgeScale = new int[e];
+        this.speciesDimHunger = new int[e];
+        this.speciesTerm = new int[e];
+        this.reborn = new boolean[e];
+        List<Object[]> residents = new ArrayList<>(e);
+        int total = 0;
+        for (int i = 0; i < e; i++) {
+            Enclosure<?> enclosure = enclosures.get(i);
+            Object[] creatures = enclosure.getListCreature().toArray();
+            residents.add(creatures);
+            total += creatures.length;
+            enclosureNames[i] = enclosure.getName();
+            capacity[i] = enclosure.getMax();
+            diets[i] = new byte[0];
+            if (creatures.length > 0) {
+                Creature first = (Creature) creatures[0];
+                List<FoodCatalog> diet = FeedingPlanner.dietOf(first);
+                diets[i] = new byte[diet.size()];
+                for (int d = 0; d < diet.size(); d++) {
+                    diets[i][d] = (byte) diet.get(d).ordinal();
+                }
+                speciesAgeScale[i] = first.getAgeScale();
+                speciesDimHunger[i] = first.getDimHunger();
+                speciesTerm[i] = first instanceof Viviparous ? Viviparous.gestationDuration : Oviparous.incubationDuration;
+                reborn[i] = first instanceof Rebirth;
+            }
+        }
+        this.size = total;
+        this.enclosure = new int[total];
+        this.ageScale = new int[total];
+        this.dimHunger = new int[total];
+        this.clock = new long[total];
+        this.hunger = new byte[total];
+        this.age = new byte[total];
+        this.flags = new byte[total];
+        this.term = new int[total];
+        int c = 0;
+        for (int i = 0; i < e; i++) {
+            for (Object resident : residents.get(i)) {
+                Creature creature = (Creature) resident;
+                enclosure[c] = i;
+                ageScale[c] = Math.max(1, creature.getAgeScale());
+                dimHunger[c] = Math.max(1, creature.getDimHunger());
+                clock[c] = Math.max(0, creature.getClockSeconds());
+                hunger[c] = (byte) creature.getHunger();
+                age[c] = (byte) creature.getAge().ordinal();
+                flags[c] = (byte) ((creature.getSexe() == Gender.FEMALE ? FEMALE : 0)
+                        | (creature.isSick() ? SICK : 0) | (creature.isPregnant() ? PREGNANT : 0));
+                Long due = terms.get(creature);
+                term[c] = due == null ? -1 : (int) (long) due;
+                c++;
+            }
+        }
+        this.day = day;
+        this.stock = stock;
+    }
+
+    // Méthodes
+
+    /**
+     * Photographie le zoo et les naissances à venir.
+     *
+     * @param zoo    Le zoo.
+     * @param births Le pipeline des naissances de la simulation, null si aucune n'est suivie.
+     * @return La photographie.
+     */
+    public static ZooSnapshot of(Zoo zoo, BirthPipeline births) {
+        Map<Creature, Long> terms = new IdentityHashMap<>();
+        long day = 0;
+        if (births != null) {
+            terms.putAll(births.getTerms());
+            day = births.getDay();
+        }
+        FoodInventory inventory = zoo.getFoodInventory();
+        long[] stock = new long[FoodCatalog.values().length];
+        for (FoodCatalog item : FoodCatalog.values()) {
+            stock[item.ordinal()] = inventory.getAvailable(item);
+        }
+        return new ZooSnapshot(List.copyOf(zoo.getEnclosures()), terms, day, stock);
+    }
+
+    /**
+     * @return La mémoire occupée par l'état copié par chaque futur, en octets.
+     */
+    public long replicaBytes() {
+        return (long) size * (Byte.BYTES * 3 + Integer.BYTES);
+    }
+
+    // Getter et setter
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getEnclosureCount() {
+        return enclosureNames.length;
+    }
+
+    public long getDay() {
+        return day;
+    }
+}
@@ -0,0 +1,331 @@
+package net.zoofantastique.simulation.load;
+
+import net.zoofantastique.controller.consumable.food.FoodCatalog;
+import net.zoofantastique.controller.consumable.stock.FoodInventory;
+import net.zoofantastique.controller.enclosure.composition.AquariumEnclosure;
+import net.zoofantastique.controller.enclosure.composition.AviaryEnclosure;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Flying;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.behavior.Pack;
+import net.zoofantastique.controller.entity.creature.behavior.Swimmer;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.CreatureFactory;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Lycanthrope;
+import net.zoofantastique.controller.entity.zoomaster.ZooMaster;
+import net.zoofantastique.controller.zoo.Zoo;
+import net.zoofantastique.metrics.LatencyHistogram;
+import net.zoofantastique.metrics.MetricsRegistry;
+import net.zoofantastique.simulation.CreatureClock;
+import net.zoofantastique.simulation.feeding.FeedingPlanner;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Classe LoadGenerator, générateur de charge sans interface : construit un grand zoo selon un profil
+ * puis y joue un mélange d'opérations (repas, soins, transferts, maintenances) au débit visé.
+ * Chaque enclos n'accueille qu'une espèce : les nageurs vont en aquarium, les volants en volière, les autres en enclos,
+ * et les dragons, qui savent tout faire, sont répartis entre les trois.
+ * Les latences sont mesurées depuis l'instant où chaque opération aurait dû commencer, pour que le retard
+ * accumulé par une opération lente soit compté dans les suivantes.
+ */
+public class LoadGenerator implements AutoCloseable {
+    private static final double SPARE_CAPACITY = 0.1; // places libres par enclos pour les transferts
+    private static final int HUNGER_DECAY = 3; // faim perdue par une créature avant chaque repas
+
+    // Attributs
+    private final LoadProfile profile; // profil de la charge
+    private final SplittableRandom random; // tirages de la charge, rejouables grâce à la graine
+    private final Map<String, List<Enclosure<Creature>>> enclosuresBySpecies; // enclos de chaque espèce
+    private final List<Enclosure<Creature>> enclosures; // tous les enclos construits
+    private long buildNanos; // durée de la dernière construction
+    private CreatureClock clock; // horloge des créatures quand leurs minuteries restent actives, null sinon
+
+    // Constructeur
+    public LoadGenerator(LoadProfile profile) {
+        this.profile = profile;
+        this.random = new SplittableRandom(profile.seed());
+        this.enclosuresBySpecies = new LinkedHashMap<>();
+        this.enclosures = new ArrayList<>();
+    }
+
+    // Méthodes
+
+    /**
+     * Construit le zoo du profil : enclos répartis entre les espèces selon leur poids, créatures, meutes et stock de nourriture.
+     *
+     * @return Le zoo construit, à fermer par l'appelant.
+     */
+    public Zoo build() {
+        long start = System.nanoTime();
+        Map<String, Integer> weights = profile.speciesWeights();
+        for (String species : weights.keySet()) {
+            if (!CreatureFactory.isKnown(species)) {
+                throw new IllegalArgumentException("Espèce inconnue : " + species);
+            }
+        }
+        if (profile.nbEnclosures() < weights.size()) {
+            throw new IllegalArgumentException("Il faut au moins un enclos par espèce (" + weights.size() + ").");
+        }
+        Zoo zoo = new Zoo("Zoo de charge", new ZooMaster("Générateur", Gender.MALE, Age.ADULT));
+        zoo.setNbMaxEnclosure(profile.nbEnclosures());
+        int[] enclosureCounts = share(profile.nbEnclosures() - weights.size(), weights);
+        int[] creatureCounts = share(profile.nbCreatures(), weights);
+        List<Lycanthrope> lycanthropes = new ArrayList<>();
+        int s = 0;
+        for (String species : weights.keySet()) {
+            int nbEnclosures = enclosureCounts[s] + 1;
+            int nbCreatures = creatureCounts[s];
+            int max = (int) Math.ceil(Math.ceil((double) nbCreatures / nbEnclosures) * (1 + SPARE_CAPACITY)) + 1;
+            List<Enclosure<Creature>> group = new ArrayList<>(nbEnclosures);
+            for (int i = 0; i < nbEnclosures; i++) {
+                Enclosure<Creature> enclosure = newEnclosure(species, species + " " + i, i, max);
+                group.add(enclosure);
+                enclosures.add(enclosure);
+                zoo.addEnclosure(enclosure);
+            }
+            enclosuresBySpecies.put(species, group);
+            List<Creature> batch = CreatureFactory.createBatch(species, species, nbCreatures, random);
+            for (int i = 0, from = 0; i < nbEnclosures; i++) {
+                int to = from + nbCreatures / nbEnclosures + (i < nbCreatures % nbEnclosures ? 1 : 0);
+                group.get(i).addCreatures(batch.subList(from, to));
+                from = to;
+            }
+            for (Creature creature : batch) {
+                if (creature instanceof Lycanthrope lycanthrope) {
+                    lycanthropes.add(lycanthrope);
+                }
+            }
+            if (profile.liveTimers()) {
+                activate(batch);
+            }
+            s++;
+        }
+        seedPacks(zoo, lycanthropes);
+        long[] stock = new long[FoodCatalog.values().length];
+        Arrays.fill(stock, profile.nbOperations());
+        zoo.getFoodInventory().restock(stock);
+        buildNanos = System.nanoTime() - start;
+        return zoo;
+    }
+
+    /**
+     * Active un lot de créatures sur l'horloge du générateur, démarrée à la première activation.
+     */
+    private void activate(List<Creature> batch) {
+        if (clock == null) {
+            clock = new CreatureClock();
+            clock.start();
+        }
+        clock.activate(batch);
+    }
+
+    /**
+     * Arrête l'horloge des créatures, si les minuteries étaient actives.
+     */
+    @Override
+    public void close() {
+        if (clock != null) {
+            clock.close();
+            clock = null;
+        }
+    }
+
+    /**
+     * Répartit un total selon des poids, le reste de la division allant aux premières entrées.
+     */
+    private static int[] share(int total, Map<String, Integer> weights) {
+        int sum = weights.values().stream().mapToInt(Integer::intValue).sum();
+        int[] shares = new int[weights.size()];
+        int given = 0;
+        int i = 0;
+        for (int weight : weights.values()) {
+            shares[i] = sum == 0 ? 0 : (int) ((long) total * weight / sum);
+            given += shares[i++];
+        }
+        for (int j = 0; given < total; j = (j + 1) % shares.length, given++) {
+            shares[j]++;
+        }
+        return shares;
+    }
+
+    private static Enclosure<Creature> newEnclosure(String species, String name, int index, int max) {
+        Class<? extends Creature> type = CreatureFactory.typeOf(species);
+        boolean swimmer = Swimmer.class.isAssignableFrom(type);
+        boolean flying = Flying.class.isAssignableFrom(type);
+        int kind = swimmer && flying ? index % 3 : swimmer ? 2 : flying ? 1 : 0;
+        return switch (kind) {
+            case 1 -> new AviaryEnclosure<>(name, max, 10, max);
+            case 2 -> new AquariumEnclosure<>(name, max, 100, max);
+            default -> new Enclosure<>(name, max, max);
+        };
+    }
+
+    /**
+     * Forme les meutes : les lycanthropes sont répartis en groupes, chaque groupe prend son premier mâle et sa première femelle
+     * comme couple alpha et les autres le rejoignent en combattant.
+     */
+    private void seedPacks(Zoo zoo, List<Lycanthrope> lycanthropes) {
+        if (profile.nbPacks() <= 0 || lycanthropes.isEmpty()) {
+            return;
+        }
+        int packSize = Math.max(2, lycanthropes.size() / profile.nbPacks());
+        for (int from = 0, p = 0; from < lycanthropes.size() && p < profile.nbPacks(); from += packSize, p++) {
+            List<Lycanthrope> group = lycanthropes.subList(from, Math.min(lycanthropes.size(), from + packSize));
+            Lycanthrope male = group.stream().filter(l -> l.getSexe() == Gender.MALE).findFirst().orElse(null);
+            Lycanthrope female = group.stream().filter(l -> l.getSexe() == Gender.FEMALE).findFirst().orElse(null);
+            if (male == null || female == null) {
+                continue;
+            }
+            Pack pack = new Pack("Meute " + p, male, female);
+            for (Lycanthrope lycanthrope : group) {
+                if (lycanthrope != male && lycanthrope != female) {
+                    pack.addLycanthrope(lycanthrope);
+                }
+            }
+            zoo.addPack(pack);
+        }
+    }
+
+    /**
+     * Joue le mélange d'opérations du profil sur un zoo construit par build().
+     *
+     * @param zoo Le zoo construit.
+     * @return Le rapport de la charge.
+     */
+    public LoadReport run(Zoo zoo) {
+        MetricsRegistry registry = new MetricsRegistry();
+        Map<Operation, LatencyHistogram> latencies = new EnumMap<>(Operation.class);
+        int totalWeight = 0;
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, registry.histogram("load." + operation.getLabel()));
+            totalWeight += profile.operationWeights().getOrDefault(operation, 0);
+        }
+        if (totalWeight <= 0) {
+            throw new IllegalArgumentException("Le mélange d'opérations est vide.");
+        }
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        long heapAfterBuild = usedHeap();
+        long period = profile.targetRate() > 0 ? 1_000_000_000L / profile.targetRate() : 0;
+        long start = System.nanoTime();
+        for (long i = 0; i < profile.nbOperations(); i++) {
+            long intended = start + i * period;
+            long now;
+            while ((now = System.nanoTime()) < intended) {
+                LockSupport.parkNanos(intended - now);
+            }
+            Operation operation = pick(totalWeight);
+            play(zoo, operation);
+            latencies.get(operation).recordSince(period > 0 ? intended : now);
+        }
+        long elapsed = System.nanoTime() - start;
+        return new LoadReport(profile, buildNanos, profile.nbOperations(), elapsed, latencies,
+                heapAfterBuild, usedHeap(), threads.getPeakThreadCount());
+    }
+
+    private Operation pick(int totalWeight) {
+        int draw = random.nextInt(totalWeight);
+        for (Operation operation : Operation.values()) {
+            draw -= profile.operationWeights().getOrDefault(operation, 0);
+            if (draw < 0) {
+                return operation;
+            }
+        }
+        return Operation.FEED;
+    }
+
+    private void play(Zoo zoo, Operation operation) {
+        Enclosure<Creature> enclosure = enclosures.get(random.nextInt(enclosures.size()));
+        if (operation == Operation.MAINTENANCE) {
+            enclosure.maintenance();
+            return;
+        }
+        List<Creature> residents = enclosure.getListCreature();
+        if (residents.isEmpty()) {
+            return;
+        }
+        Creature creature = residents.get(random.nextInt(residents.size()));
+        switch (operation) {
+            case FEED -> feed(zoo.getFoodInventory(), creature);
+            case HEAL -> {
+                creature.setSick(true);
+                creature.heal();
+            }
+            case TRANSFER -> transfer(enclosure, creature);
+            default -> {
+            }
+        }
+    }
+
+    private static void feed(FoodInventory inventory, Creature creature) {
+        creature.setHunger(Math.max(1, creature.getHunger() - HUNGER_DECAY));
+        for (FoodCatalog item : FeedingPlanner.dietOf(creature, inventory)) {
+            if (inventory.reserve(item, 1)) {
+                if (creature.feed(item.getFood())) {
+                    inventory.consume(item, 1);
+                } else {
+                    inventory.release(item, 1);
+                }
+                return;
+            }
+        }
+    }
+
+    private void transfer(Enclosure<Creature> source, Creature creature) {
+        List<Enclosure<Creature>> group = enclosuresBySpecies.get(creature.getClass().getSimpleName());
+        if (group == null || group.size() < 2) {
+            return;
+        }
+        Enclosure<Creature> destination = group.get(random.nextInt(group.size()));
+        if (destination == source || destination.getNbCreature() >= destination.getMax()) {
+            return;
+        }
+        destination.addCreature(creature);
+        if (creature.getEnclosure() == destination) {
+            source.removeCreature(creature);
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Construit le zoo, joue la charge, affiche le rapport puis ferme le zoo et le générateur.
+     * Les messages de la console sont coupés pendant la charge, sauf avec verbose=true.
+     *
+     * @param args Les options du profil, voir LoadProfile.parse().
+     */
+    public static void main(String[] args) {
+        LoadProfile profile = LoadProfile.parse(args);
+        PrintStream out = System.out;
+        PrintStream err = System.err;
+        if (!profile.verbose()) {
+            PrintStream silent = new PrintStream(OutputStream.nullOutputStream());
+            System.setOut(silent);
+            System.setErr(silent);
+        }
+        LoadReport report;
+        try (LoadGenerator generator = new LoadGenerator(profile); Zoo zoo = generator.build()) {
+            report = generator.run(zoo);
+        } finally {
+            System.setOut(out);
+            System.setErr(err);
+        }
+        System.out.println(report);
+    }
+}
@@ -0,0 +1,108 @@
+package net.zoofantastique.simulation.load;
+
+import net.zoofantastique.controller.entity.creature.composition.CreatureFactory;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Profil d'une charge synthétique : taille du zoo, répartition des espèces, meutes et mélange d'opérations.
+ *
+ * @param nbEnclosures     Le nombre d'enclos, au moins un par espèce.
+ * @param nbCreatures      Le nombre de créatures.
+ * @param speciesWeights   Le poids de chaque espèce, par nom simple de classe (Unicorn, Dragon, ...).
+ * @param nbPacks          Le nombre de meutes formées avec les lycanthropes.
+ * @param operationWeights Le poids de chaque opération dans le mélange.
+ * @param targetRate       Le débit visé en opérations par seconde, 0 pour aller aussi vite que possible.
+ * @param nbOperations     Le nombre d'opérations à jouer.
+ * @param seed             La graine du générateur aléatoire, pour rejouer une charge à l'identique.
+ * @param liveTimers       true pour garder les minuteries des créatures actives pendant la charge.
+ * @param verbose          true pour laisser passer les messages de la console pendant la charge.
+ */
+public record LoadProfile(int nbEnclosures, int nbCreatures, Map<String, Integer> speciesWeights, int nbPacks,
+                          Map<Operation, Integer> operationWeights, int targetRate, int nbOperations, long seed,
+                          boolean liveTimers, boolean verbose) {
+
+    /**
+     * Petit zoo, pour vérifier rapidement un changement.
+     */
+    public static LoadProfile small() {
+        return new LoadProfile(16, 1_000, evenSpecies(), 4, defaultMix(), 2_000, 5_000, 42, false, false);
+    }
+
+    /**
+     * Zoo à l'échelle de la production.
+     */
+    public static LoadProfile production() {
+        return new LoadProfile(200, 100_000, evenSpecies(), 50, defaultMix(), 20_000, 200_000, 42, false, false);
+    }
+
+    /**
+     * Construit un profil à partir d'arguments de la forme clé=valeur, appliqués au profil small() ou production()
+     * (profile=production). Clés : enclosures, creatures, species (Unicorn:5,Dragon:1), packs,
+     * mix (feed:60,heal:10,transfer:20,maintenance:10), rate, operations, seed, timers, verbose.
+     *
+     * @param args Les arguments.
+     * @return Le profil.
+     */
+    public static LoadProfile parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (equals < 0) {
+                throw new IllegalArgumentException("Argument invalide, clé=valeur attendu : " + arg);
+            }
+            options.put(arg.substring(0, equals), arg.substring(equals + 1));
+        }
+        LoadProfile base = "production".equals(options.get("profile")) ? production() : small();
+        Map<String, Integer> species = base.speciesWeights();
+        if (options.containsKey("species")) {
+            species = weights(options.get("species"));
+        }
+        Map<Operation, Integer> mix = base.operationWeights();
+        if (options.containsKey("mix")) {
+            mix = new EnumMap<>(Operation.class);
+            for (Map.Entry<String, Integer> entry : weights(options.get("mix")).entrySet()) {
+                mix.put(Operation.valueOf(entry.getKey().toUpperCase()), entry.getValue());
+            }
+        }
+        return new LoadProfile(
+                Integer.parseInt(options.getOrDefault("enclosures", String.valueOf(base.nbEnclosures()))),
+                Integer.parseInt(options.getOrDefault("creatures", String.valueOf(base.nbCreatures()))),
+                species,
+                Integer.parseInt(options.getOrDefault("packs", String.valueOf(base.nbPacks()))),
+                mix,
+                Integer.parseInt(options.getOrDefault("rate", String.valueOf(base.targetRate()))),
+                Integer.parseInt(options.getOrDefault("operations", String.valueOf(base.nbOperations()))),
+                Long.parseLong(options.getOrDefault("seed", String.valueOf(base.seed()))),
+                Boolean.parseBoolean(options.getOrDefault("timers", String.valueOf(base.liveTimers()))),
+                Boolean.parseBoolean(options.getOrDefault("verbose", String.valueOf(base.verbose()))));
+    }
+
+    private static Map<String, Integer> weights(String list) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String item : list.split(",")) {
+            String[] parts = item.split(":");
+            weights.put(parts[0].trim(), parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1);
+        }
+        return weights;
+    }
+
+    private static Map<String, Integer> evenSpecies() {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String species : CreatureFactory.getSpeciesNames()) {
+            weights.put(species, 1);
+        }
+        return weights;
+    }
+
+    private static Map<Operation, Integer> defaultMix() {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        mix.put(Operation.FEED, 60);
+        mix.put(Operation.HEAL, 10);
+        mix.put(Operation.TRANSFER, 20);
+        mix.put(Operation.MAINTENANCE, 10);
+        return mix;
+    }
+}
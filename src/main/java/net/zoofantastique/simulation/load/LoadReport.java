@@ -0,0 +1,50 @@
+package net.zoofantastique.simulation.load;
+
+import net.zoofantastique.metrics.LatencyHistogram;
+
+import java.util.Map;
+
+/**
+ * Rapport d'une charge synthétique : débit atteint, latences par opération et mémoire.
+ *
+ * @param profile        Le profil joué.
+ * @param buildNanos     La durée de construction du zoo.
+ * @param operations     Le nombre d'opérations jouées.
+ * @param elapsedNanos   La durée de la charge.
+ * @param latencies      L'histogramme des latences de chaque opération, mesurées depuis leur instant prévu.
+ * @param heapAfterBuild La mémoire utilisée après la construction du zoo, en octets.
+ * @param heapAfterRun   La mémoire utilisée après la charge, en octets.
+ * @param peakThreads    Le plus grand nombre de threads vivants observé.
+ */
+public record LoadReport(LoadProfile profile, long buildNanos, long operations, long elapsedNanos,
+                         Map<Operation, LatencyHistogram> latencies, long heapAfterBuild, long heapAfterRun,
+                         int peakThreads) {
+
+    /**
+     * Retourne le débit atteint.
+     *
+     * @return Le nombre d'opérations par seconde.
+     */
+    public double throughput() {
+        return elapsedNanos == 0 ? 0 : operations * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Cette méthode est utilisée pour obtenir une représentation sous forme de chaîne du rapport.
+     *
+     * @return Une représentation sous forme de chaîne du rapport.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("<-/ Rapport de charge \\->\n");
+        sb.append(String.format("Zoo: %d enclos, %d créatures, %d meutes, construit en %.1f ms%n",
+                profile.nbEnclosures(), profile.nbCreatures(), profile.nbPacks(), buildNanos / 1e6));
+        sb.append(String.format("Opérations: %d en %.2f s, %.0f op/s (visé: %s)%n", operations, elapsedNanos / 1e9,
+                throughput(), profile.targetRate() > 0 ? profile.targetRate() + " op/s" : "maximum"));
+        latencies.values().forEach(histogram -> sb.append(histogram).append("\n"));
+        sb.append(String.format("Mémoire: %.1f Mo après construction, %.1f Mo après la charge%n",
+                heapAfterBuild / 1e6, heapAfterRun / 1e6));
+        sb.append("Threads: ").append(peakThreads).append(" au plus\n");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,25 @@
+package net.zoofantastique.simulation.load;
+
+/**
+ * Enumération Operation, opérations jouées par le générateur de charge, équivalentes aux commandes du menu.
+ */
+public enum Operation {
+    FEED("feed"),
+    HEAL("heal"),
+    TRANSFER("transfer"),
+    MAINTENANCE("maintenance");
+
+    // Attributs
+    private final String label; // nom de l'opération dans les rapports
+
+    // Constructeur
+    Operation(String label) {
+        this.label = label;
+    }
+
+    // Getter
+
+    public String getLabel() {
+        return label;
+    }
+}
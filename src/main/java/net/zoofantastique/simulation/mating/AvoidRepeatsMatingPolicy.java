@@ -0,0 +1,78 @@
+package net.zoofantastique.simulation.mating;
+
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.WeakHashMap;
+
+/**
+ * Classe AvoidRepeatsMatingPolicy, forme les couples au hasard en évitant de réassocier une femelle à son dernier partenaire
+ * lorsqu'un autre mâle est disponible.
+ */
+public class AvoidRepeatsMatingPolicy implements MatingPolicy {
+    // Attributs
+    private final Random random;
+    private final Map<Creature, Creature> lastPartners; // dernier partenaire de chaque femelle
+
+    // Constructeur
+    public AvoidRepeatsMatingPolicy() {
+        this(new Random());
+    }
+
+    public AvoidRepeatsMatingPolicy(Random random) {
+        this.random = random;
+        this.lastPartners = new WeakHashMap<>();
+    }
+
+    // Méthodes
+
+    /**
+     * Mélange les mâles puis, pour chaque femelle associée à son dernier partenaire, échange ce mâle avec un autre
+     * sans créer de nouvelle répétition : de préférence un mâle placé après elle, sinon un mâle déjà placé
+     * (le dernier rang n'a personne après lui). La femelle garde son dernier partenaire si aucun échange ne convient.
+     */
+    @Override
+    public synchronized void arrange(List<Creature> females, List<Creature> males) {
+        Collections.shuffle(males, random);
+        int pairs = Math.min(females.size(), males.size());
+        for (int i = 0; i < pairs; i++) {
+            if (lastPartners.get(females.get(i)) == males.get(i)) {
+                int other = swappable(females, males, pairs, i, i + 1, males.size());
+                if (other < 0) {
+                    other = swappable(females, males, pairs, i, 0, i);
+                }
+                if (other >= 0) {
+                    Collections.swap(males, i, other);
+                }
+            }
+        }
+    }
+
+    /**
+     * Le premier rang j de [from, to) dont le mâle peut être échangé avec celui du rang i : il n'est pas le dernier
+     * partenaire de la femelle i, et le mâle du rang i n'est pas celui de la femelle j.
+     *
+     * @return Le rang, ou -1 si aucun ne convient.
+     */
+    private int swappable(List<Creature> females, List<Creature> males, int pairs, int i, int from, int to) {
+        Creature previous = males.get(i);
+        for (int j = from; j < to; j++) {
+            if (males.get(j) != previous && (j >= pairs || lastPartners.get(females.get(j)) != previous)) {
+                return j;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public synchronized void onMated(Creature female, Creature male) {
+        lastPartners.put(female, male);
+    }
+
+    public synchronized Creature getLastPartner(Creature female) {
+        return lastPartners.get(female);
+    }
+}
@@ -0,0 +1,31 @@
+package net.zoofantastique.simulation.mating;
+
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Lycanthrope;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Classe LevelMatingPolicy, associe les créatures de niveau équivalent : la meilleure femelle avec le meilleur mâle, et ainsi de suite.
+ * Le niveau d'un lycanthrope est son niveau de meute ; pour les autres espèces, le poids sert de niveau.
+ * Les deux listes sont triées par niveau décroissant, en O(n log n).
+ */
+public class LevelMatingPolicy implements MatingPolicy {
+    private static final Comparator<Creature> BY_LEVEL_DESC = Comparator.comparingDouble(LevelMatingPolicy::levelOf).reversed();
+
+    // Méthodes
+
+    @Override
+    public void arrange(List<Creature> females, List<Creature> males) {
+        females.sort(BY_LEVEL_DESC);
+        males.sort(BY_LEVEL_DESC);
+    }
+
+    private static double levelOf(Creature creature) {
+        if (creature instanceof Lycanthrope lycanthrope) {
+            return lycanthrope.getLevel();
+        }
+        return creature.getWeight();
+    }
+}
@@ -0,0 +1,110 @@
+package net.zoofantastique.simulation.mating;
+
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.simulation.BirthPipeline;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Classe Matchmaker qui forme tous les couples possibles d'un enclos.
+ * Les créatures éligibles (ni enceintes, ni mortes, ni bébés) sont réparties par espèce et par sexe en une seule passe,
+ * puis la stratégie de la saison associe les femelles et les mâles de chaque espèce.
+ * Contrairement à Creature.fertilizable, qui compare les créatures deux à deux, la répartition est linéaire en la taille
+ * de l'enclos ; le coût total est celui de la stratégie, linéaire pour RandomMatingPolicy et AvoidRepeatsMatingPolicy,
+ * en O(n log n) pour LevelMatingPolicy qui trie les candidats.
+ */
+public class Matchmaker {
+    // Attributs
+    private MatingPolicy policy; // stratégie de formation des couples
+
+    // Constructeur
+    public Matchmaker(MatingPolicy policy) {
+        this.policy = policy;
+    }
+
+    // Méthodes
+
+    /**
+     * Forme les couples d'un enclos.
+     *
+     * @param enclosure L'enclos à parcourir.
+     * @return La liste des couples formés.
+     */
+    public List<Mating> match(Enclosure<?> enclosure) {
+        Map<Class<?>, Buckets> bySpecies = new HashMap<>();
+        for (Creature creature : enclosure.getListCreature()) {
+            if (isEligible(creature)) {
+                bySpecies.computeIfAbsent(creature.getClass(), species -> new Buckets()).add(creature);
+            }
+        }
+        List<Mating> matings = new ArrayList<>();
+        for (Buckets buckets : bySpecies.values()) {
+            policy.arrange(buckets.females, buckets.males);
+            int pairs = Math.min(buckets.females.size(), buckets.males.size());
+            for (int i = 0; i < pairs; i++) {
+                matings.add(new Mating(buckets.females.get(i), buckets.males.get(i)));
+            }
+        }
+        return matings;
+    }
+
+    /**
+     * Lance une saison des amours dans un enclos : forme les couples puis inscrit chaque grossesse dans le pipeline des naissances.
+     *
+     * @param enclosure     L'enclos concerné.
+     * @param birthPipeline Le pipeline qui prendra en charge les naissances.
+     * @return Le nombre de grossesses démarrées.
+     */
+    public int breedingSeason(Enclosure<?> enclosure, BirthPipeline birthPipeline) {
+        int pregnancies = 0;
+        for (Mating mating : match(enclosure)) {
+            if (birthPipeline.conceive(mating.female(), mating.male()) != null) {
+                policy.onMated(mating.female(), mating.male());
+                pregnancies++;
+            }
+        }
+        return pregnancies;
+    }
+
+    /**
+     * Une créature peut s'accoupler si elle n'est ni enceinte, ni morte, ni bébé.
+     *
+     * @param creature La créature à tester.
+     * @return true si la créature est éligible.
+     */
+    public static boolean isEligible(Creature creature) {
+        Age age = creature.getAge();
+        return !creature.isPregnant() && age != Age.DEAD && age != Age.BABY;
+    }
+
+    // Getter et setter
+
+    public MatingPolicy getPolicy() {
+        return policy;
+    }
+    public void setPolicy(MatingPolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * Les créatures éligibles d'une espèce, séparées par sexe.
+     */
+    private static class Buckets {
+        private final List<Creature> females = new ArrayList<>();
+        private final List<Creature> males = new ArrayList<>();
+
+        private void add(Creature creature) {
+            if (creature.getSexe() == Gender.FEMALE) {
+                females.add(creature);
+            } else {
+                males.add(creature);
+            }
+        }
+    }
+}
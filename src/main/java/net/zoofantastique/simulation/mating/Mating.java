@@ -0,0 +1,12 @@
+package net.zoofantastique.simulation.mating;
+
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+
+/**
+ * Un couple formé par le Matchmaker.
+ *
+ * @param female La femelle du couple.
+ * @param male   Le mâle du couple.
+ */
+public record Mating(Creature female, Creature male) {
+}
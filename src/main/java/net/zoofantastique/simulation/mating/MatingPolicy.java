@@ -0,0 +1,29 @@
+package net.zoofantastique.simulation.mating;
+
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+
+import java.util.List;
+
+/**
+ * Interface MatingPolicy qui représente une stratégie de formation des couples.
+ * Le Matchmaker fournit, pour une espèce donnée, la liste des femelles et celle des mâles éligibles ;
+ * la stratégie les réordonne pour que la femelle d'indice i soit associée au mâle d'indice i.
+ */
+public interface MatingPolicy {
+    /**
+     * Réordonne les deux listes sur place pour former les couples.
+     *
+     * @param females Les femelles éligibles d'une même espèce.
+     * @param males   Les mâles éligibles de la même espèce.
+     */
+    void arrange(List<Creature> females, List<Creature> males);
+
+    /**
+     * Méthode appelée pour chaque couple formé, utile aux stratégies qui gardent un historique.
+     *
+     * @param female La femelle du couple.
+     * @param male   Le mâle du couple.
+     */
+    default void onMated(Creature female, Creature male) {
+    }
+}
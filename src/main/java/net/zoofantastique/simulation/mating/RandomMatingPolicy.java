@@ -0,0 +1,31 @@
+package net.zoofantastique.simulation.mating;
+
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Classe RandomMatingPolicy, forme les couples au hasard.
+ */
+public class RandomMatingPolicy implements MatingPolicy {
+    // Attributs
+    private final Random random;
+
+    // Constructeur
+    public RandomMatingPolicy() {
+        this(new Random());
+    }
+
+    public RandomMatingPolicy(Random random) {
+        this.random = random;
+    }
+
+    // Méthodes
+
+    @Override
+    public void arrange(List<Creature> females, List<Creature> males) {
+        Collections.shuffle(males, random);
+    }
+}
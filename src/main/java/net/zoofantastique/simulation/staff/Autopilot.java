@@ -0,0 +1,251 @@
+package net.zoofantastique.simulation.staff;
+
+import net.zoofantastique.controller.consumable.stock.FoodInventory;
+import net.zoofantastique.controller.enclosure.behavior.Cleanness;
+import net.zoofantastique.controller.enclosure.behavior.Salinity;
+import net.zoofantastique.controller.enclosure.composition.AquariumEnclosure;
+import net.zoofantastique.controller.enclosure.composition.CareWatcher;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Hunger;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.zoo.Zoo;
+import net.zoofantastique.metrics.ZooMetrics;
+import net.zoofantastique.utils.ResourceRegistry;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classe Autopilot, le pilote automatique du maître du zoo : il garde le zoo dans ses bornes
+ * (aucune créature malade, aucune faim au niveau moyen ou en dessous, aucun enclos sale, des bassins d'eau saumâtre)
+ * en donnant le moins d'actions possible : un soin par malade, juste assez de portions pour qu'une créature
+ * dépasse le niveau moyen de faim, un seul cran de propreté, un seul rééquilibrage de bassin.
+ * Il ne parcourt pas le zoo : il observe chaque enclos ({@link CareWatcher}) et n'examine que les créatures
+ * et les enclos signalés au moment où leur état a franchi une borne, si bien que son travail suit le nombre
+ * de besoins et non la taille du zoo. Une créature affamée mais endormie n'est pas examinée : elle est signalée
+ * de nouveau à son réveil.
+ */
+public class Autopilot implements CareWatcher, AutoCloseable {
+    public static final String PROPERTY = "zoo.autopilot"; // active le pilote automatique de la simulation
+    public static final long PASS_MILLIS = 10; // délai entre deux passes
+    private static final int FEED_LIMIT = Hunger.MEDIUM.getValue(); // faim à laquelle (ou sous laquelle) une créature est nourrie
+
+    // Attributs
+    private final Zoo zoo;
+    private final Queue<Object> backlog = new ConcurrentLinkedQueue<>(); // créatures et enclos signalés, pas encore examinés
+    private final Set<Object> signalled = ConcurrentHashMap.newKeySet(); // ce qui est dans backlog, pour ne l'y mettre qu'une fois
+    private ScheduledThreadPoolExecutor executor; // null tant que le pilote n'est pas démarré
+    private volatile Thread passing; // thread de la passe en cours : ce que ses propres actions signalent est ignoré
+    private long structureVersion; // version des enclos du zoo déjà observés
+    private long windowStart = System.nanoTime(); // début de la fenêtre de mesure du débit
+    private long windowActions; // actions au début de la fenêtre
+    private volatile long actionRate; // actions par seconde sur la dernière fenêtre terminée
+    private volatile long actions;
+    private volatile long decisions;
+
+    // Constructeur
+
+    private Autopilot(Zoo zoo) {
+        this.zoo = zoo;
+    }
+
+    // Méthodes
+
+    /**
+     * Crée le pilote automatique d'un zoo : il observe les enclos du zoo et relève une fois les besoins déjà présents.
+     * Les enclos ne le connaissent qu'une fois construit. Le pilote ne fait rien avant {@link #start()},
+     * ou avant chaque appel de {@link #pass()}.
+     *
+     * @param zoo Le zoo à garder.
+     * @return Le pilote.
+     */
+    public static Autopilot of(Zoo zoo) {
+        Autopilot autopilot = new Autopilot(zoo);
+        autopilot.watchNewEnclosures();
+        return autopilot;
+    }
+
+    /**
+     * Démarre les passes du pilote en tâche de fond.
+     */
+    public synchronized void start() {
+        if (executor == null) {
+            executor = ResourceRegistry.newScheduledExecutor("Pilote automatique");
+            executor.scheduleWithFixedDelay(this::pass, PASS_MILLIS, PASS_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void creatureNeedsCare(Creature creature) {
+        signal(creature);
+    }
+
+    @Override
+    public void enclosureNeedsCare(Enclosure<?> enclosure) {
+        signal(enclosure);
+    }
+
+    private void signal(Object subject) {
+        if (Thread.currentThread() != passing && signalled.add(subject)) {
+            backlog.offer(subject);
+        }
+    }
+
+    /**
+     * Une passe : observe les enclos ajoutés au zoo depuis la passe précédente puis examine tout ce qui a été signalé.
+     * Les passes ne doivent pas se chevaucher : elles se font sur le thread du pilote une fois démarré.
+     *
+     * @return Le nombre de créatures et d'enclos examinés, sans les créatures endormies laissées à leur réveil.
+     */
+    public int pass() {
+        watchNewEnclosures();
+        FoodInventory inventory = zoo.getFoodInventory();
+        int examined = 0;
+        long given = 0;
+        passing = Thread.currentThread();
+        try {
+            Object subject;
+            while ((subject = backlog.poll()) != null) {
+                signalled.remove(subject);
+                if (subject instanceof Creature creature && creature.isSleeping() && !creature.isSick()) {
+                    continue; // revue à son réveil
+                }
+                given += subject instanceof Creature creature ? care(creature, inventory) : maintain((Enclosure<?>) subject);
+                examined++;
+            }
+        } finally {
+            passing = null;
+        }
+        decisions += examined;
+        actions += given;
+        ZooMetrics.AUTOPILOT_DECISIONS.add(examined);
+        ZooMetrics.AUTOPILOT_ACTIONS.add(given);
+        measureRate();
+        return examined;
+    }
+
+    /**
+     * Soigne puis nourrit une créature, le moins possible pour la ramener dans les bornes.
+     *
+     * @return Le nombre d'actions données.
+     */
+    private int care(Creature creature, FoodInventory inventory) {
+        Enclosure<?> enclosure = creature.getEnclosure();
+        if (creature.getAge() == Age.DEAD || enclosure == null || enclosure.getCareWatcher() != this) {
+            return 0;
+        }
+        int given = 0;
+        if (creature.isSick()) {
+            creature.heal();
+            given++;
+        }
+        if (!creature.isSleeping()) {
+            while (creature.getHunger() <= FEED_LIMIT && CareTask.feedOnce(creature, inventory)) {
+                given++;
+            }
+        }
+        return given;
+    }
+
+    /**
+     * Nettoie un enclos sale d'un seul cran et rééquilibre le bassin d'un aquarium.
+     *
+     * @return Le nombre d'actions données.
+     */
+    private int maintain(Enclosure<?> enclosure) {
+        if (enclosure.getCareWatcher() != this) {
+            return 0;
+        }
+        int given = 0;
+        if (enclosure.getCleanness() == Cleanness.BAD) {
+            CareTask.cleanOnce(enclosure);
+            given++;
+        }
+        if (enclosure instanceof AquariumEnclosure<?> aquarium && aquarium.getBasinSalinity() != Salinity.BRACKISHWATER) {
+            CareTask.rebalance(aquarium);
+            given++;
+        }
+        return given;
+    }
+
+    /**
+     * Observe les enclos du zoo qui ne le sont pas encore et relève leurs besoins présents : c'est le seul parcours
+     * des créatures que fait le pilote, une fois par enclos.
+     */
+    private void watchNewEnclosures() {
+        long version = zoo.getStructureVersion();
+        if (version == structureVersion) {
+            return;
+        }
+        structureVersion = version;
+        for (Enclosure<?> enclosure : List.copyOf(zoo.getEnclosures())) {
+            if (enclosure.getCareWatcher() == this) {
+                continue;
+            }
+            enclosure.setCareWatcher(this);
+            for (Object resident : enclosure.getListCreature().toArray()) {
+                Creature creature = (Creature) resident;
+                if (creature.isSick() || creature.getHunger() <= FEED_LIMIT) {
+                    signal(creature);
+                }
+            }
+            if (enclosure.getCleanness() == Cleanness.BAD
+                    || enclosure instanceof AquariumEnclosure<?> aquarium && aquarium.getBasinSalinity() != Salinity.BRACKISHWATER) {
+                signal(enclosure);
+            }
+        }
+    }
+
+    private void measureRate() {
+        long now = System.nanoTime();
+        long elapsed = now - windowStart;
+        if (elapsed >= TimeUnit.SECONDS.toNanos(1)) {
+            actionRate = (actions - windowActions) * TimeUnit.SECONDS.toNanos(1) / elapsed;
+            windowStart = now;
+            windowActions = actions;
+        }
+    }
+
+    /**
+     * Arrête le pilote et cesse d'observer les enclos du zoo.
+     */
+    @Override
+    public synchronized void close() {
+        ResourceRegistry.release(executor);
+        executor = null;
+        for (Enclosure<?> enclosure : List.copyOf(zoo.getEnclosures())) {
+            if (enclosure.getCareWatcher() == this) {
+                enclosure.setCareWatcher(null);
+            }
+        }
+        backlog.clear();
+        signalled.clear();
+    }
+
+    // Getter et setter
+
+    /**
+     * @return Le nombre de créatures et d'enclos signalés et pas encore examinés.
+     */
+    public int getBacklog() {
+        return signalled.size();
+    }
+
+    public long getActionRate() {
+        return actionRate;
+    }
+
+    public long getActions() {
+        return actions;
+    }
+
+    public long getDecisions() {
+        return decisions;
+    }
+}
@@ -0,0 +1,173 @@
+package net.zoofantastique.simulation.staff;
+
+import net.zoofantastique.controller.consumable.food.FoodCatalog;
+import net.zoofantastique.controller.consumable.stock.FoodInventory;
+import net.zoofantastique.controller.enclosure.behavior.Salinity;
+import net.zoofantastique.controller.enclosure.composition.AquariumEnclosure;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Hunger;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.events.ZooEventBus;
+import net.zoofantastique.events.ZooEventType;
+import net.zoofantastique.simulation.feeding.FeedingPlanner;
+
+/**
+ * Classe CareTask, un soin à donner par un soignant : nourrir ou soigner une créature, nettoyer un enclos,
+ * rééquilibrer la salinité d'un aquarium ou transférer une créature d'un enclos plein vers un enclos de la même espèce.
+ * Un soin porte son urgence, l'enclos où il se donne (les soins d'un même enclos vont au même soigneur)
+ * et l'instant où il a été demandé, d'où se mesure son attente.
+ */
+public final class CareTask {
+    /**
+     * Ce que soigne un soin : deux soins de même clé sont des doublons, un seul est en file à la fois.
+     */
+    public record Key(CareTaskType type, Object subject) {
+    }
+
+    // Attributs
+    private final CareTaskType type;
+    private final Urgency urgency;
+    private final Enclosure<?> enclosure; // enclos où le soin se donne
+    private final Key key;
+    private final Runnable action;
+    private final long createdNanos; // instant de la demande, pour mesurer l'attente en file
+
+    // Constructeur
+    private CareTask(CareTaskType type, Urgency urgency, Enclosure<?> enclosure, Object subject, Runnable action) {
+        this.type = type;
+        this.urgency = urgency;
+        this.enclosure = enclosure;
+        this.key = new Key(type, subject);
+        this.action = action;
+        this.createdNanos = System.nanoTime();
+    }
+
+    // Méthodes
+
+    /**
+     * Nourrit une créature avec la nourriture compatible du stock qui se périme le plus tôt.
+     *
+     * @param creature  La créature affamée.
+     * @param urgency   L'urgence du repas.
+     * @param inventory Le stock dans lequel puiser.
+     * @return Le soin.
+     */
+    public static CareTask feed(Creature creature, Urgency urgency, FoodInventory inventory) {
+        return new CareTask(CareTaskType.FEED, urgency, creature.getEnclosure(), creature, () -> {
+            if (!feedOnce(creature, inventory) && !creature.isSleeping() && creature.getHunger() < Hunger.MAX.getValue()) {
+                System.err.println("Il n'y a plus de nourriture adaptée à " + creature.getName() + " en stock!");
+            }
+        });
+    }
+
+    /**
+     * Guérit une créature malade.
+     *
+     * @param creature La créature.
+     * @return Le soin, toujours critique.
+     */
+    public static CareTask heal(Creature creature) {
+        return new CareTask(CareTaskType.HEAL, Urgency.CRITICAL, creature.getEnclosure(), creature, creature::heal);
+    }
+
+    /**
+     * Nettoie un enclos d'un cran de propreté.
+     *
+     * @param enclosure L'enclos.
+     * @return Le soin.
+     */
+    public static CareTask clean(Enclosure<?> enclosure) {
+        return new CareTask(CareTaskType.CLEAN, Urgency.HIGH, enclosure, enclosure, () -> cleanOnce(enclosure));
+    }
+
+    /**
+     * Ramène le bassin d'un aquarium à l'eau saumâtre.
+     *
+     * @param aquarium L'aquarium.
+     * @return Le soin.
+     */
+    public static CareTask rebalanceSalinity(AquariumEnclosure<?> aquarium) {
+        return new CareTask(CareTaskType.SALINITY, Urgency.ROUTINE, aquarium, aquarium, () -> rebalance(aquarium));
+    }
+
+    /**
+     * Transfère une créature vers un autre enclos de la même espèce, si elle est encore dans son enclos
+     * et qu'il reste de la place à l'arrivée.
+     *
+     * @param source      L'enclos de départ.
+     * @param destination L'enclos d'arrivée.
+     * @param creature    La créature transférée.
+     * @return Le soin.
+     */
+    public static CareTask transfer(Enclosure<Creature> source, Enclosure<Creature> destination, Creature creature) {
+        return new CareTask(CareTaskType.TRANSFER, Urgency.ROUTINE, source, source, () -> {
+            if (creature.getEnclosure() != source || destination.getNbCreature() >= destination.getMax()) {
+                return;
+            }
+            destination.addCreature(creature);
+            if (creature.getEnclosure() == destination) {
+                source.removeCreature(creature);
+            }
+        });
+    }
+
+    /**
+     * Donne une portion à une créature, prise dans la nourriture compatible du stock qui se périme le plus tôt.
+     *
+     * @return false si aucune nourriture adaptée n'est en stock ou si la créature n'a pas mangé.
+     */
+    static boolean feedOnce(Creature creature, FoodInventory inventory) {
+        for (FoodCatalog item : FeedingPlanner.dietOf(creature, inventory)) {
+            if (inventory.reserve(item, 1)) {
+                if (creature.feed(item.getFood())) {
+                    inventory.consume(item, 1);
+                    return true;
+                }
+                inventory.release(item, 1);
+                return false;
+            }
+        }
+        return false;
+    }
+
+    static void cleanOnce(Enclosure<?> enclosure) {
+        enclosure.setCleanness(enclosure.getCleanness().clean());
+        ZooEventBus.publish(ZooEventType.MAINTENANCE, enclosure, enclosure.getCleanness().getValue());
+    }
+
+    static void rebalance(AquariumEnclosure<?> aquarium) {
+        aquarium.setBasinSalinity(Salinity.BRACKISHWATER);
+        ZooEventBus.publish(ZooEventType.MAINTENANCE, aquarium, aquarium.getBasinSalinity().getValue());
+    }
+
+    void perform() {
+        action.run();
+    }
+
+    @Override
+    public String toString() {
+        return type.getLabel() + " (" + urgency.getLabel() + ")" + (enclosure == null ? "" : " dans " + enclosure.getName());
+    }
+
+    // Getter et setter
+
+    public CareTaskType getType() {
+        return type;
+    }
+
+    public Urgency getUrgency() {
+        return urgency;
+    }
+
+    public Enclosure<?> getEnclosure() {
+        return enclosure;
+    }
+
+    public Key getKey() {
+        return key;
+    }
+
+    public long getCreatedNanos() {
+        return createdNanos;
+    }
+}
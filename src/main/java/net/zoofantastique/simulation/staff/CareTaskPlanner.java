@@ -0,0 +1,97 @@
+package net.zoofantastique.simulation.staff;
+
+import net.zoofantastique.controller.consumable.stock.FoodInventory;
+import net.zoofantastique.controller.enclosure.behavior.Cleanness;
+import net.zoofantastique.controller.enclosure.behavior.Salinity;
+import net.zoofantastique.controller.enclosure.composition.AquariumEnclosure;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Hunger;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.zoo.Zoo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Classe CareTaskPlanner, relève en une passe sur le zoo les soins à donner :
+ * <ul>
+ *     <li>guérir chaque créature malade (critique) ;</li>
+ *     <li>nourrir chaque créature éveillée dont la faim est moyenne (haute) ou affamée (critique) ;</li>
+ *     <li>nettoyer chaque enclos en mauvais état (haute) ;</li>
+ *     <li>ramener à l'eau saumâtre chaque aquarium qui s'en est écarté (routine) ;</li>
+ *     <li>désengorger chaque enclos plein vers un enclos de la même espèce rempli à moins de moitié (routine).</li>
+ * </ul>
+ */
+public final class CareTaskPlanner {
+
+    private CareTaskPlanner() {
+    }
+
+    // Méthodes
+
+    /**
+     * Relève les soins à donner dans le zoo.
+     *
+     * @param zoo Le zoo.
+     * @return Les soins, enclos par enclos.
+     */
+    public static List<CareTask> plan(Zoo zoo) {
+        List<CareTask> tasks = new ArrayList<>();
+        plan(zoo, tasks::add);
+        return tasks;
+    }
+
+    /**
+     * Relève les soins à donner dans le zoo et les remet un à un à un destinataire.
+     *
+     * @param zoo  Le zoo.
+     * @param sink Le destinataire des soins, par exemple {@link StaffScheduler#submit(CareTask)}.
+     */
+    public static void plan(Zoo zoo, Consumer<CareTask> sink) {
+        FoodInventory inventory = zoo.getFoodInventory();
+        List<Enclosure<? super Creature>> enclosures = zoo.getEnclosures();
+        for (Enclosure<? super Creature> enclosure : enclosures) {
+            for (Object resident : enclosure.getListCreature().toArray()) {
+                Creature creature = (Creature) resident;
+                if (creature.isSick()) {
+                    sink.accept(CareTask.heal(creature));
+                }
+                if (!creature.isSleeping() && creature.getHunger() <= Hunger.MEDIUM.getValue()) {
+                    Urgency urgency = creature.getHunger() <= Hunger.HUNGRY.getValue() ? Urgency.CRITICAL : Urgency.HIGH;
+                    sink.accept(CareTask.feed(creature, urgency, inventory));
+                }
+            }
+            if (enclosure.getCleanness() == Cleanness.BAD) {
+                sink.accept(CareTask.clean(enclosure));
+            }
+            if (enclosure instanceof AquariumEnclosure<?> aquarium && aquarium.getBasinSalinity() != Salinity.BRACKISHWATER) {
+                sink.accept(CareTask.rebalanceSalinity(aquarium));
+            }
+            if (enclosure.getNbCreature() >= enclosure.getMax() && !enclosure.getListCreature().isEmpty()) {
+                Enclosure<Creature> destination = roomiest(enclosures, enclosure);
+                if (destination != null) {
+                    List<? super Creature> residents = enclosure.getListCreature();
+                    Creature creature = (Creature) residents.get(residents.size() - 1);
+                    sink.accept(CareTask.transfer(enclosure, destination, creature));
+                }
+            }
+        }
+    }
+
+    /**
+     * L'enclos de la même espèce le moins rempli, s'il l'est à moins de moitié.
+     */
+    private static Enclosure<Creature> roomiest(List<Enclosure<? super Creature>> enclosures, Enclosure<?> full) {
+        Enclosure<Creature> roomiest = null;
+        for (Enclosure<? super Creature> candidate : enclosures) {
+            if (candidate != full && candidate.getClass() == full.getClass()
+                    && full.getCreatureType().equals(candidate.getCreatureType())
+                    && candidate.getNbCreature() * 2 < candidate.getMax()
+                    && (roomiest == null || candidate.getNbCreature() < roomiest.getNbCreature())) {
+                roomiest = candidate;
+            }
+        }
+        return roomiest;
+    }
+}
@@ -0,0 +1,33 @@
+package net.zoofantastique.simulation.staff;
+
+/**
+ * Enumération CareTaskType, les soins qu'un soigneur peut donner.
+ * Un soin structurel change la composition des enclos : il ne doit pas croiser le pas de simulation qui les parcourt.
+ */
+public enum CareTaskType {
+    FEED("nourrir", false),
+    HEAL("soigner", false),
+    CLEAN("nettoyer", false),
+    SALINITY("rééquilibrer la salinité", false),
+    TRANSFER("transférer", true);
+
+    // Attributs
+    private final String label; // nom du soin dans les rapports
+    private final boolean structural; // ajoute ou retire des créatures d'un enclos
+
+    // Constructeur
+    CareTaskType(String label, boolean structural) {
+        this.label = label;
+        this.structural = structural;
+    }
+
+    // Getter et setter
+
+    public String getLabel() {
+        return label;
+    }
+
+    public boolean isStructural() {
+        return structural;
+    }
+}
@@ -0,0 +1,129 @@
+package net.zoofantastique.simulation.staff;
+
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.zoomaster.ZooMaster;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Classe Keeper, un soigneur de l'équipe : un maître du zoo qui reçoit les soins des enclos dont il a la charge.
+ * Il a une file à deux bouts par niveau d'urgence : il prend ses soins par le début (les plus anciens d'abord)
+ * et ses collègues désœuvrés lui volent les siens par la fin, sans se gêner.
+ * Un soigneur ne donne pas plus de soins par seconde que sa cadence.
+ */
+public class Keeper {
+    // Attributs
+    private final ZooMaster master;
+    private final int index; // rang du soigneur dans l'équipe
+    private final long intervalNanos; // délai minimal entre deux soins, 0 si la cadence est libre
+    private final ConcurrentLinkedDeque<CareTask>[] queues; // une file par niveau d'urgence
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong stolen = new AtomicLong(); // soins pris chez un collègue
+    private long nextStart; // instant où le prochain soin peut commencer, lu par le seul thread du soigneur
+
+    // Constructeur
+
+    /**
+     * Constructeur de la classe Keeper.
+     *
+     * @param name           Le nom du soigneur.
+     * @param index          Le rang du soigneur dans l'équipe.
+     * @param tasksPerSecond La cadence du soigneur, en soins par seconde (0 pour une cadence libre).
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Keeper(String name, int index, int tasksPerSecond) {
+        this.master = new ZooMaster(name, Gender.FEMALE, Age.ADULT);
+        this.index = index;
+        this.intervalNanos = tasksPerSecond <= 0 ? 0 : TimeUnit.SECONDS.toNanos(1) / tasksPerSecond;
+        this.queues = new ConcurrentLinkedDeque[Urgency.LEVELS.length];
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = new ConcurrentLinkedDeque<>();
+        }
+    }
+
+    // Méthodes
+
+    void push(CareTask task) {
+        queues[task.getUrgency().ordinal()].addLast(task);
+    }
+
+    /**
+     * Le plus ancien soin de ce niveau d'urgence, pris par le soigneur lui-même.
+     */
+    CareTask poll(Urgency urgency) {
+        return queues[urgency.ordinal()].pollFirst();
+    }
+
+    /**
+     * Le plus récent soin de ce niveau d'urgence, volé par un collègue.
+     */
+    CareTask steal(Urgency urgency) {
+        return queues[urgency.ordinal()].pollLast();
+    }
+
+    /**
+     * Attend que la cadence du soigneur l'autorise à commencer un nouveau soin.
+     *
+     * @return false si le soigneur a été interrompu.
+     */
+    boolean pace() {
+        if (intervalNanos == 0) {
+            return true;
+        }
+        long wait;
+        while ((wait = nextStart - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(wait);
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+        }
+        nextStart = Math.max(nextStart, System.nanoTime()) + intervalNanos;
+        return true;
+    }
+
+    void completed(boolean steal) {
+        completed.incrementAndGet();
+        if (steal) {
+            stolen.incrementAndGet();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return master.getName() + " : " + completed.get() + " soins dont " + stolen.get() + " volés, " + getQueued() + " en file";
+    }
+
+    // Getter et setter
+
+    public ZooMaster getMaster() {
+        return master;
+    }
+
+    public String getName() {
+        return master.getName();
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    public int getQueued() {
+        int queued = 0;
+        for (ConcurrentLinkedDeque<CareTask> queue : queues) {
+            queued += queue.size();
+        }
+        return queued;
+    }
+
+    public long getCompleted() {
+        return completed.get();
+    }
+
+    public long getStolen() {
+        return stolen.get();
+    }
+}
@@ -0,0 +1,253 @@
+package net.zoofantastique.simulation.staff;
+
+import net.zoofantastique.controller.zoo.Zoo;
+import net.zoofantastique.metrics.ZooMetrics;
+import net.zoofantastique.utils.ResourceRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Classe StaffScheduler, l'équipe de soigneurs du zoo et la répartition des soins entre eux.
+ * Chaque soin va au soigneur qui a la charge de son enclos. Un soigneur prend toujours le soin le plus urgent
+ * disponible : le sien s'il en a un de ce niveau, sinon celui d'un collègue, qu'il lui vole par la fin de sa file.
+ * Ainsi, quand les demandes arrivent par rafales sur quelques enclos, toute l'équipe s'y met.
+ * Un même soin (même nature, même créature ou même enclos) n'est en file qu'une fois.
+ * L'attente de chaque soin, de sa demande au début du soin, est enregistrée dans l'histogramme {@code staff.queueLatency}.
+ * Les soins structurels (transferts) peuvent être confiés à un exécuteur à un seul thread, celui de la simulation :
+ * ils s'y appliquent l'un après l'autre, jamais pendant un pas qui parcourt les enclos.
+ */
+public class StaffScheduler implements AutoCloseable {
+    public static final String KEEPERS_PROPERTY = "zoo.staff.keepers"; // nombre de soigneurs de la simulation, 0 pour aucun
+    public static final int DEFAULT_TASKS_PER_SECOND = 20; // cadence d'un soigneur
+    private static final long IDLE_WAIT_MILLIS = 50; // attente maximale d'un soigneur désœuvré avant de revérifier les files
+
+    // Attributs
+    private final List<Keeper> keepers;
+    private final ScheduledThreadPoolExecutor executor; // un thread par soigneur
+    private final Executor structural; // applique les soins structurels, null pour les donner sur le thread du soigneur
+    private final Set<CareTask.Key> pending = ConcurrentHashMap.newKeySet(); // soins en file ou en cours
+    private final AtomicInteger queued = new AtomicInteger(); // soins en file, pas encore commencés
+    private final AtomicInteger idle = new AtomicInteger(); // soigneurs en attente de travail
+    private final Object signal = new Object(); // réveille les soigneurs en attente
+    private volatile boolean closed;
+
+    // Constructeur
+
+    /**
+     * Constructeur de la classe StaffScheduler : engage les soigneurs et les met au travail.
+     *
+     * @param size           Le nombre de soigneurs.
+     * @param tasksPerSecond La cadence de chaque soigneur, en soins par seconde (0 pour une cadence libre).
+     */
+    public StaffScheduler(int size, int tasksPerSecond) {
+        this(size, tasksPerSecond, null);
+    }
+
+    /**
+     * Constructeur de la classe StaffScheduler avec un exécuteur pour les soins structurels.
+     *
+     * @param size           Le nombre de soigneurs.
+     * @param tasksPerSecond La cadence de chaque soigneur, en soins par seconde (0 pour une cadence libre).
+     * @param structural     L'exécuteur à un seul thread qui applique les transferts, null pour les donner
+     *                       sur le thread du soigneur.
+     */
+    public StaffScheduler(int size, int tasksPerSecond, Executor structural) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("L'équipe doit compter au moins un soigneur : " + size);
+        }
+        List<Keeper> team = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            team.add(new Keeper("Soigneur " + (i + 1), i, tasksPerSecond));
+        }
+        this.keepers = Collections.unmodifiableList(team);
+        this.structural = structural;
+        this.executor = ResourceRegistry.newScheduledExecutor("Soigneurs", size);
+        for (Keeper keeper : keepers) {
+            executor.execute(() -> work(keeper));
+        }
+    }
+
+    // Méthodes
+
+    /**
+     * Demande un soin. Il va au soigneur qui a la charge de son enclos.
+     *
+     * @param task Le soin.
+     * @return true si le soin a été mis en file, false si le même soin l'est déjà ou si l'équipe est partie.
+     */
+    public boolean submit(CareTask task) {
+        if (closed || !pending.add(task.getKey())) {
+            return false;
+        }
+        queued.incrementAndGet();
+        keepers.get(Math.floorMod(System.identityHashCode(task.getEnclosure()), keepers.size())).push(task);
+        if (idle.get() > 0) {
+            synchronized (signal) {
+                signal.notifyAll();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Relève les soins à donner dans le zoo et les répartit entre les soigneurs.
+     *
+     * @param zoo Le zoo.
+     * @return Le nombre de soins mis en file (les soins déjà en file ne sont pas comptés).
+     */
+    public int plan(Zoo zoo) {
+        int[] submitted = new int[1];
+        CareTaskPlanner.plan(zoo, task -> {
+            if (submit(task)) {
+                submitted[0]++;
+            }
+        });
+        return submitted[0];
+    }
+
+    /**
+     * La boucle de travail d'un soigneur, jusqu'au départ de l'équipe.
+     */
+    private void work(Keeper keeper) {
+        while (!closed && keeper.pace()) {
+            if (!takeAndPerform(keeper)) {
+                awaitWork();
+            }
+        }
+    }
+
+    /**
+     * Prend le soin le plus urgent disponible, chez le soigneur d'abord puis chez ses collègues, et le donne.
+     *
+     * @return false si aucun soin n'était disponible.
+     */
+    private boolean takeAndPerform(Keeper keeper) {
+        int size = keepers.size();
+        int first = size == 1 ? 0 : ThreadLocalRandom.current().nextInt(size - 1); // premier collègue visité
+        for (Urgency urgency : Urgency.LEVELS) {
+            CareTask task = keeper.poll(urgency);
+            boolean stolen = false;
+            for (int i = 0; task == null && i < size - 1; i++) {
+                Keeper victim = keepers.get((keeper.getIndex() + 1 + (first + i) % (size - 1)) % size);
+                task = victim.steal(urgency);
+                stolen = true;
+            }
+            if (task != null) {
+                perform(keeper, task, stolen);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void perform(Keeper keeper, CareTask task, boolean stolen) {
+        queued.decrementAndGet();
+        ZooMetrics.STAFF_QUEUE_LATENCY.recordSince(task.getCreatedNanos());
+        try {
+            if (structural != null && task.getType().isStructural()) {
+                structural.execute(() -> give(keeper, task));
+            } else {
+                give(keeper, task);
+            }
+        } catch (RejectedExecutionException e) {
+            pending.remove(task.getKey());
+            System.err.println(keeper.getName() + " n'a pas pu " + task.getType().getLabel() + " : la simulation est arrêtée.");
+        } finally {
+            keeper.completed(stolen);
+            ZooMetrics.STAFF_TASKS.increment();
+            if (stolen) {
+                ZooMetrics.STAFF_STEALS.increment();
+            }
+        }
+    }
+
+    /**
+     * Effectue un soin, sur le thread du soigneur ou sur l'exécuteur structurel ; le soin ne compte plus comme
+     * en file ou en cours qu'une fois effectué.
+     */
+    private void give(Keeper keeper, CareTask task) {
+        try {
+            task.perform();
+        } catch (RuntimeException e) {
+            System.err.println(keeper.getName() + " n'a pas pu " + task.getType().getLabel() + " : " + e);
+        } finally {
+            pending.remove(task.getKey());
+        }
+    }
+
+    private void awaitWork() {
+        synchronized (signal) {
+            idle.incrementAndGet();
+            try {
+                if (queued.get() == 0 && !closed) {
+                    signal.wait(IDLE_WAIT_MILLIS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                idle.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Renvoie l'équipe : les soins en cours se terminent, ceux en file ne sont pas donnés.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (signal) {
+            signal.notifyAll();
+        }
+        ResourceRegistry.release(executor);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Équipe de ").append(keepers.size()).append(" soigneurs, ")
+                .append(getBacklog()).append(" soins en attente\n");
+        for (Keeper keeper : keepers) {
+            sb.append("  ").append(keeper).append('\n');
+        }
+        return sb.append(ZooMetrics.STAFF_QUEUE_LATENCY).toString();
+    }
+
+    // Getter et setter
+
+    public List<Keeper> getKeepers() {
+        return keepers;
+    }
+
+    public int getBacklog() {
+        return queued.get();
+    }
+
+    public long getCompleted() {
+        long completed = 0;
+        for (Keeper keeper : keepers) {
+            completed += keeper.getCompleted();
+        }
+        return completed;
+    }
+
+    public long getStolen() {
+        long stolen = 0;
+        for (Keeper keeper : keepers) {
+            stolen += keeper.getStolen();
+        }
+        return stolen;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+}
@@ -0,0 +1,27 @@
+package net.zoofantastique.simulation.staff;
+
+/**
+ * Enumération Urgency, l'urgence d'un soin, de la plus forte à la plus faible.
+ * Un soigneur prend toujours le soin le plus urgent disponible, chez lui ou chez un collègue.
+ */
+public enum Urgency {
+    CRITICAL("critique"),
+    HIGH("haute"),
+    ROUTINE("routine");
+
+    static final Urgency[] LEVELS = Urgency.values();
+
+    // Attributs
+    private final String label; // nom de l'urgence dans les rapports
+
+    // Constructeur
+    Urgency(String label) {
+        this.label = label;
+    }
+
+    // Getter et setter
+
+    public String getLabel() {
+        return label;
+    }
+}
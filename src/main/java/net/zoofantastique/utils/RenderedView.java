@@ -0,0 +1,23 @@
+package net.zoofantastique.utils;
+
+/**
+ * Une vue texte mise en cache avec la version de l'objet rendu (voir {@link VersionClock}).
+ * Tant que la version de l'objet n'a pas changé, la vue est servie telle quelle au lieu d'être reconstruite.
+ * Les deux valeurs voyagent ensemble dans un seul objet immuable : un lecteur ne voit jamais un texte
+ * associé à la mauvaise version.
+ *
+ * @param version La version de l'objet au moment du rendu, lue avant de le rendre.
+ * @param text    Le texte rendu.
+ */
+public record RenderedView(long version, String text) {
+
+    /**
+     * Indique si la vue correspond encore à l'objet.
+     *
+     * @param current La version courante de l'objet.
+     * @return true si la vue peut être servie.
+     */
+    public boolean isFresh(long current) {
+        return version == current;
+    }
+}
@@ -0,0 +1,121 @@
+package net.zoofantastique.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Classe ResourceRegistry, registre des minuteries (ScheduledExecutorService) créées par le zoo.
+ * Chaque minuterie est créée par le registre au nom de son propriétaire et y reste tant qu'elle n'a pas été libérée :
+ * une minuterie toujours enregistrée alors que son propriétaire a quitté le zoo est une fuite de thread.
+ * Pour vérifier qu'un traitement rend toutes ses minuteries, on prend un repère avec mark() avant le traitement
+ * puis on consulte leaksSince(repère) après.
+ */
+public final class ResourceRegistry {
+    private static final Map<ScheduledExecutorService, Resource> LIVE = new ConcurrentHashMap<>();
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    /**
+     * Une minuterie enregistrée : son numéro d'ordre de création et la description de son propriétaire.
+     */
+    public record Resource(long sequence, String owner) {
+    }
+
+    private ResourceRegistry() {
+    }
+
+    // Méthodes
+
+    /**
+     * Crée une minuterie à un seul thread pour un propriétaire et l'enregistre.
+     * Le thread porte le nom du propriétaire et ne retient pas la JVM à l'arrêt.
+     *
+     * @param owner La description du propriétaire, utilisée dans les rapports de fuite.
+     * @return La minuterie créée.
+     */
+    public static ScheduledThreadPoolExecutor newScheduledExecutor(String owner) {
+        return newScheduledExecutor(owner, 1);
+    }
+
+    /**
+     * Crée une minuterie à plusieurs threads pour un propriétaire et l'enregistre.
+     * Les threads portent le nom du propriétaire et ne retiennent pas la JVM à l'arrêt.
+     *
+     * @param owner   La description du propriétaire, utilisée dans les rapports de fuite.
+     * @param threads Le nombre de threads de la minuterie.
+     * @return La minuterie créée.
+     */
+    public static ScheduledThreadPoolExecutor newScheduledExecutor(String owner, int threads) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(threads, task -> {
+            Thread thread = new Thread(task, "zoo-" + owner);
+            thread.setDaemon(true);
+            return thread;
+        });
+        LIVE.put(executor, new Resource(SEQUENCE.incrementAndGet(), owner));
+        return executor;
+    }
+
+    /**
+     * Arrête une minuterie et la retire du registre. Sans effet si la minuterie est null ou déjà libérée.
+     *
+     * @param executor La minuterie à libérer.
+     */
+    public static void release(ScheduledExecutorService executor) {
+        if (executor != null) {
+            executor.shutdownNow();
+            LIVE.remove(executor);
+        }
+    }
+
+    /**
+     * Retourne un repère : les minuteries créées après ce repère et encore vivantes sont listées par leaksSince().
+     *
+     * @return Le repère.
+     */
+    public static long mark() {
+        return SEQUENCE.get();
+    }
+
+    /**
+     * Retourne les minuteries créées après un repère et toujours vivantes, de la plus ancienne à la plus récente.
+     *
+     * @param mark Le repère obtenu avec mark().
+     * @return Les minuteries encore vivantes.
+     */
+    public static List<Resource> leaksSince(long mark) {
+        List<Resource> leaks = new ArrayList<>();
+        for (Resource resource : LIVE.values()) {
+            if (resource.sequence() > mark) {
+                leaks.add(resource);
+            }
+        }
+        leaks.sort(Comparator.comparingLong(Resource::sequence));
+        return leaks;
+    }
+
+    /**
+     * Rapport lisible des minuteries encore vivantes créées après un repère.
+     *
+     * @param mark Le repère obtenu avec mark(), 0 pour toutes les minuteries.
+     * @return Le rapport.
+     */
+    public static String report(long mark) {
+        List<Resource> leaks = leaksSince(mark);
+        StringBuilder sb = new StringBuilder(leaks.size() + " minuterie(s) active(s)\n");
+        for (Resource resource : leaks) {
+            sb.append("- ").append(resource.owner()).append("\n");
+        }
+        return sb.toString();
+    }
+
+    // Getter
+
+    public static int getLiveCount() {
+        return LIVE.size();
+    }
+}
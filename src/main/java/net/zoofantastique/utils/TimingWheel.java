@@ -0,0 +1,149 @@
+package net.zoofantastique.utils;
+
+import java.util.function.Consumer;
+
+/**
+ * Classe TimingWheel, roue temporelle hachée pour les échéances exprimées en jours de simulation.
+ * Chaque échéance est rangée dans la case (jour modulo nombre de cases) ; avancer la roue ne visite que les cases
+ * des jours écoulés, le coût est donc proportionnel au nombre d'échéances expirées et non au nombre d'échéances en attente.
+ * Les éléments portent eux-mêmes leurs liens (voir Timeout), la roue n'alloue donc rien par échéance.
+ *
+ * @param <T> Le type des éléments planifiés.
+ */
+public class TimingWheel<T extends TimingWheel.Timeout> {
+    // Attributs
+    private final Timeout[] slots; // têtes des listes chaînées de chaque case
+    private final int mask; // nombre de cases - 1 (le nombre de cases est une puissance de deux)
+    private long currentDay; // dernier jour traité
+    private int size; // nombre d'échéances en attente
+
+    // Constructeur
+    public TimingWheel(int nbSlots) {
+        int capacity = Integer.highestOneBit(Math.max(1, nbSlots - 1)) << 1;
+        this.slots = new Timeout[capacity];
+        this.mask = capacity - 1;
+        this.currentDay = 0;
+        this.size = 0;
+    }
+
+    // Méthodes
+
+    /**
+     * Planifie une échéance. Une échéance déjà passée expirera au prochain appel à advance().
+     *
+     * @param element L'élément à planifier, qui ne doit pas déjà l'être.
+     */
+    public synchronized void schedule(T element) {
+        Timeout timeout = element;
+        if (timeout.wheel != null) {
+            throw new IllegalStateException("Cette échéance est déjà planifiée.");
+        }
+        long day = Math.max(timeout.deadline, currentDay + 1);
+        int slot = (int) (day & mask);
+        timeout.wheel = this;
+        timeout.slot = slot;
+        timeout.prev = null;
+        timeout.next = slots[slot];
+        if (slots[slot] != null) {
+            slots[slot].prev = timeout;
+        }
+        slots[slot] = timeout;
+        size++;
+    }
+
+    /**
+     * Retire une échéance de la roue avant son expiration.
+     *
+     * @param element L'élément à retirer.
+     * @return true si l'élément était planifié dans cette roue.
+     */
+    public synchronized boolean cancel(T element) {
+        Timeout timeout = element;
+        if (timeout.wheel != this) {
+            return false;
+        }
+        unlink(timeout);
+        return true;
+    }
+
+    /**
+     * Avance la roue jusqu'au jour donné et transmet chaque échéance expirée à onExpire, une fois retirée de la roue.
+     *
+     * @param day      Le nouveau jour courant.
+     * @param onExpire Action appelée pour chaque échéance expirée, hors du verrou de la roue.
+     * @return Le nombre d'échéances expirées.
+     */
+    @SuppressWarnings("unchecked")
+    public int advance(long day, Consumer<? super T> onExpire) {
+        Timeout expired = null;
+        int count = 0;
+        synchronized (this) {
+            long last = Math.min(day, currentDay + slots.length);
+            for (long d = currentDay + 1; d <= last; d++) {
+                Timeout timeout = slots[(int) (d & mask)];
+                while (timeout != null) {
+                    Timeout next = timeout.next;
+                    if (timeout.deadline <= day) {
+                        unlink(timeout);
+                        timeout.next = expired;
+                        expired = timeout;
+                        count++;
+                    }
+                    timeout = next;
+                }
+            }
+            currentDay = Math.max(currentDay, day);
+        }
+        while (expired != null) {
+            Timeout next = expired.next;
+            expired.next = null;
+            onExpire.accept((T) expired);
+            expired = next;
+        }
+        return count;
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            slots[timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.wheel = null;
+        size--;
+    }
+
+    // Getter
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long getCurrentDay() {
+        return currentDay;
+    }
+
+    /**
+     * Classe de base des éléments planifiables : l'échéance et les liens de la liste de sa case.
+     */
+    public abstract static class Timeout {
+        private final long deadline; // jour d'expiration
+        private Timeout prev;
+        private Timeout next;
+        private TimingWheel<?> wheel; // roue dans laquelle l'élément est planifié, null sinon
+        private int slot; // case occupée dans la roue
+
+        protected Timeout(long deadline) {
+            this.deadline = deadline;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+    }
+}
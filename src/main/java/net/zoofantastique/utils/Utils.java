@@ -1,17 +1,29 @@
 package net.zoofantastique.utils;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class Utils {
 
+    /**
+     * Tire un réel au hasard dans [min, max[ avec le générateur du thread courant, sans allocation.
+     * Retourne min si l'intervalle est vide.
+     */
     public static double getRandomDoubleInRange(double min, double max) {
-        Random random = new Random();
-        return min + (max - min) * random.nextDouble();
+        if (max <= min) {
+            return min;
+        }
+        return ThreadLocalRandom.current().nextDouble(min, max);
     }
 
+    /**
+     * Tire un entier au hasard dans [min, max[ avec le générateur du thread courant, sans allocation.
+     * Retourne min si l'intervalle est vide.
+     */
     public static int getRandomIntInRange(int min, int max) {
-        Random random = new Random();
-        return min + (max - min) * random.nextInt();
+        if (max <= min) {
+            return min;
+        }
+        return ThreadLocalRandom.current().nextInt(min, max);
     }
 
 }
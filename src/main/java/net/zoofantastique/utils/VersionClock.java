@@ -0,0 +1,34 @@
+package net.zoofantastique.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Classe VersionClock, horloge de versions partagée par tous les objets du zoo.
+ * Chaque modification prend une nouvelle valeur, strictement croissante : la version d'une ressource composée
+ * (un enclos et ses créatures, le zoo entier) est simplement le maximum des versions de ses parties,
+ * et elle change dès que l'une d'elles est modifiée.
+ */
+public final class VersionClock {
+    private static final AtomicLong CLOCK = new AtomicLong();
+
+    private VersionClock() {
+    }
+
+    /**
+     * Retourne une nouvelle version, plus grande que toutes les précédentes.
+     *
+     * @return La nouvelle version.
+     */
+    public static long next() {
+        return CLOCK.incrementAndGet();
+    }
+
+    /**
+     * Retourne la dernière version distribuée.
+     *
+     * @return La version courante.
+     */
+    public static long current() {
+        return CLOCK.get();
+    }
+}
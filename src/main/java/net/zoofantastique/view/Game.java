@@ -1,17 +1,22 @@
 package net.zoofantastique.view;
 
+import net.zoofantastique.api.ZooHttpServer;
 import net.zoofantastique.controller.entity.zoomaster.ZooMaster;
 import net.zoofantastique.controller.zoo.Zoo;
 import net.zoofantastique.simulation.Simulation;
 
+import java.io.IOException;
+
 /**
  * Classe Game qui représente le jeu.
  * Cette classe contient les méthodes permettant de lancer le jeu.
  */
-public class Game implements ConsoleTricks {
+public class Game implements ConsoleTricks, AutoCloseable {
     // Attributs
     private Zoo zoo;
     private ZooMaster zooMaster;
+    private Simulation simulation;
+    private ZooHttpServer httpServer; // API HTTP locale, démarrée seulement avec -Dzoo.http.port=<port>
 
     // Méthodes
 
@@ -20,11 +25,44 @@ public class Game implements ConsoleTricks {
 
         tuto.start(this);
 
-        Simulation simulation = new Simulation(this);
+        simulation = new Simulation(this);
+        startHttpServer();
 
         MenuZooMaster.displayMainMenu(this);
     }
 
+    /**
+     * Démarre l'API HTTP locale si un port est donné par la propriété zoo.http.port.
+     */
+    private void startHttpServer() {
+        Integer port = Integer.getInteger(ZooHttpServer.PORT_PROPERTY);
+        if (port == null) {
+            return;
+        }
+        try {
+            httpServer = new ZooHttpServer(zoo, port);
+            System.out.println("API du zoo disponible sur http://localhost:" + httpServer.getPort() + "/zoo");
+        } catch (IOException e) {
+            System.err.println("Impossible de démarrer l'API du zoo sur le port " + port + " : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Arrête l'API et la simulation puis ferme le zoo et toutes ses minuteries.
+     */
+    @Override
+    public void close() {
+        if (httpServer != null) {
+            httpServer.close();
+        }
+        if (simulation != null) {
+            simulation.close();
+        }
+        if (zoo != null) {
+            zoo.close();
+        }
+    }
+
     // Getter et setter
 
     public Zoo getZoo() {
@@ -34,6 +72,10 @@ public class Game implements ConsoleTricks {
         this.zoo = zoo;
     }
 
+    public Simulation getSimulation() {
+        return simulation;
+    }
+
     public ZooMaster getZooMaster() {
         return zooMaster;
     }
@@ -1,6 +1,7 @@
 package net.zoofantastique.view;
 
-import net.zoofantastique.controller.consumable.food.Beefsteak;
+import net.zoofantastique.controller.consumable.food.FoodCatalog;
+import net.zoofantastique.controller.consumable.stock.FoodInventory;
 import net.zoofantastique.controller.enclosure.composition.AquariumEnclosure;
 import net.zoofantastique.controller.enclosure.composition.AviaryEnclosure;
 import net.zoofantastique.controller.enclosure.composition.Enclosure;
@@ -8,8 +9,23 @@ import net.zoofantastique.controller.entity.creature.behavior.Gender;
 import net.zoofantastique.controller.entity.creature.composition.Creature;
 import net.zoofantastique.controller.entity.creature.composition.oviparous.*;
 import net.zoofantastique.controller.entity.creature.composition.viviparous.*;
+import net.zoofantastique.metrics.AllocationTracker;
+import net.zoofantastique.metrics.ZooMetrics;
+import net.zoofantastique.metrics.jfr.TransferEvent;
+import net.zoofantastique.query.CreatureQuery;
+import net.zoofantastique.query.QueryException;
+import net.zoofantastique.query.QueryResult;
+import net.zoofantastique.simulation.BirthPipeline;
+import net.zoofantastique.simulation.feeding.FeedingPlan;
+import net.zoofantastique.simulation.feeding.FeedingPlanner;
+import net.zoofantastique.simulation.forecast.Forecast;
+import net.zoofantastique.simulation.forecast.Forecaster;
+import net.zoofantastique.simulation.forecast.ZooSnapshot;
 import net.zoofantastique.utils.Utils;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Scanner;
 
 import static net.zoofantastique.view.ConsoleTricks.*;
@@ -19,6 +35,8 @@ import static net.zoofantastique.view.ConsoleTricks.*;
  * Cette classe contient des méthodes pour afficher le menu du jeu.
  */
 public class MenuZooMaster {
+    private static final String METRICS_FILE = "zoo-metrics.txt"; // fichier des photographies de métriques
+
     // Méthodes
 
     // TODO : doc
@@ -31,7 +49,12 @@ public class MenuZooMaster {
         System.out.println("5 - Transférer une créature");
         System.out.println("6 - Ajouter un enclos");
         System.out.println("7 - Ajouter une créature");
-        System.out.println("8 - Quitter le jeu");
+        System.out.println("8 - Réapprovisionner la nourriture");
+        System.out.println("9 - Nourrir toutes les créatures affamées");
+        System.out.println("10 - Afficher les métriques du zoo");
+        System.out.println("11 - Rechercher des créatures");
+        System.out.println("12 - Prévoir l'avenir du zoo");
+        System.out.println("13 - Quitter le jeu");
 
         String option = scan();
         switch (option) {
@@ -42,15 +65,21 @@ public class MenuZooMaster {
             case "5" -> transferCreature(game);
             case "6" -> addEnclosure(game);
             case "7" -> addCreature(game);
-            case "8" -> {
+            case "8" -> restockFood(game);
+            case "9" -> feedAllCreatures(game);
+            case "10" -> showMetrics(game);
+            case "11" -> searchCreatures(game);
+            case "12" -> forecast(game);
+            case "13" -> {
                 System.out.println("Merci d'avoir joué à Idle Zoo Fantastique Tycoon!");
                 System.out.println("À bientôt!");
                 System.out.println("D'ailleurs, vos données ont bien " + boldText("pas") + " été sauvegardées.");
                 ConsoleTricks.waitEnter(true);
+                game.close();
                 System.exit(0);
             }
             default -> {
-                System.out.println("L'option que vous avez choisi n'existe pas, rentrer un chiffre entre 1 et .");
+                System.out.println("L'option que vous avez choisi n'existe pas, rentrer un chiffre entre 1 et 13.");
                 ConsoleTricks.waitEnter(true);
                 displayMainMenu(game);
             }
@@ -72,29 +101,59 @@ public class MenuZooMaster {
                 System.out.println("Veuillez entrer un nombre valide.");
             }
         } while (choice < 0 || choice >= game.getZoo().getEnclosures().size());
+        long start = System.nanoTime();
+        long startBytes = AllocationTracker.allocatedBytes();
         System.out.println("Enclos " + boldText(game.getZoo().getEnclosures().get(choice).getName()) + ":");
         System.out.println(game.getZoo().getEnclosures().get(choice));
+        ZooMetrics.recordCommand("show", start, startBytes);
 
         waitEnter("retourner au menu", true);
         displayMainMenu(game);
     }
 
-    // TODO : doc
+    /**
+     * Lance la maintenance d'un enclos, ou de tous les enclos, en tâche de fond : le menu revient aussitôt
+     * et un message annonce la fin de chaque maintenance.
+     */
     public static void doMaintenance(Game game) {
         int choice = -1;
+        boolean all = false;
         do {
             System.out.println("Voici la liste des enclos de " + boldText(game.getZoo().getZooName()) + ":");
             for (int i = 0; i < game.getZoo().getEnclosures().size(); i++) {
                 System.out.println(i + " - " + boldText(game.getZoo().getEnclosures().get(i).getName()));
             }
-            System.out.println("Quel enclos voulez-vous maintenir?");
+            System.out.println("Quel enclos voulez-vous maintenir? (\"tous\" pour tous les enclos)");
+            String answer = scanner.nextLine();
+            if (answer.equalsIgnoreCase("tous")) {
+                all = true;
+                break;
+            }
             try {
-                choice = Integer.parseInt(scanner.nextLine());
+                choice = Integer.parseInt(answer);
             } catch (NumberFormatException e) {
                 System.out.println("Veuillez entrer un nombre valide.");
             }
         } while (choice < 0 || choice >= game.getZoo().getEnclosures().size());
-        game.getZoo().getEnclosures().get(choice).maintenance();
+        long start = System.nanoTime();
+        long startBytes = AllocationTracker.allocatedBytes();
+        List<Enclosure<? super Creature>> enclosures = all
+                ? List.copyOf(game.getZoo().getEnclosures())
+                : List.of(game.getZoo().getEnclosures().get(choice));
+        for (Enclosure<?> enclosure : enclosures) {
+            if (enclosure.getListCreature().isEmpty()) {
+                enclosure.maintenance();
+                continue;
+            }
+            System.out.println("Maintenance de " + boldText(enclosure.getName()) + " lancée, durée prévue : "
+                    + enclosure.maintenanceMillis() / 1000.0 + "s.");
+            game.getSimulation().getMaintenance().submit(enclosure).whenComplete((done, error) -> {
+                if (error != null) {
+                    System.err.println("Maintenance de " + enclosure.getName() + " interrompue : " + error.getMessage());
+                }
+            });
+        }
+        ZooMetrics.recordCommand("maintenance", start, startBytes);
 
         waitEnter("retourner au menu", true);
         displayMainMenu(game);
@@ -125,7 +184,26 @@ public class MenuZooMaster {
                 System.out.println("Veuillez entrer un nombre valide.");
             }
         } while (choice2 < 0 || choice2 >= game.getZoo().getEnclosures().get(choice).getListCreature().size());
-        game.getZoo().getEnclosures().get(choice).getListCreature().get(choice2).feed(new Beefsteak());
+        Creature creature = game.getZoo().getEnclosures().get(choice).getListCreature().get(choice2);
+        long start = System.nanoTime();
+        long startBytes = AllocationTracker.allocatedBytes();
+        FoodInventory inventory = game.getZoo().getFoodInventory();
+        FoodCatalog item = null;
+        for (FoodCatalog compatible : FeedingPlanner.dietOf(creature, inventory)) {
+            if (inventory.reserve(compatible, 1)) {
+                item = compatible;
+                break;
+            }
+        }
+        if (item == null) {
+            System.err.println("Il n'y a plus de nourriture adaptée à " + creature.getName() + " en stock!");
+        } else if (creature.feed(item.getFood())) {
+            inventory.consume(item, 1);
+            System.out.println(creature.getName() + " a mangé: " + item.getFood().getName() + ".");
+        } else {
+            inventory.release(item, 1);
+        }
+        ZooMetrics.recordCommand("feed", start, startBytes);
 
         waitEnter("retourner au menu", true);
         displayMainMenu(game);
@@ -156,10 +234,13 @@ public class MenuZooMaster {
             }
         } while (choice2 < 0 || choice2 >= game.getZoo().getEnclosures().get(choice).getListCreature().size());
 
+        long start = System.nanoTime();
+        long startBytes = AllocationTracker.allocatedBytes();
         if (game.getZoo().getEnclosures().get(choice).getListCreature().get(choice2).isSick())
             game.getZoo().getEnclosures().get(choice).getListCreature().get(choice2).heal();
         else
             System.out.println("La créature n'est pas malade.");
+        ZooMetrics.recordCommand("heal", start, startBytes);
 
         waitEnter("retourner au menu", true);
         displayMainMenu(game);
@@ -212,15 +293,70 @@ public class MenuZooMaster {
         } while (destinationEnclosureIndex < 0 || destinationEnclosureIndex >= game.getZoo().getEnclosures().size() || destinationEnclosureIndex == sourceEnclosureIndex);
 
         // Transfer the creature
-        Creature creature = game.getZoo().getEnclosures().get(sourceEnclosureIndex).getListCreature().remove(creatureIndex);
-        game.getZoo().getEnclosures().get(destinationEnclosureIndex).getListCreature().add(creature);
-
-        System.out.println("La créature " + creature.getName() + " a été transférée de l'enclos " + game.getZoo().getEnclosures().get(sourceEnclosureIndex).getName() + " à l'enclos " + game.getZoo().getEnclosures().get(destinationEnclosureIndex).getName() + ".");
+        long start = System.nanoTime();
+        long startBytes = AllocationTracker.allocatedBytes();
+        TransferEvent event = new TransferEvent();
+        event.begin();
+        Creature creature = game.getZoo().getEnclosures().get(sourceEnclosureIndex).getListCreature().get(creatureIndex);
+        game.getZoo().getEnclosures().get(destinationEnclosureIndex).addCreature(creature);
+        if (creature.getEnclosure() == game.getZoo().getEnclosures().get(destinationEnclosureIndex)) {
+            game.getZoo().getEnclosures().get(sourceEnclosureIndex).removeCreature(creature);
+            ZooMetrics.TRANSFERS.increment();
+            System.out.println("La créature " + creature.getName() + " a été transférée de l'enclos " + game.getZoo().getEnclosures().get(sourceEnclosureIndex).getName() + " à l'enclos " + game.getZoo().getEnclosures().get(destinationEnclosureIndex).getName() + ".");
+        }
+        event.commitFor(creature, game.getZoo().getEnclosures().get(sourceEnclosureIndex), game.getZoo().getEnclosures().get(destinationEnclosureIndex));
+        ZooMetrics.recordCommand("transfer", start, startBytes);
 
         waitEnter(true);
         displayMainMenu(game);
     }
 
+    /**
+     * Affiche le stock de nourriture du zoo puis livre la quantité demandée de chaque nourriture du catalogue.
+     *
+     * @param game La partie en cours.
+     */
+    public static void restockFood(Game game) {
+        FoodInventory inventory = game.getZoo().getFoodInventory();
+        System.out.println(inventory);
+        long[] quantities = new long[FoodCatalog.values().length];
+        for (FoodCatalog item : FoodCatalog.values()) {
+            System.out.println("Combien de " + item.getFood().getName() + " voulez-vous commander?");
+            try {
+                quantities[item.ordinal()] = Math.max(0, Long.parseLong(scanner.nextLine()));
+            } catch (NumberFormatException e) {
+                System.out.println("Veuillez entrer un nombre valide, aucune commande de " + item.getFood().getName() + ".");
+            }
+        }
+        long start = System.nanoTime();
+        long startBytes = AllocationTracker.allocatedBytes();
+        inventory.restockFresh(quantities);
+        ZooMetrics.recordCommand("restock", start, startBytes);
+        System.out.println(inventory);
+
+        waitEnter("retourner au menu", true);
+        displayMainMenu(game);
+    }
+
+    /**
+     * Planifie puis exécute en une passe le repas de toutes les créatures affamées du zoo,
+     * les plus affamées étant servies en premier avec une nourriture adaptée à leur habitat.
+     *
+     * @param game La partie en cours.
+     */
+    public static void feedAllCreatures(Game game) {
+        long start = System.nanoTime();
+        long startBytes = AllocationTracker.allocatedBytes();
+        FeedingPlan plan = new FeedingPlanner().plan(game.getZoo(), game.getZoo().getFoodInventory());
+        int fed = plan.execute();
+        ZooMetrics.recordCommand("feedAll", start, startBytes);
+        System.out.println(fed + " créature(s) nourrie(s).");
+        System.out.println(game.getZoo().getFoodInventory());
+
+        waitEnter("retourner au menu", true);
+        displayMainMenu(game);
+    }
+
     // TODO : doc
     public static void addEnclosure(Game game) {
         String enclosureType;
@@ -240,11 +376,14 @@ public class MenuZooMaster {
             }
         } while (!enclosureType.equals("1") && !enclosureType.equals("2") && !enclosureType.equals("3"));
 
+        long start = System.nanoTime();
+        long startBytes = AllocationTracker.allocatedBytes();
         switch (enclosureType) {
             case "1" -> game.getZoo().addEnclosure(new Enclosure<>(enclosureName, 20, 10));
             case "2" -> game.getZoo().addEnclosure(new AviaryEnclosure<>(enclosureName, 20, 10, 5));
             case "3" -> game.getZoo().addEnclosure(new AquariumEnclosure<>(enclosureName, 20, 10, 5));
         }
+        ZooMetrics.recordCommand("addEnclosure", start, startBytes);
 
         waitEnter(true);
         displayMainMenu(game);
@@ -303,12 +442,111 @@ public class MenuZooMaster {
             enclosureIndex = getEnclosureIndex(game, scanner, enclosureIndex);
         } while (enclosureIndex < 0 || enclosureIndex >= game.getZoo().getEnclosures().size());
 
+        long start = System.nanoTime();
+        long startBytes = AllocationTracker.allocatedBytes();
         game.getZoo().getEnclosures().get(enclosureIndex).addCreature(creature);
+        if (creature.getEnclosure() != null) {
+            game.getSimulation().activate(creature);
+        }
+        ZooMetrics.recordCommand("addCreature", start, startBytes);
 
         waitEnter(true);
         displayMainMenu(game);
     }
 
+    /**
+     * Affiche une photographie des métriques du zoo (durées des pas de simulation et des commandes, naissances, décès,
+     * repas, maintenances, transferts, tâches en attente) et propose de l'enregistrer dans un fichier.
+     *
+     * @param game La partie en cours.
+     */
+    public static void showMetrics(Game game) {
+        System.out.println(ZooMetrics.registry().snapshot());
+        System.out.println("Voulez-vous enregistrer ces métriques dans un fichier? (o/n)");
+        if (scanner.nextLine().equalsIgnoreCase("o")) {
+            Path file = Path.of(METRICS_FILE);
+            try {
+                ZooMetrics.registry().dump(file);
+                System.out.println("Métriques enregistrées dans " + file.toAbsolutePath() + ".");
+            } catch (IOException e) {
+                System.err.println("Impossible d'enregistrer les métriques: " + e.getMessage());
+            }
+        }
+
+        waitEnter("retourner au menu", true);
+        displayMainMenu(game);
+    }
+
+    /**
+     * Recherche des créatures avec une requête, par exemple « species=Kraken and hunger<=3 and age in (ADULT,OLD) ».
+     * Une requête invalide est signalée avec la position de l'erreur et redemandée ; une ligne vide revient au menu.
+     */
+    public static void searchCreatures(Game game) {
+        System.out.println("Champs : species/espece, name/nom, enclosure/enclos, gender/sexe, age, id, hunger/faim, weight/poids,");
+        System.out.println("height/taille, sick/malade, sleeping/dort, pregnant/enceinte ; opérateurs : = != < <= > >= in (...), and, or, not.");
+        while (true) {
+            System.out.println("Votre requête (vide pour revenir au menu) :");
+            String text = scanner.nextLine();
+            if (text.isBlank()) {
+                break;
+            }
+            long start = System.nanoTime();
+            long startBytes = AllocationTracker.allocatedBytes();
+            CreatureQuery query;
+            try {
+                query = CreatureQuery.compile(text);
+            } catch (QueryException e) {
+                System.err.println("Requête invalide : " + e.getMessage());
+                continue;
+            }
+            QueryResult result = query.run(game.getZoo());
+            for (Creature creature : result.creatures()) {
+                System.out.println(QueryResult.line(creature));
+            }
+            System.out.println(boldText(result.toString()));
+            ZooMetrics.recordCommand("query", start, startBytes);
+        }
+        displayMainMenu(game);
+    }
+
+    /**
+     * Prévoit l'avenir du zoo : de nombreux futurs sont simulés à partir de son état actuel et la prévision
+     * donne, pour l'horizon choisi, les morts, les naissances, le risque de famine et les enclos qui débordent.
+     */
+    public static void forecast(Game game) {
+        int days = askPositive("Sur combien de jours ? (" + Forecaster.DEFAULT_DAYS + " par défaut)", Forecaster.DEFAULT_DAYS);
+        int replicas = askPositive("Combien de futurs simuler ? (" + Forecaster.DEFAULT_REPLICAS + " par défaut)", Forecaster.DEFAULT_REPLICAS);
+        long start = System.nanoTime();
+        long startBytes = AllocationTracker.allocatedBytes();
+        BirthPipeline births = game.getSimulation() == null ? null : game.getSimulation().getBirthPipeline();
+        ZooSnapshot snapshot = ZooSnapshot.of(game.getZoo(), births);
+        Forecast forecast = Forecaster.forecast(snapshot, replicas, days, System.nanoTime());
+        System.out.println(forecast);
+        ZooMetrics.recordCommand("forecast", start, startBytes);
+
+        waitEnter("retourner au menu", true);
+        displayMainMenu(game);
+    }
+
+    private static int askPositive(String question, int byDefault) {
+        while (true) {
+            System.out.println(question);
+            String answer = scanner.nextLine().trim();
+            if (answer.isEmpty()) {
+                return byDefault;
+            }
+            try {
+                int value = Integer.parseInt(answer);
+                if (value > 0) {
+                    return value;
+                }
+            } catch (NumberFormatException e) {
+                // redemandé ci-dessous
+            }
+            System.out.println("Veuillez entrer un nombre positif.");
+        }
+    }
+
     private static void displayEnclosureCreature(Game game, int choice) {
         System.out.println("Voici la liste des créatures de l'enclos " + boldText(game.getZoo().getEnclosures().get(choice).getName()) + ":");
         for (int i = 0; i < game.getZoo().getEnclosures().get(choice).getListCreature().size(); i++) {
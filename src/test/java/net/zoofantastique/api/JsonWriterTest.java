@@ -0,0 +1,29 @@
+package net.zoofantastique.api;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonWriterTest {
+
+    @Test
+    void commasArePlacedBetweenMembersAndElements() {
+        String json = new JsonWriter().beginObject()
+                .field("nom", "Prairie")
+                .field("max", 10)
+                .name("creatures").beginArray().value(1).value(2).beginObject().endObject().endArray()
+                .field("ok", true)
+                .endObject().toString();
+        assertEquals("{\"nom\":\"Prairie\",\"max\":10,\"creatures\":[1,2,{}],\"ok\":true}", json);
+    }
+
+    @Test
+    void stringsAreEscapedAndSpecialNumbersAreNull() {
+        String json = new JsonWriter().beginArray()
+                .value("a\"b\\c\nd\u0001")
+                .value((String) null)
+                .value(Double.NaN)
+                .endArray().toString();
+        assertEquals("[\"a\\\"b\\\\c\\nd\\u0001\",null,null]", json);
+    }
+}
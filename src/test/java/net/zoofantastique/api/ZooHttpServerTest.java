@@ -0,0 +1,152 @@
+package net.zoofantastique.api;
+
+import net.zoofantastique.controller.consumable.food.Beefsteak;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Unicorn;
+import net.zoofantastique.controller.entity.zoomaster.ZooMaster;
+import net.zoofantastique.controller.zoo.Zoo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZooHttpServerTest {
+    private Zoo zoo;
+    private Enclosure<Creature> enclosure;
+    private Unicorn unicorn;
+    private ZooHttpServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        zoo = new Zoo("Zoo", new ZooMaster("Maître", Gender.MALE, Age.ADULT));
+        enclosure = new Enclosure<>("Prairie", 100, 10);
+        unicorn = new Unicorn("Licorne", Gender.FEMALE);
+        enclosure.addCreature(unicorn);
+        zoo.addEnclosure(enclosure);
+        server = new ZooHttpServer(zoo, 0);
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+        zoo.close();
+    }
+
+    private HttpResponse<String> get(String path, String etag) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path));
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    void endpointsServeJson() throws Exception {
+        HttpResponse<String> zooResponse = get("/zoo", null);
+        assertEquals(200, zooResponse.statusCode());
+        assertTrue(zooResponse.body().contains("\"nbCreatures\":1"), zooResponse.body());
+        assertTrue(get("/enclos/0", null).body().contains("\"nom\":\"Licorne\""));
+        assertTrue(get("/enclos/0/creatures/" + unicorn.getId(), null).body().contains("\"etatFaim\":\"Répu\""));
+        assertTrue(get("/stats", null).body().contains("\"parEspece\":{\"Unicorn\":1}"));
+        assertEquals("[]", get("/meutes", null).body());
+        assertEquals(404, get("/enclos/3", null).statusCode());
+        assertEquals(404, get("/inconnu", null).statusCode());
+    }
+
+    @Test
+    void unchangedResourceIsServedFromCacheAndRevalidatedWith304() throws Exception {
+        HttpResponse<String> first = get("/enclos/0", null);
+        String etag = first.headers().firstValue("ETag").orElseThrow();
+        long renders = server.getCache().getRenders();
+        HttpResponse<String> second = get("/enclos/0", etag);
+        assertEquals(304, second.statusCode());
+        assertEquals(200, get("/enclos/0", null).statusCode());
+        assertEquals(renders, server.getCache().getRenders(), "une ressource inchangée n'est pas sérialisée à nouveau");
+    }
+
+    @Test
+    void mutationChangesTheEtag() throws Exception {
+        String etag = get("/enclos/0", null).headers().firstValue("ETag").orElseThrow();
+        String zooEtag = get("/zoo", null).headers().firstValue("ETag").orElseThrow();
+        unicorn.setHunger(5);
+        HttpResponse<String> changed = get("/enclos/0", etag);
+        assertEquals(200, changed.statusCode());
+        assertNotEquals(etag, changed.headers().firstValue("ETag").orElseThrow());
+        assertTrue(changed.body().contains("\"faim\":5"));
+        assertEquals(200, get("/zoo", zooEtag).statusCode());
+    }
+
+    @Test
+    void eventStreamPushesFilteredEvents() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + server.getPort() + "/evenements?types=repas,mort&politique=coalesce")).build();
+        HttpResponse<Stream<String>> response = client.send(request, HttpResponse.BodyHandlers.ofLines());
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElseThrow().startsWith("text/event-stream"));
+        assertEquals(1, server.getOpenStreams());
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            unicorn.setHunger(3); // événement « faim », filtré
+            unicorn.feed(new Beefsteak());
+            Iterator<String> lines = response.body().iterator();
+            String line;
+            do {
+                line = lines.next();
+            } while (!line.startsWith("event:"));
+            assertEquals("event: repas", line);
+            String data = lines.next();
+            assertTrue(data.startsWith("data: {") && data.contains("\"id\":" + unicorn.getId()), data);
+        });
+        response.body().close();
+    }
+
+    @Test
+    void eventStreamOnlyCarriesEventsOfItsZoo() throws Exception {
+        Zoo other = new Zoo("Autre zoo", new ZooMaster("Autre maître", Gender.FEMALE, Age.ADULT));
+        Enclosure<Creature> otherEnclosure = new Enclosure<>("Prairie", 100, 10); // même nom que l'enclos du zoo servi
+        Unicorn stranger = new Unicorn("Étrangère", Gender.FEMALE);
+        otherEnclosure.addCreature(stranger);
+        other.addEnclosure(otherEnclosure);
+        try (other) {
+            HttpRequest request = HttpRequest.newBuilder(
+                    URI.create("http://localhost:" + server.getPort() + "/evenements?types=repas")).build();
+            HttpResponse<Stream<String>> response = client.send(request, HttpResponse.BodyHandlers.ofLines());
+            assertEquals(200, response.statusCode());
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                stranger.setHunger(3);
+                stranger.feed(new Beefsteak()); // repas de l'autre zoo, absent du flux
+                unicorn.setHunger(3);
+                unicorn.feed(new Beefsteak());
+                Iterator<String> lines = response.body().iterator();
+                String line;
+                do {
+                    line = lines.next();
+                } while (!line.startsWith("data:"));
+                assertTrue(line.contains("\"id\":" + unicorn.getId()), line);
+            });
+            response.body().close();
+        }
+    }
+
+    @Test
+    void eventStreamRejectsInvalidParameters() throws Exception {
+        assertEquals(400, get("/evenements?politique=inconnue", null).statusCode());
+        assertEquals(400, get("/evenements?types=inconnu", null).statusCode());
+        assertEquals(400, get("/evenements?taille=0", null).statusCode());
+        assertEquals(0, server.getOpenStreams());
+    }
+}
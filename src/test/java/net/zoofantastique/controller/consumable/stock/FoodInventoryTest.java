@@ -0,0 +1,204 @@
+package net.zoofantastique.controller.consumable.stock;
+
+import net.zoofantastique.controller.consumable.behavior.FoodType;
+import net.zoofantastique.controller.consumable.food.FoodCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FoodInventoryTest {
+    private FoodInventory inventory;
+
+    @BeforeEach
+    void setUp() {
+        inventory = new FoodInventory();
+        inventory.restock(FoodCatalog.BEEFSTEAK, 10);
+    }
+
+    @Test
+    void catalogFoodIsSharedAndImmutable() {
+        assertSame(FoodCatalog.BEEFSTEAK.getFood(), FoodCatalog.of(FoodType.TERRESTRIAL).getFood());
+        assertThrows(UnsupportedOperationException.class, () -> FoodCatalog.SKY_SEEDS.getFood().setValue(99));
+    }
+
+    @Test
+    void reserveMovesStockFromAvailableToReserved() {
+        assertTrue(inventory.reserve(FoodCatalog.BEEFSTEAK, 4));
+        assertEquals(6, inventory.getAvailable(FoodCatalog.BEEFSTEAK));
+        assertEquals(4, inventory.getReserved(FoodCatalog.BEEFSTEAK));
+    }
+
+    @Test
+    void reserveFailsWhenStockIsInsufficient() {
+        assertFalse(inventory.reserve(FoodCatalog.BEEFSTEAK, 11));
+        assertFalse(inventory.reserve(FoodCatalog.OCEAN_DELIGHT, 1));
+        assertEquals(10, inventory.getAvailable(FoodCatalog.BEEFSTEAK));
+    }
+
+    @Test
+    void consumeAndReleaseSettleTheReservation() {
+        inventory.reserve(FoodCatalog.BEEFSTEAK, 4);
+        inventory.consume(FoodCatalog.BEEFSTEAK, 3);
+        inventory.release(FoodCatalog.BEEFSTEAK, 1);
+        assertEquals(7, inventory.getAvailable(FoodCatalog.BEEFSTEAK));
+        assertEquals(0, inventory.getReserved(FoodCatalog.BEEFSTEAK));
+    }
+
+    @Test
+    void consumingMoreThanReservedThrows() {
+        assertThrows(IllegalStateException.class, () -> inventory.consume(FoodCatalog.BEEFSTEAK, 1));
+    }
+
+    @Test
+    void bulkReserveIsAllOrNothing() {
+        inventory.restock(new long[]{0, 2, 5});
+        assertFalse(inventory.reserve(new long[]{3, 3, 1}));
+        assertEquals(10, inventory.getAvailable(FoodCatalog.BEEFSTEAK));
+        assertEquals(2, inventory.getAvailable(FoodCatalog.OCEAN_DELIGHT));
+        assertTrue(inventory.reserve(new long[]{3, 2, 1}));
+        assertEquals(4, inventory.getAvailable(FoodCatalog.SKY_SEEDS));
+    }
+
+    @Test
+    void concurrentFeedersNeverOverdrawTheStock() throws InterruptedException {
+        inventory.restock(FoodCatalog.SKY_SEEDS, 1000);
+        AtomicLong taken = new AtomicLong();
+        List<Thread> feeders = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread feeder = new Thread(() -> {
+                for (int j = 0; j < 500; j++) {
+                    if (inventory.tryConsume(FoodCatalog.SKY_SEEDS, 1)) {
+                        taken.incrementAndGet();
+                    }
+                }
+            });
+            feeders.add(feeder);
+            feeder.start();
+        }
+        for (Thread feeder : feeders) {
+            feeder.join();
+        }
+        assertEquals(1000, taken.get());
+        assertEquals(0, inventory.getAvailable(FoodCatalog.SKY_SEEDS));
+    }
+
+    @Test
+    void concurrentReservationsAndExpiriesConserveTheStock() throws InterruptedException {
+        long delivered = 0;
+        for (int day = 1; day <= 2000; day++) {
+            inventory.restock(FoodCatalog.SKY_SEEDS, 3, day);
+            delivered += 3;
+        }
+        AtomicBoolean expiring = new AtomicBoolean(true);
+        List<Thread> feeders = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread feeder = new Thread(() -> {
+                while (expiring.get()) {
+                    if (inventory.reserve(FoodCatalog.SKY_SEEDS, 2)) {
+                        inventory.release(FoodCatalog.SKY_SEEDS, 2);
+                    }
+                }
+            });
+            feeders.add(feeder);
+            feeder.start();
+        }
+        for (int day = 1; day <= 2000; day++) {
+            inventory.expire(day);
+        }
+        expiring.set(false);
+        for (Thread feeder : feeders) {
+            feeder.join();
+        }
+        assertEquals(0, inventory.getAvailable(FoodCatalog.SKY_SEEDS), "tous les lots sont périmés");
+        assertEquals(0, inventory.getReserved(FoodCatalog.SKY_SEEDS));
+        assertEquals(delivered, inventory.getSpoiled(FoodCatalog.SKY_SEEDS));
+    }
+
+    @Test
+    void expiredLotLeavesTheAvailableStock() {
+        inventory.restock(FoodCatalog.BEEFSTEAK, 5, 3);
+        assertEquals(15, inventory.getAvailable(FoodCatalog.BEEFSTEAK));
+        assertEquals(0, inventory.expire(2));
+        assertEquals(1, inventory.expire(3));
+        assertEquals(10, inventory.getAvailable(FoodCatalog.BEEFSTEAK));
+        assertEquals(5, inventory.getSpoiled(FoodCatalog.BEEFSTEAK));
+        assertEquals(Long.MAX_VALUE, inventory.getSoonestExpiry(FoodCatalog.BEEFSTEAK));
+    }
+
+    @Test
+    void consumptionDrawsFromTheSoonestExpiringLot() {
+        StockLot late = inventory.restock(FoodCatalog.SKY_SEEDS, 4, 9);
+        StockLot soon = inventory.restock(FoodCatalog.SKY_SEEDS, 2, 4);
+        assertEquals(4, inventory.getSoonestExpiry(FoodCatalog.SKY_SEEDS));
+        assertTrue(inventory.tryConsume(FoodCatalog.SKY_SEEDS, 3));
+        assertEquals(0, soon.getRemaining());
+        assertEquals(3, late.getRemaining());
+        assertEquals(9, inventory.getSoonestExpiry(FoodCatalog.SKY_SEEDS));
+        assertEquals(1, inventory.getNbLots());
+        inventory.expire(9);
+        assertEquals(0, inventory.getAvailable(FoodCatalog.SKY_SEEDS));
+        assertEquals(3, inventory.getSpoiled(FoodCatalog.SKY_SEEDS));
+    }
+
+    @Test
+    void reservedPartOfAnExpiredLotIsNotSpoiled() {
+        inventory.restock(FoodCatalog.OCEAN_DELIGHT, 4, 2);
+        assertTrue(inventory.reserve(FoodCatalog.OCEAN_DELIGHT, 3));
+        inventory.expire(2);
+        assertEquals(0, inventory.getAvailable(FoodCatalog.OCEAN_DELIGHT));
+        assertEquals(1, inventory.getSpoiled(FoodCatalog.OCEAN_DELIGHT));
+        inventory.consume(FoodCatalog.OCEAN_DELIGHT, 3);
+        assertEquals(0, inventory.getReserved(FoodCatalog.OCEAN_DELIGHT));
+    }
+
+    @Test
+    void reservedPartOfAnExpiredLotDoesNotEatIntoOtherStock() {
+        inventory.restock(FoodCatalog.BEEFSTEAK, 5, 3);
+        assertTrue(inventory.reserve(FoodCatalog.BEEFSTEAK, 5));
+        assertEquals(1, inventory.expire(3));
+        assertEquals(10, inventory.getAvailable(FoodCatalog.BEEFSTEAK), "le stock non périssable est intact");
+        assertEquals(0, inventory.getSpoiled(FoodCatalog.BEEFSTEAK));
+        inventory.consume(FoodCatalog.BEEFSTEAK, 5);
+        assertEquals(10, inventory.getAvailable(FoodCatalog.BEEFSTEAK));
+        assertEquals(0, inventory.getSpoiled(FoodCatalog.BEEFSTEAK));
+        assertEquals(0, inventory.getReserved(FoodCatalog.BEEFSTEAK));
+    }
+
+    @Test
+    void releasedPartOfAnExpiredLotIsSpoiled() {
+        StockLot lot = inventory.restock(FoodCatalog.BEEFSTEAK, 5, 3);
+        assertTrue(inventory.reserve(FoodCatalog.BEEFSTEAK, 7));
+        assertEquals(5, lot.getReserved(), "la réservation est imputée au lot qui expire le plus tôt");
+        inventory.expire(3);
+        assertEquals(8, inventory.getAvailable(FoodCatalog.BEEFSTEAK));
+        inventory.release(FoodCatalog.BEEFSTEAK, 7);
+        assertEquals(10, inventory.getAvailable(FoodCatalog.BEEFSTEAK));
+        assertEquals(5, inventory.getSpoiled(FoodCatalog.BEEFSTEAK));
+        assertEquals(0, inventory.getReserved(FoodCatalog.BEEFSTEAK));
+    }
+
+    @Test
+    void releasedReservationGoesBackToItsLot() {
+        StockLot lot = inventory.restock(FoodCatalog.SKY_SEEDS, 4, 6);
+        assertTrue(inventory.reserve(FoodCatalog.SKY_SEEDS, 3));
+        assertEquals(1, lot.getRemaining());
+        inventory.release(FoodCatalog.SKY_SEEDS, 3);
+        assertEquals(4, lot.getRemaining());
+        inventory.expire(6);
+        assertEquals(0, inventory.getAvailable(FoodCatalog.SKY_SEEDS));
+        assertEquals(4, inventory.getSpoiled(FoodCatalog.SKY_SEEDS));
+    }
+
+    @Test
+    void freshLotUsesTheShelfLifeOfItsFood() {
+        inventory.expire(5);
+        StockLot lot = inventory.restockFresh(FoodCatalog.OCEAN_DELIGHT, 1);
+        assertEquals(5 + FoodCatalog.OCEAN_DELIGHT.getShelfLife(), lot.getDeadline());
+    }
+}
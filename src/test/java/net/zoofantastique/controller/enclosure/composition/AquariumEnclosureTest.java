@@ -3,10 +3,14 @@ package net.zoofantastique.controller.enclosure.composition;
 import net.zoofantastique.controller.enclosure.behavior.Cleanness;
 import net.zoofantastique.controller.enclosure.behavior.Salinity;
 import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
 import net.zoofantastique.controller.entity.creature.composition.oviparous.Dragon;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Unicorn;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
@@ -39,6 +43,14 @@ class AquariumEnclosureTest {
         assertEquals(1, aquariumEnclosure.getNbCreature());
     }
 
+    @Test
+    void whenAddCreaturesThatCannotSwimThenNothingIsAdded() {
+        AquariumEnclosure<Creature> aquarium = new AquariumEnclosure<>("Bassin", 100.0, 50.0, 10);
+        assertEquals(0, aquarium.addCreatures(List.of(new Unicorn("Licorne", Gender.FEMALE))));
+        assertEquals(1, aquarium.addCreatures(List.of(dragon)));
+        aquarium.close();
+    }
+
     @Test
     void whenAddCreatureExceedsMaxCapacityThenDoesNotAdd() {
         for (int i = 0; i < 11; i++) {
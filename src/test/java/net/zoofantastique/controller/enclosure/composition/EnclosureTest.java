@@ -7,8 +7,14 @@ import net.zoofantastique.controller.entity.creature.behavior.Hunger;
 import net.zoofantastique.controller.entity.creature.composition.oviparous.Dragon;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class EnclosureTest {
     private Enclosure<Dragon> enclosure;
@@ -47,6 +53,24 @@ class EnclosureTest {
         assertEquals(10, enclosure.getNbCreature());
     }
 
+    @Test
+    void whenAddCreaturesThenTheWholeBatchIsAdded() {
+        List<Dragon> batch = List.of(dragon, new Dragon("Autre", Gender.MALE));
+        assertEquals(2, enclosure.addCreatures(batch));
+        assertEquals(2, enclosure.getNbCreature());
+        assertSame(enclosure, batch.get(1).getEnclosure());
+    }
+
+    @Test
+    void whenAddCreaturesExceedsMaxCapacityThenNothingIsAdded() {
+        List<Dragon> batch = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            batch.add(new Dragon("Dragon " + i, Gender.MALE));
+        }
+        assertEquals(0, enclosure.addCreatures(batch));
+        assertEquals(0, enclosure.getNbCreature());
+    }
+
     @Test
     void whenRemoveCreatureThenDecrementsNbCreature() {
         enclosure.addCreature(dragon);
@@ -146,4 +170,17 @@ class EnclosureTest {
         enclosure.addCreature(dragon);
         assertEquals(expectedString, enclosure.toString());
     }
-}
\ No newline at end of file
+
+    @Test
+    void unchangedEnclosureViewIsReusedAndRebuiltAfterAChange() {
+        enclosure.addCreature(dragon);
+        String first = enclosure.toString();
+        assertSame(first, enclosure.toString(), "un enclos inchangé n'est pas rendu à nouveau");
+        dragon.setHunger(Hunger.HUNGRY.getValue());
+        String afterCreatureChange = enclosure.toString();
+        assertNotEquals(first, afterCreatureChange);
+        assertEquals(first.replace("Faim: Répu", "Faim: Affamé(e)"), afterCreatureChange);
+        enclosure.setCleanness(Cleanness.BAD);
+        assertNotSame(afterCreatureChange, enclosure.toString());
+    }
+}
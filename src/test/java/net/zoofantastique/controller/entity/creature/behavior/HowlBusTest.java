@@ -0,0 +1,64 @@
+package net.zoofantastique.controller.entity.creature.behavior;
+
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Lycanthrope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HowlBusTest {
+    private Pack pack;
+    private Lycanthrope male;
+    private Lycanthrope female;
+
+    @BeforeEach
+    void setUp() {
+        male = new Lycanthrope("Le male", Gender.MALE);
+        female = new Lycanthrope("La femelle", Gender.FEMALE);
+        pack = new Pack("Meute de test", male, female);
+    }
+
+    @Test
+    void packMembersAreSubscribed() {
+        assertEquals(2, pack.getHowlBus().getNbSubscribers());
+        assertEquals(pack, male.getPack());
+    }
+
+    @Test
+    void howlIsQueuedUntilFlush() {
+        male.howl(Howl.DOMINANCE);
+        assertNull(female.getLastHeardHowl());
+        assertEquals(1, pack.getHowlBus().getPending(Howl.DOMINANCE));
+    }
+
+    @Test
+    void howlsAreCoalescedAndDeliveredToEveryMember() {
+        male.howl(Howl.DOMINANCE);
+        male.howl(Howl.DOMINANCE);
+        female.howl(Howl.DOMINANCE);
+        assertEquals(2, pack.getHowlBus().flush());
+        assertEquals(Howl.DOMINANCE, female.getLastHeardHowl());
+        assertEquals(Howl.DOMINANCE, male.getLastHeardHowl());
+        assertEquals(3, female.getHeardHowls(Howl.DOMINANCE), "les trois hurlements regroupés sont entendus");
+        assertEquals(0, female.getHeardHowls(Howl.SUBMISSION));
+        assertEquals(0, pack.getHowlBus().getPending(Howl.DOMINANCE));
+    }
+
+    @Test
+    void removedMemberNoLongerHearsHowls() {
+        Lycanthrope other = new Lycanthrope("Autre", Gender.FEMALE);
+        pack.getHowlBus().subscribe(other);
+        pack.getHowlBus().unsubscribe(other);
+        female.howl(Howl.SUBMISSION);
+        pack.getHowlBus().flush();
+        assertNull(other.getLastHeardHowl());
+        assertEquals(Howl.SUBMISSION, male.getLastHeardHowl());
+    }
+
+    @Test
+    void howlWithoutPackIsIgnored() {
+        Lycanthrope loner = new Lycanthrope("Solitaire", Gender.MALE);
+        loner.howl(Howl.BELONGING);
+        assertEquals(0, pack.getHowlBus().flush());
+    }
+}
@@ -0,0 +1,43 @@
+package net.zoofantastique.controller.entity.creature.composition;
+
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.oviparous.Kraken;
+import net.zoofantastique.utils.ResourceRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CreatureFactoryTest {
+
+    @Test
+    void createBuildsAnInertCreatureOfTheRequestedSpecies() {
+        long mark = ResourceRegistry.mark();
+        Creature creature = CreatureFactory.create("Kraken", "Kiki", Gender.FEMALE);
+        assertInstanceOf(Kraken.class, creature);
+        assertEquals("Kiki", creature.getName());
+        assertFalse(creature.isActive());
+        assertTrue(ResourceRegistry.leaksSince(mark).isEmpty());
+    }
+
+    @Test
+    void createBatchBuildsNamedInertCreaturesWithoutThreads() {
+        long mark = ResourceRegistry.mark();
+        List<Creature> batch = CreatureFactory.createBatch("Unicorn", "Licorne", 10_000, new SplittableRandom(1));
+        assertEquals(10_000, batch.size());
+        assertEquals("Licorne 9999", batch.get(9_999).getName());
+        assertTrue(batch.stream().anyMatch(creature -> creature.getSexe() == Gender.MALE));
+        assertTrue(batch.stream().anyMatch(creature -> creature.getSexe() == Gender.FEMALE));
+        assertTrue(batch.stream().noneMatch(Creature::isActive));
+        assertTrue(ResourceRegistry.leaksSince(mark).isEmpty());
+    }
+
+    @Test
+    void unknownSpeciesIsRejected() {
+        assertFalse(CreatureFactory.isKnown("Hydre"));
+        assertThrows(IllegalArgumentException.class, () -> CreatureFactory.create("Hydre", "Hydre", Gender.MALE));
+        assertEquals(8, CreatureFactory.getSpeciesNames().size());
+    }
+}
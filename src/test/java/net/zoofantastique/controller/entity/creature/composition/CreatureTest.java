@@ -214,4 +214,44 @@ class CreatureTest {
         c.feed(new Beefsteak());
         assertEquals(Hunger.MAX.getState(), c.getHungerState());
     }
-}
\ No newline at end of file
+
+    @Test
+    void stateFlagsAreIndependent() {
+        c.setSick(true);
+        c.setPregnant(true);
+        c.setAge(Age.ADULT);
+        c.setSick(false);
+        assertFalse(c.isSick());
+        assertTrue(c.isPregnant());
+        assertFalse(c.isSleeping());
+        assertEquals(Age.ADULT, c.getAge());
+        assertEquals(Gender.MALE, c.getSexe());
+    }
+
+    @Test
+    void stateCopyRestoresEveryField() {
+        Creature other = new Unicorn("Other", Gender.FEMALE);
+        c.setAge(Age.OLD);
+        c.setSleeping(true);
+        other.setState(c.getState());
+        assertEquals(Age.OLD, other.getAge());
+        assertEquals(Gender.MALE, other.getSexe());
+        assertTrue(other.isSleeping());
+        assertFalse(other.isSick());
+    }
+
+    @Test
+    void descriptionIsCachedUntilTheCreatureChanges() {
+        String first = c.toString();
+        assertSame(first, c.toString());
+        c.setSick(true);
+        String sick = c.toString();
+        assertTrue(sick.contains("Malade: Oui"));
+        c.setName("Lucienne");
+        assertTrue(c.toString().contains("Nom: Lucienne"));
+        int state = c.getState();
+        c.setSick(false);
+        c.setState(state);
+        assertTrue(c.toString().contains("Malade: Oui"), "setState invalide aussi la description");
+    }
+}
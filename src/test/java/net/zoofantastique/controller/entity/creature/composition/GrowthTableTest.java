@@ -0,0 +1,43 @@
+package net.zoofantastique.controller.entity.creature.composition;
+
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.oviparous.Dragon;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Unicorn;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GrowthTableTest {
+
+    @Test
+    void speciesWithoutTableUsesDefault() {
+        assertSame(GrowthTable.DEFAULT, GrowthTable.of(Unicorn.class));
+    }
+
+    @Test
+    void speciesTableIsSharedByAllCreatures() {
+        new Dragon("Premier", Gender.MALE);
+        GrowthTable table = GrowthTable.of(Dragon.class);
+        new Dragon("Second", Gender.FEMALE);
+        assertSame(table, GrowthTable.of(Dragon.class));
+        assertNotSame(GrowthTable.DEFAULT, table);
+    }
+
+    @Test
+    void newbornSizeAndWeightFollowSpeciesTable() {
+        Dragon dragon = new Dragon("Bebe", Gender.MALE);
+        GrowthTable table = GrowthTable.of(Dragon.class);
+        assertTrue(dragon.getWeight() >= table.getMinWeight(Age.BABY));
+        assertTrue(dragon.getWeight() <= table.getMaxWeight(Age.BABY));
+        assertTrue(dragon.getHeight() >= table.getMinHeight(Age.BABY));
+        assertTrue(dragon.getHeight() <= table.getMaxHeight(Age.BABY));
+    }
+
+    @Test
+    void tableMustHaveOneValuePerAge() {
+        double[] tooShort = {1.0, 2.0};
+        double[] valid = {1.0, 2.0, 3.0, 4.0, 5.0};
+        assertThrows(IllegalArgumentException.class, () -> new GrowthTable(tooShort, valid, valid, valid));
+    }
+}
@@ -2,6 +2,7 @@ package net.zoofantastique.controller.entity.creature.composition.oviparous;
 
 import net.zoofantastique.controller.entity.creature.behavior.Age;
 import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.behavior.Hunger;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -88,4 +89,13 @@ class DragonTest {
         assertTrue(genders.contains(Gender.MALE));
         assertTrue(genders.contains(Gender.FEMALE));
     }
+
+    @Test
+    void deathRebornsDragonAsFullBaby() {
+        dragon.setAge(Age.ADULT);
+        dragon.setHunger(0);
+        dragon.haveToGoToTheHell();
+        assertEquals(Age.BABY, dragon.getAge());
+        assertEquals(Hunger.MAX.getValue(), dragon.getHunger());
+    }
 }
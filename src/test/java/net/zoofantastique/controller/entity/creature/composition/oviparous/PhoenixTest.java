@@ -72,4 +72,15 @@ class PhoenixTest {
         assertTrue(genders.contains(Gender.MALE));
         assertTrue(genders.contains(Gender.FEMALE));
     }
+
+    @Test
+    void rebirthKeepsTheTimersRunning() {
+        Phoenix reborn = new Phoenix("Phénix", Gender.FEMALE);
+        reborn.activate();
+        reborn.setAge(Age.ADULT);
+        reborn.haveToGoToTheHell();
+        assertEquals(Age.BABY, reborn.getAge());
+        assertTrue(reborn.isActive(), "un phénix qui renaît n'est pas mort : ses minuteries continuent");
+        reborn.close();
+    }
 }
@@ -0,0 +1,75 @@
+package net.zoofantastique.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSubscriptionTest {
+
+    private static ZooEvent event(long sequence, ZooEventType type, long creatureId) {
+        return new ZooEvent(sequence, 0, type, creatureId, "Créature " + creatureId, "Unicorn", "Prairie", null);
+    }
+
+    private static List<Long> sequences(EventSubscription subscription) {
+        List<ZooEvent> events = new ArrayList<>();
+        subscription.drainTo(events, Integer.MAX_VALUE);
+        return events.stream().map(ZooEvent::sequence).toList();
+    }
+
+    @Test
+    void dropOldestKeepsTheMostRecentEvents() {
+        EventSubscription subscription = new EventSubscription(3, OverflowPolicy.DROP_OLDEST, event -> true);
+        for (long i = 1; i <= 5; i++) {
+            assertTrue(subscription.offer(event(i, ZooEventType.FEEDING, i)));
+        }
+        assertEquals(2, subscription.getDropped());
+        assertEquals(List.of(3L, 4L, 5L), sequences(subscription));
+    }
+
+    @Test
+    void dropNewestKeepsTheOldestEvents() {
+        EventSubscription subscription = new EventSubscription(3, OverflowPolicy.DROP_NEWEST, event -> true);
+        for (long i = 1; i <= 5; i++) {
+            subscription.offer(event(i, ZooEventType.FEEDING, i));
+        }
+        assertEquals(2, subscription.getDropped());
+        assertEquals(List.of(1L, 2L, 3L), sequences(subscription));
+    }
+
+    @Test
+    void coalesceReplacesAnEventOnTheSameSubject() {
+        EventSubscription subscription = new EventSubscription(3, OverflowPolicy.COALESCE, event -> true);
+        subscription.offer(event(1, ZooEventType.HUNGER, 7));
+        subscription.offer(event(2, ZooEventType.FEEDING, 8));
+        subscription.offer(event(3, ZooEventType.HUNGER, 9));
+        subscription.offer(event(4, ZooEventType.HUNGER, 7)); // remplace 1, placé en fin de file
+        assertEquals(1, subscription.getCoalesced());
+        assertEquals(0, subscription.getDropped());
+        subscription.offer(event(5, ZooEventType.DEATH, 10)); // rien à fusionner : le plus ancien est perdu
+        assertEquals(1, subscription.getDropped());
+        assertEquals(List.of(3L, 4L, 5L), sequences(subscription));
+    }
+
+    @Test
+    void closingWakesUpAWaitingConsumer() throws Exception {
+        EventSubscription subscription = new EventSubscription(4, OverflowPolicy.DROP_OLDEST, event -> true);
+        Thread closer = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            subscription.close();
+        });
+        closer.start();
+        long start = System.nanoTime();
+        assertNull(subscription.poll(10, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        assertFalse(subscription.offer(event(1, ZooEventType.BIRTH, 1)), "un abonnement fermé ne reçoit plus rien");
+        closer.join();
+    }
+}
@@ -0,0 +1,78 @@
+package net.zoofantastique.events;
+
+import net.zoofantastique.controller.consumable.food.Beefsteak;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Unicorn;
+import net.zoofantastique.controller.entity.zoomaster.ZooMaster;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZooEventBusTest {
+
+    private static List<ZooEvent> drain(EventSubscription subscription) {
+        List<ZooEvent> events = new ArrayList<>();
+        subscription.drainTo(events, Integer.MAX_VALUE);
+        return events;
+    }
+
+    @Test
+    void zooActionsArePublishedToSubscribers() {
+        Enclosure<Creature> prairie = new Enclosure<>("Prairie", 100, 10);
+        Enclosure<Creature> plaine = new Enclosure<>("Plaine", 100, 10);
+        Unicorn unicorn = new Unicorn("Licorne", Gender.FEMALE);
+        Unicorn resident = new Unicorn("Résidente", Gender.FEMALE);
+        prairie.addCreature(unicorn);
+        plaine.addCreature(resident);
+        unicorn.setHunger(3);
+        try (EventSubscription subscription = ZooEventBus.subscribe(16, OverflowPolicy.DROP_OLDEST,
+                event -> event.creatureId() == unicorn.getId() || "Prairie".equals(event.enclosure()))) {
+            unicorn.feed(new Beefsteak());
+            new ZooMaster("Maître", Gender.MALE, Age.ADULT).transferTo(prairie, plaine, unicorn);
+            unicorn.setSick(true);
+            List<ZooEventType> types = drain(subscription).stream().map(ZooEvent::type).toList();
+            assertTrue(types.contains(ZooEventType.FEEDING), types.toString());
+            assertTrue(types.contains(ZooEventType.TRANSFER), types.toString());
+            assertTrue(types.contains(ZooEventType.SICKNESS), types.toString());
+        }
+        unicorn.close();
+        resident.close();
+    }
+
+    @Test
+    void filterSelectsEventsAndClosedSubscriptionsStopReceiving() {
+        Enclosure<Creature> prairie = new Enclosure<>("Prairie", 100, 10);
+        Unicorn unicorn = new Unicorn("Licorne", Gender.FEMALE);
+        prairie.addCreature(unicorn);
+        EventSubscription deaths = ZooEventBus.subscribe(4, OverflowPolicy.DROP_OLDEST,
+                event -> event.type() == ZooEventType.DEATH && event.creatureId() == unicorn.getId());
+        unicorn.setSick(true);
+        unicorn.haveToGoToTheHell();
+        List<ZooEvent> events = drain(deaths);
+        assertEquals(1, events.size());
+        assertEquals("Prairie", events.get(0).enclosure());
+        assertEquals("Unicorn", events.get(0).species());
+        deaths.close();
+        assertTrue(deaths.isClosed());
+        assertFalse(deaths.offer(events.get(0)));
+    }
+
+    @Test
+    void sequencesIncrease() {
+        Enclosure<Creature> prairie = new Enclosure<>("Prairie", 100, 10);
+        try (EventSubscription subscription = ZooEventBus.subscribe(8, OverflowPolicy.DROP_OLDEST,
+                event -> event.enclosure() != null && event.enclosure().equals("Prairie") && event.creatureId() == 0)) {
+            ZooEventBus.publish(ZooEventType.MAINTENANCE, prairie, "Propre");
+            ZooEventBus.publish(ZooEventType.MAINTENANCE, prairie, "Propre");
+            List<ZooEvent> events = drain(subscription);
+            assertEquals(2, events.size());
+            assertTrue(events.get(0).sequence() < events.get(1).sequence());
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package net.zoofantastique.events;
+
+import net.zoofantastique.controller.consumable.food.Beefsteak;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Nymph;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Unicorn;
+import net.zoofantastique.controller.entity.zoomaster.ZooMaster;
+import net.zoofantastique.controller.zoo.Zoo;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZooEventPublisherTest {
+
+    /**
+     * Abonné de test : garde ce qu'il reçoit et ne demande que ce qu'on lui dit de demander.
+     */
+    private static class RecordingSubscriber implements Flow.Subscriber<ZooEvent> {
+        final List<ZooEvent> received = new CopyOnWriteArrayList<>();
+        final CountDownLatch subscribed = new CountDownLatch(1);
+        final CountDownLatch terminated = new CountDownLatch(1);
+        volatile Flow.Subscription subscription;
+        volatile boolean completed;
+        volatile Throwable error;
+        private final long initialDemand;
+
+        RecordingSubscriber(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+            subscribed.countDown();
+        }
+
+        @Override
+        public void onNext(ZooEvent item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+    }
+
+    @Test
+    void deliversNoMoreThanTheDemand() {
+        Enclosure<Creature> prairie = new Enclosure<>("Prairie des flux", 100, 10);
+        try (ZooEventPublisher publisher = new ZooEventPublisher(ZooEventFilter.ALL.inEnclosure(prairie), 16,
+                OverflowPolicy.DROP_OLDEST, Runnable::run)) {
+            RecordingSubscriber subscriber = new RecordingSubscriber(2);
+            publisher.subscribe(subscriber);
+            for (int i = 0; i < 5; i++) {
+                ZooEventBus.publish(ZooEventType.MAINTENANCE, prairie, "Propre");
+            }
+            assertEquals(2, subscriber.received.size(), "un abonné ne reçoit que ce qu'il a demandé");
+            subscriber.subscription.request(10);
+            assertEquals(5, subscriber.received.size());
+            subscriber.subscription.cancel();
+            ZooEventBus.publish(ZooEventType.MAINTENANCE, prairie, "Propre");
+            assertEquals(5, subscriber.received.size());
+            assertEquals(0, publisher.getSubscriberCount());
+        }
+    }
+
+    @Test
+    void slowSubscriberOnlyKeepsABoundedQueue() {
+        Enclosure<Creature> prairie = new Enclosure<>("Prairie lente", 100, 10);
+        try (ZooEventPublisher publisher = new ZooEventPublisher(ZooEventFilter.ALL.inEnclosure(prairie), 4,
+                OverflowPolicy.DROP_OLDEST, Runnable::run)) {
+            RecordingSubscriber subscriber = new RecordingSubscriber(0);
+            publisher.subscribe(subscriber);
+            for (int i = 0; i < 100; i++) {
+                ZooEventBus.publish(ZooEventType.MAINTENANCE, prairie, String.valueOf(i));
+            }
+            subscriber.subscription.request(Long.MAX_VALUE);
+            assertEquals(List.of("96", "97", "98", "99"), subscriber.received.stream().map(ZooEvent::detail).toList());
+        }
+    }
+
+    @Test
+    void zooStreamsAreFilteredAndCompletedWhenTheZooCloses() throws Exception {
+        Zoo zoo = new Zoo("Zoo", new ZooMaster("Maître", Gender.MALE, Age.ADULT));
+        Enclosure<Creature> prairie = new Enclosure<>("Prairie filtrée", 100, 10);
+        Enclosure<Creature> bosquet = new Enclosure<>("Bosquet filtré", 100, 10);
+        Unicorn unicorn = new Unicorn("Licorne", Gender.FEMALE);
+        Nymph nymph = new Nymph("Nymphe", Gender.FEMALE);
+        prairie.addCreature(unicorn);
+        bosquet.addCreature(nymph);
+        zoo.addEnclosure(prairie);
+        zoo.addEnclosure(bosquet);
+        unicorn.setHunger(3);
+        nymph.setHunger(3);
+
+        RecordingSubscriber unicornMeals = new RecordingSubscriber(Long.MAX_VALUE);
+        zoo.events(ZooEventFilter.ALL.ofSpecies(Unicorn.class).ofTypes(ZooEventType.FEEDING)).subscribe(unicornMeals);
+        RecordingSubscriber invalid = new RecordingSubscriber(0);
+        zoo.events().subscribe(invalid);
+
+        nymph.feed(new Beefsteak());
+        unicorn.feed(new Beefsteak());
+        assertTrue(invalid.subscribed.await(5, TimeUnit.SECONDS));
+        invalid.subscription.request(0);
+        zoo.close();
+
+        assertTrue(unicornMeals.terminated.await(5, TimeUnit.SECONDS));
+        assertTrue(unicornMeals.completed);
+        assertEquals(1, unicornMeals.received.size());
+        assertEquals(unicorn.getId(), unicornMeals.received.get(0).creatureId());
+        assertTrue(invalid.terminated.await(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, invalid.error, "une demande nulle est une erreur");
+    }
+
+    @Test
+    void zooStreamsOnlyCarryTheirOwnZooAndAreForgottenOnceClosed() throws Exception {
+        ZooMaster master = new ZooMaster("Maître", Gender.MALE, Age.ADULT);
+        Zoo north = new Zoo("Nord", master);
+        Zoo south = new Zoo("Sud", master);
+        Enclosure<Creature> northPrairie = new Enclosure<>("Prairie homonyme", 100, 10);
+        Enclosure<Creature> southPrairie = new Enclosure<>("Prairie homonyme", 100, 10);
+        north.addEnclosure(northPrairie);
+        south.addEnclosure(southPrairie);
+
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        ZooEventPublisher publisher = north.events(ZooEventFilter.ALL.inEnclosure(northPrairie));
+        publisher.subscribe(subscriber);
+        assertEquals(1, north.getOpenStreamCount());
+        assertTrue(subscriber.subscribed.await(5, TimeUnit.SECONDS));
+
+        ZooEventBus.publish(ZooEventType.MAINTENANCE, southPrairie, "Sud");
+        ZooEventBus.publish(ZooEventType.MAINTENANCE, northPrairie, "Nord");
+        publisher.close();
+        assertEquals(0, north.getOpenStreamCount(), "un flux fermé n'est plus retenu par le zoo");
+
+        assertTrue(subscriber.terminated.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("Nord"), subscriber.received.stream().map(ZooEvent::detail).toList());
+        north.close();
+        south.close();
+    }
+}
@@ -0,0 +1,65 @@
+package net.zoofantastique.metrics;
+
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Unicorn;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class AllocationBudgetTest {
+    private String enforced; // valeur de la propriété avant le test, restaurée ensuite
+
+    @BeforeEach
+    void saveProperty() {
+        enforced = System.getProperty(AllocationBudget.PROPERTY);
+    }
+
+    @AfterEach
+    void restoreProperty() {
+        if (enforced == null) {
+            System.clearProperty(AllocationBudget.PROPERTY);
+        } else {
+            System.setProperty(AllocationBudget.PROPERTY, enforced);
+        }
+        System.clearProperty(AllocationBudget.PROPERTY + ".essai");
+    }
+
+    @Test
+    void budgetsAreOnlyCheckedWhenEnforced() {
+        System.clearProperty(AllocationBudget.PROPERTY);
+        assertFalse(AllocationBudget.isEnforced());
+        assertDoesNotThrow(() -> AllocationBudget.check("essai", 1_000, 0));
+    }
+
+    @Test
+    void enforcedBudgetFailsWhenExceededAndCanBeOverridden() {
+        assumeTrue(AllocationTracker.isSupported());
+        System.setProperty(AllocationBudget.PROPERTY, "true");
+        assertThrows(IllegalStateException.class, () -> AllocationBudget.check("essai", 1_000, 0));
+        System.setProperty(AllocationBudget.PROPERTY + ".essai", "2000");
+        assertDoesNotThrow(() -> AllocationBudget.check("essai", 1_000, 0));
+    }
+
+    @Test
+    void steadyStateHungerDecayAllocatesNothing() {
+        assumeTrue(AllocationTracker.isSupported());
+        Unicorn unicorn = new Unicorn("Licorne", Gender.FEMALE);
+        unicorn.stop();
+        // La faim reste dans l'état « Satisfait » : aucun événement de seuil, donc aucune allocation attendue.
+        for (int i = 0; i < 10_000; i++) {
+            unicorn.setHunger(8);
+            unicorn.decayHunger();
+        }
+        long start = AllocationTracker.allocatedBytes();
+        for (int i = 0; i < 10_000; i++) {
+            unicorn.setHunger(8);
+            unicorn.decayHunger();
+        }
+        long allocated = AllocationTracker.allocatedSince(start);
+        assertEquals(7, unicorn.getHunger());
+        AllocationBudget.check("hungerDecay", allocated, 0);
+    }
+}
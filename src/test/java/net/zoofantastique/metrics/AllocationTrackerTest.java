@@ -0,0 +1,25 @@
+package net.zoofantastique.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class AllocationTrackerTest {
+    private static Object sink; // empêche la JVM d'éliminer les allocations mesurées
+
+    @Test
+    void measureCountsTheBytesAllocatedByTheTask() {
+        assumeTrue(AllocationTracker.isSupported());
+        long allocated = AllocationTracker.measure(() -> sink = new byte[64 * 1024]);
+        assertTrue(allocated >= 64 * 1024, "alloué : " + allocated);
+    }
+
+    @Test
+    void allocatedBytesOnlyGrows() {
+        assumeTrue(AllocationTracker.isSupported());
+        long start = AllocationTracker.allocatedBytes();
+        sink = new long[128];
+        assertTrue(AllocationTracker.allocatedSince(start) > 0);
+    }
+}
@@ -0,0 +1,45 @@
+package net.zoofantastique.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void bucketsCoverEveryValueWithBoundedRelativeError() {
+        long[] values = {0, 1, 7, 8, 9, 15, 16, 17, 1_000, 123_456_789, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            long upper = LatencyHistogram.upperBoundOf(bucket);
+            assertTrue(upper >= value, "borne " + upper + " < " + value);
+            assertTrue(upper - value <= value / 8, "erreur trop grande pour " + value);
+            if (bucket > 0) {
+                assertTrue(LatencyHistogram.upperBoundOf(bucket - 1) < value);
+            }
+        }
+    }
+
+    @Test
+    void percentilesFollowTheRecordedDistribution() {
+        LatencyHistogram histogram = new LatencyHistogram("test");
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1_000L);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(100_000, histogram.getMax());
+        assertEquals(50_500, histogram.getMean(), 0.001);
+        long p50 = histogram.getValueAtPercentile(50);
+        assertTrue(p50 >= 50_000 && p50 <= 50_000 * 9 / 8, "p50 = " + p50);
+        long p99 = histogram.getValueAtPercentile(99);
+        assertTrue(p99 >= 99_000 && p99 <= 100_000, "p99 = " + p99);
+        assertEquals(100_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram("vide");
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        assertEquals(0, histogram.getMean());
+    }
+}
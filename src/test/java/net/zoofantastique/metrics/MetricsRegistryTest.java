@@ -0,0 +1,58 @@
+package net.zoofantastique.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+
+    @Test
+    void metricsAreCreatedOnceAndSharedByName() {
+        MetricsRegistry registry = new MetricsRegistry();
+        assertSame(registry.counter("naissances"), registry.counter("naissances"));
+        assertSame(registry.histogram("tick"), registry.histogram("tick"));
+        registry.counter("naissances").add(3);
+        registry.counter("naissances").decrement();
+        assertEquals(2, registry.getCounter("naissances").getValue());
+    }
+
+    @Test
+    void snapshotListsCountersGaugesAndHistograms() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("repas").increment();
+        registry.gauge("file", () -> 42);
+        registry.histogram("tick").record(2_000);
+        assertEquals(42L, registry.values().get("file"));
+        String snapshot = registry.snapshot();
+        assertTrue(snapshot.contains("repas: 1"));
+        assertTrue(snapshot.contains("file: 42"));
+        assertTrue(snapshot.contains("tick: n=1"));
+    }
+
+    @Test
+    void aReplacedGaugeIsNotRemovedByItsFormerOwner() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Gauge first = () -> 1;
+        Gauge second = () -> 2;
+        registry.gauge("file", first);
+        registry.gauge("file", second);
+        assertFalse(registry.removeGauge("file", first));
+        assertEquals(2L, registry.values().get("file"));
+        assertTrue(registry.removeGauge("file", second));
+        assertNull(registry.values().get("file"));
+    }
+
+    @Test
+    void dumpWritesTheSnapshotToAFile(@TempDir Path dir) throws IOException {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("transferts").add(5);
+        Path file = dir.resolve("metrics.txt");
+        registry.dump(file);
+        assertTrue(Files.readString(file).contains("transferts: 5"));
+    }
+}
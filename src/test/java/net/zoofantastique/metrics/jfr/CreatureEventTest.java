@@ -0,0 +1,87 @@
+package net.zoofantastique.metrics.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.oviparous.Phoenix;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Unicorn;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CreatureEventTest {
+
+    private static List<RecordedEvent> record(Path dir, Runnable scenario) throws IOException {
+        Path file = dir.resolve("zoo.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(HungerThresholdEvent.class);
+            recording.enable(SicknessEvent.class);
+            recording.enable(DeathEvent.class);
+            recording.enable(RebirthEvent.class);
+            recording.start();
+            scenario.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("net.zoofantastique."))
+                .toList();
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).findFirst()
+                .orElseThrow(() -> new AssertionError("Événement absent : " + name));
+    }
+
+    @Test
+    void creatureLifeEventsCarryIdSpeciesAndEnclosure(@TempDir Path dir) throws IOException {
+        Enclosure<Unicorn> enclosure = new Enclosure<>("Prairie", 100, 5);
+        Unicorn unicorn = new Unicorn("Licorne", Gender.FEMALE);
+        enclosure.addCreature(unicorn);
+        List<RecordedEvent> events = record(dir, () -> {
+            unicorn.setHunger(2);
+            unicorn.setSick(true);
+            unicorn.haveToGoToTheHell();
+        });
+        RecordedEvent threshold = find(events, "net.zoofantastique.HungerThreshold");
+        assertEquals(unicorn.getId(), threshold.getLong("creatureId"));
+        assertEquals("Unicorn", threshold.getString("species"));
+        assertEquals("Prairie", threshold.getString("enclosure"));
+        assertEquals("Affamé(e)", threshold.getString("newState"));
+        find(events, "net.zoofantastique.Sickness");
+        find(events, "net.zoofantastique.Death");
+        enclosure.getExecutor().shutdownNow();
+    }
+
+    @Test
+    void phoenixRebirthIsRecorded(@TempDir Path dir) throws IOException {
+        Phoenix phoenix = new Phoenix("Phoenix", Gender.MALE);
+        List<RecordedEvent> events = record(dir, () -> phoenix.setAge(Age.DEAD));
+        assertEquals(phoenix.getId(), find(events, "net.zoofantastique.Rebirth").getLong("creatureId"));
+        phoenix.stop();
+    }
+
+    @Test
+    void disabledEventsAreNotRecorded(@TempDir Path dir) throws IOException {
+        Unicorn unicorn = new Unicorn("Licorne", Gender.MALE);
+        Path file = dir.resolve("vide.jfr");
+        try (Recording recording = new Recording()) {
+            recording.disable(HungerThresholdEvent.class);
+            recording.start();
+            unicorn.setHunger(1);
+            recording.stop();
+            recording.dump(file);
+        }
+        assertTrue(RecordingFile.readAllEvents(file).stream()
+                .noneMatch(event -> event.getEventType().getName().equals("net.zoofantastique.HungerThreshold")));
+        unicorn.stop();
+    }
+}
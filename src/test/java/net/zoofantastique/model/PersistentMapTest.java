@@ -0,0 +1,103 @@
+package net.zoofantastique.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentMapTest {
+
+    /**
+     * Une clé dont toutes les instances ont le même hachage, pour passer par les nœuds de collision.
+     */
+    private record Colliding(int value) {
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
+    @Test
+    void modificationsLeaveEarlierVersionsUntouched() {
+        PersistentMap<String, Integer> empty = PersistentMap.empty();
+        PersistentMap<String, Integer> one = empty.put("a", 1);
+        PersistentMap<String, Integer> two = one.put("b", 2);
+        PersistentMap<String, Integer> changed = two.put("a", 10);
+        PersistentMap<String, Integer> removed = changed.remove("b");
+
+        assertEquals(0, empty.size());
+        assertNull(empty.get("a"));
+        assertEquals(1, one.get("a"));
+        assertNull(one.get("b"));
+        assertEquals(2, two.size());
+        assertEquals(1, two.get("a"));
+        assertEquals(10, changed.get("a"));
+        assertEquals(1, removed.size());
+        assertFalse(removed.containsKey("b"));
+        assertTrue(two.containsKey("b"));
+    }
+
+    @Test
+    void unchangedMapsAreReturnedAsIs() {
+        Integer value = 1;
+        PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty().put("a", value);
+        assertSame(map, map.put("a", value));
+        assertSame(map, map.remove("z"));
+        assertSame(PersistentMap.empty(), map.remove("a"));
+    }
+
+    @Test
+    void behavesLikeAHashMapUnderRandomOperations() {
+        SplittableRandom random = new SplittableRandom(1);
+        Map<Integer, Integer> expected = new HashMap<>();
+        PersistentMap<Integer, Integer> map = PersistentMap.empty();
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(5_000) - 2_500;
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.remove(key);
+            } else {
+                expected.put(key, i);
+                map = map.put(key, i);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        Map<Integer, Integer> visited = new HashMap<>();
+        map.forEach(visited::put);
+        assertEquals(expected, visited);
+    }
+
+    @Test
+    void keysWithTheSameHashAreKeptApart() {
+        PersistentMap<Colliding, String> map = PersistentMap.empty();
+        for (int i = 0; i < 5; i++) {
+            map = map.put(new Colliding(i), "v" + i);
+        }
+        assertEquals(5, map.size());
+        assertEquals("v3", map.get(new Colliding(3)));
+        PersistentMap<Colliding, String> fewer = map.remove(new Colliding(3)).remove(new Colliding(0));
+        assertEquals(3, fewer.size());
+        assertNull(fewer.get(new Colliding(3)));
+        assertEquals("v4", fewer.get(new Colliding(4)));
+        assertEquals("v3", map.get(new Colliding(3)));
+    }
+
+    @Test
+    void equalityDoesNotDependOnHistory() {
+        PersistentMap<Integer, String> forward = PersistentMap.empty();
+        PersistentMap<Integer, String> backward = PersistentMap.empty();
+        for (int i = 0; i < 1_000; i++) {
+            forward = forward.put(i, "v" + i);
+            backward = backward.put(999 - i, "v" + (999 - i));
+        }
+        assertEquals(forward, backward);
+        assertEquals(forward.hashCode(), backward.hashCode());
+        assertNotEquals(forward, backward.put(3, "autre"));
+    }
+}
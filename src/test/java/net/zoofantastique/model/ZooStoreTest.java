@@ -0,0 +1,165 @@
+package net.zoofantastique.model;
+
+import net.zoofantastique.controller.enclosure.behavior.Cleanness;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Unicorn;
+import net.zoofantastique.controller.entity.zoomaster.ZooMaster;
+import net.zoofantastique.controller.zoo.Zoo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZooStoreTest {
+    private ZooStore store;
+
+    private static CreatureState unicorn(long id) {
+        return new CreatureState(id, "Unicorn", "Licorne " + id, Gender.FEMALE, Age.ADULT, 10, false, false, 400, 1.6);
+    }
+
+    @BeforeEach
+    void setUp() {
+        ZooState zoo = ZooState.empty("Zoo")
+                .withEnclosure(EnclosureState.empty("Prairie", "Enclos", 100, 1_000))
+                .withEnclosure(EnclosureState.empty("Pré", "Enclos", 100, 1_000));
+        for (long id = 1; id <= 500; id++) {
+            zoo = zoo.addCreature("Prairie", unicorn(id));
+        }
+        store = new ZooStore(zoo);
+    }
+
+    @Test
+    void snapshotsNeverChangeAfterwards() {
+        ZooState before = store.snapshot();
+        store.update(zoo -> zoo.updateCreature(7, c -> c.withHunger(2)).withCleanness("Prairie", Cleanness.BAD));
+        ZooState after = store.snapshot();
+
+        assertEquals(10, before.creature(7).hunger());
+        assertEquals(Cleanness.GOOD, before.enclosure("Prairie").cleanness());
+        assertEquals(2, after.creature(7).hunger());
+        assertEquals(Cleanness.BAD, after.enclosure("Prairie").cleanness());
+        assertSame(before.enclosure("Pré"), after.enclosure("Pré"), "l'enclos non touché est partagé");
+        assertSame(before.creature(8), after.creature(8), "les autres créatures sont partagées");
+        assertEquals(before.getVersion() + 2, after.getVersion());
+    }
+
+    @Test
+    void transfersAreAllOrNothing() {
+        assertTrue(store.transfer(3, "Pré"));
+        ZooState zoo = store.snapshot();
+        assertEquals("Pré", zoo.enclosureOf(3));
+        assertNull(zoo.enclosure("Prairie").creature(3));
+        assertEquals(499, zoo.enclosure("Prairie").getNbCreature());
+        assertEquals(500, zoo.getNbCreature());
+
+        store.update(z -> z.withEnclosure(EnclosureState.empty("Bassin", "Aquarium", 50, 1))
+                .addCreature("Bassin", new CreatureState(900, "Kraken", "Kraken", Gender.MALE, Age.ADULT, 10, false, false, 900, 4)));
+        ZooState beforeRefusals = store.snapshot();
+        assertFalse(store.transfer(4, "Bassin"), "le bassin est plein et abrite une autre espèce");
+        assertFalse(store.transfer(4, "Savane"));
+        assertFalse(store.transfer(12345, "Pré"));
+        assertSame(beforeRefusals, store.snapshot(), "un transfert refusé ne publie rien");
+    }
+
+    @Test
+    void readersNeverSeeAHalfAppliedTransfer() throws InterruptedException {
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicReference<String> inconsistency = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            while (!stop.get()) {
+                ZooState zoo = store.snapshot();
+                int total = zoo.enclosure("Prairie").getNbCreature() + zoo.enclosure("Pré").getNbCreature();
+                if (total != 500) {
+                    inconsistency.set("version " + zoo.getVersion() + " : " + total + " créatures");
+                }
+            }
+        });
+        reader.start();
+        for (int round = 0; round < 20; round++) {
+            String destination = round % 2 == 0 ? "Pré" : "Prairie";
+            for (long id = 1; id <= 500; id++) {
+                store.transfer(id, destination);
+            }
+        }
+        stop.set(true);
+        reader.join();
+        assertNull(inconsistency.get());
+    }
+
+    @Test
+    void undoRestoresThePreviousVersion() {
+        ZooState before = store.snapshot();
+        store.update(zoo -> zoo.removeCreature(1));
+        store.transfer(2, "Pré");
+        assertEquals(2, store.getUndoDepth());
+
+        assertTrue(store.undo());
+        assertEquals("Prairie", store.snapshot().enclosureOf(2));
+        assertNull(store.snapshot().creature(1));
+        assertTrue(store.undo());
+        assertSame(before, store.snapshot());
+        assertFalse(store.undo());
+    }
+
+    @Test
+    void forksEvolveIndependently() {
+        ZooStore whatIf = store.fork();
+        whatIf.update(zoo -> zoo.removeCreature(5).updateCreature(6, c -> c.withSick(true)));
+
+        assertNull(whatIf.snapshot().creature(5));
+        assertTrue(whatIf.snapshot().creature(6).sick());
+        assertNotNull(store.snapshot().creature(5));
+        assertFalse(store.snapshot().creature(6).sick());
+        assertEquals(1, whatIf.getUndoDepth());
+        assertEquals(0, store.getUndoDepth(), "la copie a son propre historique");
+    }
+
+    @Test
+    void refusedOperationsKeepTheCurrentVersion() {
+        ZooState zoo = store.snapshot();
+        assertThrows(IllegalStateException.class, () -> zoo.addCreature("Prairie", unicorn(1)), "déjà au zoo");
+        assertThrows(IllegalArgumentException.class, () -> zoo.updateCreature(9999, c -> c.withHunger(1)));
+        assertThrows(IllegalArgumentException.class, () -> store.update(z -> z.removeCreature(9999)));
+        assertSame(zoo, store.snapshot());
+        assertSame(zoo, zoo.updateCreature(1, c -> c.withHunger(10)), "une modification sans effet ne crée pas de version");
+    }
+
+    @Test
+    void capturesTheGameZoo() {
+        Zoo game = new Zoo("Zoo du jeu", new ZooMaster("Maître", Gender.MALE, Age.ADULT));
+        Enclosure<Creature> prairie = new Enclosure<>("Prairie", 100, 10);
+        game.addEnclosure(prairie);
+        Unicorn unicorn = new Unicorn("Licorne", Gender.FEMALE);
+        prairie.addCreature(unicorn);
+        try {
+            ZooState zoo = ZooState.of(game);
+            assertEquals("Zoo du jeu", zoo.getName());
+            assertEquals(1, zoo.getNbEnclosure());
+            assertEquals(1, zoo.getNbCreature());
+            assertEquals("Unicorn", zoo.enclosure("Prairie").species());
+            assertEquals("Licorne", zoo.creature(unicorn.getId()).name());
+            assertEquals(10, zoo.enclosure("Prairie").capacity());
+        } finally {
+            unicorn.close();
+            game.close();
+        }
+    }
+
+    @Test
+    void refusesAGameZooWithTwoEnclosuresOfTheSameName() {
+        Zoo game = new Zoo("Zoo du jeu", new ZooMaster("Maître", Gender.MALE, Age.ADULT));
+        game.addEnclosure(new Enclosure<>("Prairie", 100, 10));
+        game.addEnclosure(new Enclosure<>("Prairie", 200, 20));
+        try {
+            assertThrows(IllegalStateException.class, () -> ZooState.of(game), "le second enclos remplacerait le premier");
+        } finally {
+            game.close();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package net.zoofantastique.query;
+
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.CreatureFactory;
+import net.zoofantastique.controller.entity.creature.composition.oviparous.Kraken;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Unicorn;
+import net.zoofantastique.controller.entity.zoomaster.ZooMaster;
+import net.zoofantastique.controller.zoo.Zoo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CreatureQueryTest {
+    private Zoo zoo;
+    private Kraken hungryOldKraken;
+    private Kraken fedKraken;
+    private Unicorn unicorn;
+
+    @BeforeEach
+    void setUp() {
+        zoo = new Zoo("Zoo", new ZooMaster("Maître", Gender.MALE, Age.ADULT));
+        zoo.setNbMaxEnclosure(10);
+        Enclosure<Creature> abyss = new Enclosure<>("Abysses", 100, 10);
+        Enclosure<Creature> meadow = new Enclosure<>("Prairie", 100, 10);
+        hungryOldKraken = new Kraken("Kraken affamé", Gender.MALE);
+        hungryOldKraken.setHunger(2);
+        hungryOldKraken.setAge(Age.OLD);
+        hungryOldKraken.setWeight(6000);
+        fedKraken = new Kraken("Kraken repu", Gender.FEMALE);
+        fedKraken.setAge(Age.ADULT);
+        fedKraken.setWeight(6000);
+        unicorn = new Unicorn("Licorne", Gender.FEMALE);
+        unicorn.setHunger(2);
+        unicorn.setSick(true);
+        abyss.addCreature(hungryOldKraken);
+        abyss.addCreature(fedKraken);
+        meadow.addCreature(unicorn);
+        zoo.addEnclosure(abyss);
+        zoo.addEnclosure(meadow);
+    }
+
+    @AfterEach
+    void tearDown() {
+        zoo.close();
+    }
+
+    private List<Creature> find(String query) {
+        return CreatureQuery.compile(query).run(zoo).creatures();
+    }
+
+    @Test
+    void compiledQueryMatchesTheRequestedCreatures() {
+        assertEquals(List.of(hungryOldKraken), find("species=Kraken and hunger<=3 and age in (ADULT,OLD) and weight>5000"));
+        assertEquals(List.of(fedKraken), find("espece = kraken et non faim <= 3"));
+        assertEquals(List.of(hungryOldKraken, unicorn), find("hunger < 3 and (species = Kraken or malade)"));
+        assertEquals(List.of(unicorn), find("enclos = 'Prairie' and sick"));
+        assertEquals(List.of(hungryOldKraken, fedKraken), find("age >= ADULT and gender in (MALE, FEMALE)"));
+        assertTrue(find("species in (Dragon, Phoenix)").isEmpty());
+    }
+
+    @Test
+    void flagsCanBeComparedWithASetOfValues() {
+        assertEquals(List.of(unicorn), find("sick in (true)"));
+        assertEquals(List.of(hungryOldKraken, fedKraken), find("malade in (false)"));
+        assertEquals(3, find("sick in (false, true)").size());
+        assertEquals(List.of(hungryOldKraken, fedKraken), find("sick != true"));
+    }
+
+    @Test
+    void speciesAndEnclosureConstraintsUseTheIndex() {
+        QueryResult indexed = CreatureQuery.compile("species=Kraken and hunger<=3").run(zoo);
+        assertEquals(QueryResult.Plan.INDEX, indexed.plan());
+        assertEquals(1, indexed.enclosuresScanned());
+        assertEquals(2, indexed.creaturesScanned());
+
+        QueryResult scanned = CreatureQuery.compile("hunger<=3").run(zoo);
+        assertEquals(QueryResult.Plan.SCAN, scanned.plan());
+        assertEquals(2, scanned.enclosuresScanned());
+
+        QueryResult nested = CreatureQuery.compile("species=Kraken or sick").run(zoo);
+        assertEquals(QueryResult.Plan.SCAN, nested.plan(), "une contrainte sous un or ne peut pas servir d'index");
+        assertEquals(3, nested.creatures().size());
+    }
+
+    @Test
+    void largeZoosAreScannedInParallel() {
+        Enclosure<Creature> herd = new Enclosure<>("Troupeau", 1_000_000, CreatureQuery.PARALLEL_THRESHOLD);
+        herd.addCreatures(CreatureFactory.createBatch("Unicorn", "Licorne", CreatureQuery.PARALLEL_THRESHOLD, new SplittableRandom(1)));
+        zoo.addEnclosure(herd);
+        QueryResult result = CreatureQuery.compile("hunger = 10").run(zoo);
+        assertEquals(QueryResult.Plan.PARALLEL_SCAN, result.plan());
+        assertEquals(CreatureQuery.PARALLEL_THRESHOLD + 1, result.creatures().size());
+        assertEquals(fedKraken, result.creatures().get(0), "le parcours parallèle garde l'ordre du zoo");
+    }
+
+    @Test
+    void invalidQueriesReportTheirPosition() {
+        QueryException unknown = assertThrows(QueryException.class, () -> CreatureQuery.compile("hunger<3 and colour=red"));
+        assertEquals(13, unknown.getPosition());
+        assertThrows(QueryException.class, () -> CreatureQuery.compile("name > 'A'"));
+        assertThrows(QueryException.class, () -> CreatureQuery.compile("age = ANCIENT"));
+        assertThrows(QueryException.class, () -> CreatureQuery.compile("hunger <= lots"));
+        assertThrows(QueryException.class, () -> CreatureQuery.compile("(hunger < 3"));
+        assertThrows(QueryException.class, () -> CreatureQuery.compile("hunger < 3 sick"));
+    }
+}
@@ -0,0 +1,92 @@
+package net.zoofantastique.simulation;
+
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.oviparous.Oviparous;
+import net.zoofantastique.controller.entity.creature.composition.oviparous.Kraken;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Unicorn;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Viviparous;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BirthPipelineTest {
+    private BirthPipeline pipeline;
+    private Enclosure<Unicorn> enclosure;
+    private Unicorn male;
+    private Unicorn female;
+
+    @BeforeEach
+    void setUp() {
+        pipeline = new BirthPipeline();
+        enclosure = new Enclosure<>("Prairie", 100.0, 3);
+        male = new Unicorn("Le male", Gender.MALE);
+        female = new Unicorn("La femelle", Gender.FEMALE);
+        enclosure.addCreature(male);
+        enclosure.addCreature(female);
+    }
+
+    @Test
+    void conceiveMakesFemalePregnantAndQueuesBirth() {
+        assertEquals(female, pipeline.conceive(male, female));
+        assertTrue(female.isPregnant());
+        assertEquals(1, pipeline.getNbPending());
+    }
+
+    @Test
+    void babyIsNotBornBeforeTerm() {
+        pipeline.conceive(male, female);
+        for (int i = 1; i < Viviparous.gestationDuration; i++) {
+            assertEquals(0, pipeline.tick());
+        }
+        assertEquals(2, enclosure.getNbCreature());
+        assertTrue(female.isPregnant());
+    }
+
+    @Test
+    void babyIsPlacedInMotherEnclosureAtTerm() {
+        pipeline.conceive(male, female);
+        for (int i = 1; i < Viviparous.gestationDuration; i++) {
+            pipeline.tick();
+        }
+        assertEquals(1, pipeline.tick());
+        assertEquals(3, enclosure.getNbCreature());
+        assertEquals(Age.BABY, enclosure.getListCreature().get(2).getAge());
+        assertFalse(female.isPregnant());
+        assertEquals(0, pipeline.getNbPending());
+    }
+
+    @Test
+    void babyIsNotPlacedWhenEnclosureIsFull() {
+        enclosure.setMax(2);
+        pipeline.conceive(male, female);
+        for (int i = 0; i < Viviparous.gestationDuration; i++) {
+            pipeline.tick();
+        }
+        assertEquals(2, enclosure.getNbCreature());
+        assertFalse(female.isPregnant());
+    }
+
+    @Test
+    void eggsHatchAfterIncubation() {
+        Enclosure<Kraken> basin = new Enclosure<>("Bassin", 100.0, 5);
+        Kraken father = new Kraken("Le pere", Gender.MALE);
+        Kraken mother = new Kraken("La mere", Gender.FEMALE);
+        basin.addCreature(father);
+        basin.addCreature(mother);
+        pipeline.conceive(mother, father);
+        for (int i = 0; i < Oviparous.incubationDuration; i++) {
+            pipeline.tick();
+        }
+        assertEquals(3, basin.getNbCreature());
+        assertFalse(mother.isPregnant());
+    }
+
+    @Test
+    void impossibleMatingIsNotQueued() {
+        assertNull(pipeline.conceive(male, male));
+        assertEquals(0, pipeline.getNbPending());
+    }
+}
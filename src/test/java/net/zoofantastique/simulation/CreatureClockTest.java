@@ -0,0 +1,77 @@
+package net.zoofantastique.simulation;
+
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.behavior.Hunger;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.CreatureFactory;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Unicorn;
+import net.zoofantastique.utils.ResourceRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CreatureClockTest {
+
+    @Test
+    void batchActivationAttachesEveryCreatureOnce() {
+        CreatureClock clock = new CreatureClock();
+        List<Creature> batch = CreatureFactory.createBatch("Nymph", "Nymphe", 5_000, new SplittableRandom(3));
+        assertEquals(5_000, clock.activate(batch));
+        assertEquals(0, clock.activate(batch));
+        assertEquals(5_000, clock.getSize());
+        long mark = ResourceRegistry.mark();
+        batch.get(0).activate();
+        assertTrue(batch.get(0).isOnClock());
+        assertTrue(ResourceRegistry.leaksSince(mark).isEmpty(), "une créature sur l'horloge ne reçoit pas de minuteries propres");
+    }
+
+    @Test
+    void hungerDecaysWithTheSamePeriodAsOwnTimers() {
+        CreatureClock clock = new CreatureClock();
+        Unicorn unicorn = new Unicorn("Licorne", Gender.FEMALE); // un point de faim toutes les 24 secondes
+        clock.activate(unicorn);
+        for (int i = 0; i < 22; i++) {
+            clock.tick();
+        }
+        assertEquals(Hunger.MAX.getValue(), unicorn.getHunger());
+        clock.tick();
+        assertEquals(Hunger.MAX.getValue() - 1, unicorn.getHunger());
+        for (int i = 0; i < 24; i++) {
+            clock.tick();
+        }
+        assertEquals(Hunger.MAX.getValue() - 2, unicorn.getHunger());
+    }
+
+    @Test
+    void stoppedAndDeadCreaturesAreForgotten() {
+        CreatureClock clock = new CreatureClock();
+        Unicorn closed = new Unicorn("Fermée", Gender.FEMALE);
+        Unicorn starving = new Unicorn("Affamée", Gender.MALE);
+        Unicorn alive = new Unicorn("Vivante", Gender.MALE);
+        clock.activate(List.of(closed, starving, alive));
+        closed.close();
+        starving.setHunger(1);
+        for (int i = 0; i < 23; i++) {
+            clock.tick();
+        }
+        assertEquals(Age.DEAD, starving.getAge());
+        assertEquals(1, clock.getSize());
+        assertTrue(alive.isOnClock());
+    }
+
+    @Test
+    void aSingleThreadDrivesTheWholePopulation() {
+        long mark = ResourceRegistry.mark();
+        List<Creature> batch = CreatureFactory.createBatch("Unicorn", "Licorne", 20_000, new SplittableRandom(5));
+        try (CreatureClock clock = new CreatureClock()) {
+            clock.start();
+            clock.activate(batch);
+            assertEquals(1, ResourceRegistry.leaksSince(mark).size());
+        }
+        assertTrue(ResourceRegistry.leaksSince(mark).isEmpty());
+    }
+}
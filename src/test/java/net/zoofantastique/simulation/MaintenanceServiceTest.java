@@ -0,0 +1,93 @@
+package net.zoofantastique.simulation;
+
+import net.zoofantastique.controller.enclosure.composition.AquariumEnclosure;
+import net.zoofantastique.controller.enclosure.composition.AviaryEnclosure;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Unicorn;
+import net.zoofantastique.events.EventSubscription;
+import net.zoofantastique.events.OverflowPolicy;
+import net.zoofantastique.events.ZooEvent;
+import net.zoofantastique.events.ZooEventBus;
+import net.zoofantastique.events.ZooEventType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MaintenanceServiceTest {
+
+    private static Enclosure<Creature> occupied(String name, List<Unicorn> residents) {
+        Enclosure<Creature> enclosure = new Enclosure<>(name, 100, 10);
+        Unicorn unicorn = new Unicorn("Licorne", Gender.FEMALE);
+        enclosure.addCreature(unicorn);
+        residents.add(unicorn);
+        return enclosure;
+    }
+
+    @Test
+    void durationGrowsWithSurfaceDepthAndHeight() {
+        assertTrue(new Enclosure<>("Grand", 400, 10).maintenanceMillis() > new Enclosure<>("Petit", 100, 10).maintenanceMillis());
+        assertTrue(new AquariumEnclosure<>("Profond", 100, 30, 10).maintenanceMillis()
+                > new AquariumEnclosure<>("Bassin", 100, 5, 10).maintenanceMillis());
+        assertTrue(new AviaryEnclosure<>("Haute", 100, 40, 10).maintenanceMillis()
+                > new AviaryEnclosure<>("Basse", 100, 10, 10).maintenanceMillis());
+    }
+
+    @Test
+    void maintenancePublishesProgressThenCompletes() throws Exception {
+        List<Unicorn> residents = new ArrayList<>();
+        Enclosure<Creature> prairie = occupied("Prairie entretenue", residents);
+        try (MaintenanceService service = new MaintenanceService(1, 0.01);
+             EventSubscription subscription = ZooEventBus.subscribe(32, OverflowPolicy.DROP_OLDEST,
+                     event -> "Prairie entretenue".equals(event.enclosure()))) {
+            CompletableFuture<Enclosure<?>> job = service.submit(prairie);
+            assertSame(job, service.submit(prairie), "un enclos en maintenance n'en reçoit pas une seconde");
+            assertTrue(service.isRunning(prairie));
+            assertSame(prairie, job.get(5, TimeUnit.SECONDS));
+            assertFalse(service.isRunning(prairie));
+            List<ZooEvent> events = new ArrayList<>();
+            subscription.drainTo(events, Integer.MAX_VALUE);
+            List<ZooEventType> types = events.stream().map(ZooEvent::type).toList();
+            assertEquals(ZooEventType.MAINTENANCE, types.get(types.size() - 1), types.toString());
+            assertEquals(9, types.stream().filter(type -> type == ZooEventType.MAINTENANCE_PROGRESS).count(), types.toString());
+        }
+        residents.forEach(Unicorn::close);
+    }
+
+    @Test
+    void maintenancesRunConcurrently() throws Exception {
+        List<Unicorn> residents = new ArrayList<>();
+        List<Enclosure<Creature>> enclosures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            enclosures.add(occupied("Enclos " + i, residents));
+        }
+        long sequential = enclosures.stream().mapToLong(Enclosure::maintenanceMillis).sum() / 100;
+        try (MaintenanceService service = new MaintenanceService(2, 0.01)) {
+            long start = System.nanoTime();
+            service.submitAll(enclosures).get(10, TimeUnit.SECONDS);
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assertTrue(elapsed < sequential, elapsed + " ms pour " + sequential + " ms en séquence");
+            assertEquals(0, service.getRunning());
+        }
+        residents.forEach(Unicorn::close);
+    }
+
+    @Test
+    void closeAbandonsRunningMaintenances() {
+        List<Unicorn> residents = new ArrayList<>();
+        Enclosure<Creature> prairie = occupied("Prairie abandonnée", residents);
+        MaintenanceService service = new MaintenanceService(1, 1);
+        CompletableFuture<Enclosure<?>> job = service.submit(prairie);
+        service.close();
+        assertThrows(CancellationException.class, () -> job.get(1, TimeUnit.SECONDS));
+        assertTrue(service.submit(prairie).isCompletedExceptionally());
+        residents.forEach(Unicorn::close);
+    }
+}
@@ -0,0 +1,107 @@
+package net.zoofantastique.simulation.feeding;
+
+import net.zoofantastique.controller.consumable.food.FoodCatalog;
+import net.zoofantastique.controller.consumable.stock.FoodInventory;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.oviparous.Dragon;
+import net.zoofantastique.controller.entity.creature.composition.oviparous.Kraken;
+import net.zoofantastique.controller.entity.creature.composition.oviparous.Phoenix;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Unicorn;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeedingPlannerTest {
+    private FeedingPlanner planner;
+    private FoodInventory inventory;
+
+    @BeforeEach
+    void setUp() {
+        planner = new FeedingPlanner();
+        inventory = new FoodInventory();
+    }
+
+    private <T extends Creature> T hungry(T creature, int hunger) {
+        creature.setHunger(hunger);
+        return creature;
+    }
+
+    @Test
+    void eachCreatureGetsFoodMatchingItsHabitat() {
+        inventory.restock(new long[]{5, 5, 5});
+        Kraken kraken = hungry(new Kraken("Kraken", Gender.MALE), 3);
+        Phoenix phoenix = hungry(new Phoenix("Phoenix", Gender.MALE), 3);
+        Unicorn unicorn = hungry(new Unicorn("Licorne", Gender.MALE), 3);
+        FeedingPlan plan = planner.plan(List.of(kraken, phoenix, unicorn), inventory);
+        assertEquals(3, plan.size());
+        for (int i = 0; i < plan.size(); i++) {
+            Creature creature = plan.getCreature(i);
+            FoodCatalog expected = creature == kraken ? FoodCatalog.OCEAN_DELIGHT
+                    : creature == phoenix ? FoodCatalog.SKY_SEEDS : FoodCatalog.BEEFSTEAK;
+            assertEquals(expected, plan.getItem(i));
+        }
+    }
+
+    @Test
+    void hungriestCreatureIsServedFirstWhenStockIsShort() {
+        inventory.restock(FoodCatalog.BEEFSTEAK, 1);
+        Unicorn peckish = hungry(new Unicorn("Un peu", Gender.MALE), 8);
+        Unicorn starving = hungry(new Unicorn("Affamee", Gender.FEMALE), 1);
+        FeedingPlan plan = planner.plan(List.of(peckish, starving), inventory);
+        assertEquals(1, plan.size());
+        assertEquals(starving, plan.getCreature(0));
+    }
+
+    @Test
+    void satisfiedAndSleepingCreaturesAreSkipped() {
+        inventory.restock(new long[]{5, 5, 5});
+        Unicorn full = new Unicorn("Repue", Gender.MALE);
+        Unicorn sleeping = hungry(new Unicorn("Dort", Gender.MALE), 2);
+        sleeping.setSleeping(true);
+        assertEquals(0, planner.plan(List.of(full, sleeping), inventory).size());
+    }
+
+    @Test
+    void creatureWithSeveralHabitatsFallsBackOnAnotherFood() {
+        inventory.restock(FoodCatalog.BEEFSTEAK, 1);
+        Dragon dragon = hungry(new Dragon("Dragon", Gender.MALE), 2);
+        FeedingPlan plan = planner.plan(List.of(dragon), inventory);
+        assertEquals(FoodCatalog.BEEFSTEAK, plan.getItem(0));
+    }
+
+    @Test
+    void creatureWithSeveralHabitatsGetsTheSoonestExpiringFood() {
+        inventory.restock(FoodCatalog.OCEAN_DELIGHT, 1, 8);
+        inventory.restock(FoodCatalog.SKY_SEEDS, 1, 6);
+        inventory.restock(FoodCatalog.BEEFSTEAK, 1, 2);
+        Dragon dragon = hungry(new Dragon("Dragon", Gender.MALE), 2);
+        FeedingPlan plan = planner.plan(List.of(dragon), inventory);
+        assertEquals(FoodCatalog.BEEFSTEAK, plan.getItem(0));
+        assertEquals(FoodCatalog.BEEFSTEAK, FeedingPlanner.dietOf(dragon, inventory).get(0));
+    }
+
+    @Test
+    void planReservesStockAndExecutionConsumesIt() {
+        inventory.restock(FoodCatalog.BEEFSTEAK, 2);
+        Unicorn unicorn = hungry(new Unicorn("Licorne", Gender.MALE), 3);
+        FeedingPlan plan = planner.plan(List.of(unicorn), inventory);
+        assertEquals(1, inventory.getReserved(FoodCatalog.BEEFSTEAK));
+        assertEquals(1, plan.execute());
+        assertEquals(7, unicorn.getHunger());
+        assertEquals(0, inventory.getReserved(FoodCatalog.BEEFSTEAK));
+        assertEquals(1, inventory.getAvailable(FoodCatalog.BEEFSTEAK));
+    }
+
+    @Test
+    void cancelledPlanReturnsItsPortions() {
+        inventory.restock(FoodCatalog.BEEFSTEAK, 2);
+        FeedingPlan plan = planner.plan(List.of(hungry(new Unicorn("Licorne", Gender.MALE), 3)), inventory);
+        plan.cancel();
+        assertEquals(2, inventory.getAvailable(FoodCatalog.BEEFSTEAK));
+        assertThrows(IllegalStateException.class, plan::execute);
+    }
+}
@@ -0,0 +1,140 @@
+package net.zoofantastique.simulation.forecast;
+
+import net.zoofantastique.controller.consumable.food.FoodCatalog;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.oviparous.Phoenix;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Unicorn;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Viviparous;
+import net.zoofantastique.controller.entity.zoomaster.ZooMaster;
+import net.zoofantastique.controller.zoo.Zoo;
+import net.zoofantastique.simulation.BirthPipeline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ForecasterTest {
+    private Zoo zoo;
+    private Enclosure<Creature> prairie;
+    private final List<Creature> creatures = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        zoo = new Zoo("Zoo", new ZooMaster("Maître", Gender.MALE, Age.ADULT));
+        prairie = new Enclosure<>("Prairie", 100, 10);
+        zoo.addEnclosure(prairie);
+    }
+
+    @AfterEach
+    void tearDown() {
+        creatures.forEach(Creature::close);
+        zoo.close();
+    }
+
+    private Unicorn add(Enclosure<Creature> enclosure, String name, Gender gender) {
+        Unicorn unicorn = new Unicorn(name, gender);
+        enclosure.addCreature(unicorn);
+        creatures.add(unicorn);
+        return unicorn;
+    }
+
+    @Test
+    void timerDeadlinesAreCountedWithoutReplayingEverySecond() {
+        assertEquals(1, Replica.ticks(0, 23, 24), "la seconde 23 déclenche une minuterie de 24 secondes");
+        assertEquals(0, Replica.ticks(0, 22, 24));
+        assertEquals(1, Replica.ticks(23, 47, 24));
+        assertEquals(4, Replica.ticks(-1, 99, 25));
+        assertEquals(3, Replica.ticks(100, 400, 100), "secondes 199, 299 et 399");
+    }
+
+    @Test
+    void sameSeedGivesTheSameForecast() {
+        for (int i = 0; i < 6; i++) {
+            add(prairie, "Licorne " + i, i % 2 == 0 ? Gender.FEMALE : Gender.MALE);
+        }
+        ZooSnapshot snapshot = ZooSnapshot.of(zoo, null);
+        Forecast first = Forecaster.forecast(snapshot, 100, 40, 42L);
+        Forecast second = Forecaster.forecast(snapshot, 100, 40, 42L);
+        assertEquals(first.deaths(), second.deaths());
+        assertEquals(first.births(), second.births());
+        assertEquals(first.population(), second.population());
+        assertEquals(first.enclosures(), second.enclosures());
+        assertEquals(100, first.replicas());
+    }
+
+    @Test
+    void starvationRiskFollowsTheStock() {
+        add(prairie, "Affamée", Gender.FEMALE).setHunger(2);
+        add(prairie, "Affamé", Gender.MALE).setHunger(2);
+        for (FoodCatalog item : FoodCatalog.values()) {
+            zoo.getFoodInventory().tryConsume(item, zoo.getFoodInventory().getAvailable(item));
+        }
+        ZooSnapshot withoutStock = ZooSnapshot.of(zoo, null);
+
+        Forecast neglected = Forecaster.forecast(withoutStock, 200, 30, false, 7L);
+        assertTrue(neglected.enclosures().get(0).starvationRisk() > 0.9, neglected.toString());
+        assertEquals(0, neglected.population().max(), "sans soin, personne ne passe le mois");
+
+        Forecast emptyStock = Forecaster.forecast(withoutStock, 200, 30, true, 7L);
+        assertTrue(emptyStock.enclosures().get(0).starvationRisk() > 0.9, "des soins sans nourriture ne suffisent pas");
+
+        for (FoodCatalog item : FoodCatalog.values()) {
+            zoo.getFoodInventory().restock(item, 1000);
+        }
+        Forecast fed = Forecaster.forecast(ZooSnapshot.of(zoo, null), 200, 30, true, 7L);
+        assertEquals(0, fed.enclosures().get(0).starvationRisk(), fed.toString());
+        assertEquals(0, fed.starved().max());
+    }
+
+    @Test
+    void rebornSpeciesNeverDie() {
+        Enclosure<Creature> nest = new Enclosure<>("Nid", 100, 10);
+        zoo.addEnclosure(nest);
+        for (int i = 0; i < 2; i++) {
+            Phoenix phoenix = new Phoenix("Phénix " + i, Gender.FEMALE);
+            phoenix.setAge(Age.OLD);
+            phoenix.setHunger(2);
+            phoenix.setSick(true);
+            nest.addCreature(phoenix);
+            creatures.add(phoenix);
+        }
+        ZooSnapshot snapshot = ZooSnapshot.of(zoo, null);
+
+        Forecast neglected = Forecaster.forecast(snapshot, 100, 30, false, 11L);
+        assertEquals(0, neglected.deaths().max(), "un phénix renaît au lieu de mourir");
+        assertEquals(2, neglected.population().min(), neglected.toString());
+        assertEquals(0, neglected.enclosures().get(1).starvationRisk());
+    }
+
+    @Test
+    void birthsOverflowAFullEnclosure() {
+        Enclosure<Creature> nursery = new Enclosure<>("Nurserie", 100, 2);
+        zoo.addEnclosure(nursery);
+        Unicorn male = add(nursery, "Le mâle", Gender.MALE);
+        Unicorn female = add(nursery, "La femelle", Gender.FEMALE);
+        for (Unicorn unicorn : List.of(male, female)) {
+            unicorn.setAgeScale(1_000_000);
+            unicorn.setDimHunger(1_000_000);
+        }
+        BirthPipeline births = new BirthPipeline();
+        births.conceive(male, female);
+
+        ZooSnapshot snapshot = ZooSnapshot.of(zoo, births);
+        assertEquals(2, snapshot.getSize());
+        Forecast forecast = Forecaster.forecast(snapshot, 200, Viviparous.gestationDuration, 3L);
+        EnclosureForecast enclosure = forecast.enclosures().get(1);
+        assertEquals("Nurserie", enclosure.name());
+        assertTrue(enclosure.meanOverflow() > 0.3, "la mère et le père survivent souvent jusqu'au terme : " + enclosure);
+        assertTrue(enclosure.meanBirths() > 0, "quand l'un d'eux meurt, le bébé trouve sa place : " + enclosure);
+        assertTrue(enclosure.meanPopulation() <= 2);
+        assertTrue(enclosure.fullProbability() > 0.3);
+        assertEquals(0, forecast.enclosures().get(0).meanPopulation(), "la prairie est vide");
+    }
+}
@@ -0,0 +1,74 @@
+package net.zoofantastique.simulation.load;
+
+import net.zoofantastique.controller.enclosure.composition.AquariumEnclosure;
+import net.zoofantastique.controller.enclosure.composition.AviaryEnclosure;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Flying;
+import net.zoofantastique.controller.entity.creature.behavior.Swimmer;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.zoo.Zoo;
+import net.zoofantastique.utils.ResourceRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadGeneratorTest {
+
+    private static LoadProfile profile(String... args) {
+        return LoadProfile.parse(args);
+    }
+
+    @Test
+    void buildRespectsSpeciesCountsAndAdmissionRules() {
+        LoadProfile profile = profile("enclosures=9", "creatures=300", "species=Dragon:1,Kraken:1,Phoenix:1,Lycanthrope:1", "packs=2");
+        LoadGenerator generator = new LoadGenerator(profile);
+        try (Zoo zoo = generator.build()) {
+            assertEquals(300, zoo.giveNbCreatures());
+            assertEquals(9, zoo.getEnclosures().size());
+            assertEquals(2, zoo.getPacks().size());
+            for (Enclosure<? super Creature> enclosure : zoo.getEnclosures()) {
+                for (Object creature : enclosure.getListCreature()) {
+                    if (enclosure instanceof AquariumEnclosure) {
+                        assertInstanceOf(Swimmer.class, creature);
+                    } else if (enclosure instanceof AviaryEnclosure) {
+                        assertInstanceOf(Flying.class, creature);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void runPlaysTheRequestedNumberOfOperations() {
+        LoadProfile profile = profile("enclosures=8", "creatures=200", "rate=0", "operations=2000", "mix=feed:1,transfer:1");
+        LoadGenerator generator = new LoadGenerator(profile);
+        long mark = ResourceRegistry.mark();
+        LoadReport report;
+        try (Zoo zoo = generator.build()) {
+            report = generator.run(zoo);
+            assertEquals(200, zoo.giveNbCreatures());
+        }
+        assertEquals(2000, report.operations());
+        long played = report.latencies().values().stream().mapToLong(histogram -> histogram.getCount()).sum();
+        assertEquals(2000, played);
+        assertEquals(0, report.latencies().get(Operation.HEAL).getCount());
+        assertTrue(report.throughput() > 0);
+        assertTrue(ResourceRegistry.leaksSince(mark).isEmpty());
+    }
+
+    @Test
+    void tooFewEnclosuresForTheSpeciesIsRejected() {
+        LoadGenerator generator = new LoadGenerator(profile("enclosures=2", "species=Unicorn,Kraken,Phoenix"));
+        assertThrows(IllegalArgumentException.class, generator::build);
+    }
+
+    @Test
+    void parseKeepsDefaultsForMissingKeys() {
+        LoadProfile profile = profile("creatures=10");
+        assertEquals(10, profile.nbCreatures());
+        assertEquals(LoadProfile.small().nbEnclosures(), profile.nbEnclosures());
+        assertEquals(Map.of("Unicorn", 5), profile("species=Unicorn:5").speciesWeights());
+    }
+}
@@ -0,0 +1,114 @@
+package net.zoofantastique.simulation.mating;
+
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Unicorn;
+import net.zoofantastique.simulation.BirthPipeline;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchmakerTest {
+    private Enclosure<Unicorn> enclosure;
+
+    @BeforeEach
+    void setUp() {
+        enclosure = new Enclosure<>("Prairie", 100.0, 10);
+    }
+
+    private Unicorn adult(String name, Gender gender, double weight) {
+        Unicorn unicorn = new Unicorn(name, gender);
+        unicorn.setAge(Age.ADULT);
+        unicorn.setWeight(weight);
+        enclosure.addCreature(unicorn);
+        return unicorn;
+    }
+
+    @Test
+    void everyFemaleIsPairedWhenEnoughMales() {
+        adult("F1", Gender.FEMALE, 40);
+        adult("F2", Gender.FEMALE, 40);
+        adult("M1", Gender.MALE, 40);
+        adult("M2", Gender.MALE, 40);
+        adult("M3", Gender.MALE, 40);
+        List<Mating> matings = new Matchmaker(new RandomMatingPolicy(new Random(1))).match(enclosure);
+        assertEquals(2, matings.size());
+        for (Mating mating : matings) {
+            assertEquals(Gender.FEMALE, mating.female().getSexe());
+            assertEquals(Gender.MALE, mating.male().getSexe());
+        }
+    }
+
+    @Test
+    void babiesPregnantAndDeadCreaturesAreExcluded() {
+        Unicorn baby = new Unicorn("Bebe", Gender.FEMALE);
+        enclosure.addCreature(baby);
+        Unicorn pregnant = adult("Enceinte", Gender.FEMALE, 40);
+        pregnant.setPregnant(true);
+        Unicorn dead = adult("Morte", Gender.FEMALE, 40);
+        dead.setAge(Age.DEAD);
+        adult("M1", Gender.MALE, 40);
+        assertTrue(new Matchmaker(new RandomMatingPolicy()).match(enclosure).isEmpty());
+    }
+
+    @Test
+    void levelPolicyPairsStrongestTogether() {
+        adult("Faible", Gender.FEMALE, 30);
+        Creature strongFemale = adult("Forte", Gender.FEMALE, 90);
+        adult("Faible", Gender.MALE, 30);
+        Creature strongMale = adult("Fort", Gender.MALE, 90);
+        List<Mating> matings = new Matchmaker(new LevelMatingPolicy()).match(enclosure);
+        assertEquals(new Mating(strongFemale, strongMale), matings.get(0));
+    }
+
+    @Test
+    void avoidRepeatsPolicyChangesPartnerWhenPossible() {
+        Creature female = adult("F", Gender.FEMALE, 40);
+        Creature m1 = adult("M1", Gender.MALE, 40);
+        adult("M2", Gender.MALE, 40);
+        AvoidRepeatsMatingPolicy policy = new AvoidRepeatsMatingPolicy(new Random(7));
+        policy.onMated(female, m1);
+        for (int i = 0; i < 20; i++) {
+            Mating mating = new Matchmaker(policy).match(enclosure).get(0);
+            assertNotEquals(m1, mating.male());
+        }
+    }
+
+    @Test
+    void avoidRepeatsPolicyNeverSwapsARepeatBackIntoPlace() {
+        Creature f1 = adult("F1", Gender.FEMALE, 40);
+        Creature f2 = adult("F2", Gender.FEMALE, 40);
+        Creature f3 = adult("F3", Gender.FEMALE, 40);
+        Creature m1 = adult("M1", Gender.MALE, 40);
+        Creature m2 = adult("M2", Gender.MALE, 40);
+        Creature m3 = adult("M3", Gender.MALE, 40);
+        List<Creature> females = List.of(f1, f2, f3);
+        for (int seed = 0; seed < 50; seed++) {
+            AvoidRepeatsMatingPolicy policy = new AvoidRepeatsMatingPolicy(new Random(seed));
+            policy.onMated(f1, m1);
+            policy.onMated(f3, m1); // la dernière femelle n'a aucun mâle après elle pour échanger
+            List<Creature> males = new ArrayList<>(List.of(m1, m2, m3));
+            policy.arrange(females, males);
+            for (int i = 0; i < females.size(); i++) {
+                assertNotSame(policy.getLastPartner(females.get(i)), males.get(i), "graine " + seed + " : " + males);
+            }
+        }
+    }
+
+    @Test
+    void breedingSeasonStartsPregnancies() {
+        Creature female = adult("F", Gender.FEMALE, 40);
+        adult("M", Gender.MALE, 40);
+        BirthPipeline pipeline = new BirthPipeline();
+        assertEquals(1, new Matchmaker(new RandomMatingPolicy()).breedingSeason(enclosure, pipeline));
+        assertTrue(female.isPregnant());
+        assertEquals(1, pipeline.getNbPending());
+    }
+}
@@ -0,0 +1,158 @@
+package net.zoofantastique.simulation.staff;
+
+import net.zoofantastique.controller.consumable.food.FoodCatalog;
+import net.zoofantastique.controller.enclosure.behavior.Cleanness;
+import net.zoofantastique.controller.enclosure.behavior.Salinity;
+import net.zoofantastique.controller.enclosure.composition.AquariumEnclosure;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.oviparous.Kraken;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Unicorn;
+import net.zoofantastique.controller.entity.zoomaster.ZooMaster;
+import net.zoofantastique.controller.zoo.Zoo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutopilotTest {
+    private Zoo zoo;
+    private Enclosure<Creature> prairie;
+    private final List<Creature> creatures = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        zoo = new Zoo("Zoo", new ZooMaster("Maître", Gender.MALE, Age.ADULT));
+        prairie = new Enclosure<>("Prairie", 100, 10);
+        zoo.addEnclosure(prairie);
+    }
+
+    @AfterEach
+    void tearDown() {
+        creatures.forEach(Creature::close);
+        zoo.close();
+    }
+
+    private <T extends Creature> T add(Enclosure<Creature> enclosure, T creature) {
+        enclosure.addCreature(creature);
+        creatures.add(creature);
+        return creature;
+    }
+
+    @Test
+    void existingNeedsAreMetWithTheFewestActions() {
+        Unicorn sick = add(prairie, new Unicorn("Malade", Gender.FEMALE));
+        sick.setSick(true);
+        Unicorn starving = add(prairie, new Unicorn("Affamée", Gender.FEMALE));
+        starving.setHunger(2);
+        Unicorn peckish = add(prairie, new Unicorn("Gourmande", Gender.MALE));
+        peckish.setHunger(5);
+        add(prairie, new Unicorn("Repue", Gender.MALE));
+        prairie.setCleanness(Cleanness.BAD);
+        AquariumEnclosure<Creature> bassin = new AquariumEnclosure<>("Bassin", 100, 10, 4);
+        zoo.addEnclosure(bassin);
+        add(bassin, new Kraken("Kraken", Gender.MALE));
+        bassin.setBasinSalinity(Salinity.SALTWATER);
+
+        try (Autopilot autopilot = Autopilot.of(zoo)) {
+            assertEquals(5, autopilot.pass(), "seuls les besoins signalés sont examinés");
+            assertFalse(sick.isSick());
+            assertEquals(10, starving.getHunger(), "deux portions de 4 suffisent à dépasser le niveau moyen");
+            assertEquals(9, peckish.getHunger());
+            assertEquals(Cleanness.CORRECT, prairie.getCleanness(), "un seul cran de propreté");
+            assertEquals(Salinity.BRACKISHWATER, bassin.getBasinSalinity());
+            assertEquals(1 + 2 + 1 + 1 + 1, autopilot.getActions());
+            assertEquals(0, autopilot.pass());
+        }
+    }
+
+    @Test
+    void changesAreSignalledWhenTheyCrossABound() {
+        Unicorn unicorn = add(prairie, new Unicorn("Licorne", Gender.FEMALE));
+        try (Autopilot autopilot = Autopilot.of(zoo)) {
+            unicorn.setHunger(8);
+            assertEquals(0, autopilot.getBacklog(), "une créature satisfaite n'a besoin de rien");
+            unicorn.setHunger(6);
+            unicorn.setSick(true);
+            prairie.setCleanness(Cleanness.BAD);
+            assertEquals(2, autopilot.getBacklog(), "une créature signalée deux fois n'est examinée qu'une fois");
+            assertEquals(2, autopilot.pass());
+            assertFalse(unicorn.isSick());
+            assertTrue(unicorn.getHunger() > 6);
+        }
+    }
+
+    @Test
+    void sleepingCreaturesAreFedOnceAwake() {
+        Unicorn unicorn = add(prairie, new Unicorn("Dormeuse", Gender.FEMALE));
+        unicorn.setSleeping(true);
+        unicorn.setHunger(4);
+        try (Autopilot autopilot = Autopilot.of(zoo)) {
+            autopilot.pass();
+            assertEquals(4, unicorn.getHunger());
+            unicorn.setSleeping(false);
+            autopilot.pass();
+            assertEquals(8, unicorn.getHunger());
+        }
+    }
+
+    @Test
+    void sleepingCreaturesAreNotExaminedAgainUntilTheyWake() {
+        Unicorn unicorn = add(prairie, new Unicorn("Dormeuse", Gender.FEMALE));
+        unicorn.setSleeping(true);
+        unicorn.setHunger(4);
+        try (Autopilot autopilot = Autopilot.of(zoo)) {
+            assertEquals(0, autopilot.pass());
+            assertEquals(0, autopilot.pass());
+            assertEquals(0, autopilot.getDecisions());
+            assertEquals(0, autopilot.getBacklog());
+            unicorn.setSleeping(false);
+            assertEquals(1, autopilot.getBacklog());
+            assertEquals(1, autopilot.pass());
+        }
+    }
+
+    @Test
+    void enclosuresAddedLaterAreWatched() {
+        try (Autopilot autopilot = Autopilot.of(zoo)) {
+            Enclosure<Creature> plaine = new Enclosure<>("Plaine", 100, 10);
+            Unicorn unicorn = add(plaine, new Unicorn("Licorne", Gender.FEMALE));
+            unicorn.setSick(true);
+            zoo.addEnclosure(plaine);
+            autopilot.pass();
+            assertFalse(unicorn.isSick());
+            assertSame(autopilot, plaine.getCareWatcher());
+        }
+        assertNull(prairie.getCareWatcher(), "le pilote fermé n'observe plus les enclos");
+    }
+
+    @Test
+    void largeZooIsKeptWithinBoundsFromSignalsOnly() {
+        zoo.setNbMaxEnclosure(20);
+        List<Unicorn> unicorns = new ArrayList<>();
+        for (int e = 0; e < 20; e++) {
+            Enclosure<Creature> enclosure = e == 0 ? prairie : new Enclosure<>("Enclos " + e, 1000, 1000);
+            if (e > 0) {
+                zoo.addEnclosure(enclosure);
+            }
+            for (int i = 0; i < (e == 0 ? 10 : 1000); i++) {
+                unicorns.add(add(enclosure, new Unicorn("Licorne " + e + "-" + i, Gender.FEMALE)));
+            }
+        }
+        zoo.getFoodInventory().restockFresh(FoodCatalog.BEEFSTEAK, unicorns.size());
+        try (Autopilot autopilot = Autopilot.of(zoo)) {
+            for (int i = 0; i < unicorns.size(); i += 2) {
+                unicorns.get(i).setHunger(5);
+            }
+            assertEquals(unicorns.size() / 2, autopilot.pass());
+            assertTrue(unicorns.stream().allMatch(unicorn -> unicorn.getHunger() > 6));
+            assertEquals(unicorns.size() / 2, autopilot.getActions());
+        }
+    }
+}
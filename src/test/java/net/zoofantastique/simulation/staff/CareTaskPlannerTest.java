@@ -0,0 +1,111 @@
+package net.zoofantastique.simulation.staff;
+
+import net.zoofantastique.controller.enclosure.behavior.Cleanness;
+import net.zoofantastique.controller.enclosure.behavior.Salinity;
+import net.zoofantastique.controller.enclosure.composition.AquariumEnclosure;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.oviparous.Kraken;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Unicorn;
+import net.zoofantastique.controller.entity.zoomaster.ZooMaster;
+import net.zoofantastique.controller.zoo.Zoo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CareTaskPlannerTest {
+    private Zoo zoo;
+    private final List<Creature> creatures = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        zoo = new Zoo("Zoo", new ZooMaster("Maître", Gender.MALE, Age.ADULT));
+    }
+
+    @AfterEach
+    void tearDown() {
+        creatures.forEach(Creature::close);
+        zoo.close();
+    }
+
+    private <T extends Creature> T add(Enclosure<Creature> enclosure, T creature) {
+        enclosure.addCreature(creature);
+        creatures.add(creature);
+        return creature;
+    }
+
+    private static List<CareTaskType> types(List<CareTask> tasks) {
+        return tasks.stream().map(CareTask::getType).toList();
+    }
+
+    @Test
+    void healthyZooNeedsNoCare() {
+        Enclosure<Creature> prairie = new Enclosure<>("Prairie", 100, 4);
+        zoo.addEnclosure(prairie);
+        add(prairie, new Unicorn("Licorne", Gender.FEMALE));
+        assertTrue(CareTaskPlanner.plan(zoo).isEmpty());
+    }
+
+    @Test
+    void sickAndHungryCreaturesAreCaredForByUrgency() {
+        Enclosure<Creature> prairie = new Enclosure<>("Prairie", 100, 4);
+        zoo.addEnclosure(prairie);
+        Unicorn sick = add(prairie, new Unicorn("Malade", Gender.FEMALE));
+        sick.setSick(true);
+        Unicorn starving = add(prairie, new Unicorn("Affamée", Gender.FEMALE));
+        starving.setHunger(2);
+        Unicorn peckish = add(prairie, new Unicorn("Gourmande", Gender.MALE));
+        peckish.setHunger(5);
+        List<CareTask> tasks = CareTaskPlanner.plan(zoo);
+        assertEquals(List.of(CareTaskType.HEAL, CareTaskType.FEED, CareTaskType.FEED), types(tasks));
+        assertEquals(Urgency.CRITICAL, tasks.get(0).getUrgency());
+        assertEquals(Urgency.CRITICAL, tasks.get(1).getUrgency());
+        assertEquals(Urgency.HIGH, tasks.get(2).getUrgency());
+
+        tasks.forEach(CareTask::perform);
+        assertFalse(sick.isSick());
+        assertTrue(starving.getHunger() > 2);
+        assertTrue(peckish.getHunger() > 5);
+    }
+
+    @Test
+    void dirtyEnclosuresAndDriftingAquariumsAreMaintained() {
+        Enclosure<Creature> prairie = new Enclosure<>("Prairie", 100, 4);
+        AquariumEnclosure<Creature> bassin = new AquariumEnclosure<>("Bassin", 100, 10, 4);
+        zoo.addEnclosures(prairie, bassin);
+        add(prairie, new Unicorn("Licorne", Gender.FEMALE));
+        add(bassin, new Kraken("Kraken", Gender.MALE));
+        prairie.setCleanness(Cleanness.BAD);
+        bassin.setBasinSalinity(Salinity.SALTWATER);
+        List<CareTask> tasks = CareTaskPlanner.plan(zoo);
+        assertEquals(List.of(CareTaskType.CLEAN, CareTaskType.SALINITY), types(tasks));
+
+        tasks.forEach(CareTask::perform);
+        assertEquals(Cleanness.CORRECT, prairie.getCleanness());
+        assertEquals(Salinity.BRACKISHWATER, bassin.getBasinSalinity());
+    }
+
+    @Test
+    void fullEnclosureIsRelievedTowardsTheRoomiestOfItsSpecies() {
+        Enclosure<Creature> full = new Enclosure<>("Pleine", 100, 2);
+        Enclosure<Creature> roomy = new Enclosure<>("Spacieuse", 100, 10);
+        zoo.addEnclosures(full, roomy);
+        add(full, new Unicorn("Licorne 1", Gender.FEMALE));
+        Unicorn moved = add(full, new Unicorn("Licorne 2", Gender.MALE));
+        add(roomy, new Unicorn("Licorne 3", Gender.FEMALE));
+        List<CareTask> tasks = CareTaskPlanner.plan(zoo);
+        assertEquals(List.of(CareTaskType.TRANSFER), types(tasks));
+
+        tasks.get(0).perform();
+        assertSame(roomy, moved.getEnclosure());
+        assertEquals(1, full.getNbCreature());
+        assertEquals(2, roomy.getNbCreature());
+    }
+}
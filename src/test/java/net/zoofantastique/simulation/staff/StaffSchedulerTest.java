@@ -0,0 +1,163 @@
+package net.zoofantastique.simulation.staff;
+
+import net.zoofantastique.controller.enclosure.behavior.Salinity;
+import net.zoofantastique.controller.enclosure.composition.AquariumEnclosure;
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.oviparous.Kraken;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Unicorn;
+import net.zoofantastique.metrics.ZooMetrics;
+import net.zoofantastique.utils.ResourceRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaffSchedulerTest {
+    private final List<Creature> creatures = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        creatures.forEach(Creature::close);
+    }
+
+    private List<Unicorn> sickUnicorns(Enclosure<Creature> enclosure, int count) {
+        List<Unicorn> unicorns = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Unicorn unicorn = new Unicorn("Licorne " + i, Gender.FEMALE);
+            enclosure.addCreature(unicorn);
+            unicorn.setSick(true);
+            unicorns.add(unicorn);
+            creatures.add(unicorn);
+        }
+        return unicorns;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "délai dépassé");
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    void burstOnOneEnclosureIsSharedByTheWholeTeam() throws InterruptedException {
+        Enclosure<Creature> prairie = new Enclosure<>("Prairie", 100, 200);
+        List<Unicorn> unicorns = sickUnicorns(prairie, 200);
+        long latencies = ZooMetrics.STAFF_QUEUE_LATENCY.getCount();
+        try (StaffScheduler staff = new StaffScheduler(4, 200)) {
+            for (Unicorn unicorn : unicorns) {
+                assertTrue(staff.submit(CareTask.heal(unicorn)));
+            }
+            await(() -> staff.getCompleted() == unicorns.size());
+            assertEquals(0, staff.getBacklog());
+            assertTrue(staff.getStolen() > 0, staff.toString());
+            for (Keeper keeper : staff.getKeepers()) {
+                assertTrue(keeper.getCompleted() > 0, staff.toString());
+            }
+        }
+        assertTrue(unicorns.stream().noneMatch(Creature::isSick));
+        assertTrue(ZooMetrics.STAFF_QUEUE_LATENCY.getCount() >= latencies + unicorns.size());
+    }
+
+    @Test
+    void mostUrgentTaskIsTakenFirst() throws InterruptedException {
+        Enclosure<Creature> prairie = new Enclosure<>("Prairie", 100, 4);
+        AquariumEnclosure<Creature> bassin = new AquariumEnclosure<>("Bassin", 100, 10, 4);
+        Kraken kraken = new Kraken("Kraken", Gender.MALE);
+        creatures.add(kraken);
+        bassin.addCreature(kraken);
+        bassin.setBasinSalinity(Salinity.SALTWATER);
+        List<Unicorn> unicorns = sickUnicorns(prairie, 2);
+        try (StaffScheduler staff = new StaffScheduler(1, 4)) {
+            staff.submit(CareTask.heal(unicorns.get(0)));
+            await(() -> staff.getCompleted() == 1);
+            // le soigneur attend maintenant sa cadence : les deux soins suivants sont en file ensemble
+            staff.submit(CareTask.rebalanceSalinity(bassin));
+            staff.submit(CareTask.heal(unicorns.get(1)));
+            await(() -> staff.getCompleted() == 2);
+            assertFalse(unicorns.get(1).isSick());
+            assertEquals(Salinity.SALTWATER, bassin.getBasinSalinity());
+            await(() -> staff.getCompleted() == 3);
+            assertEquals(Salinity.BRACKISHWATER, bassin.getBasinSalinity());
+        }
+    }
+
+    @Test
+    void sameTaskIsQueuedOnceAndCadenceIsRespected() throws InterruptedException {
+        Enclosure<Creature> prairie = new Enclosure<>("Prairie", 100, 10);
+        List<Unicorn> unicorns = sickUnicorns(prairie, 6);
+        try (StaffScheduler staff = new StaffScheduler(1, 20)) {
+            long start = System.nanoTime();
+            for (Unicorn unicorn : unicorns) {
+                staff.submit(CareTask.heal(unicorn));
+            }
+            await(() -> staff.getCompleted() == 1);
+            assertFalse(staff.submit(CareTask.heal(unicorns.get(5))), "le même soin est déjà en file");
+            await(() -> staff.getCompleted() == unicorns.size());
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            assertTrue(elapsedMillis >= 200, elapsedMillis + " ms pour 6 soins à 20 par seconde");
+        }
+    }
+
+    @Test
+    void closeReleasesTheKeepersThreads() {
+        long mark = ResourceRegistry.mark();
+        StaffScheduler staff = new StaffScheduler(3, 0);
+        staff.close();
+        assertTrue(ResourceRegistry.leaksSince(mark).isEmpty());
+        assertFalse(staff.submit(CareTask.clean(new Enclosure<>("Prairie", 100, 4))));
+    }
+
+    @Test
+    void transfersAreAppliedOneAfterAnotherOnTheStructuralExecutor() throws InterruptedException {
+        Enclosure<Creature> north = new Enclosure<>("Prairie nord", 100, 1);
+        Enclosure<Creature> south = new Enclosure<>("Prairie sud", 100, 1);
+        Enclosure<Creature> refuge = new Enclosure<>("Refuge", 100, 1);
+        Unicorn fromNorth = sickUnicorns(north, 1).get(0);
+        Unicorn fromSouth = sickUnicorns(south, 1).get(0);
+        ExecutorService simulation = Executors.newSingleThreadExecutor();
+        AtomicInteger applied = new AtomicInteger();
+        try (StaffScheduler staff = new StaffScheduler(2, 0, task -> simulation.execute(() -> {
+            task.run();
+            applied.incrementAndGet();
+        }))) {
+            assertTrue(staff.submit(CareTask.transfer(north, refuge, fromNorth)));
+            assertTrue(staff.submit(CareTask.transfer(south, refuge, fromSouth)));
+            await(() -> applied.get() == 2);
+        } finally {
+            simulation.shutdown();
+            assertTrue(simulation.awaitTermination(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, refuge.getNbCreature(), "deux transferts simultanés ne dépassent pas la capacité d'arrivée");
+        assertEquals(1, north.getNbCreature() + south.getNbCreature());
+    }
+
+    @Test
+    void transferHandedToTheSimulationStaysPendingUntilApplied() throws InterruptedException {
+        Enclosure<Creature> north = new Enclosure<>("Prairie nord", 100, 1);
+        Enclosure<Creature> refuge = new Enclosure<>("Refuge", 100, 1);
+        Unicorn unicorn = sickUnicorns(north, 1).get(0);
+        Queue<Runnable> simulation = new ConcurrentLinkedQueue<>();
+        try (StaffScheduler staff = new StaffScheduler(1, 0, simulation::add)) {
+            assertTrue(staff.submit(CareTask.transfer(north, refuge, unicorn)));
+            await(() -> staff.getCompleted() == 1);
+            assertFalse(staff.submit(CareTask.transfer(north, refuge, unicorn)), "le transfert attend la simulation");
+            simulation.remove().run();
+            assertEquals(1, refuge.getNbCreature());
+            assertTrue(staff.submit(CareTask.transfer(refuge, north, unicorn)));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package net.zoofantastique.utils;
+
+import net.zoofantastique.controller.enclosure.composition.Enclosure;
+import net.zoofantastique.controller.entity.creature.behavior.Age;
+import net.zoofantastique.controller.entity.creature.behavior.Gender;
+import net.zoofantastique.controller.entity.creature.composition.Creature;
+import net.zoofantastique.controller.entity.creature.composition.viviparous.Unicorn;
+import net.zoofantastique.controller.entity.zoomaster.ZooMaster;
+import net.zoofantastique.controller.zoo.Zoo;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceRegistryTest {
+
+    @Test
+    void releasedExecutorLeavesTheRegistry() {
+        long mark = ResourceRegistry.mark();
+        ScheduledExecutorService executor = ResourceRegistry.newScheduledExecutor("test");
+        assertEquals(1, ResourceRegistry.leaksSince(mark).size());
+        assertEquals("test", ResourceRegistry.leaksSince(mark).get(0).owner());
+        ResourceRegistry.release(executor);
+        assertTrue(executor.isShutdown());
+        assertTrue(ResourceRegistry.leaksSince(mark).isEmpty());
+    }
+
+    @Test
+    void closingAZooReleasesEveryTimerOfItsEnclosuresAndCreatures() {
+        long mark = ResourceRegistry.mark();
+        Zoo zoo = new Zoo("Zoo", new ZooMaster("Maître", Gender.MALE, Age.ADULT));
+        Enclosure<Creature> enclosure = new Enclosure<>("Prairie", 100, 200);
+        for (int i = 0; i < 200; i++) {
+            Unicorn unicorn = new Unicorn("Licorne " + i, Gender.FEMALE);
+            enclosure.addCreature(unicorn);
+            unicorn.activate();
+        }
+        zoo.addEnclosure(enclosure);
+        assertEquals(201, ResourceRegistry.leaksSince(mark).size());
+        zoo.close();
+        assertTrue(ResourceRegistry.leaksSince(mark).isEmpty(), ResourceRegistry.report(mark));
+    }
+
+    @Test
+    void creaturesAreBuiltInert() {
+        long mark = ResourceRegistry.mark();
+        Unicorn unicorn = new Unicorn("Licorne", Gender.MALE);
+        assertFalse(unicorn.isActive());
+        assertTrue(ResourceRegistry.leaksSince(mark).isEmpty());
+        unicorn.activate();
+        assertEquals(1, ResourceRegistry.leaksSince(mark).size());
+        unicorn.close();
+        assertFalse(unicorn.isActive());
+    }
+
+    @Test
+    void sweptDeadCreaturesReleaseTheirTimers() {
+        Enclosure<Unicorn> enclosure = new Enclosure<>("Prairie", 100, 10);
+        long mark = ResourceRegistry.mark();
+        Unicorn unicorn = new Unicorn("Licorne", Gender.MALE);
+        enclosure.addCreature(unicorn);
+        unicorn.activate();
+        unicorn.setAge(Age.DEAD);
+        assertEquals(1, enclosure.removeDeadCreatures());
+        assertTrue(ResourceRegistry.leaksSince(mark).isEmpty());
+        enclosure.close();
+    }
+}
@@ -0,0 +1,64 @@
+package net.zoofantastique.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static class Deadline extends TimingWheel.Timeout {
+        Deadline(long day) {
+            super(day);
+        }
+    }
+
+    @Test
+    void advanceOnlyReturnsDueTimeouts() {
+        TimingWheel<Deadline> wheel = new TimingWheel<>(8);
+        Deadline soon = new Deadline(2);
+        Deadline later = new Deadline(5);
+        wheel.schedule(soon);
+        wheel.schedule(later);
+        List<Deadline> expired = new ArrayList<>();
+        assertEquals(1, wheel.advance(3, expired::add));
+        assertEquals(List.of(soon), expired);
+        assertEquals(1, wheel.size());
+        assertEquals(1, wheel.advance(5, expired::add));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void timeoutsBeyondOneRotationWaitForTheirRound() {
+        TimingWheel<Deadline> wheel = new TimingWheel<>(4);
+        Deadline far = new Deadline(10); // même case que le jour 2
+        wheel.schedule(far);
+        assertEquals(0, wheel.advance(2, d -> fail()));
+        assertEquals(0, wheel.advance(9, d -> fail()));
+        assertEquals(1, wheel.advance(10, d -> assertSame(far, d)));
+    }
+
+    @Test
+    void cancelledTimeoutNeverExpires() {
+        TimingWheel<Deadline> wheel = new TimingWheel<>(8);
+        Deadline first = new Deadline(3);
+        Deadline second = new Deadline(3);
+        wheel.schedule(first);
+        wheel.schedule(second);
+        assertTrue(wheel.cancel(second));
+        assertFalse(wheel.cancel(second));
+        List<Deadline> expired = new ArrayList<>();
+        wheel.advance(3, expired::add);
+        assertEquals(List.of(first), expired);
+    }
+
+    @Test
+    void pastDeadlineExpiresOnNextAdvance() {
+        TimingWheel<Deadline> wheel = new TimingWheel<>(8);
+        wheel.advance(20, d -> fail());
+        wheel.schedule(new Deadline(4));
+        assertEquals(1, wheel.advance(21, d -> {}));
+    }
+}
@@ -0,0 +1,26 @@
+package net.zoofantastique.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UtilsTest {
+
+    @Test
+    void randomIntStaysInRange() {
+        for (int i = 0; i < 1_000; i++) {
+            int value = Utils.getRandomIntInRange(0, 100);
+            assertTrue(value >= 0 && value < 100, "hors bornes : " + value);
+        }
+        assertEquals(5, Utils.getRandomIntInRange(5, 5));
+    }
+
+    @Test
+    void randomDoubleStaysInRange() {
+        for (int i = 0; i < 1_000; i++) {
+            double value = Utils.getRandomDoubleInRange(0.5, 1.5);
+            assertTrue(value >= 0.5 && value < 1.5, "hors bornes : " + value);
+        }
+        assertEquals(2.0, Utils.getRandomDoubleInRange(2.0, 2.0));
+    }
+}